@@ -0,0 +1,115 @@
+package de.verkettungsanfrage.benchmark;
+
+import de.verkettungsanfrage.Auto;
+import de.verkettungsanfrage.Flotte;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vergleicht monomorphe und megamorphe Aufrufstellen der Auto-API.
+ *
+ * Dieselbe Schleife ruft beschleunige und bremsen einmal auf einem Array
+ * mit nur einer Auto-Klasse (monomorph, JIT kann inlinen) und einmal auf
+ * einem Array mit vier verschiedenen Auto-Klassen auf (megamorph,
+ * virtueller Aufruf über die vtable).
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AufrufstellenBenchmark {
+
+    /** Anzahl der Autos pro Array. */
+    private static final int ANZAHL = 1024;
+
+    /** Nur Instanzen von Auto. */
+    private Auto[] monomorph;
+
+    /** Gemischte Instanzen aus vier Auto-Klassen. */
+    private Auto[] megamorph;
+
+    /**
+     * Erstellt beide Arrays mit gestarteten Autos.
+     */
+    @Setup(Level.Trial)
+    public void vorbereiten() {
+        Flotte flotte = new Flotte(ANZAHL);
+        monomorph = new Auto[ANZAHL];
+        megamorph = new Auto[ANZAHL];
+        for (int i = 0; i < ANZAHL; i++) {
+            monomorph[i] = new Auto("VW Golf", 50.0, 220).starteMotor();
+            megamorph[i] = switch (i % 4) {
+                case 0 -> new Auto("VW Golf", 50.0, 220);
+                case 1 -> flotte.fahrzeug(flotte.hinzufuegen("BMW 3er", 50.0, 250));
+                case 2 -> new Sportwagen("Porsche 911", 50.0, 300);
+                default -> new Kleinwagen("VW Up", 50.0, 160);
+            };
+            megamorph[i].starteMotor();
+        }
+    }
+
+    @Benchmark
+    public double monomorpheAufrufe() {
+        return fahre(monomorph);
+    }
+
+    @Benchmark
+    public double megamorpheAufrufe() {
+        return fahre(megamorph);
+    }
+
+    /**
+     * Beschleunigt und bremst jedes Auto des Arrays einmal.
+     *
+     * @param autos die Autos
+     * @return Summe der Geschwindigkeiten (gegen Dead-Code-Elimination)
+     */
+    private static double fahre(Auto[] autos) {
+        double summe = 0;
+        for (Auto a : autos) {
+            summe += a.beschleunige(1e-9).bremsen(1e-9).getGeschwindigkeit();
+        }
+        return summe;
+    }
+
+    /** Zusätzliche Auto-Klasse, um die Aufrufstelle megamorph zu machen. */
+    static final class Sportwagen extends Auto {
+        Sportwagen(String modell, double tankstand, int maxGeschwindigkeit) {
+            super(modell, tankstand, maxGeschwindigkeit);
+        }
+
+        @Override
+        public Auto beschleunige(double delta) {
+            return super.beschleunige(delta * 1.5);
+        }
+    }
+
+    /** Zusätzliche Auto-Klasse, um die Aufrufstelle megamorph zu machen. */
+    static final class Kleinwagen extends Auto {
+        Kleinwagen(String modell, double tankstand, int maxGeschwindigkeit) {
+            super(modell, tankstand, maxGeschwindigkeit);
+        }
+
+        @Override
+        public Auto bremsen(double delta) {
+            return super.bremsen(delta * 0.8);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package de.verkettungsanfrage.benchmark;
+
+import de.verkettungsanfrage.Auto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latenz- und Durchsatzmessung der zustandsändernden Auto-Methoden.
+ *
+ * Gemessen werden:
+ * - Einzelaufrufe von beschleunige, bremsen, tanken und fahreLos (ns pro Aufruf)
+ * - Lange Fluent-Ketten wie in Main.main (Ketten pro Mikrosekunde)
+ *
+ * Die Deltas sind so klein gewählt, dass das Auto während einer Iteration
+ * weder die Maximalgeschwindigkeit noch einen leeren Tank erreicht und
+ * somit immer derselbe Pfad gemessen wird.
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AutoBenchmark {
+
+    /** Auto mit laufendem Motor für die Einzelaufrufe. */
+    private Auto auto;
+
+    /** Auto für die Fluent-Kette, wird pro Iteration neu erstellt. */
+    private Auto kettenAuto;
+
+    /**
+     * Erstellt vor jeder Iteration frische Autos in einem definierten Zustand.
+     */
+    @Setup(Level.Iteration)
+    public void vorbereiten() {
+        auto = new Auto("VW Golf", 50.0, 220).starteMotor().fahreLos().beschleunige(100.0);
+        kettenAuto = new Auto("VW Golf", 50.0, 220);
+    }
+
+    @Benchmark
+    public Auto beschleunige() {
+        return auto.beschleunige(1e-9);
+    }
+
+    @Benchmark
+    public Auto bremsen() {
+        return auto.bremsen(1e-9);
+    }
+
+    @Benchmark
+    public Auto tanken() {
+        return auto.tanken(1e-9);
+    }
+
+    @Benchmark
+    public Auto fahreLos() {
+        // Auto fährt bereits: misst den Prüfpfad ohne Zustandsänderung
+        return auto.fahreLos();
+    }
+
+    /**
+     * Vollständiges Szenario aus Main.main als eine lange Kette.
+     *
+     * @return das Auto am Ende der Kette (gegen Dead-Code-Elimination)
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Auto langeKette() {
+        return kettenAuto.zeigeZustand()
+                .tanken(20.0)
+                .starteMotor()
+                .fahreLos()
+                .beschleunige(50.0)
+                .bremsen(20.0)
+                .hupe()
+                .beschleunige(150.0)
+                .zeigeZustand()
+                .bremsen(180.0)
+                .stoppeMotor()
+                .zeigeZustand();
+    }
+}
@@ -0,0 +1,130 @@
+package de.verkettungsanfrage.benchmark;
+
+import de.verkettungsanfrage.Befehl;
+import de.verkettungsanfrage.BefehlsStromParser;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Durchsatz beim Einlesen großer Befehlsdateien.
+ *
+ * Verglichen werden:
+ * - BefehlsStromParser (Memory-Mapping, Dekodierung direkt aus den Bytes)
+ * - BufferedReader mit readLine, split und Double.parseDouble (ein String pro Zeile und Feld)
+ *
+ * Die Testdatei (ca. 1 GB, 40 Mio. Befehle für 1000 Fahrzeuge) wird einmal
+ * pro Lauf erzeugt. Der Zähler "bytes" gibt den Durchsatz in Byte pro
+ * Sekunde an (1e9 Byte/s = 1 GB/s).
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class BefehlsStromBenchmark {
+
+    /** Anzahl der Befehle in der Testdatei. */
+    private static final int BEFEHLE = 40_000_000;
+
+    /** Anzahl der adressierten Fahrzeuge. */
+    private static final int FAHRZEUGE = 1000;
+
+    private Path datei;
+    private long groesse;
+
+    /**
+     * Zählt die gelesenen Bytes; JMH meldet den Wert als Rate (Byte/s).
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Durchsatz {
+
+        /** Gelesene Bytes. */
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void zuruecksetzen() {
+            bytes = 0;
+        }
+    }
+
+    /**
+     * Erzeugt die Testdatei im Format "zeit @fahrzeug BEFEHL [wert]".
+     */
+    @Setup(Level.Trial)
+    public void erzeugeDatei() throws IOException {
+        datei = Files.createTempFile("befehlsstrom", ".txt");
+        Befehl[] befehle = Befehl.values();
+        StringBuilder zeile = new StringBuilder(48);
+        try (BufferedWriter out = Files.newBufferedWriter(datei)) {
+            for (int i = 0; i < BEFEHLE; i++) {
+                Befehl b = befehle[i % befehle.length];
+                zeile.setLength(0);
+                zeile.append(i / 100).append('.').append(i % 100 < 10 ? "0" : "").append(i % 100)
+                        .append(" @").append(i % FAHRZEUGE).append(' ').append(b.name());
+                if (b.hatWert()) {
+                    zeile.append(' ').append(i % 200).append(".5");
+                }
+                out.append(zeile).append('\n');
+            }
+        }
+        groesse = Files.size(datei);
+    }
+
+    @TearDown(Level.Trial)
+    public void loescheDatei() throws IOException {
+        Files.deleteIfExists(datei);
+    }
+
+    @Benchmark
+    public double streamParser(Durchsatz durchsatz) throws IOException {
+        double[] summe = new double[1];
+        new BefehlsStromParser().lese(datei, block -> {
+            for (int i = 0; i < block.getAnzahl(); i++) {
+                summe[0] += block.getWert(i);
+            }
+        });
+        durchsatz.bytes += groesse;
+        return summe[0];
+    }
+
+    @Benchmark
+    public double bufferedReader(Durchsatz durchsatz) throws IOException {
+        double summe = 0.0;
+        try (BufferedReader in = Files.newBufferedReader(datei)) {
+            String zeile;
+            while ((zeile = in.readLine()) != null) {
+                String[] felder = zeile.split(" ");
+                Double.parseDouble(felder[0]);
+                if (Befehl.valueOf(felder[2]).hatWert()) {
+                    summe += Double.parseDouble(felder[3]);
+                }
+            }
+        }
+        durchsatz.bytes += groesse;
+        return summe;
+    }
+}
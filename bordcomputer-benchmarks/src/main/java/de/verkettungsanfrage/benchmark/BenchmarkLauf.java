@@ -0,0 +1,50 @@
+package de.verkettungsanfrage.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Startet alle (oder ausgewählte) Benchmarks und exportiert die Ergebnisse als JSON.
+ *
+ * Die JSON-Datei kann zwischen Releases verglichen werden, um Regressionen
+ * in den Hot Paths von Auto und Flotte zu erkennen (z.B. mit jmh.morethan.io).
+ *
+ * Aufruf:
+ * java -jar target/benchmarks.jar                      # alle Benchmarks
+ * java -jar target/benchmarks.jar AutoBenchmark        # nur passende Benchmarks (Regex)
+ *
+ * Die Ausgabedatei lässt sich über -Dbenchmark.ergebnis=pfad.json festlegen
+ * (Standard: jmh-ergebnisse.json im Arbeitsverzeichnis).
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public class BenchmarkLauf {
+
+    /**
+     * Einstiegspunkt des Benchmark-Laufs.
+     *
+     * @param args optionale Regex-Filter für Benchmark-Namen
+     * @throws RunnerException wenn JMH die Benchmarks nicht ausführen kann
+     */
+    public static void main(String[] args) throws RunnerException {
+        String ergebnisDatei = System.getProperty("benchmark.ergebnis", "jmh-ergebnisse.json");
+
+        ChainedOptionsBuilder optionen = new OptionsBuilder()
+                .resultFormat(ResultFormatType.JSON)
+                .result(ergebnisDatei);
+
+        if (args.length == 0) {
+            optionen.include("de\\.verkettungsanfrage\\.benchmark\\..*");
+        }
+        for (String filter : args) {
+            optionen.include(filter);
+        }
+
+        new Runner(optionen.build()).run();
+    }
+}
@@ -0,0 +1,96 @@
+package de.verkettungsanfrage.benchmark;
+
+import de.verkettungsanfrage.Auto;
+import de.verkettungsanfrage.Flotte;
+import de.verkettungsanfrage.ParallelerFlottenTick;
+import de.verkettungsanfrage.TickStatistik;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kosten eines Simulations-Ticks in Abhängigkeit von der Flottengröße.
+ *
+ * Verglichen werden:
+ * - Schleife über Auto-Objekte (ein Heap-Objekt pro Fahrzeug)
+ * - Sequentieller Tick über die spaltenweise Flotte
+ * - Paralleler Fork-Join-Tick über die Flotte
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FlottenBenchmark {
+
+    /** Simulierte Zeitspanne pro Tick in Sekunden. */
+    private static final double TICK_SEKUNDEN = 0.01;
+
+    @Param({"1000", "100000", "1000000"})
+    private int groesse;
+
+    private Auto[] autos;
+    private Flotte flotte;
+    private ParallelerFlottenTick parallelerTick;
+
+    /**
+     * Erstellt Auto-Array und Flotte mit identischen, gestarteten Fahrzeugen.
+     */
+    @Setup(Level.Trial)
+    public void vorbereiten() {
+        autos = new Auto[groesse];
+        flotte = new Flotte(groesse);
+        for (int i = 0; i < groesse; i++) {
+            autos[i] = new Auto("Auto " + i, 50.0, 220).starteMotor().beschleunige(120.0);
+            flotte.hinzufuegen("Auto " + i, 50.0, 220);
+        }
+        flotte.starteAlleMotoren().beschleunigeAlle(120.0);
+        parallelerTick = new ParallelerFlottenTick();
+    }
+
+    /**
+     * Bringt alle Fahrzeuge vor jeder Iteration wieder auf Reisegeschwindigkeit,
+     * damit durchgehend der Ausroll-Pfad gemessen wird.
+     */
+    @Setup(Level.Iteration)
+    public void auffrischen() {
+        for (Auto a : autos) {
+            a.tanken(50.0).beschleunige(120.0);
+        }
+        flotte.tankeAlle(50.0).beschleunigeAlle(120.0);
+    }
+
+    @Benchmark
+    public Auto[] objektSchleife() {
+        for (Auto a : autos) {
+            a.rolleAus(TICK_SEKUNDEN);
+        }
+        return autos;
+    }
+
+    @Benchmark
+    public TickStatistik flotteSequentiell() {
+        return flotte.tick(0, flotte.getAnzahl(), TICK_SEKUNDEN, 0.0);
+    }
+
+    @Benchmark
+    public TickStatistik flotteParallel() {
+        return parallelerTick.tick(flotte, TICK_SEKUNDEN, 0.0);
+    }
+}
@@ -0,0 +1,135 @@
+package de.verkettungsanfrage.benchmark;
+
+import de.verkettungsanfrage.Auto;
+import de.verkettungsanfrage.AutoZustand;
+import de.verkettungsanfrage.NebenlaeufigesAuto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Durchsatz eines von mehreren Threads gleichzeitig benutzten Autos.
+ *
+ * Verglichen werden:
+ * - cas: NebenlaeufigesAuto (unveränderliche Momentaufnahme, Compare-and-Swap)
+ * - synchronisiert: Auto, bei dem jede Methode synchronized ist
+ *
+ * Szenarien (JMH-Gruppen, alle Threads teilen sich ein Auto):
+ * - schreiben: 4 Schreiber wechseln zwischen beschleunige und bremsen
+ * - gemischt: 3 Schreiber und 1 Leser (zustand(), wie drawTacho)
+ *
+ * Die Deltas sind so klein gewählt, dass das Auto immer denselben Pfad nimmt.
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NebenlaeufigkeitsBenchmark {
+
+    @Param({"cas", "synchronisiert"})
+    private String variante;
+
+    /** Das gemeinsam benutzte Auto. */
+    private Auto auto;
+
+    /**
+     * Erstellt vor jeder Iteration ein fahrendes Auto der gewählten Variante.
+     */
+    @Setup(Level.Iteration)
+    public void vorbereiten() {
+        auto = "cas".equals(variante)
+                ? new NebenlaeufigesAuto("VW Golf", 50.0, 220)
+                : new SynchronisiertesAuto("VW Golf", 50.0, 220);
+        auto.starteMotor().fahreLos().beschleunige(100.0);
+    }
+
+    @Benchmark
+    @Group("schreiben")
+    @GroupThreads(4)
+    public Auto schreiben() {
+        return auto.beschleunige(1e-9).bremsen(1e-9);
+    }
+
+    @Benchmark
+    @Group("gemischt")
+    @GroupThreads(3)
+    public Auto gemischtSchreiben() {
+        return auto.beschleunige(1e-9).bremsen(1e-9);
+    }
+
+    @Benchmark
+    @Group("gemischt")
+    @GroupThreads(1)
+    public AutoZustand gemischtLesen() {
+        return auto.zustand();
+    }
+
+    /**
+     * Vergleichsvariante: jede Methode von Auto hinter einer gemeinsamen Sperre.
+     */
+    static final class SynchronisiertesAuto extends Auto {
+
+        SynchronisiertesAuto(String modell, double initialTankstand, int maxGeschwindigkeit) {
+            super(modell, initialTankstand, maxGeschwindigkeit);
+        }
+
+        @Override
+        public synchronized Auto starteMotor() {
+            return super.starteMotor();
+        }
+
+        @Override
+        public synchronized Auto stoppeMotor() {
+            return super.stoppeMotor();
+        }
+
+        @Override
+        public synchronized Auto tanken(double liter) {
+            return super.tanken(liter);
+        }
+
+        @Override
+        public synchronized Auto beschleunige(double delta) {
+            return super.beschleunige(delta);
+        }
+
+        @Override
+        public synchronized Auto bremsen(double delta) {
+            return super.bremsen(delta);
+        }
+
+        @Override
+        public synchronized Auto fahreLos() {
+            return super.fahreLos();
+        }
+
+        @Override
+        public synchronized Auto rolleAus(double sekunden) {
+            return super.rolleAus(sekunden);
+        }
+
+        @Override
+        public synchronized AutoZustand zustand() {
+            return super.zustand();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package de.verkettungsanfrage.benchmark;
+
+import de.verkettungsanfrage.Flotte;
+import de.verkettungsanfrage.OffHeapFlotte;
+import de.verkettungsanfrage.TickStatistik;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tick-Kosten der Heap-Flotte im Vergleich zur Flotte außerhalb des Heaps.
+ *
+ * Mit -prof gc lässt sich zusätzlich zeigen, dass die Off-Heap-Variante
+ * unabhängig von der Flottengröße nur eine Handvoll Heap-Objekte belegt.
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "--enable-preview"})
+public class OffHeapFlottenBenchmark {
+
+    /** Simulierte Zeitspanne pro Tick in Sekunden. */
+    private static final double TICK_SEKUNDEN = 0.01;
+
+    @Param({"1000", "1000000", "10000000"})
+    private int groesse;
+
+    private Flotte flotte;
+    private OffHeapFlotte offHeap;
+
+    /**
+     * Erstellt beide Flotten mit identischen, gestarteten Fahrzeugen.
+     */
+    @Setup(Level.Trial)
+    public void vorbereiten() {
+        flotte = new Flotte(groesse);
+        offHeap = new OffHeapFlotte(groesse);
+        for (int i = 0; i < groesse; i++) {
+            flotte.hinzufuegen("Auto", 50.0, 220);
+            offHeap.hinzufuegen(50.0, 220);
+        }
+        flotte.starteAlleMotoren().beschleunigeAlle(120.0);
+        offHeap.starteAlleMotoren().beschleunigeAlle(120.0);
+    }
+
+    /**
+     * Bringt alle Fahrzeuge vor jeder Iteration wieder auf Reisegeschwindigkeit.
+     */
+    @Setup(Level.Iteration)
+    public void auffrischen() {
+        flotte.tankeAlle(50.0).beschleunigeAlle(120.0);
+        offHeap.tankeAlle(50.0).beschleunigeAlle(120.0);
+    }
+
+    /**
+     * Gibt den Off-Heap-Speicher frei.
+     */
+    @TearDown(Level.Trial)
+    public void aufraeumen() {
+        offHeap.close();
+    }
+
+    @Benchmark
+    public TickStatistik heapFlotte() {
+        return flotte.tick(0, flotte.getAnzahl(), TICK_SEKUNDEN, 0.0);
+    }
+
+    @Benchmark
+    public TickStatistik offHeapFlotte() {
+        return offHeap.tick(0, offHeap.getAnzahl(), TICK_SEKUNDEN, 0.0);
+    }
+}
@@ -1,5 +1,7 @@
 package de.verkettungsanfrage;
 
+import java.util.Objects;
+
 /**
  * Repräsentiert ein Auto mit grundlegenden Funktionen und Zuständen.
  *
@@ -11,7 +13,7 @@ package de.verkettungsanfrage;
  * Hauptfunktionalitäten:
  * - Motorsteuerung (Start/Stop)
  * - Geschwindigkeitsmanagement (Beschleunigen/Bremsen)
- * - Tankmanagement mit automatischem Verbrauch
+ * - Tankmanagement mit automatischem Verbrauch (austauschbares VerbrauchsModell)
  * - Hupe
  *
  * Das Auto verfügt über realistische Constraints:
@@ -26,6 +28,18 @@ package de.verkettungsanfrage;
  */
 public class Auto {
 
+    /** Tankkapazität aller Autos in Litern. */
+    static final double TANKKAPAZITAET = 50.0;
+
+    /** Verbrauch in Litern pro km/h Geschwindigkeitszunahme (VerbrauchsModell.EINFACH). */
+    static final double VERBRAUCH_PRO_KMH = 0.001;
+
+    /** Geschwindigkeitsabfall beim Ausrollen in km/h pro Sekunde. */
+    static final double AUSROLL_VERZOEGERUNG = 2.0;
+
+    /** Geschwindigkeit in km/h, unter der das Auto nicht weiter ausrollt. */
+    static final double AUSROLL_MINDESTGESCHWINDIGKEIT = 10.0;
+
     /** Das Modell des Autos (z.B. "VW Golf"). */
     private String modell;
 
@@ -39,7 +53,7 @@ public class Auto {
      * Maximale Tankkapazität in Litern.
      * Standard: 50 Liter.
      */
-    private final double maxTankstand = 50.0;
+    private final double maxTankstand = TANKKAPAZITAET;
 
     /**
      * Aktuelle Geschwindigkeit in km/h.
@@ -58,6 +72,13 @@ public class Auto {
      */
     private boolean motorLaeuft;
 
+    /**
+     * Modell für den Kraftstoffverbrauch.
+     * Standard: Verbrauchskennfeld eines Kompaktwagens (Fahrt und Leerlauf
+     * kosten Treibstoff); das frühere Verhalten liefert VerbrauchsModell.EINFACH.
+     */
+    private VerbrauchsModell verbrauchsModell = Verbrauchskennfeld.STANDARD;
+
     /**
      * Erstellt ein neues Auto-Objekt mit den angegebenen Eigenschaften.
      *
@@ -143,8 +164,9 @@ public class Auto {
      */
     public Auto beschleunige(double delta) {
         if (motorLaeuft && tankstand > 0) {
+            double vorher = this.geschwindigkeit;
             this.geschwindigkeit = Math.min(maxGeschwindigkeit, this.geschwindigkeit + delta);
-            verbrauchPruefen(delta);
+            verbrauchPruefen(verbrauchsModell.beschleunigung(vorher, delta));
         }
         return this;
     }
@@ -182,11 +204,50 @@ public class Auto {
     public Auto fahreLos() {
         if (motorLaeuft && tankstand > 0 && geschwindigkeit == 0) {
             this.geschwindigkeit = 1.0;
-            verbrauchPruefen(1.0);
+            verbrauchPruefen(verbrauchsModell.beschleunigung(0.0, 1.0));
         }
         return this;
     }
 
+    /**
+     * Simuliert das sanfte Ausrollen des Autos über eine Zeitspanne.
+     *
+     * Bei laufendem Motor verliert das Auto oberhalb von 10 km/h
+     * gleichmäßig 2 km/h pro Sekunde (entspricht 0.2 km/h pro 100 ms).
+     * Darunter wird die Geschwindigkeit gehalten (Leerlaufgas).
+     * Solange der Motor läuft, wird dabei Treibstoff für Fahrt bzw.
+     * Leerlauf laut Verbrauchsmodell verbraucht.
+     *
+     * Diese Methode ist der zeitabhängige Schritt der Fahrdynamik und wird
+     * von der Simulation in festen Zeitschritten aufgerufen.
+     *
+     * @param sekunden die simulierte Zeitspanne in Sekunden
+     * @return die aktuelle Auto-Instanz für Method Chaining
+     */
+    public Auto rolleAus(double sekunden) {
+        if (!motorLaeuft) {
+            return this;
+        }
+        double beschleunigung = 0.0;
+        if (geschwindigkeit > AUSROLL_MINDESTGESCHWINDIGKEIT) {
+            bremsen(AUSROLL_VERZOEGERUNG * sekunden);
+            beschleunigung = -AUSROLL_VERZOEGERUNG;
+        }
+        verbrauchPruefen(verbrauchsModell.fahrt(geschwindigkeit, beschleunigung, sekunden));
+        return this;
+    }
+
+    /**
+     * Setzt das Modell für den Kraftstoffverbrauch.
+     *
+     * @param modell das Verbrauchsmodell, z.B. VerbrauchsModell.EINFACH
+     * @return die aktuelle Auto-Instanz für Method Chaining
+     */
+    public Auto mitVerbrauchsModell(VerbrauchsModell modell) {
+        this.verbrauchsModell = Objects.requireNonNull(modell);
+        return this;
+    }
+
     /**
      * Zeigt den aktuellen Zustand des Autos an.
      *
@@ -220,21 +281,22 @@ public class Auto {
     // ====================================================================
 
     /**
-     * Simuliert den Kraftstoffverbrauch basierend auf der Geschwindigkeitsänderung.
+     * Zieht verbrauchten Treibstoff vom Tank ab.
      *
-     * Der Verbrauch ist proportional zur Geschwindigkeitsänderung:
-     * - Größere Beschleunigungen verbrauchen mehr Treibstoff
-     * - Kleine Änderungen (z.B. Ausrollen) verbrauchen wenig
+     * Die Menge berechnet das Verbrauchsmodell:
+     * - Beschleunigungen verbrauchen abhängig von Geschwindigkeit und Stärke
+     * - Fahrt und Leerlauf verbrauchen abhängig von der Zeit
      *
-     * Bei leerem Tank wird der Motor automatisch gestoppt.
+     * Mit dem Standard-Kennfeld kostet z.B. beschleunige(49) ab 1 km/h etwa
+     * 0.013 Liter und eine Stunde Leerlauf 0.8 Liter. Mit
+     * VerbrauchsModell.EINFACH gilt die ursprüngliche Formel
+     * 0.001 Liter * delta, Fahrt und Leerlauf sind kostenlos.
      *
-     * Verbrauchsformel: 0.001 * delta Liter pro Beschleunigung
+     * Bei leerem Tank wird der Motor automatisch gestoppt.
      *
-     * @param delta die Geschwindigkeitsänderung in km/h
+     * @param verbrauch der Verbrauch in Litern
      */
-    private void verbrauchPruefen(double delta) {
-        // Vereinfachte Verbrauchslogik: 0.1% des Deltas als Verbrauch
-        double verbrauch = 0.001 * delta;
+    private void verbrauchPruefen(double verbrauch) {
         this.tankstand = Math.max(0.0, this.tankstand - verbrauch);
 
         // Automatischer Motorstopp bei leerem Tank
@@ -301,6 +363,15 @@ public class Auto {
         return motorLaeuft;
     }
 
+    /**
+     * Gibt das Modell für den Kraftstoffverbrauch zurück.
+     *
+     * @return das Verbrauchsmodell
+     */
+    public VerbrauchsModell getVerbrauchsModell() {
+        return verbrauchsModell;
+    }
+
     /**
      * Prüft, ob der Tankstand kritisch niedrig ist.
      *
@@ -313,4 +384,49 @@ public class Auto {
     public boolean istTankKritisch() {
         return tankstand < (maxTankstand * 0.1);
     }
-}
\ No newline at end of file
+
+    /**
+     * Erstellt eine unveränderliche Momentaufnahme des aktuellen Zustands.
+     *
+     * Die Momentaufnahme kann gefahrlos an andere Threads (z.B. den
+     * JavaFX-Thread) weitergegeben werden.
+     *
+     * @return der aktuelle Zustand als AutoZustand
+     */
+    public AutoZustand zustand() {
+        return new AutoZustand(getGeschwindigkeit(), getTankstand(), isMotorLaeuft(),
+                getMaxGeschwindigkeit(), getMaxTankstand());
+    }
+
+    /**
+     * Veröffentlicht den aktuellen Zustand in einen doppelt gepufferten
+     * ZustandsPuffer, ohne ein neues Objekt zu erzeugen.
+     *
+     * Leser erhalten dort mit einem Aufruf einen konsistenten Rahmen,
+     * statt die Getter einzeln (und möglicherweise zerrissen) abzufragen.
+     *
+     * @param puffer der Puffer, in den geschrieben wird (nur ein Schreiber)
+     * @param schritt der Simulationsschritt des Zustands
+     * @return die aktuelle Auto-Instanz für Method Chaining
+     */
+    public Auto veroeffentlicheZustand(ZustandsPuffer puffer, long schritt) {
+        puffer.schreibe(getGeschwindigkeit(), getTankstand(), isMotorLaeuft(),
+                getMaxGeschwindigkeit(), getMaxTankstand(), schritt);
+        return this;
+    }
+
+    /**
+     * Stellt einen zuvor gesicherten Zustand wieder her.
+     *
+     * Übernommen werden Geschwindigkeit, Tankstand und Motorstatus;
+     * Modell und Maximalwerte bleiben unverändert. Wird von der Wiedergabe
+     * benötigt, um zu einem Checkpoint zu springen.
+     *
+     * @param zustand der wiederherzustellende Zustand
+     */
+    void setzeZustand(AutoZustand zustand) {
+        this.geschwindigkeit = zustand.geschwindigkeit();
+        this.tankstand = zustand.tankstand();
+        this.motorLaeuft = zustand.motorLaeuft();
+    }
+}
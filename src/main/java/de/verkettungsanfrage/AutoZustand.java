@@ -0,0 +1,25 @@
+package de.verkettungsanfrage;
+
+/**
+ * Unveränderliche Momentaufnahme des Zustands eines Autos.
+ *
+ * Wird von der Simulation nach jedem Zeitschritt veröffentlicht, damit die
+ * Oberfläche einen konsistenten Zustand lesen kann, ohne direkt auf das
+ * (nicht threadsichere) Auto-Objekt zuzugreifen.
+ *
+ * @param geschwindigkeit die Geschwindigkeit in km/h
+ * @param tankstand der Tankstand in Litern
+ * @param motorLaeuft true, wenn der Motor läuft
+ * @param maxGeschwindigkeit die Maximalgeschwindigkeit in km/h
+ * @param maxTankstand die Tankkapazität in Litern
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public record AutoZustand(double geschwindigkeit,
+                          double tankstand,
+                          boolean motorLaeuft,
+                          int maxGeschwindigkeit,
+                          double maxTankstand) implements ZustandsAnsicht {
+}
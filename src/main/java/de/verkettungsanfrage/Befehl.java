@@ -0,0 +1,100 @@
+package de.verkettungsanfrage;
+
+/**
+ * Aufzeichenbare Befehle an ein Auto.
+ *
+ * Jeder Befehl entspricht einer zustandsändernden Methode von {@link Auto}
+ * und wird im {@link BefehlsLog} als ein Byte (Opcode) gespeichert.
+ * Befehle mit Parameter (z.B. beschleunige) speichern zusätzlich einen Wert.
+ *
+ * Die Reihenfolge der Konstanten bestimmt die Opcodes und darf nicht
+ * verändert werden; neue Befehle werden nur am Ende angehängt.
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public enum Befehl {
+
+    /** Motor starten. */
+    STARTE_MOTOR(false),
+
+    /** Motor stoppen. */
+    STOPPE_MOTOR(false),
+
+    /** Aus dem Stand anfahren. */
+    FAHRE_LOS(false),
+
+    /** Beschleunigen um den Wert in km/h. */
+    BESCHLEUNIGE(true),
+
+    /** Bremsen um den Wert in km/h. */
+    BREMSEN(true),
+
+    /** Tanken des Werts in Litern. */
+    TANKEN(true),
+
+    /** Hupen. */
+    HUPE(false);
+
+    /** Alle Befehle nach Opcode, ohne bei jedem Zugriff ein neues Array zu erzeugen. */
+    private static final Befehl[] NACH_OPCODE = values();
+
+    /** Ob der Befehl einen Wert benötigt. */
+    private final boolean mitWert;
+
+    Befehl(boolean mitWert) {
+        this.mitWert = mitWert;
+    }
+
+    /**
+     * Führt den Befehl auf dem Auto aus.
+     *
+     * @param auto das Ziel-Auto
+     * @param wert der Parameter (wird bei Befehlen ohne Wert ignoriert)
+     * @return das Auto für Method Chaining
+     */
+    public Auto ausfuehren(Auto auto, double wert) {
+        return switch (this) {
+            case STARTE_MOTOR -> auto.starteMotor();
+            case STOPPE_MOTOR -> auto.stoppeMotor();
+            case FAHRE_LOS -> auto.fahreLos();
+            case BESCHLEUNIGE -> auto.beschleunige(wert);
+            case BREMSEN -> auto.bremsen(wert);
+            case TANKEN -> auto.tanken(wert);
+            case HUPE -> auto.hupe();
+        };
+    }
+
+    /**
+     * Prüft, ob der Befehl einen Wert benötigt.
+     *
+     * @return true, wenn der Wert ausgewertet und gespeichert wird
+     */
+    public boolean hatWert() {
+        return mitWert;
+    }
+
+    /**
+     * Gibt den Opcode des Befehls zurück.
+     *
+     * @return der Opcode (ein Byte)
+     */
+    public byte opcode() {
+        return (byte) ordinal();
+    }
+
+    /**
+     * Gibt den Befehl zu einem Opcode zurück.
+     *
+     * @param opcode der Opcode
+     * @return der zugehörige Befehl
+     * @throws IllegalArgumentException wenn der Opcode unbekannt ist
+     */
+    public static Befehl vonOpcode(byte opcode) {
+        if (opcode < 0 || opcode >= NACH_OPCODE.length) {
+            throw new IllegalArgumentException("Unbekannter Opcode: " + opcode);
+        }
+        return NACH_OPCODE[opcode];
+    }
+}
@@ -0,0 +1,358 @@
+package de.verkettungsanfrage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Kompaktes Protokoll aller Befehle einer Fahrt.
+ *
+ * Zusammen mit dem Anfangszustand, dem Verbrauchsmodell und der
+ * Simulationsfrequenz reicht das Protokoll aus, um eine Fahrt
+ * deterministisch nachzurechnen (siehe {@link Wiedergabe}). Die
+ * Fahrdynamik selbst wird nicht gespeichert.
+ *
+ * Im Speicher liegen die Einträge in drei primitiven Arrays
+ * (Schritt, Opcode, Wert). Dateiformat:
+ * - Kopf: Kennung, Version, Frequenz, Modell, Verbrauchsmodell (1 Byte,
+ *   ab Version 2), Anfangszustand, Anzahl
+ * - Einträge: Schrittabstand zum Vorgänger (Varint), Opcode (1 Byte),
+ *   Wert (8 Byte, nur bei Befehlen mit Wert)
+ *
+ * Ein typischer Eintrag belegt damit 2 bis 11 Byte.
+ *
+ * In Dateien gespeichert werden können nur die mitgelieferten
+ * Verbrauchsmodelle (Verbrauchskennfeld.STANDARD und VerbrauchsModell.EINFACH);
+ * Dateien der Version 1 wurden mit dem Standard-Kennfeld aufgezeichnet.
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public class BefehlsLog {
+
+    /** Dateikennung "BCBL" (Bordcomputer-Befehlslog). */
+    private static final int KENNUNG = 0x4243424C;
+
+    /** Version des Dateiformats. */
+    private static final int VERSION = 2;
+
+    /** Kennungen der speicherbaren Verbrauchsmodelle. */
+    private static final int KENNFELD_STANDARD = 0;
+    private static final int EINFACH = 1;
+
+    /** Anfangskapazität der Eintragsarrays. */
+    private static final int ANFANGS_KAPAZITAET = 64;
+
+    /** Simulationsfrequenz der Aufzeichnung in Hertz. */
+    private final int hz;
+
+    /** Modell des aufgezeichneten Autos. */
+    private final String modell;
+
+    /** Zustand des Autos zu Beginn der Aufzeichnung. */
+    private final AutoZustand anfangszustand;
+
+    /** Verbrauchsmodell des aufgezeichneten Autos. */
+    private final VerbrauchsModell verbrauchsModell;
+
+    /** Simulationsschritt jedes Eintrags (aufsteigend). */
+    private long[] schritt = new long[ANFANGS_KAPAZITAET];
+
+    /** Opcode jedes Eintrags. */
+    private byte[] opcode = new byte[ANFANGS_KAPAZITAET];
+
+    /** Wert jedes Eintrags (0.0 bei Befehlen ohne Wert). */
+    private double[] wert = new double[ANFANGS_KAPAZITAET];
+
+    /** Anzahl der Einträge. */
+    private int anzahl;
+
+    /**
+     * Erstellt ein leeres Protokoll für ein Auto mit dem Standard-Kennfeld.
+     *
+     * @param hz die Simulationsfrequenz in Hertz
+     * @param modell das Automodell
+     * @param anfangszustand der Zustand des Autos bei Schritt 0
+     * @throws IllegalArgumentException wenn hz nicht positiv ist
+     */
+    public BefehlsLog(int hz, String modell, AutoZustand anfangszustand) {
+        this(hz, modell, anfangszustand, Verbrauchskennfeld.STANDARD);
+    }
+
+    /**
+     * Erstellt ein leeres Protokoll.
+     *
+     * @param hz die Simulationsfrequenz in Hertz
+     * @param modell das Automodell
+     * @param anfangszustand der Zustand des Autos bei Schritt 0
+     * @param verbrauchsModell das Verbrauchsmodell des Autos
+     * @throws IllegalArgumentException wenn hz nicht positiv ist
+     */
+    public BefehlsLog(int hz, String modell, AutoZustand anfangszustand, VerbrauchsModell verbrauchsModell) {
+        if (hz <= 0) {
+            throw new IllegalArgumentException("Frequenz muss positiv sein: " + hz);
+        }
+        this.hz = hz;
+        this.modell = modell;
+        this.anfangszustand = Objects.requireNonNull(anfangszustand);
+        this.verbrauchsModell = Objects.requireNonNull(verbrauchsModell);
+    }
+
+    /**
+     * Hängt einen Befehl an das Protokoll an.
+     *
+     * @param schritt der Simulationsschritt, zu dessen Beginn der Befehl ausgeführt wird
+     * @param befehl der Befehl
+     * @param wert der Parameter (wird bei Befehlen ohne Wert als 0.0 gespeichert)
+     * @return dieses Protokoll für Method Chaining
+     * @throws IllegalArgumentException wenn der Schritt vor dem letzten Eintrag liegt
+     */
+    public BefehlsLog anhaengen(long schritt, Befehl befehl, double wert) {
+        if (schritt < 0 || (anzahl > 0 && schritt < this.schritt[anzahl - 1])) {
+            throw new IllegalArgumentException("Schritte müssen aufsteigend sein: " + schritt);
+        }
+        if (anzahl == this.schritt.length) {
+            int neu = anzahl * 2;
+            this.schritt = Arrays.copyOf(this.schritt, neu);
+            this.opcode = Arrays.copyOf(this.opcode, neu);
+            this.wert = Arrays.copyOf(this.wert, neu);
+        }
+        this.schritt[anzahl] = schritt;
+        this.opcode[anzahl] = befehl.opcode();
+        this.wert[anzahl] = befehl.hatWert() ? wert : 0.0;
+        anzahl++;
+        return this;
+    }
+
+    /**
+     * Erstellt ein neues Auto im Anfangszustand und mit dem Verbrauchsmodell
+     * des Protokolls.
+     *
+     * @return ein Auto, auf dem die Befehle abgespielt werden können
+     */
+    public Auto erzeugeAuto() {
+        Auto auto = new Auto(modell, anfangszustand.tankstand(), anfangszustand.maxGeschwindigkeit())
+                .mitVerbrauchsModell(verbrauchsModell);
+        auto.setzeZustand(anfangszustand);
+        return auto;
+    }
+
+    // ====================================================================
+    // DATEI-EIN-/AUSGABE
+    // ====================================================================
+
+    /**
+     * Schreibt das Protokoll in eine Datei.
+     *
+     * @param datei die Zieldatei
+     * @throws IOException bei Schreibfehlern oder wenn das Verbrauchsmodell
+     *         nicht gespeichert werden kann
+     */
+    public void schreibe(Path datei) throws IOException {
+        int kennfeld = kennungVon(verbrauchsModell);
+        if (kennfeld < 0) {
+            throw new IOException("Verbrauchsmodell kann nicht gespeichert werden: " + verbrauchsModell);
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(datei)))) {
+            out.writeInt(KENNUNG);
+            out.writeInt(VERSION);
+            out.writeInt(hz);
+            out.writeUTF(modell);
+            out.writeByte(kennfeld);
+            out.writeDouble(anfangszustand.geschwindigkeit());
+            out.writeDouble(anfangszustand.tankstand());
+            out.writeBoolean(anfangszustand.motorLaeuft());
+            out.writeInt(anfangszustand.maxGeschwindigkeit());
+            out.writeInt(anzahl);
+
+            long vorher = 0;
+            for (int i = 0; i < anzahl; i++) {
+                schreibeVarint(out, schritt[i] - vorher);
+                vorher = schritt[i];
+                out.writeByte(opcode[i]);
+                if (Befehl.vonOpcode(opcode[i]).hatWert()) {
+                    out.writeDouble(wert[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Liest ein Protokoll aus einer Datei.
+     *
+     * @param datei die Quelldatei
+     * @return das gelesene Protokoll
+     * @throws IOException bei Lesefehlern oder ungültigem Format
+     */
+    public static BefehlsLog lese(Path datei) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(datei)))) {
+            int version;
+            if (in.readInt() != KENNUNG || ((version = in.readInt()) != 1 && version != VERSION)) {
+                throw new IOException("Kein gültiges Befehlslog: " + datei);
+            }
+            int hz = in.readInt();
+            String modell = in.readUTF();
+            VerbrauchsModell verbrauchsModell = Verbrauchskennfeld.STANDARD;
+            if (version >= 2) {
+                int kennfeld = in.readUnsignedByte();
+                verbrauchsModell = switch (kennfeld) {
+                    case KENNFELD_STANDARD -> Verbrauchskennfeld.STANDARD;
+                    case EINFACH -> VerbrauchsModell.EINFACH;
+                    default -> throw new IOException("Unbekanntes Verbrauchsmodell " + kennfeld + ": " + datei);
+                };
+            }
+            double geschwindigkeit = in.readDouble();
+            double tankstand = in.readDouble();
+            boolean motor = in.readBoolean();
+            int maxGeschwindigkeit = in.readInt();
+            int anzahl = in.readInt();
+
+            BefehlsLog log = new BefehlsLog(hz, modell, new AutoZustand(geschwindigkeit, tankstand, motor,
+                    maxGeschwindigkeit, Auto.TANKKAPAZITAET), verbrauchsModell);
+            long schritt = 0;
+            try {
+                for (int i = 0; i < anzahl; i++) {
+                    schritt += leseVarint(in);
+                    Befehl befehl = Befehl.vonOpcode(in.readByte());
+                    log.anhaengen(schritt, befehl, befehl.hatWert() ? in.readDouble() : 0.0);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Beschädigtes Befehlslog: " + datei, e);
+            }
+            return log;
+        }
+    }
+
+    /**
+     * Gibt die Dateikennung eines Verbrauchsmodells zurück.
+     *
+     * @return die Kennung oder -1, wenn das Modell nicht gespeichert werden kann
+     */
+    private static int kennungVon(VerbrauchsModell modell) {
+        if (modell == Verbrauchskennfeld.STANDARD) {
+            return KENNFELD_STANDARD;
+        }
+        return modell == VerbrauchsModell.EINFACH ? EINFACH : -1;
+    }
+
+    /**
+     * Schreibt eine nicht-negative Zahl als Varint (7 Bit pro Byte).
+     */
+    private static void schreibeVarint(DataOutputStream out, long wert) throws IOException {
+        while ((wert & ~0x7FL) != 0) {
+            out.writeByte((int) ((wert & 0x7F) | 0x80));
+            wert >>>= 7;
+        }
+        out.writeByte((int) wert);
+    }
+
+    /**
+     * Liest eine als Varint geschriebene Zahl.
+     */
+    private static long leseVarint(DataInputStream in) throws IOException {
+        long wert = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            wert |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return wert;
+            }
+        }
+        throw new IOException("Varint zu lang");
+    }
+
+    // ====================================================================
+    // GETTER-METHODEN
+    // ====================================================================
+
+    /**
+     * Gibt die Anzahl der Einträge zurück.
+     *
+     * @return die Anzahl der Befehle
+     */
+    public int getAnzahl() {
+        return anzahl;
+    }
+
+    /**
+     * Gibt den Simulationsschritt eines Eintrags zurück.
+     *
+     * @param i der Eintragsindex
+     * @return der Schritt, zu dessen Beginn der Befehl ausgeführt wird
+     */
+    public long getSchritt(int i) {
+        return schritt[Objects.checkIndex(i, anzahl)];
+    }
+
+    /**
+     * Gibt den Befehl eines Eintrags zurück.
+     *
+     * @param i der Eintragsindex
+     * @return der Befehl
+     */
+    public Befehl getBefehl(int i) {
+        return Befehl.vonOpcode(opcode[Objects.checkIndex(i, anzahl)]);
+    }
+
+    /**
+     * Gibt den Wert eines Eintrags zurück.
+     *
+     * @param i der Eintragsindex
+     * @return der Parameter (0.0 bei Befehlen ohne Wert)
+     */
+    public double getWert(int i) {
+        return wert[Objects.checkIndex(i, anzahl)];
+    }
+
+    /**
+     * Gibt den Schritt des letzten Eintrags zurück.
+     *
+     * @return der letzte Schritt oder 0 bei leerem Protokoll
+     */
+    public long getLetzterSchritt() {
+        return anzahl == 0 ? 0 : schritt[anzahl - 1];
+    }
+
+    /**
+     * Gibt die Simulationsfrequenz der Aufzeichnung zurück.
+     *
+     * @return die Frequenz in Hertz
+     */
+    public int getHz() {
+        return hz;
+    }
+
+    /**
+     * Gibt das aufgezeichnete Automodell zurück.
+     *
+     * @return das Modell
+     */
+    public String getModell() {
+        return modell;
+    }
+
+    /**
+     * Gibt das Verbrauchsmodell des aufgezeichneten Autos zurück.
+     *
+     * @return das Verbrauchsmodell
+     */
+    public VerbrauchsModell getVerbrauchsModell() {
+        return verbrauchsModell;
+    }
+
+    /**
+     * Gibt den Zustand zu Beginn der Aufzeichnung zurück.
+     *
+     * @return der Anfangszustand
+     */
+    public AutoZustand getAnfangszustand() {
+        return anfangszustand;
+    }
+}
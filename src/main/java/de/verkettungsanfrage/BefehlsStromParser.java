@@ -0,0 +1,539 @@
+package de.verkettungsanfrage;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streamender Parser für große Befehlsdateien (aufgezeichnete Fahrereingaben).
+ *
+ * Die Datei wird fensterweise per Memory-Mapping gelesen ({@link FileChannel#map}),
+ * die Befehle werden direkt aus den Bytes in primitive Felder eines
+ * wiederverwendeten {@link Block}s dekodiert und blockweise an einen
+ * {@link BlockVerbraucher} übergeben. Pro Zeile entsteht weder ein String
+ * noch ein anderes Objekt; der Speicherbedarf hängt nur von Fenster- und
+ * Blockgröße ab, nicht von der Dateigröße.
+ *
+ * Dateiformat (ASCII/UTF-8, eine Angabe pro Zeile, # leitet Kommentare ein):
+ * 0      STARTE_MOTOR          Befehl zur Sekunde 0 für alle Fahrzeuge
+ * 12.5   BESCHLEUNIGE 80       Befehl mit Wert (Namen wie in Befehl)
+ * 13     @42 BREMSEN 20        Befehl nur für Fahrzeug 42
+ *
+ * Zeitangaben müssen aufsteigend sortiert sein. Das Format entspricht den
+ * Befehlszeilen von {@link Szenario}-Dateien.
+ *
+ * Zahlen mit bis zu 15 signifikanten Stellen werden ohne Umweg über
+ * Double.parseDouble exakt dekodiert (Ganzzahl durch Zehnerpotenz, beide
+ * exakt darstellbar); nur längere Zahlen nehmen den langsamen Weg.
+ *
+ * Eine Instanz ist nicht threadsicher, kann aber nacheinander für
+ * mehrere Dateien verwendet werden.
+ *
+ * Beispiel:
+ * Flotte flotte = ...;
+ * new BefehlsStromParser().lese(datei, block -> block.ausfuehren(flotte));
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public final class BefehlsStromParser {
+
+    /** Standardanzahl der Befehle pro Block. */
+    public static final int STANDARD_BLOCKGROESSE = 4096;
+
+    /** Standardgröße eines gemappten Fensters in Byte (64 MiB). */
+    static final int STANDARD_FENSTER = 64 << 20;
+
+    /** Befehlsnamen als ASCII-Bytes, Index = Opcode. */
+    private static final byte[][] NAMEN;
+
+    /** Exakt darstellbare Zehnerpotenzen 10^0 bis 10^22. */
+    private static final double[] ZEHNERPOTENZEN = new double[23];
+
+    /** Größte Mantisse, die als double exakt darstellbar ist (2^53). */
+    private static final long MAX_EXAKT = 1L << 53;
+
+    static {
+        Befehl[] befehle = Befehl.values();
+        NAMEN = new byte[befehle.length][];
+        for (Befehl b : befehle) {
+            NAMEN[b.opcode()] = b.name().getBytes(StandardCharsets.US_ASCII);
+        }
+        double p = 1.0;
+        for (int i = 0; i < ZEHNERPOTENZEN.length; i++) {
+            ZEHNERPOTENZEN[i] = p;
+            p *= 10.0;
+        }
+    }
+
+    /**
+     * Empfänger der dekodierten Befehle.
+     */
+    @FunctionalInterface
+    public interface BlockVerbraucher {
+
+        /**
+         * Verarbeitet einen Block. Der Block wird danach wiederverwendet und
+         * darf nicht gespeichert werden.
+         *
+         * @param block die Befehle in Dateireihenfolge
+         */
+        void verarbeite(Block block);
+    }
+
+    /**
+     * Wiederverwendeter Block dekodierter Befehle in spaltenweisen Arrays.
+     */
+    public static final class Block {
+
+        /** Fahrzeugangabe für Befehle ohne @-Ziel (gilt für alle Fahrzeuge). */
+        public static final int ALLE = -1;
+
+        private final double[] zeit;
+        private final int[] fahrzeug;
+        private final byte[] opcode;
+        private final double[] wert;
+        private int anzahl;
+
+        private Block(int kapazitaet) {
+            this.zeit = new double[kapazitaet];
+            this.fahrzeug = new int[kapazitaet];
+            this.opcode = new byte[kapazitaet];
+            this.wert = new double[kapazitaet];
+        }
+
+        /**
+         * Führt alle Befehle des Blocks auf einem Auto aus (Fahrzeugangaben werden ignoriert).
+         *
+         * @param auto das Ziel-Auto
+         * @return das Auto für Method Chaining
+         */
+        public Auto ausfuehren(Auto auto) {
+            for (int i = 0; i < anzahl; i++) {
+                Befehl.vonOpcode(opcode[i]).ausfuehren(auto, wert[i]);
+            }
+            return auto;
+        }
+
+        /**
+         * Führt alle Befehle des Blocks auf einer Flotte aus.
+         *
+         * Befehle ohne Fahrzeugangabe gelten für alle Fahrzeuge.
+         *
+         * @param flotte die Ziel-Flotte
+         * @return die Flotte für Method Chaining
+         * @throws IndexOutOfBoundsException wenn ein Fahrzeug nicht existiert
+         */
+        public Flotte ausfuehren(Flotte flotte) {
+            for (int i = 0; i < anzahl; i++) {
+                int f = fahrzeug[i];
+                if (f == ALLE) {
+                    for (int j = 0, n = flotte.getAnzahl(); j < n; j++) {
+                        ausfuehren(flotte, j, opcode[i], wert[i]);
+                    }
+                } else {
+                    ausfuehren(flotte, f, opcode[i], wert[i]);
+                }
+            }
+            return flotte;
+        }
+
+        private static void ausfuehren(Flotte flotte, int i, byte opcode, double wert) {
+            switch (Befehl.vonOpcode(opcode)) {
+                case STARTE_MOTOR -> flotte.starteMotor(i);
+                case STOPPE_MOTOR -> flotte.stoppeMotor(i);
+                case FAHRE_LOS -> flotte.fahreLos(i);
+                case BESCHLEUNIGE -> flotte.beschleunige(i, wert);
+                case BREMSEN -> flotte.bremsen(i, wert);
+                case TANKEN -> flotte.tanken(i, wert);
+                case HUPE -> { }
+            }
+        }
+
+        /**
+         * Gibt die Anzahl der Befehle im Block zurück.
+         *
+         * @return die Anzahl
+         */
+        public int getAnzahl() {
+            return anzahl;
+        }
+
+        /**
+         * Gibt die Zeit eines Befehls zurück.
+         *
+         * @param i der Index im Block
+         * @return die Zeit in Sekunden
+         */
+        public double getZeit(int i) {
+            return zeit[i];
+        }
+
+        /**
+         * Gibt das Zielfahrzeug eines Befehls zurück.
+         *
+         * @param i der Index im Block
+         * @return der Fahrzeugindex oder ALLE
+         */
+        public int getFahrzeug(int i) {
+            return fahrzeug[i];
+        }
+
+        /**
+         * Gibt den Befehl zurück.
+         *
+         * @param i der Index im Block
+         * @return der Befehl
+         */
+        public Befehl getBefehl(int i) {
+            return Befehl.vonOpcode(opcode[i]);
+        }
+
+        /**
+         * Gibt den Opcode eines Befehls zurück (ohne Umweg über das Enum).
+         *
+         * @param i der Index im Block
+         * @return der Opcode
+         */
+        public byte getOpcode(int i) {
+            return opcode[i];
+        }
+
+        /**
+         * Gibt den Wert eines Befehls zurück.
+         *
+         * @param i der Index im Block
+         * @return der Wert oder 0.0 bei Befehlen ohne Wert
+         */
+        public double getWert(int i) {
+            return wert[i];
+        }
+    }
+
+    /** Der wiederverwendete Block. */
+    private final Block block;
+
+    /** Größe eines gemappten Fensters in Byte. */
+    private final int fenster;
+
+    // Zustand des laufenden Lesevorgangs
+    private MappedByteBuffer puffer;
+    private int pos;
+    private int ende;
+    private long zeile;
+    private double letzteZeit;
+
+    /**
+     * Erstellt einen Parser mit Standardblockgröße.
+     */
+    public BefehlsStromParser() {
+        this(STANDARD_BLOCKGROESSE);
+    }
+
+    /**
+     * Erstellt einen Parser.
+     *
+     * @param blockgroesse die maximale Anzahl der Befehle pro Block
+     * @throws IllegalArgumentException wenn die Blockgröße nicht positiv ist
+     */
+    public BefehlsStromParser(int blockgroesse) {
+        this(blockgroesse, STANDARD_FENSTER);
+    }
+
+    /**
+     * Erstellt einen Parser mit eigener Fenstergröße (für Tests der Fenstergrenzen).
+     */
+    BefehlsStromParser(int blockgroesse, int fenster) {
+        if (blockgroesse <= 0 || fenster <= 0) {
+            throw new IllegalArgumentException("Block- und Fenstergröße müssen positiv sein");
+        }
+        this.block = new Block(blockgroesse);
+        this.fenster = fenster;
+    }
+
+    /**
+     * Liest eine Befehlsdatei vollständig.
+     *
+     * @param datei die Befehlsdatei
+     * @param verbraucher erhält die Befehle blockweise in Dateireihenfolge
+     * @return die Anzahl der gelesenen Befehle
+     * @throws IOException bei Lesefehlern oder ungültigem Inhalt (mit Zeilennummer)
+     */
+    public long lese(Path datei, BlockVerbraucher verbraucher) throws IOException {
+        try (FileChannel kanal = FileChannel.open(datei, StandardOpenOption.READ)) {
+            return lese(kanal, verbraucher);
+        } catch (IOException e) {
+            throw new IOException(datei + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Liest einen Kanal ab der aktuellen Position bis zum Ende.
+     *
+     * Zeilen, die über eine Fenstergrenze reichen, werden im nächsten
+     * Fenster vollständig gelesen.
+     *
+     * @param kanal der Kanal (wird nicht geschlossen)
+     * @param verbraucher erhält die Befehle blockweise in Dateireihenfolge
+     * @return die Anzahl der gelesenen Befehle
+     * @throws IOException bei Lesefehlern oder ungültigem Inhalt (mit Zeilennummer)
+     */
+    public long lese(FileChannel kanal, BlockVerbraucher verbraucher) throws IOException {
+        long groesse = kanal.size();
+        long position = kanal.position();
+        long befehle = 0;
+        zeile = 0;
+        letzteZeit = 0.0;
+        block.anzahl = 0;
+        try {
+            while (position < groesse) {
+                int laenge = (int) Math.min(fenster, groesse - position);
+                boolean letztes = position + laenge == groesse;
+                puffer = kanal.map(FileChannel.MapMode.READ_ONLY, position, laenge);
+                ende = letztes ? laenge : letzterZeilenumbruch(laenge) + 1;
+                if (ende == 0) {
+                    throw new IOException("Zeile " + (zeile + 1) + " ist länger als " + fenster + " Byte");
+                }
+                pos = 0;
+                while (pos < ende) {
+                    if (leseZeile()) {
+                        befehle++;
+                        if (block.anzahl == block.zeit.length) {
+                            verbraucher.verarbeite(block);
+                            block.anzahl = 0;
+                        }
+                    }
+                }
+                position += ende;
+            }
+            if (block.anzahl > 0) {
+                verbraucher.verarbeite(block);
+                block.anzahl = 0;
+            }
+        } finally {
+            puffer = null;
+        }
+        kanal.position(position);
+        return befehle;
+    }
+
+    /**
+     * Sucht rückwärts den letzten Zeilenumbruch im Fenster.
+     *
+     * @return die Position oder -1, wenn das Fenster keinen enthält
+     */
+    private int letzterZeilenumbruch(int laenge) {
+        for (int i = laenge - 1; i >= 0; i--) {
+            if (puffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // ====================================================================
+    // DEKODIERUNG
+    // ====================================================================
+
+    /**
+     * Dekodiert eine Zeile ab pos und setzt pos hinter deren Zeilenumbruch.
+     *
+     * @return true, wenn ein Befehl in den Block geschrieben wurde
+     */
+    private boolean leseZeile() throws IOException {
+        zeile++;
+        ueberspringeLeerzeichen();
+        if (istZeilenende(zeichen())) {
+            beendeZeile();
+            return false;
+        }
+
+        double zeit = leseZahl();
+        if (zeit < letzteZeit) {
+            throw fehler("Zeit nicht aufsteigend");
+        }
+        erwarteLeerzeichen();
+
+        int fahrzeug = Block.ALLE;
+        if (zeichen() == '@') {
+            pos++;
+            fahrzeug = leseGanzzahl();
+            erwarteLeerzeichen();
+        }
+
+        byte opcode = leseBefehl();
+        double wert = 0.0;
+        if (Befehl.vonOpcode(opcode).hatWert()) {
+            int vorher = pos;
+            ueberspringeLeerzeichen();
+            if (istZeilenende(zeichen())) {
+                throw fehler(Befehl.vonOpcode(opcode) + " benötigt einen Wert");
+            }
+            if (pos == vorher) {
+                throw fehler("Leerzeichen erwartet");
+            }
+            wert = leseZahl();
+        }
+        ueberspringeLeerzeichen();
+        if (!istZeilenende(zeichen())) {
+            throw fehler("Unerwartete Angabe nach dem Befehl");
+        }
+        beendeZeile();
+
+        int i = block.anzahl++;
+        block.zeit[i] = zeit;
+        block.fahrzeug[i] = fahrzeug;
+        block.opcode[i] = opcode;
+        block.wert[i] = wert;
+        letzteZeit = zeit;
+        return true;
+    }
+
+    /**
+     * Gibt das Byte an pos zurück, hinter dem Fensterende einen Zeilenumbruch.
+     */
+    private byte zeichen() {
+        return pos < ende ? puffer.get(pos) : (byte) '\n';
+    }
+
+    private static boolean istZeilenende(byte b) {
+        return b == '\n' || b == '#';
+    }
+
+    private void ueberspringeLeerzeichen() {
+        byte b;
+        while ((b = zeichen()) == ' ' || b == '\t' || b == '\r') {
+            pos++;
+        }
+    }
+
+    private void erwarteLeerzeichen() throws IOException {
+        int vorher = pos;
+        ueberspringeLeerzeichen();
+        if (pos == vorher) {
+            throw fehler("Leerzeichen erwartet");
+        }
+    }
+
+    /**
+     * Setzt pos hinter den nächsten Zeilenumbruch (überspringt Kommentare).
+     */
+    private void beendeZeile() {
+        while (pos < ende && puffer.get(pos) != '\n') {
+            pos++;
+        }
+        pos++;
+    }
+
+    /**
+     * Liest eine nicht-negative Ganzzahl (Fahrzeugindex).
+     */
+    private int leseGanzzahl() throws IOException {
+        long wert = 0;
+        int start = pos;
+        byte b;
+        while ((b = zeichen()) >= '0' && b <= '9') {
+            wert = wert * 10 + (b - '0');
+            if (wert > Integer.MAX_VALUE) {
+                throw fehler("Fahrzeugindex zu groß");
+            }
+            pos++;
+        }
+        if (pos == start) {
+            throw fehler("Fahrzeugindex erwartet");
+        }
+        return (int) wert;
+    }
+
+    /**
+     * Liest eine Dezimalzahl der Form [-]ziffern[.ziffern].
+     *
+     * Schnellpfad: Mantisse als long, dann eine Division durch eine exakte
+     * Zehnerpotenz. Beide Operanden sind exakt, daher ist das Ergebnis
+     * korrekt gerundet und identisch mit Double.parseDouble.
+     */
+    private double leseZahl() throws IOException {
+        int start = pos;
+        boolean negativ = zeichen() == '-';
+        if (negativ) {
+            pos++;
+        }
+        long mantisse = 0;
+        int ziffern = 0;
+        int nachkomma = -1;
+        while (true) {
+            byte b = zeichen();
+            if (b >= '0' && b <= '9') {
+                if (ziffern < 18) {
+                    mantisse = mantisse * 10 + (b - '0');
+                }
+                ziffern++;
+                if (nachkomma >= 0) {
+                    nachkomma++;
+                }
+            } else if (b == '.' && nachkomma < 0) {
+                nachkomma = 0;
+            } else {
+                break;
+            }
+            pos++;
+        }
+        if (ziffern == 0) {
+            throw fehler("Zahl erwartet");
+        }
+        if (ziffern > 18 || mantisse >= MAX_EXAKT || nachkomma >= ZEHNERPOTENZEN.length) {
+            return leseZahlLangsam(start);
+        }
+        double wert = nachkomma > 0 ? mantisse / ZEHNERPOTENZEN[nachkomma] : mantisse;
+        return negativ ? -wert : wert;
+    }
+
+    /**
+     * Liest eine Zahl mit zu vielen Stellen für den Schnellpfad.
+     */
+    private double leseZahlLangsam(int start) {
+        byte[] bytes = new byte[pos - start];
+        puffer.get(start, bytes);
+        return Double.parseDouble(new String(bytes, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Liest einen Befehlsnamen (Groß-/Kleinschreibung egal) und gibt dessen Opcode zurück.
+     */
+    private byte leseBefehl() throws IOException {
+        int start = pos;
+        byte b;
+        while ((b = zeichen()) == '_' || (b >= 'A' && b <= 'Z') || (b >= 'a' && b <= 'z')) {
+            pos++;
+        }
+        int laenge = pos - start;
+        for (int op = 0; op < NAMEN.length; op++) {
+            byte[] name = NAMEN[op];
+            if (name.length == laenge && gleich(name, start)) {
+                return (byte) op;
+            }
+        }
+        throw fehler(laenge == 0 ? "Befehl erwartet" : "Unbekannter Befehl");
+    }
+
+    private boolean gleich(byte[] name, int start) {
+        for (int i = 0; i < name.length; i++) {
+            byte b = puffer.get(start + i);
+            if (b >= 'a' && b <= 'z') {
+                b -= 'a' - 'A';
+            }
+            if (b != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private IOException fehler(String meldung) {
+        return new IOException("Zeile " + zeile + ": " + meldung);
+    }
+}
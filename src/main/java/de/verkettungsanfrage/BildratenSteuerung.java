@@ -0,0 +1,308 @@
+package de.verkettungsanfrage;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Adaptive Bildrate: gezeichnet wird nur, solange sich etwas ändert.
+ *
+ * Drei Betriebsarten:
+ * - AKTIV: Etwas bewegt sich (Nadel, Feder-Animationen, fahrendes Auto).
+ *   Der Dauerbetrieb (AnimationTimer) läuft, Bilder werden auf die
+ *   Höchstbildrate begrenzt.
+ * - GEDROSSELT: Nichts bewegt sich, der Zustand ändert sich aber langsam
+ *   weiter (z.B. Leerlaufverbrauch bei laufendem Motor). Der Dauerbetrieb
+ *   ist aus; ein Zeitgeber fordert Einzelbilder mit der Mindestbildrate an.
+ * - SCHLAF: Das Auto ruht (Motor aus, Stillstand) und nichts bewegt sich.
+ *   Es wird weder gezeichnet noch geplant, bis wecke() aufgerufen wird
+ *   (Eingabe oder ausgeführter Befehl).
+ *
+ * Nach der letzten Bewegung bleibt die Steuerung noch NACHLAUF_NANOS lang
+ * aktiv, damit kurz aufeinanderfolgende Änderungen den Dauerbetrieb nicht
+ * ständig an- und abschalten.
+ *
+ * Bis auf wecke() werden alle Methoden im UI-Thread aufgerufen.
+ *
+ * Beispiel:
+ * BildratenSteuerung steuerung = new BildratenSteuerung(60, 4, Platform::runLater, quelle);
+ * steuerung.start();
+ * // im AnimationTimer: steuerung.puls(now);
+ * // bei Eingaben und Befehlen: steuerung.wecke();
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public final class BildratenSteuerung implements AutoCloseable {
+
+    /**
+     * Betriebsart der Steuerung.
+     */
+    public enum Modus {
+
+        /** Dauerbetrieb mit höchstens der Höchstbildrate. */
+        AKTIV,
+
+        /** Einzelbilder mit der Mindestbildrate. */
+        GEDROSSELT,
+
+        /** Kein Zeichnen bis zum nächsten Wecken. */
+        SCHLAF
+    }
+
+    /**
+     * Die gesteuerte Anzeige.
+     */
+    public interface Bildquelle {
+
+        /**
+         * Startet bzw. stoppt den Dauerbetrieb (AnimationTimer und Endlosanimationen).
+         *
+         * @param an true zum Starten
+         */
+        void dauerbetrieb(boolean an);
+
+        /**
+         * Zeichnet ein Bild.
+         *
+         * @param jetzt der Zeitpunkt des Bildes in Nanosekunden
+         * @param einzelbild true, wenn das Bild nicht aus dem Dauerbetrieb stammt
+         */
+        void zeichne(long jetzt, boolean einzelbild);
+
+        /**
+         * Prüft, ob sich gerade etwas bewegt (Nadel, Animationen).
+         *
+         * @return true, solange weitere Bilder nötig sind
+         */
+        boolean istAnimiert();
+
+        /**
+         * Prüft, ob sich der angezeigte Zustand ohne Befehle nicht mehr ändert.
+         *
+         * @return true, wenn die Anzeige schlafen darf
+         */
+        boolean istInRuhe();
+    }
+
+    /** Standardwert der Höchstbildrate. */
+    public static final int STANDARD_MAX_BILDRATE = 60;
+
+    /** Standardwert der Mindestbildrate. */
+    public static final int STANDARD_MIN_BILDRATE = 4;
+
+    /** Nachlaufzeit nach der letzten Bewegung, bevor gedrosselt wird. */
+    static final long NACHLAUF_NANOS = 500_000_000L;
+
+    /** Toleranz für schwankende Pulsabstände bei der Begrenzung auf die Höchstbildrate. */
+    private static final long TOLERANZ_NANOS = 2_000_000L;
+
+    private final long minAbstandNanos;
+    private final long maxAbstandNanos;
+    private final Executor uiThread;
+    private final Bildquelle quelle;
+    private final LongSupplier uhr;
+    private final ScheduledExecutorService zeitgeber;
+
+    /** Aktuelle Betriebsart; wird von wecke() in anderen Threads gelesen. */
+    private volatile Modus modus = Modus.SCHLAF;
+
+    /** Von wecke() gesetzt, im UI-Thread beim nächsten Bild ausgewertet. */
+    private volatile boolean weckAnforderung;
+
+    private ScheduledFuture<?> geplant;
+    private long letzteBewegung;
+    private long letztesBild;
+    private long bilder;
+    private long einzelbilder;
+    private long wechsel;
+
+    /**
+     * Erstellt eine Steuerung.
+     *
+     * @param maxBildrate die Höchstbildrate im Dauerbetrieb
+     * @param minBildrate die Bildrate im gedrosselten Betrieb
+     * @param uiThread führt Aufgaben im UI-Thread aus (z.B. Platform::runLater)
+     * @param quelle die gesteuerte Anzeige
+     * @throws IllegalArgumentException wenn eine Bildrate nicht positiv oder min größer als max ist
+     */
+    public BildratenSteuerung(int maxBildrate, int minBildrate, Executor uiThread, Bildquelle quelle) {
+        this(maxBildrate, minBildrate, uiThread, quelle, System::nanoTime);
+    }
+
+    /**
+     * Erstellt eine Steuerung mit eigener Uhr (für Tests).
+     */
+    BildratenSteuerung(int maxBildrate, int minBildrate, Executor uiThread, Bildquelle quelle, LongSupplier uhr) {
+        if (maxBildrate <= 0 || minBildrate <= 0) {
+            throw new IllegalArgumentException("Bildraten müssen positiv sein: " + minBildrate + "/" + maxBildrate);
+        }
+        if (minBildrate > maxBildrate) {
+            throw new IllegalArgumentException(
+                    "Mindestbildrate " + minBildrate + " größer als Höchstbildrate " + maxBildrate);
+        }
+        this.minAbstandNanos = TimeUnit.SECONDS.toNanos(1) / maxBildrate;
+        this.maxAbstandNanos = TimeUnit.SECONDS.toNanos(1) / minBildrate;
+        this.uiThread = uiThread;
+        this.quelle = quelle;
+        this.uhr = uhr;
+        this.zeitgeber = Executors.newSingleThreadScheduledExecutor(
+                r -> Thread.ofPlatform().name("Bildraten-Zeitgeber").daemon().unstarted(r));
+    }
+
+    /**
+     * Startet im Dauerbetrieb.
+     */
+    public void start() {
+        aufwachen();
+    }
+
+    /**
+     * Verarbeitet einen Puls des Dauerbetriebs (AnimationTimer.handle).
+     *
+     * Pulse, die schneller als die Höchstbildrate kommen, werden übersprungen.
+     *
+     * @param jetzt der Pulszeitpunkt in Nanosekunden
+     */
+    public void puls(long jetzt) {
+        if (modus != Modus.AKTIV) {
+            return;
+        }
+        if (letztesBild != 0 && jetzt - letztesBild < minAbstandNanos - TOLERANZ_NANOS) {
+            return;
+        }
+        letztesBild = jetzt;
+        bilder++;
+        quelle.zeichne(jetzt, false);
+        bewerte(jetzt);
+    }
+
+    /**
+     * Weckt die Anzeige auf, z.B. nach einer Eingabe oder einem ausgeführten Befehl.
+     *
+     * Threadsicher; im Dauerbetrieb verlängert der Aufruf nur den Nachlauf.
+     */
+    public void wecke() {
+        weckAnforderung = true;
+        if (modus != Modus.AKTIV) {
+            uiThread.execute(this::aufwachen);
+        }
+    }
+
+    /**
+     * Gibt die aktuelle Betriebsart zurück.
+     *
+     * @return die Betriebsart
+     */
+    public Modus getModus() {
+        return modus;
+    }
+
+    /**
+     * Gibt die Anzahl aller gezeichneten Bilder zurück.
+     *
+     * @return die Bilder aus Dauerbetrieb und Einzelbildern
+     */
+    public long getBilder() {
+        return bilder;
+    }
+
+    /**
+     * Gibt die Anzahl der Einzelbilder im gedrosselten Betrieb zurück.
+     *
+     * @return die Anzahl der Einzelbilder
+     */
+    public long getEinzelbilder() {
+        return einzelbilder;
+    }
+
+    /**
+     * Gibt die Anzahl der Wechsel der Betriebsart zurück.
+     *
+     * @return die Anzahl der Wechsel
+     */
+    public long getWechsel() {
+        return wechsel;
+    }
+
+    /**
+     * Beendet den Zeitgeber. Der Dauerbetrieb wird nicht angefasst.
+     */
+    @Override
+    public void close() {
+        zeitgeber.shutdownNow();
+    }
+
+    /**
+     * Wählt nach einem Bild die Betriebsart.
+     */
+    private void bewerte(long jetzt) {
+        if (weckAnforderung || quelle.istAnimiert()) {
+            weckAnforderung = false;
+            letzteBewegung = jetzt;
+            wechsle(Modus.AKTIV);
+        } else if (modus != Modus.AKTIV || jetzt - letzteBewegung >= NACHLAUF_NANOS) {
+            wechsle(quelle.istInRuhe() ? Modus.SCHLAF : Modus.GEDROSSELT);
+        }
+    }
+
+    /**
+     * Wechselt in den Dauerbetrieb (UI-Thread).
+     */
+    private void aufwachen() {
+        weckAnforderung = false;
+        letzteBewegung = uhr.getAsLong();
+        wechsle(Modus.AKTIV);
+    }
+
+    /**
+     * Zeichnet ein geplantes Einzelbild, sofern noch gedrosselt wird (UI-Thread).
+     */
+    private void einzelbild() {
+        if (modus != Modus.GEDROSSELT) {
+            return;
+        }
+        long jetzt = uhr.getAsLong();
+        bilder++;
+        einzelbilder++;
+        quelle.zeichne(jetzt, true);
+        bewerte(jetzt);
+    }
+
+    /**
+     * Wechselt die Betriebsart und schaltet Dauerbetrieb und Zeitgeber entsprechend.
+     */
+    private void wechsle(Modus neu) {
+        Modus alt = modus;
+        if (geplant != null) {
+            geplant.cancel(false);
+            geplant = null;
+        }
+        if (neu == Modus.GEDROSSELT) {
+            geplant = zeitgeber.schedule(() -> uiThread.execute(this::einzelbild),
+                    maxAbstandNanos, TimeUnit.NANOSECONDS);
+        }
+        if (neu == alt) {
+            return;
+        }
+        // Erst schreiben, dann lesen: Ein gleichzeitiges wecke() sieht entweder
+        // den neuen Modus oder hinterlässt eine Anforderung, die hier auffällt
+        modus = neu;
+        wechsel++;
+        if (neu == Modus.AKTIV) {
+            letztesBild = 0;
+            quelle.dauerbetrieb(true);
+        } else {
+            if (alt == Modus.AKTIV) {
+                quelle.dauerbetrieb(false);
+            }
+            if (weckAnforderung) {
+                aufwachen();
+            }
+        }
+    }
+}
@@ -2,12 +2,18 @@ package de.verkettungsanfrage;
 
 import javafx.animation.*;
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.css.PseudoClass;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.*;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
@@ -15,6 +21,14 @@ import javafx.scene.text.Font;
 import javafx.stage.Stage;
 import javafx.util.Duration;
 
+import javax.management.JMException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 /**
  * JavaFX-Anwendung zur grafischen Darstellung eines Bordcomputers.
  *
@@ -23,16 +37,23 @@ import javafx.util.Duration;
  * - Animierter Tachometer mit Nadel und digitaler Geschwindigkeitsanzeige
  * - Tankfüllstandsanzeige mit Farbwechsel bei kritischem Niveau
  * - Motorstatus-Anzeige
+ * - Fahrtenrechner mit Reichweite und zwei Fahrtzählern (A/B)
+ * - Verlaufsdiagramm für Geschwindigkeit und Tankstand (1/10/60 Minuten)
  * - Steuerungsbuttons für alle Auto-Funktionen
  *
  * Das Fenster ist in der Größe veränderbar und unterstützt automatische
  * Scrollbars, wenn der Inhalt den sichtbaren Bereich überschreitet.
  *
  * Technische Features:
- * - AnimationTimer für flüssige 60 FPS Updates
- * - Timeline-Animationen für weiche Übergänge
- * - Canvas-basiertes Rendering für den Tachometer
+ * - Simulation mit festem Zeitschritt in einem eigenen Thread
+ * - AnimationTimer für flüssige 60 FPS Updates, nur solange sich etwas bewegt
+ *   (BildratenSteuerung: gedrosselt bei laufendem Motor, Schlaf bei Stillstand)
+ * - Gedämpfte Feder-Interpolation für weiche Übergänge (ohne Timeline pro Update)
+ * - Canvas-basiertes Rendering für den Tachometer (statische Skala + dynamische Nadel-Ebene)
  * - Responsive Design mit GridPane und ScrollPane
+ * - Zuschaltbare Leistungsanzeige (F3) mit Perzentilen je Phase
+ * - JMX-Kennzahlen (BordcomputerMetriken) für externe Überwachung
+ * - Optionale Flottenübersicht (bordcomputer.flotte=N) mit virtualisierten Kompakt-Tachos
  *
  * @author Moboudni
  * @version 2.0
@@ -40,11 +61,131 @@ import javafx.util.Duration;
  */
 public class Bordcomputer extends Application {
 
+    /** Simulationsfrequenz der Fahrdynamik in Hertz. */
+    private static final int SIMULATION_HZ = 1000;
+
+    /**
+     * Systemeigenschaft mit dem Pfad der Telemetriedatei.
+     * Ist sie gesetzt, wird jede Zustandsänderung binär aufgezeichnet.
+     */
+    private static final String TELEMETRIE_EIGENSCHAFT = "bordcomputer.telemetrie";
+
+    /** Ringkapazität der Telemetrie: eine Stunde bei einer Änderung pro Simulationsschritt. */
+    private static final int TELEMETRIE_KAPAZITAET = 3600 * SIMULATION_HZ;
+
+    /** Systemeigenschaft mit dem Pfad, unter dem beim Beenden das Befehlslog gespeichert wird. */
+    private static final String AUFZEICHNUNG_EIGENSCHAFT = "bordcomputer.aufzeichnung";
+
+    /** Systemeigenschaft mit dem Pfad eines Befehlslogs, das in Echtzeit abgespielt wird. */
+    private static final String WIEDERGABE_EIGENSCHAFT = "bordcomputer.wiedergabe";
+
+    /** Systemeigenschaft mit der Startposition der Wiedergabe in Sekunden. */
+    private static final String WIEDERGABE_AB_EIGENSCHAFT = "bordcomputer.wiedergabe.ab";
+
+    /** Systemeigenschaft mit dem Seed des Sensorrauschens (für reproduzierbare Läufe). */
+    private static final String SEED_EIGENSCHAFT = "bordcomputer.seed";
+
+    /**
+     * Systemeigenschaft mit dem Pfad des Leistungsberichts.
+     * Ist sie gesetzt, wird von Anfang an gemessen und beim Beenden der Bericht geschrieben.
+     */
+    private static final String MESSUNG_EIGENSCHAFT = "bordcomputer.messung";
+
+    /** Berichtsdatei, wenn die Messung nur über F3 eingeschaltet wurde. */
+    private static final String MESSUNG_STANDARD_DATEI = "bordcomputer-messung.txt";
+
+    /** Systemeigenschaft mit der Höchstbildrate, solange sich etwas bewegt. */
+    private static final String BILDRATE_MAX_EIGENSCHAFT = "bordcomputer.bildrate.max";
+
+    /** Systemeigenschaft mit der Bildrate, wenn sich der Zustand nur langsam ändert. */
+    private static final String BILDRATE_MIN_EIGENSCHAFT = "bordcomputer.bildrate.min";
+
+    /**
+     * Systemeigenschaft mit der Größe einer simulierten Flotte.
+     * Ist sie gesetzt, erhält das Fenster einen zusätzlichen Reiter mit der Flottenübersicht.
+     */
+    private static final String FLOTTE_EIGENSCHAFT = "bordcomputer.flotte";
+
+    /** Tickabstand der simulierten Flotte in Millisekunden. */
+    private static final int FLOTTEN_TICK_MS = 100;
+
+    /** Zeit zwischen zwei Tachoaktualisierungen in Sekunden. */
+    private static final double TACHO_INTERVALL_SEKUNDEN = 0.1;
+
+    /**
+     * Abstand der Nadel zur wahren Geschwindigkeit in km/h, unterhalb dessen
+     * sie als angekommen gilt (etwa zwei Standardabweichungen des Tachorauschens).
+     */
+    private static final double TACHO_RUHE_KMH = 1.0;
+
     /**
      * Das Auto-Objekt, dessen Zustand visualisiert wird.
      */
     private Auto auto;
 
+    /**
+     * Simulationskern, der das Auto exklusiv besitzt.
+     * Die Oberfläche sendet Befehle und liest nur Momentaufnahmen.
+     */
+    private Simulation simulation;
+
+    /** Optionaler Telemetrie-Rekorder, sonst null. */
+    private TelemetrieRekorder telemetrie;
+
+    /** Laufende Befehlsaufzeichnung, sonst null. */
+    private BefehlsLog befehlsLog;
+
+    /** Zeitmessung von Bildaufbau und Simulation (F3 schaltet Messung und Anzeige um). */
+    private final Leistungsmessung messung = new Leistungsmessung();
+
+    /** Eingeblendete Leistungsanzeige. */
+    private Label leistungsAnzeige;
+
+    /** Per JMX abfragbare Kennzahlen (de.verkettungsanfrage:type=Bordcomputer). */
+    private BordcomputerMetriken metriken;
+
+    /** Schaltet den Game-Loop je nach Bewegung zwischen Dauerbetrieb, Drosselung und Schlaf um. */
+    private BildratenSteuerung bildrate;
+
+    /** Ob das Auto beim letzten Update stand und der Motor aus war. */
+    private boolean autoInRuhe;
+
+    /** Übersicht über die simulierte Flotte, sonst null. */
+    private FlottenUebersicht flottenUebersicht;
+
+    /** Thread, der die simulierte Flotte tickt, sonst null. */
+    private ScheduledExecutorService flottenTakt;
+
+    /** JMX-Kennzahlen der simulierten Flotte, sonst null. */
+    private FlottenMetriken flottenMetriken;
+
+    /** Pseudo-Klasse für laufenden Motor (Statuslabel und Motor-Button). */
+    private static final PseudoClass MOTOR_AN = PseudoClass.getPseudoClass("motor-an");
+
+    /** Pseudo-Klasse für Tankstand unter 50%. */
+    private static final PseudoClass TANK_NIEDRIG = PseudoClass.getPseudoClass("tank-niedrig");
+
+    /** Pseudo-Klasse für Tankstand unter 25% (große Anzeige) bzw. kritisch (Mini-Anzeige). */
+    private static final PseudoClass TANK_KRITISCH = PseudoClass.getPseudoClass("tank-kritisch");
+
+    /** Pseudo-Klasse für Tankstand unter 10%. */
+    private static final PseudoClass TANK_LEER = PseudoClass.getPseudoClass("tank-leer");
+
+    /** Minimale Tankstandsänderung in Litern, ab der die Tankanzeigen aktualisiert werden. */
+    private static final double TANK_SCHWELLE_LITER = 0.05;
+
+    /**
+     * Meldet Änderungen der Simulations-Momentaufnahmen an die Anzeigen.
+     * Nur Anzeigen, deren Wert sich tatsächlich geändert hat, werden angefasst.
+     */
+    private final ZustandsBeobachter beobachter = new ZustandsBeobachter();
+
+    /**
+     * Wiederverwendeter Rahmen, in den die Oberfläche den Zustand der
+     * Simulation liest; pro Frame entsteht keine neue Momentaufnahme.
+     */
+    private final ZustandsPuffer.Rahmen rahmen = new ZustandsPuffer.Rahmen();
+
     // UI-Elemente - Labels und Anzeigen
 
     /** Label zur Anzeige des Motorstatus (An/Aus). */
@@ -62,12 +203,75 @@ public class Bordcomputer extends Application {
     /** Region für die animierte Flüssigkeitsdarstellung im Tank. */
     private Region tankLiquid;
 
-    /** Canvas für die Darstellung des analogen Tachometers. */
+    /** Ob der Tank bei der letzten Aktualisierung voll war (für die Meldung "Tank voll!"). */
+    private boolean tankVoll = true;
+
+    /** Canvas für die dynamische Ebene des Tachometers (Nadel). */
     private Canvas tachoCanvas;
 
+    /**
+     * Canvas für die statische Ebene des Tachometers (Hintergrund, Skala, Beschriftung).
+     * Wird nur neu gezeichnet, wenn sich Maximalgeschwindigkeit oder Größe ändern.
+     */
+    private Canvas tachoSkalaCanvas;
+
+    /** Maximalgeschwindigkeit, für die die statische Skala zuletzt gezeichnet wurde. */
+    private int skalaMaxGeschwindigkeit = -1;
+
+    /** Kantenlänge, für die die statische Skala zuletzt gezeichnet wurde. */
+    private double skalaGroesse = -1;
+
+    /**
+     * Begrenzungsrechteck der zuletzt gezeichneten Nadel (x, y, Breite, Höhe).
+     * Nur dieser Bereich wird vor dem nächsten Frame gelöscht (Dirty Region).
+     */
+    private final double[] nadelBereich = {0, 0, 340, 340};
+
     /** Animation für den Welleneffekt im Tank. */
     private PauseTransition waveAnimation;
 
+    /** Button zum Starten und Stoppen des Motors. */
+    private Button btnMotor;
+
+    /** Labels des Fahrtenrechners (Strecke, Ø km/h, Ø Verbrauch, Max, Reichweite). */
+    private Label lblStrecke, lblDurchschnitt, lblVerbrauch, lblMaxGeschwindigkeit, lblReichweite;
+
+    /** Button zum Umschalten zwischen Fahrtzähler A und B. */
+    private Button btnZaehler;
+
+    /** Breite des Verlaufsdiagramms in Pixeln (zugleich maximale Punktzahl). */
+    private static final int VERLAUF_BREITE = 300;
+
+    /** Höhe des Verlaufsdiagramms in Pixeln. */
+    private static final int VERLAUF_HOEHE = 140;
+
+    /** Geschwindigkeitsverlauf (km/h) über der Simulationszeit. */
+    private final Zeitreihe geschwindigkeitsVerlauf = new Zeitreihe();
+
+    /** Tankstandsverlauf (Anteil 0..1) über der Simulationszeit. */
+    private final Zeitreihe tankVerlauf = new Zeitreihe();
+
+    /** Canvas des Verlaufsdiagramms. */
+    private Canvas verlaufCanvas;
+
+    /** Angezeigter Zeitraum des Verlaufsdiagramms in Sekunden. */
+    private double verlaufSekunden = 60;
+
+    /** Beginn des gerade gezeichneten Zeitraums in Sekunden. */
+    private double verlaufVon;
+
+    /** Vertikaler Maßstab der gerade gezeichneten Kurve (Pixel pro Einheit). */
+    private double verlaufMassstab;
+
+    /** Ob der nächste Punkt eine neue Kurve beginnt (moveTo statt lineTo). */
+    private boolean verlaufKurvenAnfang;
+
+    /** Zeichnet einen Punkt des Verlaufs; einmal erzeugt, um pro Frame keine Lambdas anzulegen. */
+    private final Zeitreihe.PunktVerbraucher verlaufPunkt = this::zeichneVerlaufPunkt;
+
+    /** Aktuell angezeigter Fahrtzähler. */
+    private Fahrtenrechner.Zaehler angezeigterZaehler = Fahrtenrechner.Zaehler.A;
+
     /** Label zur Anzeige des Hupenstatus. */
     private Label lblHupeStatus;
 
@@ -80,10 +284,39 @@ public class Bordcomputer extends Application {
     // Tacho-Animation Variablen
 
     /**
-     * Aktueller Winkel der Tachometer-Nadel in Grad.
+     * Aktuelle Position der Tachometer-Nadel in der Nadeltabelle der Geometrie.
      * Wird für die sanfte Interpolation zwischen Geschwindigkeiten verwendet.
      */
-    private double currentAngle = 0;
+    private double currentNadelPosition = 0;
+
+    /**
+     * true, solange die Nadel sich bewegt oder die Geschwindigkeit sich ändert.
+     * Bei ruhender Nadel (Stillstand oder konstante Fahrt) wird der Tacho
+     * nicht neu gezeichnet.
+     */
+    private boolean tachoInBewegung = true;
+
+    /**
+     * Geschwindigkeitssensor des Tachometers: leichtes, bandbegrenztes
+     * Rauschen, kurze Trägheit und eine Auflösung von 0.1 km/h.
+     * Unter gleichem Seed ist das Signal exakt reproduzierbar.
+     */
+    private final Sensor tachoSensor = new Sensorsignal(Long.getLong(SEED_EIGENSCHAFT, 42L))
+            .rauschen(0.5, 2.0)
+            .verzoegerung(0.15)
+            .quantisierung(0.1);
+
+    /** Zuletzt angezeigter Ganzzahl-Teil der Geschwindigkeit. */
+    private int angezeigteKmh = -1;
+
+    /** Zuletzt angezeigte Nachkommastelle der Geschwindigkeit. */
+    private int angezeigteZehntel = -1;
+
+    /**
+     * Vorberechnete Geometrie des Tachos (Teilstriche, Beschriftung, Nadelwinkel).
+     * Wird nur bei Änderung von Maximalgeschwindigkeit oder Größe neu berechnet.
+     */
+    private TachoGeometrie tachoGeometrie;
 
     /**
      * AnimationTimer für den Hauptanimations-Loop.
@@ -97,6 +330,15 @@ public class Bordcomputer extends Application {
      */
     private long lastUpdate = 0;
 
+    /** Zeitpunkt des letzten Frames in Nanosekunden (für die Feder-Animationen). */
+    private long letzterFrame = 0;
+
+    /** Animierte Breite der Mini-Tankanzeige (eine wiederverwendete Feder statt Timelines). */
+    private final GedaempfterWert tankMiniBreite = new GedaempfterWert(0.3);
+
+    /** Animierte Füllhöhe der großen Tankanzeige (eine wiederverwendete Feder statt Timelines). */
+    private final GedaempfterWert tankFuellhoehe = new GedaempfterWert(0.8);
+
     /**
      * Startet die JavaFX-Anwendung und initialisiert das Hauptfenster.
      *
@@ -109,14 +351,15 @@ public class Bordcomputer extends Application {
      */
     @Override
     public void start(Stage stage) {
-        // Initialisierung des Auto-Objekts
-        auto = new Auto("VW Golf", 10.0, 220);
+        // Initialisierung von Auto und Simulation (oder Wiedergabe einer Aufzeichnung)
+        simulation = erzeugeSimulation();
+        starteTelemetrie();
         stage.setTitle("Bordcomputer - " + auto.getModell());
         stage.setResizable(true);
 
         // Hauptlayout erstellen
         BorderPane root = new BorderPane();
-        root.setStyle("-fx-background-color: #f0f2f5;");
+        root.getStyleClass().add("bordcomputer");
         root.setPadding(new Insets(20));
         root.setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
 
@@ -129,52 +372,398 @@ public class Bordcomputer extends Application {
         ScrollPane scrollPane = new ScrollPane(root);
         scrollPane.setFitToWidth(true);
         scrollPane.setFitToHeight(true);
-        scrollPane.setStyle("-fx-background-color: transparent;");
+        scrollPane.getStyleClass().add("bordcomputer-scroll");
         scrollPane.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
         scrollPane.setHbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
 
-        Scene scene = new Scene(scrollPane, 900, 680);
+        // Leistungsanzeige über dem Inhalt (F3)
+        leistungsAnzeige = new Label();
+        leistungsAnzeige.getStyleClass().add("leistungs-anzeige");
+        leistungsAnzeige.setMouseTransparent(true);
+        leistungsAnzeige.setVisible(false);
+        int flottenGroesse = Integer.getInteger(FLOTTE_EIGENSCHAFT, 0);
+        StackPane ebenen = new StackPane(
+                flottenGroesse > 0 ? erzeugeFlottenReiter(scrollPane, flottenGroesse) : scrollPane,
+                leistungsAnzeige);
+        StackPane.setAlignment(leistungsAnzeige, Pos.TOP_RIGHT);
+
+        Scene scene = new Scene(ebenen, 900, 680);
+        // Jede Eingabe weckt eine schlafende Anzeige
+        scene.addEventFilter(MouseEvent.MOUSE_PRESSED, e -> bildrate.wecke());
+        scene.addEventFilter(KeyEvent.KEY_PRESSED, e -> {
+            bildrate.wecke();
+            if (e.getCode() == KeyCode.F3) {
+                schalteLeistungsanzeige();
+                e.consume();
+            }
+        });
+        // Alle Zustandsfarben kommen aus dem Stylesheet (Pseudo-Klassen statt Inline-CSS)
+        scene.getStylesheets().add(getClass().getResource("/styles.css").toExternalForm());
         stage.setScene(scene);
         stage.show();
 
+        messung.setAktiv(isMessungKonfiguriert());
+        simulation.setMessung(messung);
+        bildrate = erzeugeBildratenSteuerung();
+        metriken = new BordcomputerMetriken(simulation,
+                Integer.getInteger(BILDRATE_MAX_EIGENSCHAFT, BildratenSteuerung.STANDARD_MAX_BILDRATE));
+        try {
+            metriken.registriere();
+        } catch (JMException e) {
+            System.err.println("JMX-Kennzahlen nicht registriert: " + e.getMessage());
+        }
+
+        simulation.start();
         startGameLoop();
     }
 
+    /**
+     * Schaltet Messung und Leistungsanzeige gemeinsam ein bzw. aus.
+     */
+    private void schalteLeistungsanzeige() {
+        boolean an = !leistungsAnzeige.isVisible();
+        leistungsAnzeige.setVisible(an);
+        messung.setAktiv(an || isMessungKonfiguriert());
+        if (an) {
+            leistungsAnzeige.setText(messung.bericht());
+        }
+    }
+
+    /**
+     * Prüft, ob die Messung per Systemeigenschaft dauerhaft eingeschaltet ist.
+     */
+    private static boolean isMessungKonfiguriert() {
+        String datei = System.getProperty(MESSUNG_EIGENSCHAFT);
+        return datei != null && !datei.isBlank();
+    }
+
+    /**
+     * Beendet Animations-Loop und Simulations-Thread beim Schließen des Fensters.
+     */
+    @Override
+    public void stop() {
+        if (gameLoop != null) {
+            gameLoop.stop();
+        }
+        if (bildrate != null) {
+            bildrate.close();
+        }
+        if (flottenTakt != null) {
+            flottenTakt.shutdownNow();
+            flottenUebersicht.stop();
+            flottenMetriken.abmelden();
+        }
+        simulation.stoppe();
+        if (metriken != null) {
+            metriken.abmelden();
+        }
+        if (telemetrie != null) {
+            telemetrie.close();
+        }
+        if (befehlsLog != null) {
+            try {
+                befehlsLog.schreibe(Path.of(System.getProperty(AUFZEICHNUNG_EIGENSCHAFT)));
+            } catch (IOException e) {
+                System.err.println("Befehlslog nicht gespeichert: " + e.getMessage());
+            }
+        }
+        if (messung.hatWerte()) {
+            try {
+                messung.schreibeBericht(Path.of(isMessungKonfiguriert()
+                        ? System.getProperty(MESSUNG_EIGENSCHAFT) : MESSUNG_STANDARD_DATEI));
+            } catch (IOException e) {
+                System.err.println("Leistungsbericht nicht gespeichert: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Erstellt Auto und Simulation.
+     *
+     * - bordcomputer.wiedergabe gesetzt: das Befehlslog wird ab
+     *   bordcomputer.wiedergabe.ab Sekunden in Echtzeit abgespielt
+     * - bordcomputer.aufzeichnung gesetzt: alle Bedienbefehle werden protokolliert
+     * - sonst: neues Auto (VW Golf, 10 Liter, 220 km/h)
+     *
+     * @return die noch nicht gestartete Simulation
+     */
+    private Simulation erzeugeSimulation() {
+        String wiedergabe = System.getProperty(WIEDERGABE_EIGENSCHAFT);
+        if (wiedergabe != null && !wiedergabe.isBlank()) {
+            try {
+                BefehlsLog log = BefehlsLog.lese(Path.of(wiedergabe));
+                double ab = Double.parseDouble(System.getProperty(WIEDERGABE_AB_EIGENSCHAFT, "0"));
+                auto = log.erzeugeAuto();
+                return new Wiedergabe(log).springeZuSekunde(ab).erzeugeSimulation(auto);
+            } catch (IOException | NumberFormatException e) {
+                System.err.println("Wiedergabe nicht möglich: " + e.getMessage());
+            }
+        }
+
+        auto = new Auto("VW Golf", 10.0, 220);
+        Simulation sim = new Simulation(auto, SIMULATION_HZ);
+        String aufzeichnung = System.getProperty(AUFZEICHNUNG_EIGENSCHAFT);
+        if (aufzeichnung != null && !aufzeichnung.isBlank()) {
+            befehlsLog = sim.starteAufzeichnung();
+        }
+        return sim;
+    }
+
+    /**
+     * Startet die Telemetrie-Aufzeichnung, wenn die Systemeigenschaft
+     * bordcomputer.telemetrie gesetzt ist.
+     */
+    private void starteTelemetrie() {
+        String pfad = System.getProperty(TELEMETRIE_EIGENSCHAFT);
+        if (pfad == null || pfad.isBlank()) {
+            return;
+        }
+        try {
+            telemetrie = new TelemetrieRekorder(Path.of(pfad), TELEMETRIE_KAPAZITAET);
+            simulation.setTelemetrie(telemetrie);
+        } catch (IOException e) {
+            System.err.println("Telemetrie deaktiviert: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Erstellt eine simulierte Flotte und stellt den Bordcomputer und die
+     * Flottenübersicht in zwei Reitern dar.
+     *
+     * Die Flotte wird alle FLOTTEN_TICK_MS Millisekunden in einem eigenen
+     * Thread getickt; die Übersicht aktualisiert sich nur, solange ihr
+     * Reiter gewählt ist.
+     *
+     * @param bordcomputer der Inhalt des Bordcomputer-Reiters
+     * @param anzahl die Anzahl der Fahrzeuge
+     * @return die Reiter
+     */
+    private TabPane erzeugeFlottenReiter(Node bordcomputer, int anzahl) {
+        Flotte flotte = new Flotte(anzahl);
+        String[] modelle = {"VW Golf", "BMW 320i", "Audi A4", "Opel Astra"};
+        SplittableRandom zufall = new SplittableRandom(Long.getLong(SEED_EIGENSCHAFT, 42L));
+        for (int i = 0; i < anzahl; i++) {
+            flotte.hinzufuegen(modelle[i % modelle.length], 10 + zufall.nextDouble(40), 180 + 20 * (i % 4));
+        }
+        flottenMetriken = new FlottenMetriken(flotte);
+        try {
+            flottenMetriken.registriere("uebersicht");
+        } catch (JMException e) {
+            System.err.println("JMX-Kennzahlen der Flotte nicht registriert: " + e.getMessage());
+        }
+        flottenTakt = Executors.newSingleThreadScheduledExecutor(
+                r -> Thread.ofPlatform().name("Flotte").daemon().unstarted(r));
+        flottenTakt.scheduleAtFixedRate(() -> fahreFlotte(flotte, zufall),
+                FLOTTEN_TICK_MS, FLOTTEN_TICK_MS, TimeUnit.MILLISECONDS);
+
+        flottenUebersicht = new FlottenUebersicht(flotte);
+        Tab bordcomputerReiter = new Tab("Bordcomputer", bordcomputer);
+        Tab flottenReiter = new Tab("Flotte (" + anzahl + ")", flottenUebersicht);
+        flottenReiter.selectedProperty().addListener((o, alt, gewaehlt) -> {
+            if (gewaehlt) {
+                flottenUebersicht.start();
+            } else {
+                flottenUebersicht.stop();
+            }
+        });
+        TabPane reiter = new TabPane(bordcomputerReiter, flottenReiter);
+        reiter.setTabClosingPolicy(TabPane.TabClosingPolicy.UNAVAILABLE);
+        return reiter;
+    }
+
+    /**
+     * Führt einen Tick der simulierten Flotte aus (Flotten-Thread).
+     *
+     * Jedes Fahrzeug startet, beschleunigt, bremst oder tankt gelegentlich
+     * zufällig; danach rollen alle Fahrzeuge einen Tick lang aus.
+     *
+     * @param flotte die Flotte
+     * @param zufall der Zufallsgenerator (nur von diesem Thread benutzt)
+     */
+    private void fahreFlotte(Flotte flotte, SplittableRandom zufall) {
+        for (int i = 0, n = flotte.getAnzahl(); i < n; i++) {
+            double wurf = zufall.nextDouble();
+            if (!flotte.istMotorAn(i)) {
+                if (flotte.getTankstand(i) == 0.0) {
+                    flotte.tanken(i, 40.0);
+                } else if (wurf < 0.02) {
+                    flotte.starteMotor(i);
+                    flotte.fahreLos(i);
+                }
+            } else if (wurf < 0.08) {
+                flotte.beschleunige(i, 15.0);
+            } else if (wurf < 0.12) {
+                flotte.bremsen(i, 25.0);
+            } else if (wurf < 0.125) {
+                flotte.stoppeMotor(i);
+            }
+        }
+        flottenMetriken.erfasse(flotte.tick(0, flotte.getAnzahl(), FLOTTEN_TICK_MS / 1000.0, 0.0));
+    }
+
+    /**
+     * Erstellt die Bildratensteuerung aus den Systemeigenschaften
+     * bordcomputer.bildrate.max und bordcomputer.bildrate.min.
+     *
+     * @return die Steuerung (bei ungültigen Werten mit Standardbildraten)
+     */
+    private BildratenSteuerung erzeugeBildratenSteuerung() {
+        BildratenSteuerung.Bildquelle quelle = new BildratenSteuerung.Bildquelle() {
+            @Override
+            public void dauerbetrieb(boolean an) {
+                if (an) {
+                    letzterFrame = 0;
+                    gameLoop.start();
+                    waveAnimation.play();
+                } else {
+                    gameLoop.stop();
+                    waveAnimation.stop();
+                }
+            }
+
+            @Override
+            public void zeichne(long jetzt, boolean einzelbild) {
+                zeichneFrame(jetzt, einzelbild);
+            }
+
+            @Override
+            public boolean istAnimiert() {
+                return tachoInBewegung || !tankMiniBreite.istInRuhe() || !tankFuellhoehe.istInRuhe()
+                        || leistungsAnzeige.isVisible();
+            }
+
+            @Override
+            public boolean istInRuhe() {
+                return autoInRuhe;
+            }
+        };
+        try {
+            return new BildratenSteuerung(
+                    Integer.getInteger(BILDRATE_MAX_EIGENSCHAFT, BildratenSteuerung.STANDARD_MAX_BILDRATE),
+                    Integer.getInteger(BILDRATE_MIN_EIGENSCHAFT, BildratenSteuerung.STANDARD_MIN_BILDRATE),
+                    Platform::runLater, quelle);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Bildraten ungültig, verwende Standardwerte: " + e.getMessage());
+            return new BildratenSteuerung(BildratenSteuerung.STANDARD_MAX_BILDRATE,
+                    BildratenSteuerung.STANDARD_MIN_BILDRATE, Platform::runLater, quelle);
+        }
+    }
+
     /**
      * Startet den Hauptanimations-Loop für flüssige UI-Updates.
      *
-     * Der AnimationTimer läuft mit bis zu 60 FPS und aktualisiert:
-     * - Tachometer-Nadel mit Smooth-Interpolation
-     * - Digitale Geschwindigkeitsanzeige
-     * - Mini-Tankanzeige im Tacho
-     * - Simuliert sanftes Ausrollen des Fahrzeugs
+     * Der AnimationTimer läuft nur, solange sich etwas bewegt, und gibt
+     * jeden Puls an die BildratenSteuerung weiter:
+     * - Bewegung (Nadel, Feder-Animationen, F3-Anzeige): Dauerbetrieb mit
+     *   bis zu bordcomputer.bildrate.max Bildern pro Sekunde (Standard 60)
+     * - Motor an, aber keine Bewegung: Timer aus, Einzelbilder mit
+     *   bordcomputer.bildrate.min Bildern pro Sekunde (Standard 4)
+     * - Motor aus und Stillstand: weder Timer noch Wellenanimation; Maus-
+     *   und Tastatureingaben sowie ausgeführte Befehle (auch aus einer
+     *   Wiedergabe) wecken die Anzeige
      *
-     * Die Update-Rate ist auf alle 100 Millisekunden begrenzt,
-     * um die CPU-Last zu reduzieren.
+     * Die Fahrdynamik (z.B. sanftes Ausrollen) berechnet die Simulation
+     * in ihrem eigenen Thread; der Loop liest nur deren Momentaufnahmen.
      */
     private void startGameLoop() {
+        beobachter
+                .beobachte(ZustandsAnsicht::geschwindigkeit, 0.0, z -> tachoInBewegung = true)
+                .beobachte(ZustandsAnsicht::tankstand, TANK_SCHWELLE_LITER, ZustandsAnsicht::maxTankstand, z -> {
+                    long t = messung.start();
+                    updateTankMiniDisplay(z);
+                    updateTank(z);
+                    messung.stopp(Leistungsmessung.Phase.TANK, t);
+                })
+                .beobachteMotor(this::updateMotorAnzeige);
+
         gameLoop = new AnimationTimer() {
             @Override
             public void handle(long now) {
-                // Begrenzung auf ~10 Updates pro Sekunde
-                if (now - lastUpdate >= 100_000_000) {
-                    if (auto.getGeschwindigkeit() > 0) {
-                        // Simuliert sanften Geschwindigkeitsabfall beim Ausrollen
-                        // Reduzierter Wert (0.2 statt 1.0) für realistisches Verhalten
-                        if (auto.isMotorLaeuft() && auto.getGeschwindigkeit() > 10) {
-                            auto.bremsen(0.2);
-                        }
-                    }
-
-                    // UI-Aktualisierung
-                    drawTacho(auto.getGeschwindigkeit());
-                    updateTankMiniDisplay();
-
-                    lastUpdate = now;
-                }
+                bildrate.puls(now);
             }
         };
-        gameLoop.start();
+        simulation.setBefehlsHinweis(bildrate::wecke);
+        bildrate.start();
+    }
+
+    /**
+     * Zeichnet einen Frame.
+     *
+     * Aktualisiert:
+     * - Feder-Animationen der Tankanzeigen (in jedem Frame)
+     * - Tachometer-Nadel mit Smooth-Interpolation (nur solange sie sich bewegt)
+     * - Digitale Geschwindigkeitsanzeige
+     *
+     * Motorstatus und Tankanzeigen werden über den ZustandsBeobachter nur
+     * dann aktualisiert, wenn sich der jeweilige Wert tatsächlich geändert hat.
+     * Die Update-Rate dieser Anzeigen ist auf alle 100 Millisekunden begrenzt,
+     * um die CPU-Last zu reduzieren.
+     *
+     * @param now der Zeitpunkt des Frames in Nanosekunden
+     * @param einzelbild true für Einzelbilder (kein Abstand zum vorherigen Frame)
+     */
+    private void zeichneFrame(long now, boolean einzelbild) {
+        if (einzelbild) {
+            letzterFrame = 0;
+        }
+        long frameStart = messung.start();
+        if (letzterFrame != 0) {
+            messung.erfasse(Leistungsmessung.Phase.FRAME_ABSTAND, now - letzterFrame);
+        }
+        metriken.frame(letzterFrame == 0 ? 0 : now - letzterFrame);
+
+        // Feder-Animationen laufen mit voller Bildrate
+        double sekunden = letzterFrame == 0 ? 0 : (now - letzterFrame) / 1e9;
+        letzterFrame = now;
+        long t = messung.start();
+        animiereTankanzeigen(sekunden);
+        messung.stopp(Leistungsmessung.Phase.ANIMATION, t);
+
+        // Begrenzung auf ~10 Updates pro Sekunde
+        if (now - lastUpdate >= 100_000_000) {
+            ZustandsAnsicht z = simulation.leseZustand(rahmen);
+            autoInRuhe = !z.motorLaeuft() && z.geschwindigkeit() == 0.0;
+
+            // UI-Aktualisierung: Listener nur bei echten Änderungen
+            beobachter.pruefe(z);
+            if (tachoInBewegung) {
+                t = messung.start();
+                drawTacho(z.geschwindigkeit());
+                messung.stopp(Leistungsmessung.Phase.TACHO, t);
+            }
+            t = messung.start();
+            updateFahrtenrechner();
+            messung.stopp(Leistungsmessung.Phase.FAHRTENRECHNER, t);
+            t = messung.start();
+            erfasseVerlauf(z);
+            messung.stopp(Leistungsmessung.Phase.VERLAUF, t);
+
+            metriken.setAktiveAnimationen(zaehleAnimationen());
+            if (leistungsAnzeige.isVisible()) {
+                leistungsAnzeige.setText(messung.bericht());
+            }
+            lastUpdate = now;
+        }
+        messung.stopp(Leistungsmessung.Phase.FRAME, frameStart);
+    }
+
+    /**
+     * Zählt die gerade laufenden Animationen (Tachonadel, Tankfedern, Wellen).
+     *
+     * @return die Anzahl der Animationen, die noch nicht in Ruhe sind
+     */
+    private int zaehleAnimationen() {
+        int anzahl = tachoInBewegung ? 1 : 0;
+        if (!tankMiniBreite.istInRuhe()) {
+            anzahl++;
+        }
+        if (!tankFuellhoehe.istInRuhe()) {
+            anzahl++;
+        }
+        if (waveAnimation != null && waveAnimation.getStatus() == Animation.Status.RUNNING) {
+            anzahl++;
+        }
+        return anzahl;
     }
 
     /**
@@ -233,7 +822,9 @@ public class Bordcomputer extends Application {
         VBox left = new VBox(20,
                 createStatusBox(),
                 createTacho(),
-                createTank()
+                createTank(),
+                createVerlauf(),
+                createFahrtenrechner()
         );
         left.setAlignment(Pos.TOP_CENTER);
         left.setMaxHeight(Double.MAX_VALUE);
@@ -244,7 +835,7 @@ public class Bordcomputer extends Application {
         grid.add(left, 0, 0);
         grid.add(right, 1, 0);
 
-        updateUI();
+        updateUI(simulation.leseZustand(rahmen));
         return grid;
     }
 
@@ -260,7 +851,7 @@ public class Bordcomputer extends Application {
     private VBox createStatusBox() {
         lblMotorStatus = new Label("Motor: Aus");
         lblMotorStatus.setFont(Font.font(24));
-        lblMotorStatus.setStyle("-fx-text-fill: #e74c3c; -fx-font-weight: bold;");
+        lblMotorStatus.getStyleClass().add("motor-status");
 
         lblHupeStatus = new Label("");
         lblHupeStatus.setFont(Font.font("Italic", 22));
@@ -287,9 +878,10 @@ public class Bordcomputer extends Application {
         StackPane pane = new StackPane();
         pane.setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
 
-        // Canvas für den analogen Tacho
+        // Zwei Canvas-Ebenen: statische Skala unten, dynamische Nadel oben
+        tachoSkalaCanvas = new Canvas(340, 340);
         tachoCanvas = new Canvas(340, 340);
-        StackPane canvasWrapper = new StackPane(tachoCanvas);
+        StackPane canvasWrapper = new StackPane(tachoSkalaCanvas, tachoCanvas);
         canvasWrapper.setMaxSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
 
         // Digitale Geschwindigkeitsanzeige
@@ -310,7 +902,8 @@ public class Bordcomputer extends Application {
 
         // Mini-Tankanzeige im Tacho-Zentrum
         tankMiniFrame = new Rectangle(50, 10, Color.web("#444444"));
-        tankMiniDisplay = new Rectangle(46, 6, Color.web("#27ae60"));
+        tankMiniDisplay = new Rectangle(46, 6);
+        tankMiniDisplay.getStyleClass().add("tank-mini");
         tankMiniDisplay.setTranslateY(-10);
         tankMiniFrame.setTranslateY(-10);
         tankMiniDisplay.setArcWidth(5);
@@ -326,58 +919,42 @@ public class Bordcomputer extends Application {
 
         pane.getChildren().addAll(canvasWrapper, center, digitalSpeedFraction, tankStack);
         drawTacho(0);
-        updateTankMiniDisplay();
+        updateTankMiniDisplay(simulation.leseZustand(rahmen));
         return pane;
     }
 
     /**
-     * Zeichnet den Tachometer auf dem Canvas.
+     * Zeichnet die statische Ebene des Tachometers.
      *
      * Visualisierung umfasst:
      * - Schwarzen Hintergrund-Kreis
      * - Farbige Geschwindigkeitsskala (Grün/Gelb/Rot basierend auf Geschwindigkeit)
      * - Teilstriche alle 10 km/h (große Striche alle 40 km/h)
      * - Beschriftung der Hauptwerte
-     * - Animierte rote Nadel mit Smooth-Interpolation
-     * - Zentraler Nadelaufhängungspunkt
-     * - Zufallsrauschen für Realismus bei Bewegung
      *
-     * Die Nadelbewegung wird geglättet durch lineare Interpolation,
-     * um ruckartige Bewegungen zu vermeiden.
+     * Diese Elemente hängen nur von der Maximalgeschwindigkeit und der
+     * Canvas-Größe ab. Sie werden daher einmalig in eine eigene Canvas-Ebene
+     * gezeichnet, die JavaFX bis zur nächsten Änderung unverändert darstellt.
      *
-     * @param speed die aktuelle Geschwindigkeit des Fahrzeugs in km/h
+     * @param maxSpeed die Maximalgeschwindigkeit des Fahrzeugs in km/h
      */
-    private void drawTacho(double speed) {
-        GraphicsContext g = tachoCanvas.getGraphicsContext2D();
-        g.clearRect(0, 0, 340, 340);
+    private void zeichneTachoSkala(int maxSpeed) {
+        GraphicsContext g = tachoSkalaCanvas.getGraphicsContext2D();
+        g.clearRect(0, 0, tachoSkalaCanvas.getWidth(), tachoSkalaCanvas.getHeight());
 
         double cx = 170, cy = 170, r = 140;
-        int maxSpeed = auto.getMaxGeschwindigkeit();
-        double maxScaleValue = 240.0;
+        if (tachoGeometrie == null || !tachoGeometrie.passtZu(cx, cy, r, maxSpeed)) {
+            tachoGeometrie = TachoGeometrie.tacho(cx, cy, r, maxSpeed);
+        }
+        TachoGeometrie geo = tachoGeometrie;
 
         // Dunkler Hintergrund-Kreis
         g.setFill(Color.web("#1a1a1a"));
         g.fillOval(20, 20, 300, 300);
 
-        double actualSpeed = (double) auto.getGeschwindigkeit();
-        double visualSpeed = actualSpeed;
-
-        // Sensor-Rauschen nur bei Bewegung hinzufügen (verhindert Flackern bei 0 km/h)
-        if (actualSpeed > 0) {
-            visualSpeed += Math.random();
-        }
-
-        visualSpeed = Math.min(visualSpeed, maxSpeed);
-
         // Geschwindigkeitsskala mit Farbcodierung
-        for (int i = 0; i <= maxSpeed; i += 10) {
-            double angle = Math.toRadians(120 + (i / (double) maxSpeed) * maxScaleValue);
-            double x1 = cx + r * Math.cos(angle);
-            double y1 = cy + r * Math.sin(angle);
-
-            double lineLength = i % 40 == 0 ? 30 : 20;
-            double x2 = cx + (r - lineLength) * Math.cos(angle);
-            double y2 = cy + (r - lineLength) * Math.sin(angle);
+        for (int k = 0; k < geo.getStrichAnzahl(); k++) {
+            int i = geo.getStrichWert(k);
 
             // Farbcodierung: Grün (sicher) -> Gelb (mittel) -> Rot (gefährlich)
             Color color;
@@ -390,28 +967,68 @@ public class Bordcomputer extends Application {
             }
 
             g.setStroke(color);
-            g.setLineWidth(i % 40 == 0 ? 4 : 2);
-            g.strokeLine(x1, y1, x2, y2);
+            g.setLineWidth(geo.istHauptstrich(k) ? 4 : 2);
+            g.strokeLine(geo.getStrichX1(k), geo.getStrichY1(k), geo.getStrichX2(k), geo.getStrichY2(k));
         }
 
         // Zahlenbeschriftung
         g.setFill(Color.WHITE);
         g.setFont(Font.font(18));
-        for (int i = 0; i <= maxSpeed; i += 40) {
-            double angle = Math.toRadians(120 + (i / (double) maxSpeed) * maxScaleValue);
-            double x = cx + (r - 55) * Math.cos(angle) - (i >= 100 ? 15 : 8);
-            double y = cy + (r - 55) * Math.sin(angle) + 8;
-            g.fillText(String.valueOf(i), x, y);
+        for (int k = 0; k < geo.getBeschriftungAnzahl(); k++) {
+            g.fillText(geo.getBeschriftung(k), geo.getBeschriftungX(k), geo.getBeschriftungY(k));
         }
 
-        // Smooth-Nadel mit linearer Interpolation (20% pro Frame)
-        double target = 120 + (visualSpeed / (double) maxSpeed) * maxScaleValue;
-        currentAngle += (target - currentAngle) * 0.2;
+        skalaMaxGeschwindigkeit = maxSpeed;
+        skalaGroesse = tachoSkalaCanvas.getWidth();
+    }
+
+    /**
+     * Zeichnet die dynamische Ebene des Tachometers.
+     *
+     * Visualisierung umfasst:
+     * - Animierte rote Nadel mit Smooth-Interpolation
+     * - Zentraler Nadelaufhängungspunkt
+     * - Sensorrauschen für Realismus bei Bewegung (siehe tachoSensor)
+     * - Digitale Geschwindigkeitsanzeige
+     *
+     * Die statische Skala wird nur neu gezeichnet, wenn sich die
+     * Maximalgeschwindigkeit oder die Größe geändert hat. Von der Nadel-Ebene
+     * wird nur der Bereich gelöscht, den die Nadel im letzten Frame belegt hat.
+     *
+     * Die Nadelbewegung wird geglättet durch lineare Interpolation,
+     * um ruckartige Bewegungen zu vermeiden.
+     *
+     * @param speed die aktuelle Geschwindigkeit des Fahrzeugs in km/h
+     */
+    private void drawTacho(double speed) {
+        int maxSpeed = auto.getMaxGeschwindigkeit();
+        if (maxSpeed != skalaMaxGeschwindigkeit || tachoSkalaCanvas.getWidth() != skalaGroesse) {
+            zeichneTachoSkala(maxSpeed);
+        }
+
+        GraphicsContext g = tachoCanvas.getGraphicsContext2D();
+        g.clearRect(nadelBereich[0], nadelBereich[1], nadelBereich[2], nadelBereich[3]);
+
+        double cx = 170, cy = 170;
+
+        double actualSpeed = speed;
+
+        // Sensorwert nur bei Bewegung anzeigen (verhindert Flackern bei 0 km/h)
+        double gemessen = tachoSensor.messe(actualSpeed, TACHO_INTERVALL_SEKUNDEN);
+        double visualSpeed = actualSpeed > 0 ? Math.max(0.0, gemessen) : 0.0;
+
+        visualSpeed = Math.min(visualSpeed, maxSpeed);
+
+        // Smooth-Nadel mit linearer Interpolation (20% pro Frame),
+        // Winkel kommen ohne Trigonometrie aus der vorberechneten Nadeltabelle
+        double target = tachoGeometrie.nadelPosition(visualSpeed);
+        currentNadelPosition += (target - currentNadelPosition) * 0.2;
 
-        double rad = Math.toRadians(currentAngle);
+        double nadelX = cx + 115 * tachoGeometrie.nadelCos(currentNadelPosition);
+        double nadelY = cy + 115 * tachoGeometrie.nadelSin(currentNadelPosition);
         g.setStroke(Color.RED);
         g.setLineWidth(6);
-        g.strokeLine(cx, cy, cx + 115 * Math.cos(rad), cy + 115 * Math.sin(rad));
+        g.strokeLine(cx, cy, nadelX, nadelY);
 
         // Nadelaufhängung in der Mitte
         g.setFill(Color.web("#1a1a1a"));
@@ -419,10 +1036,37 @@ public class Bordcomputer extends Application {
         g.setFill(Color.RED);
         g.fillOval(cx - 10, cy - 10, 20, 20);
 
-        // Aktualisierung der digitalen Anzeige
-        speedLabelCenter.setText(String.valueOf((int) visualSpeed));
-        digitalSpeedFraction.setText(String.format(".%d", (int) ((visualSpeed - (int) visualSpeed) * 10)));
+        // Belegten Bereich für den nächsten Frame merken (Nadel + Aufhängung + Linienbreite)
+        double rand = 16;
+        nadelBereich[0] = Math.min(cx, nadelX) - rand;
+        nadelBereich[1] = Math.min(cy, nadelY) - rand;
+        nadelBereich[2] = Math.abs(nadelX - cx) + 2 * rand;
+        nadelBereich[3] = Math.abs(nadelY - cy) + 2 * rand;
+
+        // Aktualisierung der digitalen Anzeige (nur bei geänderten Ziffern)
+        // Über ganze Zehntel rechnen, damit quantisierte Werte wie 49.9 nicht als 49.8 erscheinen
+        long inZehnteln = (long) (visualSpeed * 10 + 1e-6);
+        int kmh = (int) (inZehnteln / 10);
+        int zehntel = (int) (inZehnteln % 10);
+        if (kmh != angezeigteKmh) {
+            speedLabelCenter.setText(String.valueOf(kmh));
+            angezeigteKmh = kmh;
+        }
+        if (zehntel != angezeigteZehntel) {
+            digitalSpeedFraction.setText("." + zehntel);
+            angezeigteZehntel = zehntel;
+        }
         digitalSpeedFraction.setTranslateY(speedLabelCenter.getLayoutY() + 10);
+
+        // Weiterzeichnen nur, solange die Nadel ihrem Ziel nachläuft; jede Änderung
+        // der Geschwindigkeit setzt das Flag über den ZustandsBeobachter erneut.
+        // Bei konstanter Fahrt hält das Sensorrauschen die Nadel nicht in Bewegung,
+        // sobald sie nahe genug an der wahren Geschwindigkeit steht; im Stand
+        // läuft sie bis auf die Null.
+        double wahresZiel = tachoGeometrie.nadelPosition(Math.min(actualSpeed, maxSpeed));
+        double ruheBand = actualSpeed > 0 ? tachoGeometrie.nadelPosition(TACHO_RUHE_KMH) : 0.01;
+        tachoInBewegung = Math.abs(target - currentNadelPosition) > 0.01
+                && Math.abs(wahresZiel - currentNadelPosition) > ruheBand;
     }
 
     /**
@@ -431,24 +1075,37 @@ public class Bordcomputer extends Application {
      * Die Anzeige:
      * - Passt die Breite proportional zum Tankstand an
      * - Wechselt die Farbe bei kritischem Tankstand (Rot)
-     * - Verwendet eine Timeline-Animation für weiche Übergänge
-     * - Zentriert die Anzeige horizontal
+     * - Setzt nur das Ziel der Breiten-Feder; die weiche Bewegung übernimmt
+     *   animiereTankanzeigen im Animations-Loop
+     *
+     * @param z der darzustellende Zustand des Autos
      */
-    private void updateTankMiniDisplay() {
-        double percent = auto.getTankstand() / auto.getMaxTankstand();
-        double width = 46 * percent;
-
-        // Animierte Breitenänderung über 300ms
-        new Timeline(new KeyFrame(Duration.millis(300),
-                new KeyValue(tankMiniDisplay.widthProperty(), width)))
-                .play();
+    private void updateTankMiniDisplay(ZustandsAnsicht z) {
+        tankMiniBreite.setZiel(46 * z.tankAnteil());
 
-        // Farbwechsel bei kritischem Tankstand
-        String color = auto.istTankKritisch() ? "#e74c3c" : "#27ae60";
-        tankMiniDisplay.setFill(Color.web(color));
+        // Farbwechsel bei kritischem Tankstand (Pseudo-Klasse im Stylesheet)
+        tankMiniDisplay.pseudoClassStateChanged(TANK_KRITISCH, z.istTankKritisch());
+    }
 
-        // Horizontale Zentrierung der Anzeige
-        tankMiniDisplay.setTranslateX(width/2 - 23);
+    /**
+     * Bewegt die Tankanzeigen um einen Frame in Richtung ihrer Zielwerte.
+     *
+     * Jede Anzeige besitzt genau eine Feder, die nur bei einer echten
+     * Tankstandsänderung ein neues Ziel erhält. Ruhende Federn verursachen
+     * weder Berechnungen noch Änderungen am Szenengraphen.
+     *
+     * @param sekunden die seit dem letzten Frame vergangene Zeit
+     */
+    private void animiereTankanzeigen(double sekunden) {
+        if (tankMiniBreite.aktualisiere(sekunden)) {
+            double width = tankMiniBreite.getWert();
+            tankMiniDisplay.setWidth(width);
+            // Horizontale Zentrierung der Anzeige
+            tankMiniDisplay.setTranslateX(width / 2 - 23);
+        }
+        if (tankFuellhoehe.aktualisiere(sekunden)) {
+            tankLiquid.setPrefHeight(tankFuellhoehe.getWert());
+        }
     }
 
     /**
@@ -467,15 +1124,15 @@ public class Bordcomputer extends Application {
     private VBox createTank() {
         StackPane tank = new StackPane();
         tank.setPrefSize(300, 160);
-        tank.setStyle("-fx-background-color: #2c3e50; -fx-background-radius: 25;");
+        tank.getStyleClass().add("tank");
         tank.setMaxSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
 
         // Animierte Tankflüssigkeit
         tankLiquid = new Region();
-        tankLiquid.setStyle("-fx-background-color: linear-gradient(to top, #3498db, #5dade2); -fx-background-radius: 23;");
+        tankLiquid.getStyleClass().add("tank-fluessigkeit");
         tankLiquid.setPrefHeight(0);
 
-        // Wellenanimation initialisieren
+        // Wellenanimation initialisieren (gestartet und gestoppt von der BildratenSteuerung)
         waveAnimation = new PauseTransition(Duration.millis(80));
         waveAnimation.setOnFinished(e -> waveAnimation.play());
 
@@ -500,46 +1157,215 @@ public class Bordcomputer extends Application {
         VBox.setVgrow(tank, Priority.NEVER);
         VBox.setVgrow(box, Priority.NEVER);
 
-        updateTank();
-        waveAnimation.play();
+        updateTank(simulation.leseZustand(rahmen));
         return box;
     }
 
     /**
      * Aktualisiert die Füllhöhe und Farbe der großen Tankanzeige.
      *
-     * Farbcodierung:
-     * - Unter 10%: Dunkelrot (Leer)
-     * - Unter 25%: Rot (Kritisch)
-     * - Unter 50%: Orange (Mittel)
-     * - Über 50%: Grün (Voll)
-     *
-     * Die Füllhöhe wird über eine Timeline-Animation mit Ease-Out-Interpolation
-     * animiert, um einen natürlichen Tankvorgang zu simulieren.
-     */
-    private void updateTank() {
-        double percent = auto.getTankstand() / auto.getMaxTankstand();
-        double height = 150 * percent;
-
-        // Animierte Höhenänderung über 800ms mit Ease-Out
-        new Timeline(new KeyFrame(Duration.millis(800),
-                new KeyValue(tankLiquid.prefHeightProperty(), height, Interpolator.EASE_OUT)))
-                .play();
-
-        // Dynamische Farbwahl basierend auf Füllstand
-        String colorHex;
-        if (percent < 0.1) {
-            colorHex = "#c0392b"; // Dunkelrot (Leer)
-        } else if (percent < 0.25) {
-            colorHex = "#e74c3c"; // Rot (Kritisch)
-        } else if (percent < 0.5) {
-            colorHex = "#f39c12"; // Orange (Mittel)
+     * Farbcodierung (Pseudo-Klassen, Farben in styles.css):
+     * - Unter 10%: Dunkelrot (:tank-leer)
+     * - Unter 25%: Rot (:tank-kritisch)
+     * - Unter 50%: Orange (:tank-niedrig)
+     * - Über 50%: Grün (Standard)
+     *
+     * Die Füllhöhe wird über eine gedämpfte Feder animiert (weiches Auslaufen
+     * ohne Überschwingen), um einen natürlichen Tankvorgang zu simulieren.
+     *
+     * @param z der darzustellende Zustand des Autos
+     */
+    private void updateTank(ZustandsAnsicht z) {
+        double percent = z.tankAnteil();
+
+        // Animierte Höhenänderung: nur neues Ziel für die Feder setzen
+        tankFuellhoehe.setZiel(150 * percent);
+
+        // Farbstufe über Pseudo-Klassen setzen (Farben in styles.css)
+        tankLiquid.pseudoClassStateChanged(TANK_LEER, percent < 0.1);                      // Dunkelrot
+        tankLiquid.pseudoClassStateChanged(TANK_KRITISCH, percent >= 0.1 && percent < 0.25); // Rot
+        tankLiquid.pseudoClassStateChanged(TANK_NIEDRIG, percent >= 0.25 && percent < 0.5);  // Orange
+        tankPercentLabel.setText(String.format("%.0f%%", percent * 100));
+
+        // Benachrichtigung, sobald der Tank voll wird (voll wird er nur durch Tanken);
+        // der ZustandsBeobachter meldet Erreichen und Verlassen des vollen Tanks
+        // auch bei Änderungen unterhalb der Tankschwelle
+        boolean voll = z.tankstand() == z.maxTankstand();
+        if (voll && !tankVoll) {
+            zeigeTankVoll();
+        }
+        tankVoll = voll;
+    }
+
+    /**
+     * Erstellt das Verlaufsdiagramm für Geschwindigkeit und Tankstand.
+     *
+     * Komponenten:
+     * - Canvas mit Geschwindigkeitskurve (Min/Max-Band und Mittelwert) und Tankstandskurve
+     * - Buttons zur Wahl des Zeitraums (1, 10 oder 60 Minuten)
+     *
+     * Die Daten liegen in zwei Zeitreihen mit fester Speichergröße; für
+     * längere Zeiträume werden automatisch die Sekunden- bzw. Minutenwerte
+     * gezeichnet, höchstens ein Punkt pro Pixelspalte.
+     *
+     * @return VBox mit dem kompletten Verlaufsdiagramm
+     */
+    private VBox createVerlauf() {
+        verlaufCanvas = new Canvas(VERLAUF_BREITE, VERLAUF_HOEHE);
+
+        HBox zeitraeume = new HBox(10);
+        zeitraeume.setAlignment(Pos.CENTER);
+        for (int minuten : new int[]{1, 10, 60}) {
+            Button b = new Button(minuten + " min");
+            b.getStyleClass().add("verlauf-button");
+            b.setOnAction(e -> {
+                verlaufSekunden = minuten * 60;
+                zeichneVerlauf();
+            });
+            zeitraeume.getChildren().add(b);
+        }
+
+        VBox box = new VBox(10, new Label("Verlauf"), verlaufCanvas, zeitraeume);
+        box.setAlignment(Pos.CENTER);
+        box.setMaxWidth(VERLAUF_BREITE + 40);
+        box.getStyleClass().add("verlauf");
+
+        zeichneVerlauf();
+        return box;
+    }
+
+    /**
+     * Schreibt den aktuellen Zustand in die Zeitreihen und zeichnet das Diagramm neu.
+     *
+     * @param z der aktuelle Zustand des Autos
+     */
+    private void erfasseVerlauf(ZustandsAnsicht z) {
+        double t = simulation.getSimulationszeit();
+        geschwindigkeitsVerlauf.hinzufuegen(t, z.geschwindigkeit());
+        tankVerlauf.hinzufuegen(t, z.tankAnteil());
+        zeichneVerlauf();
+    }
+
+    /**
+     * Zeichnet das Verlaufsdiagramm für den gewählten Zeitraum.
+     *
+     * Geschwindigkeit (blau) ist auf die Höchstgeschwindigkeit skaliert,
+     * der Tankstand (grün) auf den vollen Tank.
+     */
+    private void zeichneVerlauf() {
+        GraphicsContext g = verlaufCanvas.getGraphicsContext2D();
+        g.setFill(Color.web("#2c3e50"));
+        g.fillRect(0, 0, VERLAUF_BREITE, VERLAUF_HOEHE);
+
+        double bis = Math.max(verlaufSekunden, simulation.getSimulationszeit());
+        verlaufVon = bis - verlaufSekunden;
+
+        g.setLineWidth(1);
+        g.setStroke(Color.web("#3498db"));
+        verlaufMassstab = (VERLAUF_HOEHE - 10) / (double) auto.getMaxGeschwindigkeit();
+        g.beginPath();
+        verlaufKurvenAnfang = true;
+        geschwindigkeitsVerlauf.fuerBereich(verlaufVon, bis, VERLAUF_BREITE, verlaufPunkt);
+        g.stroke();
+
+        g.setStroke(Color.web("#27ae60"));
+        verlaufMassstab = VERLAUF_HOEHE - 10;
+        g.beginPath();
+        verlaufKurvenAnfang = true;
+        tankVerlauf.fuerBereich(verlaufVon, bis, VERLAUF_BREITE, verlaufPunkt);
+        g.stroke();
+    }
+
+    /**
+     * Zeichnet einen Punkt der aktuellen Kurve: senkrechter Strich von
+     * Minimum bis Maximum und Verbindungslinie durch den Mittelwert.
+     */
+    private void zeichneVerlaufPunkt(double zeit, double min, double max, double mittel) {
+        GraphicsContext g = verlaufCanvas.getGraphicsContext2D();
+        double x = (zeit - verlaufVon) / verlaufSekunden * VERLAUF_BREITE;
+        double unten = VERLAUF_HOEHE - 5;
+        if (max > min) {
+            g.strokeLine(x, unten - min * verlaufMassstab, x, unten - max * verlaufMassstab);
+        }
+        if (verlaufKurvenAnfang) {
+            g.moveTo(x, unten - mittel * verlaufMassstab);
+            verlaufKurvenAnfang = false;
         } else {
-            colorHex = "#27ae60"; // Grün (Voll)
+            g.lineTo(x, unten - mittel * verlaufMassstab);
         }
+    }
 
-        tankLiquid.setStyle("-fx-background-color: linear-gradient(to top, " + colorHex + ", " + colorHex + "dd); -fx-background-radius: 23;");
-        tankPercentLabel.setText(String.format("%.0f%%", percent * 100));
+    /**
+     * Erstellt die Anzeige des Fahrtenrechners.
+     *
+     * Zeigt für den gewählten Fahrtzähler (A oder B):
+     * - Gefahrene Strecke und Höchstgeschwindigkeit
+     * - Durchschnittsgeschwindigkeit und Durchschnittsverbrauch
+     * - Restreichweite (unabhängig vom Fahrtzähler)
+     *
+     * Mit den Buttons wird der Fahrtzähler gewechselt bzw. zurückgesetzt.
+     * Die Werte stammen aus der Simulation und werden im Game Loop alle
+     * 100 Millisekunden aktualisiert.
+     *
+     * @return VBox mit der kompletten Fahrtenrechner-Anzeige
+     */
+    private VBox createFahrtenrechner() {
+        lblStrecke = new Label();
+        lblDurchschnitt = new Label();
+        lblVerbrauch = new Label();
+        lblMaxGeschwindigkeit = new Label();
+        lblReichweite = new Label();
+        for (Label l : new Label[]{lblStrecke, lblDurchschnitt, lblVerbrauch, lblMaxGeschwindigkeit, lblReichweite}) {
+            l.getStyleClass().add("fahrtenrechner-wert");
+        }
+
+        GridPane werte = new GridPane();
+        werte.setHgap(20);
+        werte.setVgap(6);
+        werte.addRow(0, new Label("Strecke"), lblStrecke);
+        werte.addRow(1, new Label("Ø Geschwindigkeit"), lblDurchschnitt);
+        werte.addRow(2, new Label("Ø Verbrauch"), lblVerbrauch);
+        werte.addRow(3, new Label("Höchstgeschwindigkeit"), lblMaxGeschwindigkeit);
+        werte.addRow(4, new Label("Reichweite"), lblReichweite);
+
+        btnZaehler = new Button("Fahrt A");
+        btnZaehler.getStyleClass().add("fahrtenrechner-button");
+        btnZaehler.setOnAction(e -> {
+            angezeigterZaehler = angezeigterZaehler == Fahrtenrechner.Zaehler.A
+                    ? Fahrtenrechner.Zaehler.B
+                    : Fahrtenrechner.Zaehler.A;
+            btnZaehler.setText("Fahrt " + angezeigterZaehler);
+            updateFahrtenrechner();
+        });
+        Button btnReset = new Button("Zurücksetzen");
+        btnReset.getStyleClass().add("fahrtenrechner-button");
+        btnReset.setOnAction(e -> simulation.setzeFahrtZurueck(angezeigterZaehler));
+
+        HBox buttons = new HBox(10, btnZaehler, btnReset);
+        buttons.setAlignment(Pos.CENTER);
+
+        VBox box = new VBox(10, new Label("Fahrtenrechner"), werte, buttons);
+        box.setAlignment(Pos.CENTER);
+        box.setMaxWidth(300);
+        box.getStyleClass().add("fahrtenrechner");
+
+        updateFahrtenrechner();
+        return box;
+    }
+
+    /**
+     * Aktualisiert die Anzeige des Fahrtenrechners.
+     *
+     * Label.setText löst nur bei geändertem Text ein Neuzeichnen aus,
+     * daher genügt ein einfacher Aufruf pro Update.
+     */
+    private void updateFahrtenrechner() {
+        FahrtStatistik f = simulation.getFahrtStatistik(angezeigterZaehler);
+        lblStrecke.setText(String.format("%.1f km", f.strecke()));
+        lblDurchschnitt.setText(String.format("%.0f km/h", f.durchschnittsgeschwindigkeit()));
+        lblVerbrauch.setText(String.format("%.1f l/100 km", f.durchschnittsverbrauch()));
+        lblMaxGeschwindigkeit.setText(String.format("%.0f km/h", f.maxGeschwindigkeit()));
+        lblReichweite.setText(String.format("%.0f km", f.reichweite()));
     }
 
     /**
@@ -568,57 +1394,47 @@ public class Bordcomputer extends Application {
         VBox box = new VBox(25);
         box.setPadding(new Insets(30));
         box.setMaxWidth(300);
-        box.setStyle("-fx-background-color: #34495e; " +
-                "-fx-background-radius: 25; " +
-                "-fx-effect: innershadow(gaussian, #00000088, 15, 0, 0, 0);");
+        box.getStyleClass().add("steuer-panel");
 
         // Gruppe 1: Motor/Zündung
         VBox motorGroup = createButtonGroup("Motor & Zündung");
-        Button btnMotor = createMotorButton();
+        btnMotor = createMotorButton();
         motorGroup.getChildren().add(btnMotor);
 
         // Gruppe 2: Fahren
         VBox driveGroup = createButtonGroup("Fahren");
-        Button btnLosfahren = btn("#2980b9", "Losfahren", () -> {
-            auto.fahreLos();
-            updateUI();
-        });
-        Button btnBeschleunigen = btn("#3498db", "Beschleunigen +30", () -> {
-            auto.beschleunige(30.0);
-            updateUI();
-        });
-        Button btnBremsen = btn("#e67e22", "Bremsen -20", () -> {
-            auto.bremsen(20.0);
-            updateUI();
-        });
+        Button btnLosfahren = btn("losfahren", "Losfahren",
+                () -> simulation.befehl(Befehl.FAHRE_LOS, 0.0));
+        Button btnBeschleunigen = btn("beschleunigen", "Beschleunigen +30",
+                () -> simulation.befehl(Befehl.BESCHLEUNIGE, 30.0));
+        Button btnBremsen = btn("bremsen", "Bremsen -20",
+                () -> simulation.befehl(Befehl.BREMSEN, 20.0));
         driveGroup.getChildren().addAll(btnLosfahren, btnBeschleunigen, btnBremsen);
 
         // Gruppe 3: Zusatzfunktionen
         VBox utilityGroup = createButtonGroup("Zusatzfunktionen");
-        Button btnHupen = btn("#9b59b6", "Hupen", () -> {
-            auto.hupe();
+        Button btnHupen = btn("hupen", "Hupen", () -> {
+            simulation.befehl(Befehl.HUPE, 0.0);
             hupe();
         });
-        Button btnTanken = btn("#1abc9c", "Tanken +10L", () -> {
-            double vorher = auto.getTankstand();
-            auto.tanken(10);
-
-            // Benachrichtigung bei vollem Tank
-            if (auto.getTankstand() == auto.getMaxTankstand() && vorher < auto.getMaxTankstand()) {
-                lblHupeStatus.setText("Tank voll!");
-                lblHupeStatus.setTextFill(Color.web("#f39c12"));
-                PauseTransition pt = new PauseTransition(Duration.seconds(2));
-                pt.setOnFinished(e -> lblHupeStatus.setText(""));
-                pt.play();
-            }
-            updateUI();
-        });
+        Button btnTanken = btn("tanken", "Tanken +10L", () -> simulation.befehl(Befehl.TANKEN, 10.0));
         utilityGroup.getChildren().addAll(btnHupen, btnTanken);
 
         box.getChildren().addAll(motorGroup, driveGroup, utilityGroup);
         return box;
     }
 
+    /**
+     * Zeigt die Meldung "Tank voll!" für zwei Sekunden im Statusbereich an.
+     */
+    private void zeigeTankVoll() {
+        lblHupeStatus.setText("Tank voll!");
+        lblHupeStatus.setTextFill(Color.web("#f39c12"));
+        PauseTransition pt = new PauseTransition(Duration.seconds(2));
+        pt.setOnFinished(e -> lblHupeStatus.setText(""));
+        pt.play();
+    }
+
     /**
      * Erstellt einen Titel-Container für die logische Button-Gruppierung.
      *
@@ -644,72 +1460,50 @@ public class Bordcomputer extends Application {
      * - Motor Aus: Grüner Button "Motor starten"
      * - Motor An: Roter Button "Motor stoppen"
      *
+     * Text und Pseudo-Klasse :motor-an werden in updateMotorAnzeige
+     * nachgeführt, sobald die Simulation den neuen Motorstatus veröffentlicht hat.
+     *
      * @return Button mit Motor-Steuerungsfunktion
      */
     private Button createMotorButton() {
-        Button btnMotor = btn(auto.isMotorLaeuft() ? "#c0392b" : "#27ae60",
-                auto.isMotorLaeuft() ? "Motor stoppen" : "Motor starten", null);
-        btnMotor.setOnAction(e -> {
-            if (auto.isMotorLaeuft()) {
-                auto.stoppeMotor();
-                btnMotor.setText("Motor starten");
-                btnMotor.setStyle(getButtonStyle("#27ae60")); // Grün
+        boolean an = simulation.leseZustand(rahmen).motorLaeuft();
+        Button b = btn("motor", an ? "Motor stoppen" : "Motor starten", null);
+        b.pseudoClassStateChanged(MOTOR_AN, an);
+        b.setOnAction(e -> {
+            if (simulation.leseZustand(rahmen).motorLaeuft()) {
+                simulation.befehl(Befehl.STOPPE_MOTOR, 0.0);
             } else {
-                auto.starteMotor();
-                btnMotor.setText("Motor stoppen");
-                btnMotor.setStyle(getButtonStyle("#c0392b")); // Rot
+                simulation.befehl(Befehl.STARTE_MOTOR, 0.0);
             }
-            updateUI();
         });
-        return btnMotor;
+        return b;
     }
     /**
      * Hilfsmethode zur Erzeugung von stylischen Buttons mit Hover-Effekten.
      *
-     * Button-Features:
+     * Das Aussehen kommt vollständig aus styles.css (Klasse .steuer-button
+     * plus eine Farbklasse pro Funktion):
      * - Abgerundete Ecken (15px Radius)
      * - Fette, weiße Schrift
      * - Hand-Cursor bei Hover
-     * - Transparenz-Effekt beim Hover (Alpha-Kanal auf CC)
+     * - Transparenz-Effekt beim Hover über die Pseudo-Klasse :hover
      * - Einheitliche Größe (240x45 px)
      *
-     * @param color die Hintergrundfarbe des Buttons (Hex-Code)
+     * @param styleKlasse die Farbklasse des Buttons (z.B. "bremsen")
      * @param text der anzuzeigende Button-Text
      * @param action die auszuführende Aktion beim Klick (kann null sein)
      * @return ein konfigurierter Button mit allen Styling-Eigenschaften
      */
-    private Button btn(String color, String text, Runnable action) {
+    private Button btn(String styleKlasse, String text, Runnable action) {
         Button b = new Button(text);
         b.setPrefWidth(240);
         b.setPrefHeight(45);
-
-        String baseStyle = getButtonStyle(color);
-        String hoverStyle = "-fx-background-color: " + color + "cc; -fx-text-fill: white; -fx-font-size: 16; -fx-font-weight: bold; -fx-background-radius: 15; -fx-cursor: hand;";
-
-        b.setStyle(baseStyle);
-
-        // Hover-Effekt für bessere Benutzererfahrung
-        b.setOnMouseEntered(e -> b.setStyle(hoverStyle));
-        b.setOnMouseExited(e -> b.setStyle(baseStyle));
+        b.getStyleClass().addAll("steuer-button", styleKlasse);
 
         if (action != null) b.setOnAction(e -> action.run());
         return b;
     }
 
-    /**
-     * Gibt den Basis-CSS-Stil für einen Button zurück.
-     *
-     * Verwendet für:
-     * - Normale Button-Darstellung
-     * - Wiederherstellung nach Hover-Effekt
-     *
-     * @param color die Hintergrundfarbe als Hex-Code
-     * @return CSS-Stil-String für den Button
-     */
-    private String getButtonStyle(String color) {
-        return "-fx-background-color: " + color + "; -fx-text-fill: white; -fx-font-size: 16; -fx-font-weight: bold; -fx-background-radius: 15; -fx-cursor: hand;";
-    }
-
     /**
      * Zeigt eine visuelle Hupen-Benachrichtigung an.
      *
@@ -746,18 +1540,35 @@ public class Bordcomputer extends Application {
      * Zentrale Methode zur Aktualisierung aller UI-Elemente.
      *
      * Aktualisiert:
-     * - Motorstatus-Label mit Text und Farbe
+     * - Motorstatus-Label und Motor-Button
      * - Tankfüllstandsanzeige mit Animation
      *
-     * Sollte nach jeder Zustandsänderung des Auto-Objekts aufgerufen werden,
-     * um die Konsistenz zwischen Modell und Ansicht zu gewährleisten.
+     * Wird beim Aufbau der Oberfläche aufgerufen; danach übernimmt der
+     * ZustandsBeobachter die gezielte Aktualisierung einzelner Anzeigen.
+     *
+     * @param z der darzustellende Zustand des Autos
+     */
+    private void updateUI(ZustandsAnsicht z) {
+        updateMotorAnzeige(z);
+        updateTank(z);
+    }
+
+    /**
+     * Aktualisiert Motorstatus-Label und Motor-Button (Text und Farbe).
+     *
+     * Wird vom ZustandsBeobachter nur bei einem Wechsel des Motorstatus aufgerufen.
+     *
+     * @param z der darzustellende Zustand des Autos
      */
-    private void updateUI() {
-        boolean an = auto.isMotorLaeuft();
+    private void updateMotorAnzeige(ZustandsAnsicht z) {
+        boolean an = z.motorLaeuft();
         lblMotorStatus.setText("Motor: " + (an ? "An" : "Aus"));
-        lblMotorStatus.setStyle("-fx-text-fill: " + (an ? "#27ae60" : "#e74c3c") + "; -fx-font-weight: bold;");
+        lblMotorStatus.pseudoClassStateChanged(MOTOR_AN, an);
 
-        updateTank();
+        if (btnMotor != null) {
+            btnMotor.setText(an ? "Motor stoppen" : "Motor starten");
+            btnMotor.pseudoClassStateChanged(MOTOR_AN, an);
+        }
     }
 
     /**
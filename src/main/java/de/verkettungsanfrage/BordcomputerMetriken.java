@@ -0,0 +1,235 @@
+package de.verkettungsanfrage;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Kennzahlen des laufenden Bordcomputers als JMX-MBean.
+ *
+ * Betreiber können Zustand und Gesundheit der Simulation mit jedem
+ * JMX-Client (jconsole, VisualVM, Prometheus-JMX-Exporter) beobachten,
+ * ohne einen Debugger anzuhängen.
+ *
+ * Aufteilung nach Kosten:
+ * - Zustand (Geschwindigkeit, Tankstand, Motor) und Simulationsschritte
+ *   werden erst bei der Abfrage aus der Simulation gelesen, der Zustand
+ *   in einen wiederverwendeten Rahmen; Auto und Simulation bleiben
+ *   unverändert
+ * - Frames und ausgelassene Frames zählt der Game-Loop mit LongAdder
+ *   (sperrfrei, ohne Allokation)
+ * - Raten werden bei der Abfrage aus der Differenz zur vorherigen Abfrage
+ *   berechnet
+ *
+ * Registriert wird unter de.verkettungsanfrage:type=Bordcomputer.
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public class BordcomputerMetriken implements BordcomputerMetrikenMBean {
+
+    /** Objektname, unter dem die MBean registriert wird. */
+    public static final String OBJEKTNAME = "de.verkettungsanfrage:type=Bordcomputer";
+
+    /** Frame-Abstände über diesem Vielfachen des Sollabstands gelten als ausgelassen. */
+    private static final double VERWERF_FAKTOR = 1.5;
+
+    /**
+     * Rate eines monoton steigenden Zählers zwischen zwei Abfragen.
+     *
+     * Abfragen im Abstand unter einer Sekunde liefern die zuletzt
+     * berechnete Rate, damit mehrere Clients sich nicht gegenseitig die
+     * Messintervalle verkürzen.
+     */
+    static final class Rate {
+
+        private static final long MIN_INTERVALL_NANOS = 1_000_000_000L;
+
+        private long letzterWert = -1;
+        private long letzteZeit;
+        private double rate;
+
+        /**
+         * Berechnet die Rate pro Sekunde.
+         *
+         * @param wert der aktuelle Zählerstand
+         * @param jetztNanos die aktuelle Zeit in Nanosekunden
+         * @return die Rate pro Sekunde (0.0 bei der ersten Abfrage)
+         */
+        synchronized double berechne(long wert, long jetztNanos) {
+            if (letzterWert < 0) {
+                letzterWert = wert;
+                letzteZeit = jetztNanos;
+            } else if (jetztNanos - letzteZeit >= MIN_INTERVALL_NANOS) {
+                rate = (wert - letzterWert) * 1e9 / (jetztNanos - letzteZeit);
+                letzterWert = wert;
+                letzteZeit = jetztNanos;
+            }
+            return rate;
+        }
+    }
+
+    private final Simulation simulation;
+    private final long sollAbstandNanos;
+
+    private final LongAdder frames = new LongAdder();
+    private final LongAdder verworfeneFrames = new LongAdder();
+    private volatile int aktiveAnimationen;
+
+    /** Wiederverwendeter Rahmen für Zustandsabfragen; Zugriff nur synchronisiert. */
+    private final ZustandsPuffer.Rahmen rahmen = new ZustandsPuffer.Rahmen();
+
+    private final Rate tickrate = new Rate();
+    private final Rate bildrate = new Rate();
+    private final Rate allokationsrate = new Rate();
+
+    /** Thread-Bean mit Allokationszählern (HotSpot-Erweiterung), sonst null. */
+    private final com.sun.management.ThreadMXBean allokation;
+
+    private ObjectName name;
+
+    /**
+     * Erstellt die Kennzahlen für eine Simulation.
+     *
+     * @param simulation die beobachtete Simulation
+     * @param sollBildrate die angestrebte Bildrate (für die Erkennung ausgelassener Frames)
+     * @throws IllegalArgumentException wenn die Sollbildrate nicht positiv ist
+     */
+    public BordcomputerMetriken(Simulation simulation, int sollBildrate) {
+        if (sollBildrate <= 0) {
+            throw new IllegalArgumentException("Sollbildrate muss positiv sein: " + sollBildrate);
+        }
+        this.simulation = simulation;
+        this.sollAbstandNanos = 1_000_000_000L / sollBildrate;
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        this.allokation = threads instanceof com.sun.management.ThreadMXBean t && t.isThreadAllocatedMemorySupported()
+                ? t : null;
+    }
+
+    /**
+     * Registriert die MBean beim Plattform-MBean-Server.
+     *
+     * @return diese Kennzahlen für Method Chaining
+     * @throws JMException wenn die Registrierung fehlschlägt (z.B. bereits registriert)
+     */
+    public BordcomputerMetriken registriere() throws JMException {
+        ObjectName n = new ObjectName(OBJEKTNAME);
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, n);
+        this.name = n;
+        return this;
+    }
+
+    /**
+     * Meldet die MBean wieder ab (ohne Wirkung, wenn sie nicht registriert ist).
+     */
+    public void abmelden() {
+        if (name == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(name);
+        } catch (JMException e) {
+            // bereits abgemeldet
+        }
+        name = null;
+    }
+
+    // ====================================================================
+    // ERFASSUNG (Game-Loop)
+    // ====================================================================
+
+    /**
+     * Erfasst einen gezeichneten Frame.
+     *
+     * Liegt der Abstand zum vorherigen Frame über dem 1,5-fachen des
+     * Sollabstands, werden die dazwischen fehlenden Frames als ausgelassen gezählt.
+     *
+     * @param abstandNanos der Abstand zum vorherigen Frame in Nanosekunden (0 beim ersten Frame)
+     */
+    public void frame(long abstandNanos) {
+        frames.increment();
+        if (abstandNanos > sollAbstandNanos * VERWERF_FAKTOR) {
+            verworfeneFrames.add(Math.round((double) abstandNanos / sollAbstandNanos) - 1);
+        }
+    }
+
+    /**
+     * Setzt die Anzahl der gerade laufenden Animationen.
+     *
+     * @param anzahl die Anzahl
+     */
+    public void setAktiveAnimationen(int anzahl) {
+        this.aktiveAnimationen = anzahl;
+    }
+
+    // ====================================================================
+    // MBEAN-ATTRIBUTE
+    // ====================================================================
+
+    @Override
+    public double getGeschwindigkeit() {
+        synchronized (rahmen) {
+            return simulation.leseZustand(rahmen).geschwindigkeit();
+        }
+    }
+
+    @Override
+    public double getTankstand() {
+        synchronized (rahmen) {
+            return simulation.leseZustand(rahmen).tankstand();
+        }
+    }
+
+    @Override
+    public boolean isMotorLaeuft() {
+        synchronized (rahmen) {
+            return simulation.leseZustand(rahmen).motorLaeuft();
+        }
+    }
+
+    @Override
+    public long getSimulationsschritte() {
+        return simulation.getSchritte();
+    }
+
+    @Override
+    public double getTickrate() {
+        return tickrate.berechne(simulation.getSchritte(), System.nanoTime());
+    }
+
+    @Override
+    public long getFrames() {
+        return frames.sum();
+    }
+
+    @Override
+    public double getBildrate() {
+        return bildrate.berechne(frames.sum(), System.nanoTime());
+    }
+
+    @Override
+    public long getVerworfeneFrames() {
+        return verworfeneFrames.sum();
+    }
+
+    @Override
+    public int getAktiveAnimationen() {
+        return aktiveAnimationen;
+    }
+
+    @Override
+    public long getAllokierteBytes() {
+        return allokation != null ? allokation.getTotalThreadAllocatedBytes() : -1;
+    }
+
+    @Override
+    public double getAllokationsrate() {
+        long bytes = getAllokierteBytes();
+        return bytes < 0 ? -1 : allokationsrate.berechne(bytes, System.nanoTime());
+    }
+}
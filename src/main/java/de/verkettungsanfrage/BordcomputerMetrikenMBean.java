@@ -0,0 +1,91 @@
+package de.verkettungsanfrage;
+
+/**
+ * JMX-Schnittstelle der Bordcomputer-Kennzahlen (siehe {@link BordcomputerMetriken}).
+ *
+ * Raten werden jeweils über den Zeitraum seit der vorherigen Abfrage
+ * (mindestens eine Sekunde) berechnet.
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public interface BordcomputerMetrikenMBean {
+
+    /**
+     * Gibt die aktuelle Geschwindigkeit in km/h zurück.
+     *
+     * @return die aktuelle Geschwindigkeit in km/h
+     */
+    double getGeschwindigkeit();
+
+    /**
+     * Gibt den aktuellen Tankstand in Litern zurück.
+     *
+     * @return der aktuelle Tankstand in Litern
+     */
+    double getTankstand();
+
+    /**
+     * Prüft, ob der Motor läuft.
+     *
+     * @return true, wenn der Motor läuft
+     */
+    boolean isMotorLaeuft();
+
+    /**
+     * Gibt die Anzahl der bisher ausgeführten Simulationsschritte zurück.
+     *
+     * @return die Anzahl der bisher ausgeführten Simulationsschritte
+     */
+    long getSimulationsschritte();
+
+    /**
+     * Gibt die gemessene Simulationsrate in Schritten pro Sekunde zurück.
+     *
+     * @return die gemessene Simulationsrate in Schritten pro Sekunde
+     */
+    double getTickrate();
+
+    /**
+     * Gibt die Anzahl der gezeichneten Frames zurück.
+     *
+     * @return die Anzahl der gezeichneten Frames
+     */
+    long getFrames();
+
+    /**
+     * Gibt die gemessene Bildrate in Frames pro Sekunde zurück.
+     *
+     * @return die gemessene Bildrate in Frames pro Sekunde
+     */
+    double getBildrate();
+
+    /**
+     * Gibt die Anzahl ausgelassener Frames zurück.
+     *
+     * @return die Anzahl ausgelassener Frames (Frame-Abstand über dem 1,5-fachen des Sollabstands)
+     */
+    long getVerworfeneFrames();
+
+    /**
+     * Gibt die Anzahl der gerade laufenden Animationen zurück.
+     *
+     * @return die Anzahl der gerade laufenden Animationen
+     */
+    int getAktiveAnimationen();
+
+    /**
+     * Gibt die seit JVM-Start allokierten Bytes aller Threads zurück.
+     *
+     * @return die seit JVM-Start allokierten Bytes aller Threads oder -1, wenn nicht unterstützt
+     */
+    long getAllokierteBytes();
+
+    /**
+     * Gibt die Allokationsrate in Bytes pro Sekunde zurück.
+     *
+     * @return die Allokationsrate in Bytes pro Sekunde oder -1, wenn nicht unterstützt
+     */
+    double getAllokationsrate();
+}
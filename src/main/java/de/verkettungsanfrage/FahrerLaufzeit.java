@@ -0,0 +1,414 @@
+package de.verkettungsanfrage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Laufzeitumgebung für Fahrer-Agenten mit simulierter Uhr.
+ *
+ * Jeder Fahrer ist ein sequentielles Skript gegen sein eigenes Auto und
+ * läuft in einem eigenen virtuellen Thread:
+ *
+ * laufzeit.starte(new Auto("VW Golf", 40.0, 200), fahrer -> {
+ *     fahrer.auto().starteMotor().fahreLos().beschleunige(30);
+ *     fahrer.warte(2.0).auto().bremsen(20);
+ * });
+ *
+ * warte() blockiert nur den virtuellen Thread und zählt in Simulationszeit,
+ * nicht in Echtzeit. Wartende Fahrer belegen daher keinen Plattform-Thread;
+ * 100.000 und mehr Fahrer sind möglich.
+ *
+ * Ablauf eines Schritts (Taktgeber ist der Thread, der laufe() aufruft):
+ * 1. Alle Fahrer wecken, deren Wartezeit abgelaufen ist
+ * 2. Warten, bis jeder geweckte Fahrer wieder wartet oder fertig ist
+ * 3. Alle Autos um einen Zeitschritt ausrollen lassen (rolleAus)
+ * 4. Die simulierte Uhr um einen Zeitschritt vorstellen
+ *
+ * Da Fahrer nur zwischen zwei Physikschritten handeln und jeder nur sein
+ * eigenes Auto verändert, ist das Ergebnis unabhängig von der
+ * Thread-Reihenfolge deterministisch. Ein Skript, das nie wartet und nicht
+ * endet, hält die Uhr an.
+ *
+ * Gemessen werden Durchsatz (Weckungen, simulierte Sekunden pro
+ * Echtzeitsekunde) und die Planungslatenz, also die Zeit vom Wecken bis
+ * zur Fortsetzung des Skripts (siehe {@link LaufzeitStatistik}).
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public final class FahrerLaufzeit implements AutoCloseable {
+
+    /**
+     * Ablauf eines Fahrers.
+     */
+    @FunctionalInterface
+    public interface FahrerSkript {
+
+        /**
+         * Führt das Skript aus.
+         *
+         * @param fahrer der Fahrer mit Auto und simulierter Uhr
+         * @throws InterruptedException wenn die Laufzeit geschlossen wird
+         */
+        void fahre(Fahrer fahrer) throws InterruptedException;
+    }
+
+    /**
+     * Ein Fahrer-Agent: Auto, Skript und Wartezustand.
+     */
+    public final class Fahrer {
+
+        private final long id;
+        private final Auto auto;
+        private final FahrerSkript skript;
+
+        /** Virtueller Thread, wird beim ersten Wecken gestartet. */
+        private Thread thread;
+
+        /** Schritt, zu dem der Fahrer geweckt wird (nur vom Taktgeber gelesen). */
+        private long weckSchritt;
+
+        /** Gesetzt vom Taktgeber, zurückgesetzt vom Fahrer. */
+        private volatile boolean geweckt;
+
+        /** Ob das Skript beendet ist. */
+        private volatile boolean fertig;
+
+        /** Fehler des Skripts oder null. */
+        private volatile Throwable fehler;
+
+        /** Planungslatenz der letzten Weckung in Nanosekunden. */
+        private long letzteLatenz;
+
+        private Fahrer(long id, Auto auto, FahrerSkript skript, long weckSchritt) {
+            this.id = id;
+            this.auto = auto;
+            this.skript = skript;
+            this.weckSchritt = weckSchritt;
+        }
+
+        /**
+         * Gibt das Auto des Fahrers zurück.
+         *
+         * @return das Auto
+         */
+        public Auto auto() {
+            return auto;
+        }
+
+        /**
+         * Gibt die aktuelle Simulationszeit zurück.
+         *
+         * @return die Zeit in Sekunden
+         */
+        public double zeit() {
+            return schritt / (double) hz;
+        }
+
+        /**
+         * Wartet die angegebene Simulationszeit (mindestens einen Schritt).
+         *
+         * Die Wartezeit wird auf ganze Schritte gerundet.
+         *
+         * @param sekunden die Wartezeit in simulierten Sekunden
+         * @return dieser Fahrer für Method Chaining
+         * @throws InterruptedException wenn die Laufzeit geschlossen wird
+         * @throws IllegalStateException wenn nicht aus dem eigenen Skript aufgerufen
+         */
+        public Fahrer warte(double sekunden) throws InterruptedException {
+            if (Thread.currentThread() != thread) {
+                throw new IllegalStateException("warte() nur aus dem eigenen Skript aufrufen");
+            }
+            if (geschlossen) {
+                throw new InterruptedException("Fahrerlaufzeit geschlossen");
+            }
+            weckSchritt = schritt + Math.max(1L, Math.round(sekunden * hz));
+            geweckt = false;
+            fertigMelden();
+            while (!geweckt) {
+                LockSupport.park(this);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException("Fahrerlaufzeit geschlossen");
+                }
+            }
+            letzteLatenz = System.nanoTime() - weckNanos;
+            return this;
+        }
+
+        /**
+         * Prüft, ob das Skript beendet ist.
+         *
+         * @return true nach Ende oder Abbruch des Skripts
+         */
+        public boolean isFertig() {
+            return fertig;
+        }
+
+        /**
+         * Gibt den Fehler zurück, mit dem das Skript abgebrochen ist.
+         *
+         * @return der Fehler oder null
+         */
+        public Throwable getFehler() {
+            return fehler;
+        }
+
+        /**
+         * Einstieg des virtuellen Threads.
+         */
+        private void ausfuehren() {
+            letzteLatenz = System.nanoTime() - weckNanos;
+            try {
+                skript.fahre(this);
+            } catch (InterruptedException e) {
+                // Laufzeit geschlossen: regulär beenden
+            } catch (Throwable t) {
+                fehler = t;
+            }
+            fertig = true;
+            fertigMelden();
+        }
+
+        /**
+         * Meldet dem Taktgeber, dass dieser Fahrer seine Phase beendet hat.
+         */
+        private void fertigMelden() {
+            if (aktive.decrementAndGet() == 0) {
+                LockSupport.unpark(taktgeber);
+            }
+        }
+
+        /**
+         * Weckt den Fahrer (nur vom Taktgeber aufgerufen).
+         */
+        private void wecken() {
+            if (thread == null) {
+                thread = Thread.ofVirtual().name("fahrer-" + id).unstarted(this::ausfuehren);
+                thread.start();
+            } else {
+                geweckt = true;
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+
+    /** Simulationsfrequenz in Schritten pro Sekunde. */
+    private final int hz;
+
+    /** Dauer eines Schritts in Sekunden. */
+    private final double schrittSekunden;
+
+    /** Wartende Fahrer, sortiert nach Weckschritt (nur Taktgeber). */
+    private final PriorityQueue<Fahrer> wartend = new PriorityQueue<>(
+            (a, b) -> a.weckSchritt != b.weckSchritt ? Long.compare(a.weckSchritt, b.weckSchritt) : Long.compare(a.id, b.id));
+
+    /** Neu gestartete Fahrer, werden zu Beginn des nächsten Schritts übernommen. */
+    private final ConcurrentLinkedQueue<Fahrer> neu = new ConcurrentLinkedQueue<>();
+
+    /** Autos aller Fahrer für den Physikschritt (nur Taktgeber). */
+    private final List<Auto> autos = new ArrayList<>();
+
+    /** In diesem Schritt geweckte Fahrer (nur Taktgeber, wiederverwendet). */
+    private final List<Fahrer> geweckte = new ArrayList<>();
+
+    /** Anzahl der Fahrer, deren Phase im aktuellen Schritt noch läuft. */
+    private final AtomicInteger aktive = new AtomicInteger();
+
+    /** Fortlaufende Fahrernummer. */
+    private final AtomicInteger naechsteId = new AtomicInteger();
+
+    /** Aktueller Simulationsschritt (nur vom Taktgeber geschrieben). */
+    private volatile long schritt;
+
+    /** Zeitpunkt der letzten Weckung in Nanosekunden (für die Latenzmessung). */
+    private volatile long weckNanos;
+
+    /** Gesetzt durch close(); danach kehrt kein Fahrer mehr aus warte() zurück. */
+    private volatile boolean geschlossen;
+
+    /** Thread, der die Schritte ausführt. */
+    private volatile Thread taktgeber;
+
+    // Kennzahlen (nur Taktgeber)
+    private long weckungen;
+    private long beendet;
+    private long fehlgeschlagen;
+    private long latenzSumme;
+    private long latenzMax;
+    private long echtzeitNanos;
+
+    /**
+     * Erstellt eine Laufzeit.
+     *
+     * @param hz die Simulationsfrequenz in Schritten pro Sekunde
+     * @throws IllegalArgumentException wenn hz nicht positiv ist
+     */
+    public FahrerLaufzeit(int hz) {
+        if (hz <= 0) {
+            throw new IllegalArgumentException("Frequenz muss positiv sein: " + hz);
+        }
+        this.hz = hz;
+        this.schrittSekunden = 1.0 / hz;
+    }
+
+    /**
+     * Meldet einen Fahrer an. Er beginnt im nächsten Schritt.
+     *
+     * Kann aus jedem Thread aufgerufen werden, auch aus einem Fahrerskript.
+     *
+     * @param auto das Auto des Fahrers (darf von keinem anderen Fahrer benutzt werden)
+     * @param skript der Ablauf
+     * @return der Fahrer
+     * @throws IllegalStateException wenn die Laufzeit geschlossen ist
+     */
+    public Fahrer starte(Auto auto, FahrerSkript skript) {
+        if (geschlossen) {
+            throw new IllegalStateException("Fahrerlaufzeit ist geschlossen");
+        }
+        Fahrer fahrer = new Fahrer(naechsteId.getAndIncrement(), auto, skript, 0);
+        neu.add(fahrer);
+        return fahrer;
+    }
+
+    /**
+     * Führt Schritte aus, bis die angegebene Simulationszeit erreicht ist.
+     *
+     * @param sekunden die Zielzeit in simulierten Sekunden
+     * @return diese Laufzeit für Method Chaining
+     */
+    public FahrerLaufzeit laufeBis(double sekunden) {
+        return laufeSchritte(Math.round(sekunden * hz) - schritt);
+    }
+
+    /**
+     * Führt die angegebene Anzahl an Schritten aus.
+     *
+     * @param anzahl die Anzahl der Schritte
+     * @return diese Laufzeit für Method Chaining
+     * @throws IllegalStateException wenn die Laufzeit geschlossen ist
+     */
+    public synchronized FahrerLaufzeit laufeSchritte(long anzahl) {
+        if (geschlossen) {
+            throw new IllegalStateException("Fahrerlaufzeit ist geschlossen");
+        }
+        taktgeber = Thread.currentThread();
+        long start = System.nanoTime();
+        for (long i = 0; i < anzahl; i++) {
+            schritt();
+        }
+        echtzeitNanos += System.nanoTime() - start;
+        return this;
+    }
+
+    /**
+     * Führt einen Schritt aus (siehe Klassenbeschreibung).
+     */
+    private void schritt() {
+        Fahrer f;
+        while ((f = neu.poll()) != null) {
+            f.weckSchritt = schritt;
+            wartend.add(f);
+            autos.add(f.auto);
+        }
+
+        geweckte.clear();
+        while (!wartend.isEmpty() && wartend.peek().weckSchritt <= schritt) {
+            geweckte.add(wartend.poll());
+        }
+        if (!geweckte.isEmpty()) {
+            aktive.set(geweckte.size());
+            weckNanos = System.nanoTime();
+            for (Fahrer g : geweckte) {
+                g.wecken();
+            }
+            while (aktive.get() > 0) {
+                LockSupport.park(this);
+            }
+            werteAus(geweckte);
+        }
+
+        for (Auto a : autos) {
+            a.rolleAus(schrittSekunden);
+        }
+        schritt++;
+    }
+
+    /**
+     * Übernimmt Latenzen und ordnet die geweckten Fahrer wieder ein.
+     */
+    private void werteAus(List<Fahrer> fahrer) {
+        for (Fahrer g : fahrer) {
+            weckungen++;
+            latenzSumme += g.letzteLatenz;
+            latenzMax = Math.max(latenzMax, g.letzteLatenz);
+            if (g.fertig) {
+                beendet++;
+                if (g.fehler != null) {
+                    fehlgeschlagen++;
+                }
+            } else {
+                wartend.add(g);
+            }
+        }
+    }
+
+    /**
+     * Gibt die bisherigen Kennzahlen zurück.
+     *
+     * @return die Statistik
+     */
+    public synchronized LaufzeitStatistik statistik() {
+        return new LaufzeitStatistik(schritt, schritt * schrittSekunden, wartend.size() + neu.size(),
+                beendet, fehlgeschlagen, weckungen, weckungen == 0 ? 0 : latenzSumme / weckungen,
+                latenzMax, echtzeitNanos);
+    }
+
+    /**
+     * Gibt die aktuelle Simulationszeit zurück.
+     *
+     * @return die Zeit in Sekunden
+     */
+    public double getZeit() {
+        return schritt * schrittSekunden;
+    }
+
+    /**
+     * Gibt die Anzahl der noch laufenden Fahrer zurück.
+     *
+     * @return die Anzahl wartender oder neu gestarteter Fahrer
+     */
+    public synchronized int getAktiveFahrer() {
+        return wartend.size() + neu.size();
+    }
+
+    /**
+     * Bricht alle noch laufenden Skripte ab (warte() wirft InterruptedException)
+     * und wartet, bis ihre Threads beendet sind.
+     */
+    @Override
+    public synchronized void close() {
+        geschlossen = true;
+        taktgeber = Thread.currentThread();
+        neu.clear();
+        geweckte.clear();
+        for (Fahrer f : wartend) {
+            if (f.thread != null) {
+                geweckte.add(f);
+            }
+        }
+        wartend.clear();
+        aktive.set(geweckte.size());
+        for (Fahrer f : geweckte) {
+            f.thread.interrupt();
+        }
+        while (aktive.get() > 0) {
+            LockSupport.park(this);
+        }
+        geweckte.clear();
+    }
+}
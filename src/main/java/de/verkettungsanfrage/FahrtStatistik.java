@@ -0,0 +1,42 @@
+package de.verkettungsanfrage;
+
+/**
+ * Unveränderliche Momentaufnahme eines Fahrtzählers des {@link Fahrtenrechner}s.
+ *
+ * @param strecke die gefahrene Strecke in Kilometern
+ * @param fahrzeit die Zeit mit laufendem Motor in Sekunden
+ * @param verbrauch der verbrauchte Treibstoff in Litern
+ * @param maxGeschwindigkeit die höchste erreichte Geschwindigkeit in km/h
+ * @param reichweite die geschätzte Restreichweite in Kilometern
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public record FahrtStatistik(double strecke,
+                             double fahrzeit,
+                             double verbrauch,
+                             double maxGeschwindigkeit,
+                             double reichweite) {
+
+    /** Statistik vor der ersten Erfassung. */
+    public static final FahrtStatistik LEER = new FahrtStatistik(0.0, 0.0, 0.0, 0.0, 0.0);
+
+    /**
+     * Gibt die Durchschnittsgeschwindigkeit über die Fahrzeit zurück.
+     *
+     * @return die Durchschnittsgeschwindigkeit in km/h (0 ohne Fahrzeit)
+     */
+    public double durchschnittsgeschwindigkeit() {
+        return fahrzeit > 0 ? strecke / (fahrzeit / 3600.0) : 0.0;
+    }
+
+    /**
+     * Gibt den Durchschnittsverbrauch zurück.
+     *
+     * @return der Verbrauch in Litern pro 100 km (0 ohne Strecke)
+     */
+    public double durchschnittsverbrauch() {
+        return strecke > 0 ? verbrauch / strecke * 100.0 : 0.0;
+    }
+}
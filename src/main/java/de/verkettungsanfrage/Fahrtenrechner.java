@@ -0,0 +1,231 @@
+package de.verkettungsanfrage;
+
+/**
+ * Fahrtenrechner mit zwei zurücksetzbaren Fahrtzählern (A und B) und
+ * Reichweitenschätzung.
+ *
+ * Alle Kennzahlen werden inkrementell pro Zeitschritt fortgeschrieben
+ * (laufende Summen, Maximum, exponentiell gewichteter Verbrauch); es wird
+ * keine Historie gespeichert. Eine Erfassung kostet O(1) und erzeugt
+ * keine Objekte, der Speicherbedarf ist konstant (wenige double-Werte pro
+ * Auto) – auch Millionen Fahrzeuge lassen sich so auswerten.
+ *
+ * Kennzahlen je Fahrtzähler:
+ * - Strecke (km), Fahrzeit mit laufendem Motor, Verbrauch (l)
+ * - Höchstgeschwindigkeit
+ * - daraus abgeleitet: Durchschnittsgeschwindigkeit und -verbrauch (siehe FahrtStatistik)
+ *
+ * Die Reichweite ergibt sich aus dem Tankstand geteilt durch den
+ * Verbrauch der letzten ca. {@link #REICHWEITE_FENSTER_KM} Kilometer
+ * (exponentiell gewichtet, Leerlauf eingerechnet). Nachtanken zählt nicht
+ * als Verbrauch. Zu Beginn ist das Fenster mit dem angenommenen
+ * Startverbrauch gefüllt, damit Leerlauf nach dem Motorstart die
+ * Reichweite nicht einbrechen lässt.
+ *
+ * Die Klasse ist – wie Auto – nicht threadsicher; in der Simulation wird
+ * sie ausschließlich vom Simulations-Thread beschrieben.
+ *
+ * Beispiel:
+ * Fahrtenrechner rechner = new Fahrtenrechner();
+ * rechner.erfasse(auto, 0.001);
+ * double reichweite = rechner.getReichweite();
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public class Fahrtenrechner {
+
+    /**
+     * Die beiden unabhängig zurücksetzbaren Fahrtzähler.
+     */
+    public enum Zaehler {
+        /** Fahrtzähler A, z.B. für die aktuelle Fahrt. */
+        A,
+        /** Fahrtzähler B, z.B. seit dem letzten Tanken. */
+        B
+    }
+
+    /** Strecke in km, über die der Verbrauch für die Reichweite gemittelt wird. */
+    public static final double REICHWEITE_FENSTER_KM = 10.0;
+
+    /** Angenommener Verbrauch in l/km, mit dem das Fenster anfangs gefüllt ist. */
+    private static final double START_VERBRAUCH_PRO_KM = 0.06;
+
+    /** Strecke pro Zähler in km. */
+    private final double[] strecke = new double[2];
+
+    /** Fahrzeit pro Zähler in Sekunden. */
+    private final double[] fahrzeit = new double[2];
+
+    /** Verbrauch pro Zähler in Litern. */
+    private final double[] verbrauch = new double[2];
+
+    /** Höchstgeschwindigkeit pro Zähler in km/h. */
+    private final double[] maxGeschwindigkeit = new double[2];
+
+    /** Exponentiell gewichtete Summe des Verbrauchs (Zähler des gleitenden Verbrauchs). */
+    private double gewichteterVerbrauch = START_VERBRAUCH_PRO_KM * REICHWEITE_FENSTER_KM;
+
+    /** Exponentiell gewichtete Summe der Strecke (Nenner des gleitenden Verbrauchs). */
+    private double gewichteteStrecke = REICHWEITE_FENSTER_KM;
+
+    /** Tankstand bei der letzten Erfassung; NaN vor der ersten Erfassung. */
+    private double letzterTankstand = Double.NaN;
+
+    /** Tankstand bei der letzten Erfassung, für die Reichweite. */
+    private double tankstand;
+
+    /**
+     * Erfasst einen Zeitschritt eines Autos.
+     *
+     * @param auto das Auto nach dem Zeitschritt
+     * @param sekunden die Länge des Zeitschritts
+     * @return dieser Fahrtenrechner für Method Chaining
+     */
+    public Fahrtenrechner erfasse(Auto auto, double sekunden) {
+        return erfasse(auto.getGeschwindigkeit(), auto.getTankstand(), auto.isMotorLaeuft(), sekunden);
+    }
+
+    /**
+     * Erfasst einen Zeitschritt aus Einzelwerten (z.B. aus einer Flotte).
+     *
+     * @param geschwindigkeit die Geschwindigkeit nach dem Zeitschritt in km/h
+     * @param tankstand der Tankstand nach dem Zeitschritt in Litern
+     * @param motorLaeuft der Motorstatus nach dem Zeitschritt
+     * @param sekunden die Länge des Zeitschritts
+     * @return dieser Fahrtenrechner für Method Chaining
+     */
+    public Fahrtenrechner erfasse(double geschwindigkeit, double tankstand, boolean motorLaeuft, double sekunden) {
+        double ds = geschwindigkeit * sekunden / 3600.0;
+        double df = Double.isNaN(letzterTankstand) ? 0.0 : Math.max(0.0, letzterTankstand - tankstand);
+        double dt = motorLaeuft ? sekunden : 0.0;
+        letzterTankstand = tankstand;
+        this.tankstand = tankstand;
+
+        for (int z = 0; z < 2; z++) {
+            strecke[z] += ds;
+            fahrzeit[z] += dt;
+            verbrauch[z] += df;
+            maxGeschwindigkeit[z] = Math.max(maxGeschwindigkeit[z], geschwindigkeit);
+        }
+
+        // Ältere Strecke verliert pro gefahrenem Kilometer an Gewicht (1. Ordnung, ds << Fenster)
+        double abklingen = Math.max(0.0, 1.0 - ds / REICHWEITE_FENSTER_KM);
+        gewichteterVerbrauch = gewichteterVerbrauch * abklingen + df;
+        gewichteteStrecke = gewichteteStrecke * abklingen + ds;
+        return this;
+    }
+
+    /**
+     * Setzt einen Fahrtzähler auf null zurück.
+     *
+     * Die Reichweitenschätzung bleibt davon unberührt.
+     *
+     * @param zaehler der zurückzusetzende Zähler
+     * @return dieser Fahrtenrechner für Method Chaining
+     */
+    public Fahrtenrechner zuruecksetzen(Zaehler zaehler) {
+        int z = zaehler.ordinal();
+        strecke[z] = 0.0;
+        fahrzeit[z] = 0.0;
+        verbrauch[z] = 0.0;
+        maxGeschwindigkeit[z] = 0.0;
+        return this;
+    }
+
+    /**
+     * Erstellt eine Momentaufnahme eines Fahrtzählers.
+     *
+     * @param zaehler der Zähler
+     * @return die Statistik inklusive aktueller Reichweite
+     */
+    public FahrtStatistik statistik(Zaehler zaehler) {
+        int z = zaehler.ordinal();
+        return new FahrtStatistik(strecke[z], fahrzeit[z], verbrauch[z], maxGeschwindigkeit[z], getReichweite());
+    }
+
+    // ====================================================================
+    // GETTER-METHODEN
+    // ====================================================================
+
+    /**
+     * Gibt die gefahrene Strecke zurück.
+     *
+     * @param zaehler der Zähler
+     * @return die Strecke in Kilometern
+     */
+    public double getStrecke(Zaehler zaehler) {
+        return strecke[zaehler.ordinal()];
+    }
+
+    /**
+     * Gibt die Fahrzeit mit laufendem Motor zurück.
+     *
+     * @param zaehler der Zähler
+     * @return die Fahrzeit in Sekunden
+     */
+    public double getFahrzeit(Zaehler zaehler) {
+        return fahrzeit[zaehler.ordinal()];
+    }
+
+    /**
+     * Gibt den verbrauchten Treibstoff zurück.
+     *
+     * @param zaehler der Zähler
+     * @return der Verbrauch in Litern
+     */
+    public double getVerbrauch(Zaehler zaehler) {
+        return verbrauch[zaehler.ordinal()];
+    }
+
+    /**
+     * Gibt die höchste erreichte Geschwindigkeit zurück.
+     *
+     * @param zaehler der Zähler
+     * @return die Höchstgeschwindigkeit in km/h
+     */
+    public double getMaxGeschwindigkeit(Zaehler zaehler) {
+        return maxGeschwindigkeit[zaehler.ordinal()];
+    }
+
+    /**
+     * Gibt die Durchschnittsgeschwindigkeit über die Fahrzeit zurück.
+     *
+     * @param zaehler der Zähler
+     * @return die Durchschnittsgeschwindigkeit in km/h
+     */
+    public double getDurchschnittsgeschwindigkeit(Zaehler zaehler) {
+        int z = zaehler.ordinal();
+        return fahrzeit[z] > 0 ? strecke[z] / (fahrzeit[z] / 3600.0) : 0.0;
+    }
+
+    /**
+     * Gibt den Durchschnittsverbrauch zurück.
+     *
+     * @param zaehler der Zähler
+     * @return der Verbrauch in Litern pro 100 km
+     */
+    public double getDurchschnittsverbrauch(Zaehler zaehler) {
+        int z = zaehler.ordinal();
+        return strecke[z] > 0 ? verbrauch[z] / strecke[z] * 100.0 : 0.0;
+    }
+
+    /**
+     * Gibt den gleitenden Verbrauch der letzten Kilometer zurück.
+     *
+     * @return der Verbrauch in Litern pro 100 km
+     */
+    public double getAktuellerVerbrauch() {
+        return gewichteterVerbrauch / gewichteteStrecke * 100.0;
+    }
+
+    /**
+     * Gibt die geschätzte Restreichweite zurück.
+     *
+     * @return die Reichweite in Kilometern
+     */
+    public double getReichweite() {
+        return tankstand / (gewichteterVerbrauch / gewichteteStrecke);
+    }
+}
@@ -0,0 +1,613 @@
+package de.verkettungsanfrage;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Speichert eine große Anzahl von Autos spaltenweise (Struct-of-Arrays).
+ *
+ * Statt eines Heap-Objekts pro Fahrzeug liegen die Zustände aller Autos
+ * in primitiven, parallelen Arrays:
+ * - tankstand und geschwindigkeit als double[]
+ * - maxGeschwindigkeit als int[]
+ * - motorLaeuft als gepacktes Bitfeld (64 Fahrzeuge pro long)
+ *
+ * Die Bulk-Methoden (beschleunigeAlle, bremseAlle, tankeAlle, ...) wenden
+ * dieselbe Logik wie die gleichnamigen Methoden der Klasse Auto in einer
+ * einzigen Schleife an. Sie arbeiten speicherlinear und allokieren keine
+ * Objekte, so dass die Kosten pro Tick linear mit der Flottengröße wachsen.
+ *
+ * Für Code, der mit der gewohnten Auto-API arbeiten möchte, liefert
+ * {@link #fahrzeug(int)} eine Fahrzeug-Ansicht (Flyweight), die direkt auf
+ * die Arrays der Flotte zugreift.
+ *
+ * Beispiel:
+ * Flotte flotte = new Flotte(1_000_000);
+ * flotte.hinzufuegen("VW Golf", 20.0, 200);
+ * flotte.starteAlleMotoren().beschleunigeAlle(30.0);
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public class Flotte {
+
+    /** Maximale Anzahl an Fahrzeugen, die die Flotte aufnehmen kann. */
+    private final int kapazitaet;
+
+    /** Anzahl der aktuell registrierten Fahrzeuge. */
+    private int anzahl;
+
+    /** Modellbezeichnungen, nur für Ansichten und Anzeigen benötigt. */
+    private final String[] modell;
+
+    /** Tankstände in Litern. */
+    private final double[] tankstand;
+
+    /** Geschwindigkeiten in km/h. */
+    private final double[] geschwindigkeit;
+
+    /** Maximalgeschwindigkeiten in km/h. */
+    private final int[] maxGeschwindigkeit;
+
+    /** Motorstatus als Bitfeld: Bit i gesetzt = Motor von Fahrzeug i läuft. */
+    private final long[] motorLaeuft;
+
+    /** Gemeinsames Verbrauchsmodell aller Fahrzeuge der Flotte. */
+    private VerbrauchsModell verbrauchsModell = Verbrauchskennfeld.STANDARD;
+
+    /**
+     * Erstellt eine leere Flotte mit fester Kapazität.
+     *
+     * Alle Arrays werden einmalig in voller Größe angelegt, damit spätere
+     * Ticks keinerlei Allokationen auslösen.
+     *
+     * @param kapazitaet die maximale Anzahl an Fahrzeugen
+     * @throws IllegalArgumentException wenn die Kapazität negativ ist
+     */
+    public Flotte(int kapazitaet) {
+        if (kapazitaet < 0) {
+            throw new IllegalArgumentException("Kapazität darf nicht negativ sein: " + kapazitaet);
+        }
+        this.kapazitaet = kapazitaet;
+        this.modell = new String[kapazitaet];
+        this.tankstand = new double[kapazitaet];
+        this.geschwindigkeit = new double[kapazitaet];
+        this.maxGeschwindigkeit = new int[kapazitaet];
+        this.motorLaeuft = new long[(kapazitaet + 63) >>> 6];
+    }
+
+    /**
+     * Fügt der Flotte ein neues Fahrzeug hinzu.
+     *
+     * Es gelten dieselben Startbedingungen wie im Konstruktor von Auto:
+     * Tankstand wird auf die Tankkapazität begrenzt, Geschwindigkeit ist 0
+     * und der Motor ist aus.
+     *
+     * @param modellName der Name des Automodells
+     * @param initialTankstand der initiale Füllstand in Litern
+     * @param maxKmh die Maximalgeschwindigkeit in km/h
+     * @return der Index des neuen Fahrzeugs
+     * @throws IllegalStateException wenn die Flotte bereits voll ist
+     */
+    public int hinzufuegen(String modellName, double initialTankstand, int maxKmh) {
+        if (anzahl == kapazitaet) {
+            throw new IllegalStateException("Flotte ist voll (Kapazität " + kapazitaet + ")");
+        }
+        int i = anzahl++;
+        modell[i] = modellName;
+        tankstand[i] = Math.min(initialTankstand, Auto.TANKKAPAZITAET);
+        geschwindigkeit[i] = 0.0;
+        maxGeschwindigkeit[i] = maxKmh;
+        setzeMotor(i, false);
+        return i;
+    }
+
+    // ====================================================================
+    // BULK-OPERATIONEN (eine Schleife über alle Fahrzeuge)
+    // ====================================================================
+
+    /**
+     * Startet die Motoren aller Fahrzeuge mit Treibstoff im Tank.
+     *
+     * @return diese Flotte für Method Chaining
+     */
+    public Flotte starteAlleMotoren() {
+        for (int i = 0; i < anzahl; i++) {
+            if (tankstand[i] > 0.0) {
+                setzeMotor(i, true);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Stoppt die Motoren aller Fahrzeuge und setzt ihre Geschwindigkeit auf 0.
+     *
+     * @return diese Flotte für Method Chaining
+     */
+    public Flotte stoppeAlleMotoren() {
+        Arrays.fill(motorLaeuft, 0L);
+        Arrays.fill(geschwindigkeit, 0, anzahl, 0.0);
+        return this;
+    }
+
+    /**
+     * Tankt alle Fahrzeuge um die angegebene Menge auf (begrenzt auf die Kapazität).
+     *
+     * @param liter die zu tankende Menge in Litern
+     * @return diese Flotte für Method Chaining
+     */
+    public Flotte tankeAlle(double liter) {
+        for (int i = 0; i < anzahl; i++) {
+            tankstand[i] = Math.min(Auto.TANKKAPAZITAET, tankstand[i] + liter);
+        }
+        return this;
+    }
+
+    /**
+     * Beschleunigt alle Fahrzeuge mit laufendem Motor und Treibstoff im Tank.
+     *
+     * @param delta die Geschwindigkeitszunahme in km/h
+     * @return diese Flotte für Method Chaining
+     */
+    public Flotte beschleunigeAlle(double delta) {
+        for (int i = 0; i < anzahl; i++) {
+            beschleunige(i, delta);
+        }
+        return this;
+    }
+
+    /**
+     * Bremst alle Fahrzeuge um den angegebenen Wert ab (minimal 0 km/h).
+     *
+     * @param delta die Geschwindigkeitsabnahme in km/h
+     * @return diese Flotte für Method Chaining
+     */
+    public Flotte bremseAlle(double delta) {
+        for (int i = 0; i < anzahl; i++) {
+            geschwindigkeit[i] = Math.max(0.0, geschwindigkeit[i] - delta);
+        }
+        return this;
+    }
+
+    /**
+     * Setzt das Verbrauchsmodell für alle Fahrzeuge der Flotte.
+     *
+     * @param modell das Verbrauchsmodell, z.B. VerbrauchsModell.EINFACH
+     * @return diese Flotte für Method Chaining
+     */
+    public Flotte mitVerbrauchsModell(VerbrauchsModell modell) {
+        this.verbrauchsModell = Objects.requireNonNull(modell);
+        return this;
+    }
+
+    /**
+     * Führt einen Simulations-Tick für einen Ausschnitt der Flotte aus.
+     *
+     * Für jedes Fahrzeug mit laufendem Motor im Bereich [von, bis):
+     * - Gas geben (beschleunige), falls gas > 0
+     * - Ausrollen über die angegebene Zeitspanne (rolleAus)
+     *
+     * Bereiche, die parallel bearbeitet werden, dürfen sich kein long des
+     * Motor-Bitfelds teilen; Bereichsgrenzen sollten daher Vielfache von 64 sein.
+     *
+     * @param von erster Fahrzeugindex (inklusive)
+     * @param bis letzter Fahrzeugindex (exklusive)
+     * @param sekunden die simulierte Zeitspanne in Sekunden
+     * @param gas die Geschwindigkeitszunahme pro Tick in km/h
+     * @return verbrauchter Treibstoff und liegengebliebene Fahrzeuge im Bereich
+     */
+    public TickStatistik tick(int von, int bis, double sekunden, double gas) {
+        double verbraucht = 0.0;
+        int liegengeblieben = 0;
+        for (int i = von; i < bis; i++) {
+            if (!istMotorAn(i)) {
+                continue;
+            }
+            double vorher = tankstand[i];
+            if (gas > 0) {
+                beschleunige(i, gas);
+            }
+            rolleAus(i, sekunden);
+            verbraucht += vorher - tankstand[i];
+            if (!istMotorAn(i)) {
+                liegengeblieben++;
+            }
+        }
+        return new TickStatistik(verbraucht, liegengeblieben);
+    }
+
+    // ====================================================================
+    // EINZELOPERATIONEN (Semantik identisch zu Auto)
+    // ====================================================================
+
+    /**
+     * Startet den Motor eines Fahrzeugs, sofern Treibstoff vorhanden ist.
+     *
+     * @param i der Fahrzeugindex
+     */
+    public void starteMotor(int i) {
+        if (tankstand[i] > 0.0) {
+            setzeMotor(i, true);
+        }
+    }
+
+    /**
+     * Stoppt den Motor eines Fahrzeugs und setzt die Geschwindigkeit auf 0.
+     *
+     * @param i der Fahrzeugindex
+     */
+    public void stoppeMotor(int i) {
+        setzeMotor(i, false);
+        geschwindigkeit[i] = 0.0;
+    }
+
+    /**
+     * Tankt ein Fahrzeug auf, begrenzt auf die Tankkapazität.
+     *
+     * @param i der Fahrzeugindex
+     * @param liter die zu tankende Menge in Litern
+     */
+    public void tanken(int i, double liter) {
+        tankstand[i] = Math.min(Auto.TANKKAPAZITAET, tankstand[i] + liter);
+    }
+
+    /**
+     * Beschleunigt ein Fahrzeug und verbraucht dabei Treibstoff.
+     *
+     * @param i der Fahrzeugindex
+     * @param delta die Geschwindigkeitszunahme in km/h
+     */
+    public void beschleunige(int i, double delta) {
+        if (istMotorAn(i) && tankstand[i] > 0) {
+            double vorher = geschwindigkeit[i];
+            geschwindigkeit[i] = Math.min(maxGeschwindigkeit[i], vorher + delta);
+            verbrauchPruefen(i, verbrauchsModell.beschleunigung(vorher, delta));
+        }
+    }
+
+    /**
+     * Bremst ein Fahrzeug ab (minimal 0 km/h).
+     *
+     * @param i der Fahrzeugindex
+     * @param delta die Geschwindigkeitsabnahme in km/h
+     */
+    public void bremsen(int i, double delta) {
+        geschwindigkeit[i] = Math.max(0.0, geschwindigkeit[i] - delta);
+    }
+
+    /**
+     * Lässt ein Fahrzeug über die angegebene Zeitspanne ausrollen und
+     * verbraucht dabei Treibstoff für Fahrt bzw. Leerlauf.
+     *
+     * @param i der Fahrzeugindex
+     * @param sekunden die simulierte Zeitspanne in Sekunden
+     */
+    public void rolleAus(int i, double sekunden) {
+        if (!istMotorAn(i)) {
+            return;
+        }
+        double beschleunigung = 0.0;
+        if (geschwindigkeit[i] > Auto.AUSROLL_MINDESTGESCHWINDIGKEIT) {
+            bremsen(i, Auto.AUSROLL_VERZOEGERUNG * sekunden);
+            beschleunigung = -Auto.AUSROLL_VERZOEGERUNG;
+        }
+        verbrauchPruefen(i, verbrauchsModell.fahrt(geschwindigkeit[i], beschleunigung, sekunden));
+    }
+
+    /**
+     * Lässt ein stehendes Fahrzeug mit laufendem Motor anfahren (1 km/h).
+     *
+     * @param i der Fahrzeugindex
+     */
+    public void fahreLos(int i) {
+        if (istMotorAn(i) && tankstand[i] > 0 && geschwindigkeit[i] == 0) {
+            geschwindigkeit[i] = 1.0;
+            verbrauchPruefen(i, verbrauchsModell.beschleunigung(0.0, 1.0));
+        }
+    }
+
+    /**
+     * Zieht verbrauchten Treibstoff ab und stoppt den Motor bei leerem
+     * Tank – analog zu Auto.verbrauchPruefen.
+     *
+     * @param i der Fahrzeugindex
+     * @param verbrauch der Verbrauch in Litern
+     */
+    private void verbrauchPruefen(int i, double verbrauch) {
+        tankstand[i] = Math.max(0.0, tankstand[i] - verbrauch);
+        if (tankstand[i] == 0.0) {
+            stoppeMotor(i);
+        }
+    }
+
+    /**
+     * Setzt oder löscht das Motor-Bit eines Fahrzeugs.
+     *
+     * @param i der Fahrzeugindex
+     * @param an true, wenn der Motor läuft
+     */
+    private void setzeMotor(int i, boolean an) {
+        if (an) {
+            motorLaeuft[i >>> 6] |= 1L << i;
+        } else {
+            motorLaeuft[i >>> 6] &= ~(1L << i);
+        }
+    }
+
+    // ====================================================================
+    // GETTER-METHODEN
+    // ====================================================================
+
+    /**
+     * Gibt die Anzahl der registrierten Fahrzeuge zurück.
+     *
+     * @return die Flottengröße
+     */
+    public int getAnzahl() {
+        return anzahl;
+    }
+
+    /**
+     * Gibt die Kapazität der Flotte zurück.
+     *
+     * @return die maximale Anzahl an Fahrzeugen
+     */
+    public int getKapazitaet() {
+        return kapazitaet;
+    }
+
+    /**
+     * Gibt das Verbrauchsmodell der Flotte zurück.
+     *
+     * @return das Verbrauchsmodell
+     */
+    public VerbrauchsModell getVerbrauchsModell() {
+        return verbrauchsModell;
+    }
+
+    /**
+     * Gibt das Modell eines Fahrzeugs zurück.
+     *
+     * @param i der Fahrzeugindex
+     * @return die Modellbezeichnung
+     */
+    public String getModell(int i) {
+        return modell[i];
+    }
+
+    /**
+     * Gibt den Tankstand eines Fahrzeugs zurück.
+     *
+     * @param i der Fahrzeugindex
+     * @return der Tankstand in Litern
+     */
+    public double getTankstand(int i) {
+        return tankstand[i];
+    }
+
+    /**
+     * Gibt die Geschwindigkeit eines Fahrzeugs zurück.
+     *
+     * @param i der Fahrzeugindex
+     * @return die Geschwindigkeit in km/h
+     */
+    public double getGeschwindigkeit(int i) {
+        return geschwindigkeit[i];
+    }
+
+    /**
+     * Gibt die Maximalgeschwindigkeit eines Fahrzeugs zurück.
+     *
+     * @param i der Fahrzeugindex
+     * @return die Maximalgeschwindigkeit in km/h
+     */
+    public int getMaxGeschwindigkeit(int i) {
+        return maxGeschwindigkeit[i];
+    }
+
+    /**
+     * Prüft, ob der Motor eines Fahrzeugs läuft.
+     *
+     * @param i der Fahrzeugindex
+     * @return true wenn der Motor läuft
+     */
+    public boolean istMotorAn(int i) {
+        return (motorLaeuft[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /**
+     * Liefert eine Auto-Ansicht auf das Fahrzeug mit dem angegebenen Index.
+     *
+     * Die Ansicht hält keinen eigenen Zustand, sondern liest und schreibt
+     * direkt in die Arrays der Flotte. Über {@link Fahrzeug#zeigeAuf(int)}
+     * kann dieselbe Ansicht für beliebig viele Fahrzeuge wiederverwendet
+     * werden, ohne neue Objekte zu erzeugen.
+     *
+     * @param i der Fahrzeugindex
+     * @return eine Fahrzeug-Ansicht mit der API von Auto
+     * @throws IndexOutOfBoundsException wenn kein Fahrzeug mit diesem Index existiert
+     */
+    public Fahrzeug fahrzeug(int i) {
+        Objects.checkIndex(i, anzahl);
+        return new Fahrzeug(i);
+    }
+
+    /**
+     * Flyweight-Ansicht eines Flottenfahrzeugs mit der API von Auto.
+     *
+     * Alle zustandsändernden Methoden wirken auf die Arrays der Flotte und
+     * geben – wie bei Auto – die Ansicht selbst für Method Chaining zurück.
+     *
+     * Die von Auto geerbten Felder werden nicht benutzt. Damit keine Methode
+     * sie versehentlich liest, überschreibt die Ansicht jede öffentliche
+     * Methode von Auto, die Zustand liest oder schreibt – auch zustand(),
+     * veroeffentlicheZustand, getMaxTankstand, zeigeZustand und hupe.
+     * Neue Methoden in Auto müssen hier ebenfalls überschrieben werden.
+     */
+    public final class Fahrzeug extends Auto {
+
+        /** Index des Fahrzeugs, auf das die Ansicht aktuell zeigt. */
+        private int index;
+
+        /**
+         * Erstellt eine Ansicht auf das Fahrzeug mit dem angegebenen Index.
+         *
+         * @param index der Fahrzeugindex
+         */
+        private Fahrzeug(int index) {
+            super(null, 0.0, 0);
+            this.index = index;
+        }
+
+        /**
+         * Richtet die Ansicht auf ein anderes Fahrzeug der Flotte aus.
+         *
+         * @param i der neue Fahrzeugindex
+         * @return diese Ansicht für Method Chaining
+         * @throws IndexOutOfBoundsException wenn kein Fahrzeug mit diesem Index existiert
+         */
+        public Fahrzeug zeigeAuf(int i) {
+            this.index = Objects.checkIndex(i, anzahl);
+            return this;
+        }
+
+        /**
+         * Gibt den Index des Fahrzeugs zurück, auf das die Ansicht zeigt.
+         *
+         * @return der Fahrzeugindex
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        @Override
+        public Auto starteMotor() {
+            Flotte.this.starteMotor(index);
+            return this;
+        }
+
+        @Override
+        public Auto stoppeMotor() {
+            Flotte.this.stoppeMotor(index);
+            return this;
+        }
+
+        @Override
+        public Auto tanken(double liter) {
+            Flotte.this.tanken(index, liter);
+            return this;
+        }
+
+        @Override
+        public Auto beschleunige(double delta) {
+            Flotte.this.beschleunige(index, delta);
+            return this;
+        }
+
+        @Override
+        public Auto bremsen(double delta) {
+            Flotte.this.bremsen(index, delta);
+            return this;
+        }
+
+        @Override
+        public Auto rolleAus(double sekunden) {
+            Flotte.this.rolleAus(index, sekunden);
+            return this;
+        }
+
+        @Override
+        public Auto fahreLos() {
+            Flotte.this.fahreLos(index);
+            return this;
+        }
+
+        /**
+         * Setzt das Verbrauchsmodell der ganzen Flotte.
+         *
+         * Das Modell gilt für alle Fahrzeuge gemeinsam; der Aufruf wirkt
+         * daher wie Flotte.mitVerbrauchsModell und betrifft auch alle
+         * anderen Fahrzeuge der Flotte.
+         *
+         * @param modell das Verbrauchsmodell, z.B. VerbrauchsModell.EINFACH
+         * @return diese Ansicht für Method Chaining
+         */
+        @Override
+        public Auto mitVerbrauchsModell(VerbrauchsModell modell) {
+            Flotte.this.mitVerbrauchsModell(modell);
+            return this;
+        }
+
+        @Override
+        public VerbrauchsModell getVerbrauchsModell() {
+            return verbrauchsModell;
+        }
+
+        @Override
+        void setzeZustand(AutoZustand zustand) {
+            geschwindigkeit[index] = zustand.geschwindigkeit();
+            tankstand[index] = zustand.tankstand();
+            setzeMotor(index, zustand.motorLaeuft());
+        }
+
+        @Override
+        public Auto zeigeZustand() {
+            return this;
+        }
+
+        @Override
+        public Auto hupe() {
+            return this;
+        }
+
+        @Override
+        public AutoZustand zustand() {
+            return new AutoZustand(geschwindigkeit[index], tankstand[index], istMotorAn(index),
+                    maxGeschwindigkeit[index], Auto.TANKKAPAZITAET);
+        }
+
+        @Override
+        public Auto veroeffentlicheZustand(ZustandsPuffer puffer, long schritt) {
+            puffer.schreibe(geschwindigkeit[index], tankstand[index], istMotorAn(index),
+                    maxGeschwindigkeit[index], Auto.TANKKAPAZITAET, schritt);
+            return this;
+        }
+
+        @Override
+        public String getModell() {
+            return modell[index];
+        }
+
+        @Override
+        public double getTankstand() {
+            return tankstand[index];
+        }
+
+        @Override
+        public double getMaxTankstand() {
+            return Auto.TANKKAPAZITAET;
+        }
+
+        @Override
+        public double getGeschwindigkeit() {
+            return geschwindigkeit[index];
+        }
+
+        @Override
+        public int getMaxGeschwindigkeit() {
+            return maxGeschwindigkeit[index];
+        }
+
+        @Override
+        public boolean isMotorLaeuft() {
+            return istMotorAn(index);
+        }
+
+        @Override
+        public boolean istTankKritisch() {
+            return tankstand[index] < (Auto.TANKKAPAZITAET * 0.1);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package de.verkettungsanfrage;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregierte Kennzahlen einer {@link Flotte} als JMX-MBean.
+ *
+ * Momentwerte (Motor an, fahrend, Durchschnittsgeschwindigkeit,
+ * Gesamttankstand) werden erst bei der Abfrage über alle Fahrzeuge
+ * berechnet und kosten im Tick nichts. Da die Flotte nicht threadsicher
+ * ist, können sie während eines laufenden Ticks leicht inkonsistent sein.
+ *
+ * Kumulierte Werte der Ticks übergibt der Aufrufer mit erfasse(); sie
+ * werden sperrfrei in LongAdder/DoubleAdder summiert, auch wenn mehrere
+ * Threads parallel Teilbereiche ticken.
+ *
+ * Beispiel:
+ * FlottenMetriken metriken = new FlottenMetriken(flotte).registriere("stadt");
+ * metriken.erfasse(parallelerTick.tick(flotte, 0.01, 0.0));
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public class FlottenMetriken implements FlottenMetrikenMBean {
+
+    /** Domäne und Typ des Objektnamens; ergänzt um name=... */
+    public static final String OBJEKTNAME_PRAEFIX = "de.verkettungsanfrage:type=Flotte,name=";
+
+    private final Flotte flotte;
+
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder liegengeblieben = new LongAdder();
+    private final DoubleAdder verbrauchterKraftstoff = new DoubleAdder();
+
+    private final BordcomputerMetriken.Rate tickrate = new BordcomputerMetriken.Rate();
+
+    private ObjectName name;
+
+    /**
+     * Erstellt die Kennzahlen für eine Flotte.
+     *
+     * @param flotte die beobachtete Flotte
+     */
+    public FlottenMetriken(Flotte flotte) {
+        this.flotte = flotte;
+    }
+
+    /**
+     * Registriert die MBean beim Plattform-MBean-Server.
+     *
+     * @param flottenName der Name der Flotte im Objektnamen
+     * @return diese Kennzahlen für Method Chaining
+     * @throws JMException wenn die Registrierung fehlschlägt (z.B. Name bereits vergeben)
+     */
+    public FlottenMetriken registriere(String flottenName) throws JMException {
+        ObjectName n = new ObjectName(OBJEKTNAME_PRAEFIX + ObjectName.quote(flottenName));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, n);
+        this.name = n;
+        return this;
+    }
+
+    /**
+     * Meldet die MBean wieder ab (ohne Wirkung, wenn sie nicht registriert ist).
+     */
+    public void abmelden() {
+        if (name == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException e) {
+            // bereits abgemeldet
+        }
+        name = null;
+    }
+
+    /**
+     * Erfasst das Ergebnis eines Ticks. Threadsicher und sperrfrei.
+     *
+     * @param statistik die Statistik des Ticks
+     * @return die übergebene Statistik (zum Durchreichen)
+     */
+    public TickStatistik erfasse(TickStatistik statistik) {
+        ticks.increment();
+        if (statistik.liegengeblieben() > 0) {
+            liegengeblieben.add(statistik.liegengeblieben());
+        }
+        verbrauchterKraftstoff.add(statistik.verbrauchterKraftstoff());
+        return statistik;
+    }
+
+    @Override
+    public int getAnzahl() {
+        return flotte.getAnzahl();
+    }
+
+    @Override
+    public int getMotorAn() {
+        int anzahl = 0;
+        for (int i = 0, n = flotte.getAnzahl(); i < n; i++) {
+            if (flotte.istMotorAn(i)) {
+                anzahl++;
+            }
+        }
+        return anzahl;
+    }
+
+    @Override
+    public int getFahrend() {
+        int anzahl = 0;
+        for (int i = 0, n = flotte.getAnzahl(); i < n; i++) {
+            if (flotte.getGeschwindigkeit(i) > 0.0) {
+                anzahl++;
+            }
+        }
+        return anzahl;
+    }
+
+    @Override
+    public double getDurchschnittsgeschwindigkeit() {
+        int n = flotte.getAnzahl();
+        if (n == 0) {
+            return 0.0;
+        }
+        double summe = 0.0;
+        for (int i = 0; i < n; i++) {
+            summe += flotte.getGeschwindigkeit(i);
+        }
+        return summe / n;
+    }
+
+    @Override
+    public double getGesamtTankstand() {
+        double summe = 0.0;
+        for (int i = 0, n = flotte.getAnzahl(); i < n; i++) {
+            summe += flotte.getTankstand(i);
+        }
+        return summe;
+    }
+
+    @Override
+    public long getTicks() {
+        return ticks.sum();
+    }
+
+    @Override
+    public double getVerbrauchterKraftstoff() {
+        return verbrauchterKraftstoff.sum();
+    }
+
+    @Override
+    public long getLiegengeblieben() {
+        return liegengeblieben.sum();
+    }
+
+    @Override
+    public double getTickrate() {
+        return tickrate.berechne(ticks.sum(), System.nanoTime());
+    }
+}
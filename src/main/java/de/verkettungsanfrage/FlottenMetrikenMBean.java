@@ -0,0 +1,74 @@
+package de.verkettungsanfrage;
+
+/**
+ * JMX-Schnittstelle der Flotten-Kennzahlen (siehe {@link FlottenMetriken}).
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public interface FlottenMetrikenMBean {
+
+    /**
+     * Gibt die Anzahl der Fahrzeuge zurück.
+     *
+     * @return die Anzahl der Fahrzeuge
+     */
+    int getAnzahl();
+
+    /**
+     * Gibt die Anzahl der Fahrzeuge mit laufendem Motor zurück.
+     *
+     * @return die Anzahl der Fahrzeuge mit laufendem Motor
+     */
+    int getMotorAn();
+
+    /**
+     * Gibt die Anzahl der Fahrzeuge mit Geschwindigkeit über 0 zurück.
+     *
+     * @return die Anzahl der Fahrzeuge mit Geschwindigkeit über 0
+     */
+    int getFahrend();
+
+    /**
+     * Gibt die Durchschnittsgeschwindigkeit aller Fahrzeuge in km/h zurück.
+     *
+     * @return die Durchschnittsgeschwindigkeit aller Fahrzeuge in km/h
+     */
+    double getDurchschnittsgeschwindigkeit();
+
+    /**
+     * Gibt die Summe aller Tankstände in Litern zurück.
+     *
+     * @return die Summe aller Tankstände in Litern
+     */
+    double getGesamtTankstand();
+
+    /**
+     * Gibt die Anzahl der bisher erfassten Flotten-Ticks zurück.
+     *
+     * @return die Anzahl der bisher erfassten Flotten-Ticks
+     */
+    long getTicks();
+
+    /**
+     * Gibt den in erfassten Ticks verbrauchten Treibstoff in Litern zurück.
+     *
+     * @return der in erfassten Ticks verbrauchte Treibstoff in Litern
+     */
+    double getVerbrauchterKraftstoff();
+
+    /**
+     * Gibt die Anzahl der in erfassten Ticks liegengebliebenen Fahrzeuge zurück.
+     *
+     * @return die Anzahl der in erfassten Ticks liegengebliebenen Fahrzeuge
+     */
+    long getLiegengeblieben();
+
+    /**
+     * Gibt die gemessene Tickrate in Ticks pro Sekunde zurück.
+     *
+     * @return die gemessene Tickrate in Ticks pro Sekunde
+     */
+    double getTickrate();
+}
@@ -0,0 +1,346 @@
+package de.verkettungsanfrage;
+
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Orientation;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Virtualisierte Übersicht über alle Fahrzeuge einer {@link Flotte}.
+ *
+ * Statt eines vollständigen Tachometers (340x340-Canvas plus Labels) pro
+ * Fahrzeug besteht die Übersicht aus:
+ * - einem einzigen Canvas in Größe des sichtbaren Bereichs, in das alle
+ *   sichtbaren Kompakt-Tachos (Bogen, Geschwindigkeit, Tankbalken, Motor)
+ *   gezeichnet werden
+ * - einem Vorrat an Namens-Labels, einer pro sichtbarer Zelle; beim
+ *   Scrollen werden sie wie in einem VirtualFlow neuen Fahrzeugen zugeordnet
+ *   statt neu erzeugt
+ * - einer Scrollleiste
+ *
+ * Die Anzahl der Knoten hängt damit nur von der Fenstergröße ab, nicht von
+ * der Flottengröße. Pro Frame werden höchstens budget Zellen aus der Flotte
+ * gelesen (reihum über die sichtbaren Zellen) und nur neu gezeichnet, wenn
+ * sich ihr angezeigter Wert geändert hat.
+ *
+ * Die Flotte darf von einem anderen Thread getickt werden; die Anzeige
+ * liest ohne Sperren und kann daher für einen Frame leicht veraltete
+ * Werte zeigen.
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public final class FlottenUebersicht extends Region {
+
+    /** Standardbudget an gelesenen Zellen pro Frame. */
+    public static final int STANDARD_BUDGET = 256;
+
+    /** Breite einer Zelle in Pixeln. */
+    private static final double ZELL_BREITE = 120;
+
+    /** Höhe einer Zelle in Pixeln. */
+    private static final double ZELL_HOEHE = 100;
+
+    /** Radius des Tachobogens in Pixeln. */
+    private static final double BOGEN_RADIUS = 30;
+
+    /** Innenabstand einer Zelle in Pixeln. */
+    private static final double RAND = 4;
+
+    private static final Color HINTERGRUND = Color.web("#1a1a1a");
+    private static final Color ZELLE = Color.web("#2c3e50");
+    private static final Color SKALA = Color.web("#444444");
+    private static final Color GRUEN = Color.web("#27ae60");
+    private static final Color ORANGE = Color.web("#f39c12");
+    private static final Color ROT = Color.web("#e74c3c");
+    private static final Font ZIFFERN = Font.font("System", 18);
+
+    private final Flotte flotte;
+    private final int budget;
+    private final UebersichtsRaster raster = new UebersichtsRaster(ZELL_BREITE, ZELL_HOEHE);
+
+    private final Canvas canvas = new Canvas();
+    private final ScrollBar scrollLeiste = new ScrollBar();
+
+    /** Wiederverwendete Namens-Labels, einer pro Zellplatz. */
+    private final List<Label> namen = new ArrayList<>();
+
+    /** Fahrzeugindex, den ein Label gerade anzeigt (-1 = frei). */
+    private int[] labelIndex = new int[0];
+
+    /** Zuletzt gezeichnete Werte pro Zellplatz: km/h, Tankbalken in Pixeln, Motor. */
+    private int[] gezeichneteKmh = new int[0];
+    private int[] gezeichneterTank = new int[0];
+    private boolean[] gezeichneterMotor = new boolean[0];
+
+    /** Flottengröße beim letzten Layout; wächst die Flotte, wird neu angeordnet. */
+    private int angeordneteAnzahl = -1;
+
+    /** Ob im nächsten Frame alle sichtbaren Zellen neu gezeichnet werden (nach Scrollen/Größenänderung). */
+    private boolean allesNeu = true;
+
+    private long gezeichneteZellen;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            aktualisiere();
+        }
+    };
+
+    /**
+     * Erstellt eine Übersicht mit dem Standardbudget.
+     *
+     * @param flotte die angezeigte Flotte
+     */
+    public FlottenUebersicht(Flotte flotte) {
+        this(flotte, STANDARD_BUDGET);
+    }
+
+    /**
+     * Erstellt eine Übersicht.
+     *
+     * @param flotte die angezeigte Flotte
+     * @param budget die höchstens pro Frame gelesenen Zellen
+     * @throws IllegalArgumentException wenn das Budget nicht positiv ist
+     */
+    public FlottenUebersicht(Flotte flotte, int budget) {
+        if (budget <= 0) {
+            throw new IllegalArgumentException("Budget muss positiv sein: " + budget);
+        }
+        this.flotte = flotte;
+        this.budget = budget;
+        getStyleClass().add("flotten-uebersicht");
+
+        scrollLeiste.setOrientation(Orientation.VERTICAL);
+        scrollLeiste.valueProperty().addListener((o, alt, neu) -> {
+            raster.setScroll(neu.doubleValue());
+            allesNeu = true;
+            requestLayout();
+        });
+        addEventHandler(ScrollEvent.SCROLL, e -> scrollLeiste.setValue(
+                Math.max(0, Math.min(scrollLeiste.getMax(), scrollLeiste.getValue() - e.getDeltaY()))));
+
+        Rectangle clip = new Rectangle();
+        clip.widthProperty().bind(widthProperty());
+        clip.heightProperty().bind(heightProperty());
+        setClip(clip);
+
+        getChildren().addAll(canvas, scrollLeiste);
+    }
+
+    /**
+     * Startet die laufende Aktualisierung (z.B. wenn die Übersicht sichtbar wird).
+     */
+    public void start() {
+        allesNeu = true;
+        timer.start();
+    }
+
+    /**
+     * Stoppt die laufende Aktualisierung.
+     */
+    public void stop() {
+        timer.stop();
+    }
+
+    /**
+     * Gibt die Anzahl der bisher neu gezeichneten Zellen zurück.
+     *
+     * @return die Anzahl der Zellzeichnungen
+     */
+    public long getGezeichneteZellen() {
+        return gezeichneteZellen;
+    }
+
+    /**
+     * Gibt die Anzahl der Namens-Labels zurück (Knoten pro Zelle).
+     *
+     * @return die Größe des Label-Vorrats
+     */
+    public int getLabelAnzahl() {
+        return namen.size();
+    }
+
+    @Override
+    protected void layoutChildren() {
+        double leiste = scrollLeiste.prefWidth(-1);
+        double breite = Math.max(0, getWidth() - leiste);
+        double hoehe = getHeight();
+
+        angeordneteAnzahl = flotte.getAnzahl();
+        raster.setAnzahl(angeordneteAnzahl).setGroesse(breite, hoehe);
+        scrollLeiste.resizeRelocate(breite, 0, leiste, hoehe);
+        scrollLeiste.setMax(raster.getMaxScroll());
+        scrollLeiste.setVisibleAmount(hoehe);
+        scrollLeiste.setUnitIncrement(ZELL_HOEHE / 4);
+        scrollLeiste.setBlockIncrement(hoehe);
+
+        if (canvas.getWidth() != breite || canvas.getHeight() != hoehe) {
+            canvas.setWidth(breite);
+            canvas.setHeight(hoehe);
+            allesNeu = true;
+        }
+        ordneLabelsZu();
+    }
+
+    /**
+     * Ordnet den sichtbaren Zellen Labels aus dem Vorrat zu.
+     *
+     * Zellplatz = Index modulo Vorratsgröße: Beim Scrollen um eine Zeile
+     * behalten alle weiterhin sichtbaren Zellen ihr Label, nur die
+     * hinzugekommenen Zellen übernehmen die Labels der verschwundenen.
+     */
+    private void ordneLabelsZu() {
+        int benoetigt = raster.getMaxSichtbar();
+        if (namen.size() < benoetigt) {
+            erweitereVorrat(benoetigt);
+        }
+        int plaetze = namen.size();
+        int erster = raster.getErster();
+        int bis = raster.getBis();
+        for (int platz = 0; platz < plaetze; platz++) {
+            namen.get(platz).setVisible(false);
+        }
+        for (int i = erster; i < bis; i++) {
+            int platz = i % plaetze;
+            Label label = namen.get(platz);
+            if (labelIndex[platz] != i) {
+                labelIndex[platz] = i;
+                label.setText("#" + i + " " + flotte.getModell(i));
+            }
+            label.relocate(raster.x(i) + 2 * RAND, raster.y(i) + 2 * RAND);
+            label.setVisible(true);
+        }
+    }
+
+    /**
+     * Vergrößert den Label-Vorrat und die Zellpuffer.
+     *
+     * @param groesse die neue Vorratsgröße
+     */
+    private void erweitereVorrat(int groesse) {
+        while (namen.size() < groesse) {
+            Label label = new Label();
+            label.getStyleClass().add("flotten-zelle-name");
+            label.setMouseTransparent(true);
+            label.setMaxWidth(ZELL_BREITE - 4 * RAND);
+            namen.add(label);
+            getChildren().add(label);
+        }
+        // Zuordnung Index -> Platz ändert sich mit der Vorratsgröße
+        labelIndex = new int[groesse];
+        Arrays.fill(labelIndex, -1);
+        gezeichneteKmh = new int[groesse];
+        gezeichneterTank = new int[groesse];
+        gezeichneterMotor = new boolean[groesse];
+        allesNeu = true;
+    }
+
+    /**
+     * Liest bis zu budget sichtbare Zellen aus der Flotte und zeichnet
+     * geänderte Zellen neu. Nach Scrollen oder Größenänderung werden alle
+     * sichtbaren Zellen gezeichnet. Hat sich die Flottengröße seit dem
+     * letzten Layout geändert, wird zuerst neu angeordnet.
+     */
+    private void aktualisiere() {
+        int flottenGroesse = flotte.getAnzahl();
+        if (flottenGroesse != angeordneteAnzahl) {
+            allesNeu = true;
+            requestLayout();
+            return;
+        }
+        if (raster.getSichtbar() == 0 && flottenGroesse > 0) {
+            requestLayout();
+            return;
+        }
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        if (allesNeu) {
+            allesNeu = false;
+            g.setFill(HINTERGRUND);
+            g.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            for (int i = raster.getErster(), bis = raster.getBis(); i < bis; i++) {
+                zeichneZelle(g, i, true);
+            }
+            return;
+        }
+        int anzahl = Math.min(budget, raster.getSichtbar());
+        for (int k = 0; k < anzahl; k++) {
+            zeichneZelle(g, raster.naechsterFaelliger(), false);
+        }
+    }
+
+    /**
+     * Zeichnet den Kompakt-Tacho eines Fahrzeugs, sofern sich die
+     * angezeigten Werte geändert haben.
+     *
+     * @param g der Zeichenkontext des gemeinsamen Canvas
+     * @param i der Fahrzeugindex
+     * @param erzwingen true, um unabhängig von Änderungen zu zeichnen
+     */
+    private void zeichneZelle(GraphicsContext g, int i, boolean erzwingen) {
+        int platz = i % namen.size();
+        double geschwindigkeit = flotte.getGeschwindigkeit(i);
+        int max = Math.max(1, flotte.getMaxGeschwindigkeit(i));
+        double tankAnteil = flotte.getTankstand(i) / Auto.TANKKAPAZITAET;
+        int kmh = (int) geschwindigkeit;
+        int tank = (int) (tankAnteil * (ZELL_BREITE - 4 * RAND));
+        boolean motor = flotte.istMotorAn(i);
+        if (!erzwingen && kmh == gezeichneteKmh[platz] && tank == gezeichneterTank[platz]
+                && motor == gezeichneterMotor[platz]) {
+            return;
+        }
+        gezeichneteKmh[platz] = kmh;
+        gezeichneterTank[platz] = tank;
+        gezeichneterMotor[platz] = motor;
+        gezeichneteZellen++;
+
+        double x = raster.x(i);
+        double y = raster.y(i);
+        g.setFill(HINTERGRUND);
+        g.fillRect(x, y, ZELL_BREITE, ZELL_HOEHE);
+        g.setFill(ZELLE);
+        g.fillRoundRect(x + RAND, y + RAND, ZELL_BREITE - 2 * RAND, ZELL_HOEHE - 2 * RAND, 12, 12);
+
+        // Tachobogen: 270° Skala, Wertbogen nach Anteil an der Höchstgeschwindigkeit
+        double cx = x + ZELL_BREITE / 2;
+        double cy = y + 58;
+        double anteil = Math.min(1.0, geschwindigkeit / max);
+        g.setLineWidth(5);
+        g.setStroke(SKALA);
+        g.strokeArc(cx - BOGEN_RADIUS, cy - BOGEN_RADIUS, 2 * BOGEN_RADIUS, 2 * BOGEN_RADIUS, -45, 270, ArcType.OPEN);
+        if (anteil > 0) {
+            g.setStroke(anteil < 0.6 ? GRUEN : anteil < 0.85 ? ORANGE : ROT);
+            g.strokeArc(cx - BOGEN_RADIUS, cy - BOGEN_RADIUS, 2 * BOGEN_RADIUS, 2 * BOGEN_RADIUS,
+                    225, -270 * anteil, ArcType.OPEN);
+        }
+        g.setFill(Color.WHITE);
+        g.setFont(ZIFFERN);
+        g.setTextAlign(TextAlignment.CENTER);
+        g.fillText(Integer.toString(kmh), cx, cy + 6);
+
+        // Motorstatus
+        g.setFill(motor ? GRUEN : SKALA);
+        g.fillOval(x + ZELL_BREITE - 3 * RAND - 8, y + 3 * RAND, 8, 8);
+
+        // Tankbalken
+        g.setFill(SKALA);
+        g.fillRect(x + 2 * RAND, y + ZELL_HOEHE - 3 * RAND, ZELL_BREITE - 4 * RAND, 4);
+        g.setFill(tankAnteil < 0.25 ? ROT : GRUEN);
+        g.fillRect(x + 2 * RAND, y + ZELL_HOEHE - 3 * RAND, tank, 4);
+    }
+}
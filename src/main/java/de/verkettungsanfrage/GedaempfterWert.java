@@ -0,0 +1,134 @@
+package de.verkettungsanfrage;
+
+/**
+ * Kritisch gedämpfter Feder-Interpolator für animierte Anzeigewerte.
+ *
+ * Statt für jede Wertänderung eine neue Timeline zu erzeugen, hält jede
+ * Anzeige genau einen GedaempfterWert. Der Animations-Loop ruft pro Frame
+ * {@link #aktualisiere(double)} auf; ein neues Ziel wird über
+ * {@link #setZiel(double)} gesetzt, ohne dass Objekte entstehen oder
+ * mehrere Animationen gegeneinander arbeiten.
+ *
+ * Die Feder ist kritisch gedämpft: Sie nähert sich dem Ziel so schnell wie
+ * möglich, ohne überzuschwingen. Wird das Ziel während einer laufenden
+ * Bewegung geändert, bleibt die aktuelle Geschwindigkeit erhalten und die
+ * Bewegung geht stetig in das neue Ziel über.
+ *
+ * Beispiel:
+ * GedaempfterWert breite = new GedaempfterWert(0.3);
+ * breite.setZiel(46);
+ * breite.aktualisiere(1.0 / 60);   // pro Frame
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public class GedaempfterWert {
+
+    /** Abstand zum Ziel (und Restrate), ab dem der Wert als angekommen gilt. */
+    private static final double RUHE_TOLERANZ = 1e-2;
+
+    /** Eigenfrequenz der Feder (2 / Einschwingzeit). */
+    private final double omega;
+
+    /** Aktueller (angezeigter) Wert. */
+    private double wert;
+
+    /** Aktuelle Änderungsrate des Werts pro Sekunde. */
+    private double rate;
+
+    /** Zielwert, dem sich der Wert annähert. */
+    private double ziel;
+
+    /**
+     * Erstellt einen gedämpften Wert, der bei 0 startet.
+     *
+     * @param einschwingzeit ungefähre Zeit in Sekunden, bis das Ziel erreicht ist
+     * @throws IllegalArgumentException wenn die Einschwingzeit nicht positiv ist
+     */
+    public GedaempfterWert(double einschwingzeit) {
+        if (einschwingzeit <= 0) {
+            throw new IllegalArgumentException("Einschwingzeit muss positiv sein: " + einschwingzeit);
+        }
+        this.omega = 2.0 / einschwingzeit;
+    }
+
+    /**
+     * Setzt ein neues Ziel. Unveränderte Ziele werden ignoriert.
+     *
+     * @param neuesZiel der neue Zielwert
+     * @return true, wenn sich das Ziel geändert hat
+     */
+    public boolean setZiel(double neuesZiel) {
+        if (neuesZiel == ziel) {
+            return false;
+        }
+        ziel = neuesZiel;
+        return true;
+    }
+
+    /**
+     * Setzt Wert und Ziel sofort, ohne Animation.
+     *
+     * @param neuerWert der neue Wert
+     */
+    public void springeZu(double neuerWert) {
+        wert = neuerWert;
+        ziel = neuerWert;
+        rate = 0.0;
+    }
+
+    /**
+     * Bewegt den Wert um einen Zeitschritt in Richtung Ziel.
+     *
+     * Verwendet die geschlossene Näherung der kritisch gedämpften Feder,
+     * die auch bei großen oder schwankenden Zeitschritten stabil bleibt.
+     *
+     * @param sekunden die seit dem letzten Aufruf vergangene Zeit
+     * @return true, wenn sich der Wert verändert hat
+     */
+    public boolean aktualisiere(double sekunden) {
+        if (istInRuhe()) {
+            return false;
+        }
+        double x = omega * sekunden;
+        double abklingen = 1.0 / (1.0 + x + 0.48 * x * x + 0.235 * x * x * x);
+        double abstand = wert - ziel;
+        double temp = (rate + omega * abstand) * sekunden;
+        rate = (rate - omega * temp) * abklingen;
+        wert = ziel + (abstand + temp) * abklingen;
+
+        if (Math.abs(wert - ziel) < RUHE_TOLERANZ && Math.abs(rate) < RUHE_TOLERANZ) {
+            wert = ziel;
+            rate = 0.0;
+        }
+        return true;
+    }
+
+    /**
+     * Prüft, ob der Wert sein Ziel erreicht hat und keine Bewegung mehr nötig ist.
+     *
+     * @return true wenn Wert und Ziel übereinstimmen
+     */
+    public boolean istInRuhe() {
+        return wert == ziel && rate == 0.0;
+    }
+
+    /**
+     * Gibt den aktuellen Wert zurück.
+     *
+     * @return der aktuelle (animierte) Wert
+     */
+    public double getWert() {
+        return wert;
+    }
+
+    /**
+     * Gibt den Zielwert zurück.
+     *
+     * @return der Zielwert
+     */
+    public double getZiel() {
+        return ziel;
+    }
+}
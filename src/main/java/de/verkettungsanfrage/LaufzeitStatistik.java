@@ -0,0 +1,45 @@
+package de.verkettungsanfrage;
+
+/**
+ * Kennzahlen einer {@link FahrerLaufzeit}.
+ *
+ * Die Planungslatenz ist die Echtzeit vom Wecken eines Fahrers durch den
+ * Taktgeber bis zur Fortsetzung seines Skripts (bzw. bis zum Start des
+ * virtuellen Threads bei der ersten Weckung).
+ *
+ * @param schritte die Anzahl der ausgeführten Simulationsschritte
+ * @param simulationszeit die simulierte Zeit in Sekunden
+ * @param aktiveFahrer die Anzahl noch laufender Fahrer
+ * @param beendeteFahrer die Anzahl beendeter Fahrer (inklusive fehlgeschlagener)
+ * @param fehlgeschlageneFahrer die Anzahl der mit einer Ausnahme abgebrochenen Skripte
+ * @param weckungen die Anzahl aller Weckungen
+ * @param mittlereLatenzNanos die mittlere Planungslatenz in Nanosekunden
+ * @param maxLatenzNanos die größte Planungslatenz in Nanosekunden
+ * @param echtzeitNanos die in laufeSchritte verbrachte Echtzeit in Nanosekunden
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public record LaufzeitStatistik(long schritte, double simulationszeit, long aktiveFahrer, long beendeteFahrer,
+                                long fehlgeschlageneFahrer, long weckungen, long mittlereLatenzNanos,
+                                long maxLatenzNanos, long echtzeitNanos) {
+
+    /**
+     * Gibt den Durchsatz in Weckungen pro Echtzeitsekunde zurück.
+     *
+     * @return Weckungen pro Sekunde oder 0.0, solange keine Zeit gemessen wurde
+     */
+    public double weckungenProSekunde() {
+        return echtzeitNanos == 0 ? 0.0 : weckungen * 1e9 / echtzeitNanos;
+    }
+
+    /**
+     * Gibt an, wie viel schneller als Echtzeit simuliert wurde.
+     *
+     * @return simulierte Sekunden pro Echtzeitsekunde oder 0.0, solange keine Zeit gemessen wurde
+     */
+    public double echtzeitFaktor() {
+        return echtzeitNanos == 0 ? 0.0 : simulationszeit * 1e9 / echtzeitNanos;
+    }
+}
@@ -0,0 +1,198 @@
+package de.verkettungsanfrage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Zeitmessung einzelner Phasen von Bildaufbau und Simulation.
+ *
+ * Jede Phase hat ein eigenes {@link LatenzHistogramm}. Gemessen wird mit
+ * einem Start-/Stopp-Paar um den betreffenden Code:
+ *
+ * long t = messung.start();
+ * drawTacho(z.geschwindigkeit());
+ * messung.stopp(Leistungsmessung.Phase.TACHO, t);
+ *
+ * Ist die Messung ausgeschaltet, liefert start() 0 ohne die Uhr zu lesen,
+ * und stopp() kehrt sofort zurück: pro Phase bleibt ein Lesezugriff und
+ * ein Vergleich, ohne Allokation und ohne Systemaufruf.
+ *
+ * Jede Phase darf nur von einem Thread gemessen werden (UI-Phasen vom
+ * JavaFX-Thread, SIMULATION vom Simulations-Thread).
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public final class Leistungsmessung {
+
+    /**
+     * Gemessene Phasen.
+     */
+    public enum Phase {
+
+        /** Abstand zweier AnimationTimer-Aufrufe (Bildzeit). */
+        FRAME_ABSTAND("Frame-Abstand"),
+
+        /** Gesamter Rumpf von AnimationTimer.handle. */
+        FRAME("Frame gesamt"),
+
+        /** Feder-Animationen der Tankanzeigen. */
+        ANIMATION("Tank-Animation"),
+
+        /** Zeichnen der Tachonadel (drawTacho). */
+        TACHO("drawTacho"),
+
+        /** Aktualisierung der Tankanzeigen (updateTankMiniDisplay, updateTank). */
+        TANK("Tankanzeigen"),
+
+        /** Fahrtenrechner-Anzeige. */
+        FAHRTENRECHNER("Fahrtenrechner"),
+
+        /** Erfassen und Zeichnen des Verlaufs. */
+        VERLAUF("Verlauf"),
+
+        /** Ein Simulationsschritt (Simulations-Thread). */
+        SIMULATION("Simulationsschritt");
+
+        private final String bezeichnung;
+
+        Phase(String bezeichnung) {
+            this.bezeichnung = bezeichnung;
+        }
+
+        /**
+         * Gibt die Anzeigebezeichnung zurück.
+         *
+         * @return die Bezeichnung
+         */
+        public String getBezeichnung() {
+            return bezeichnung;
+        }
+    }
+
+    /** Histogramme je Phase, Index = ordinal(). */
+    private final LatenzHistogramm[] histogramme = new LatenzHistogramm[Phase.values().length];
+
+    /** Ob gemessen wird; wird von UI- und Simulations-Thread gelesen. */
+    private volatile boolean aktiv;
+
+    /**
+     * Erstellt eine ausgeschaltete Messung.
+     */
+    public Leistungsmessung() {
+        for (int i = 0; i < histogramme.length; i++) {
+            histogramme[i] = new LatenzHistogramm();
+        }
+    }
+
+    /**
+     * Liest die Startzeit einer Phase.
+     *
+     * @return die aktuelle Zeit in Nanosekunden oder 0, wenn die Messung aus ist
+     */
+    public long start() {
+        return aktiv ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Beendet die Messung einer Phase.
+     *
+     * @param phase die gemessene Phase
+     * @param start der Rückgabewert von start(); bei 0 wird nichts erfasst
+     */
+    public void stopp(Phase phase, long start) {
+        if (start != 0L) {
+            histogramme[phase.ordinal()].erfasse(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Erfasst eine bereits gemessene Dauer (z.B. den Abstand zweier Frames).
+     *
+     * @param phase die Phase
+     * @param nanos die Dauer in Nanosekunden
+     */
+    public void erfasse(Phase phase, long nanos) {
+        if (aktiv) {
+            histogramme[phase.ordinal()].erfasse(nanos);
+        }
+    }
+
+    /**
+     * Schaltet die Messung ein oder aus. Bisherige Werte bleiben erhalten.
+     *
+     * @param aktiv true zum Einschalten
+     * @return diese Messung für Method Chaining
+     */
+    public Leistungsmessung setAktiv(boolean aktiv) {
+        this.aktiv = aktiv;
+        return this;
+    }
+
+    /**
+     * Prüft, ob gemessen wird.
+     *
+     * @return true, wenn die Messung eingeschaltet ist
+     */
+    public boolean isAktiv() {
+        return aktiv;
+    }
+
+    /**
+     * Gibt das Histogramm einer Phase zurück.
+     *
+     * @param phase die Phase
+     * @return das Histogramm
+     */
+    public LatenzHistogramm histogramm(Phase phase) {
+        return histogramme[phase.ordinal()];
+    }
+
+    /**
+     * Prüft, ob bereits Werte erfasst wurden.
+     *
+     * @return true, wenn mindestens eine Phase Werte enthält
+     */
+    public boolean hatWerte() {
+        for (LatenzHistogramm h : histogramme) {
+            if (h.getAnzahl() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Erstellt eine Tabelle aller Phasen mit Werten (Zeiten in Mikrosekunden).
+     *
+     * @return der Bericht, eine Zeile pro Phase
+     */
+    public String bericht() {
+        StringBuilder sb = new StringBuilder(String.format(Locale.ROOT, "%-20s %9s %9s %9s %9s %9s%n",
+                "Phase", "Anzahl", "p50 µs", "p99 µs", "p99.9 µs", "max µs"));
+        for (Phase p : Phase.values()) {
+            LatenzHistogramm h = histogramme[p.ordinal()];
+            if (h.getAnzahl() == 0) {
+                continue;
+            }
+            sb.append(String.format(Locale.ROOT, "%-20s %9d %9.1f %9.1f %9.1f %9.1f%n",
+                    p.getBezeichnung(), h.getAnzahl(), h.perzentil(0.5) / 1e3, h.perzentil(0.99) / 1e3,
+                    h.perzentil(0.999) / 1e3, h.getMax() / 1e3));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Schreibt den Bericht in eine Datei.
+     *
+     * @param datei die Zieldatei (wird überschrieben)
+     * @throws IOException bei Schreibfehlern
+     */
+    public void schreibeBericht(Path datei) throws IOException {
+        Files.writeString(datei, bericht(), StandardCharsets.UTF_8);
+    }
+}
@@ -1,86 +1,71 @@
 package de.verkettungsanfrage;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
 /**
- * Hauptklasse zur Demonstration der Method-Chaining-Funktionalität.
- *
- * Diese Klasse dient als Konsolenanwendung, die verschiedene Szenarien
- * der Auto-Klasse mit dem Fluent-Interface-Pattern (Method Chaining)
- * demonstriert.
+ * Konsolenanwendung des Bordcomputers.
  *
- * Demonstrierte Konzepte:
- * - Verkettung mehrerer Methodenaufrufe in einer Zeile
- * - Realistisches Fahrverhalten (Tanken, Starten, Fahren, Bremsen)
- * - Verschiedene Use-Cases von simpel bis extrem
+ * Mit Argumenten wird der Batchlauf gestartet ({@link Szenariolauf}):
+ * java de.verkettungsanfrage.Main [-o ergebnis.csv|ergebnis.bin] [-p threads] pfad...
  *
- * Method Chaining ermöglicht eine lesbare, flüssige API:
- * auto.starteMotor().fahreLos().beschleunige(50).bremsen(20);
+ * Ohne Argumente werden die mitgelieferten Demo-Szenarien
+ * (Ressourcen unter /szenarien) ausgeführt und als CSV ausgegeben:
+ * - stadtfahrt: Tanken, Starten, Losfahren, Beschleunigen, Bremsen, Hupen
+ * - extremtest: Beschleunigen bis nahe Maximalgeschwindigkeit,
+ *   Vollbremsung, Motor stoppen
  *
- * anstatt:
- * auto.starteMotor();
- * auto.fahreLos();
- * auto.beschleunige(50);
- * auto.bremsen(20);
+ * Die Szenarien ersetzen die früher fest programmierten Fluent-Ketten,
+ * etwa auto.starteMotor().fahreLos().beschleunige(50).bremsen(20),
+ * durch Szenariodateien, die ohne Neukompilieren ergänzt werden können.
  *
  * @author Moboudni
- * @version 2.1
+ * @version 2.2
  * @since 2025
  */
 public class Main {
 
+    /** Mitgelieferte Demo-Szenarien (Ressourcen unter /szenarien). */
+    private static final List<String> DEMO_SZENARIEN = List.of("stadtfahrt", "extremtest");
+
     /**
      * Einstiegspunkt der Konsolenanwendung.
      *
-     * Führt zwei unterschiedliche Szenarien aus:
-     *
-     * Szenario 1 - Normales Fahrverhalten:
-     * - Auto wird initialisiert mit wenig Treibstoff (5L)
-     * - Tanken von 20 Litern
-     * - Motor starten
-     * - Losfahren und Beschleunigen
-     * - Bremsen und Hupen
-     *
-     * Szenario 2 - Extremtest:
-     * - Starke Beschleunigung bis nahe Maximalgeschwindigkeit
-     * - Vollbremsung
-     * - Motor stoppen
-     *
-     * Beide Szenarien zeigen die Flexibilität und Lesbarkeit
-     * des Fluent-Interface-Patterns.
-     *
-     * @param args Kommandozeilenargumente (werden nicht verwendet)
+     * @param args Argumente für den Batchlauf; leer für die Demo-Szenarien
+     * @throws IOException bei Lese- oder Schreibfehlern der Demo-Szenarien
+     * @throws InterruptedException wenn der Lauf unterbrochen wird
      */
-    public static void main(String[] args) {
-        // Initialisierung des Autos mit:
-        // - Modell: "VW Golf"
-        // - Initialer Tankstand: 5.0 Liter (kritisch niedrig)
-        // - Maximalgeschwindigkeit: 200 km/h
-        Auto meinAuto = new Auto("VW Golf", 5.0, 200);
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 0) {
+            Szenariolauf.main(args);
+            return;
+        }
 
-        System.out.println("--- Start des Method-Chaining-Szenarios ---");
-
-        // Szenario 1: Normales Fahrverhalten mit Method Chaining
-        // Jede Methode gibt 'this' zurück, was die Verkettung ermöglicht
-        meinAuto.zeigeZustand()      // Zeigt den initialen Zustand an
-                .tanken(20.0)         // Tankt 20 Liter auf (gesamt: 25L)
-                .starteMotor()        // Startet den Motor
-                .fahreLos()           // Setzt Geschwindigkeit auf 1 km/h
-                .beschleunige(50.0)   // Beschleunigt auf 51 km/h
-                .bremsen(20.0)        // Reduziert auf 31 km/h
-                .hupe()               // Betätigt die Hupe
-                .zeigeZustand();      // Zeigt den Endzustand an
-
-        // Szenario 2: Extremtest mit hoher Geschwindigkeit
-        System.out.println("\n--- Zweites Szenario: Extremer Test ---");
-
-        // Testet Grenzwerte und Sicherheitsmechanismen
-        meinAuto.beschleunige(150.0)  // Beschleunigt auf ~181 km/h (nahe Maximum)
-                .zeigeZustand()        // Zeigt Zustand bei hoher Geschwindigkeit
-                .bremsen(180.0)        // Vollbremsung auf 1 km/h (Minimum ist 0)
-                .stoppeMotor()         // Stoppt Motor (setzt Geschwindigkeit auf 0)
-                .zeigeZustand();       // Zeigt finalen Zustand (stillstehendes Auto)
+        List<Callable<Szenario>> quellen = new ArrayList<>();
+        for (String name : DEMO_SZENARIEN) {
+            quellen.add(() -> leseDemo(name));
+        }
+        try (Szenariolauf.Ausgabe ausgabe = Szenariolauf.csv(Szenariolauf.nichtSchliessend(System.out))) {
+            new Szenariolauf(0).laufe(quellen, DEMO_SZENARIEN, ausgabe);
+        }
+    }
 
-        // Hinweis: Die Geschwindigkeit wird durch maxGeschwindigkeit begrenzt
-        // und kann nicht unter 0 fallen. Der Tankverbrauch wird bei jeder
-        // Beschleunigung automatisch berechnet.
+    /**
+     * Liest ein mitgeliefertes Demo-Szenario aus dem Klassenpfad.
+     */
+    private static Szenario leseDemo(String name) throws IOException {
+        InputStream in = Main.class.getResourceAsStream("/szenarien/" + name + Szenario.ENDUNG);
+        if (in == null) {
+            throw new IOException("Demo-Szenario nicht gefunden: " + name);
+        }
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return Szenario.lese(name, reader);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,294 @@
+package de.verkettungsanfrage;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+/**
+ * Threadsichere, sperrfreie Variante von {@link Auto}.
+ *
+ * Der veränderliche Zustand (Geschwindigkeit, Tankstand, Motor) liegt in
+ * einer einzigen unveränderlichen Momentaufnahme ({@link AutoZustand}).
+ * Jede zustandsändernde Methode berechnet aus der aktuellen Momentaufnahme
+ * eine neue und tauscht sie per Compare-and-Swap aus; hat ein anderer
+ * Thread dazwischen geschrieben, wird mit dessen Ergebnis neu gerechnet.
+ * Dadurch gilt:
+ * - Schreiber (UI, Fahrerskript, Telemetrie) gehen nie verloren und blockieren sich nicht
+ * - Leser (z.B. drawTacho) erhalten mit zustand() ohne Sperre und ohne
+ *   Kopie immer einen in sich konsistenten Zustand
+ *
+ * Die Regeln entsprechen exakt denen von Auto (gleiche Reihenfolge der
+ * Rechenschritte), sodass beide Varianten bei gleichen Befehlen bitgenau
+ * denselben Zustand erreichen. Das Fluent-Interface bleibt erhalten.
+ *
+ * Die einzelnen Getter lesen jeweils die aktuelle Momentaufnahme; wer
+ * mehrere Werte zusammen auswertet, sollte einmal zustand() lesen.
+ *
+ * Beispiel:
+ * Auto auto = new NebenlaeufigesAuto("VW Golf", 40.0, 200);
+ * // beliebige Threads:
+ * auto.starteMotor().fahreLos().beschleunige(30);
+ * double v = auto.zustand().geschwindigkeit();
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public final class NebenlaeufigesAuto extends Auto {
+
+    /** Zugriff für Compare-and-Swap auf das Feld zustand. */
+    private static final VarHandle ZUSTAND;
+
+    static {
+        try {
+            ZUSTAND = MethodHandles.lookup().findVarHandle(NebenlaeufigesAuto.class, "zustand", AutoZustand.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Reine Zustandsübergangsfunktion (ohne Seiteneffekte, beliebig oft wiederholbar).
+     */
+    @FunctionalInterface
+    private interface Uebergang {
+
+        /**
+         * Berechnet den Folgezustand.
+         *
+         * @param z der Ausgangszustand
+         * @param wert der Parameter des Befehls
+         * @param modell das Verbrauchsmodell
+         * @return der Folgezustand oder z selbst, wenn sich nichts ändert
+         */
+        AutoZustand anwenden(AutoZustand z, double wert, VerbrauchsModell modell);
+    }
+
+    /** Aktuelle Momentaufnahme; wird nur per Compare-and-Swap ersetzt. */
+    private volatile AutoZustand zustand;
+
+    /** Modell für den Kraftstoffverbrauch (muss selbst threadsicher sein). */
+    private volatile VerbrauchsModell verbrauchsModell = Verbrauchskennfeld.STANDARD;
+
+    /**
+     * Erstellt ein neues threadsicheres Auto.
+     *
+     * @param modell der Name des Automodells
+     * @param initialTankstand der initiale Füllstand des Tanks in Litern
+     * @param maxGeschwindigkeit die maximale Geschwindigkeit in km/h
+     */
+    public NebenlaeufigesAuto(String modell, double initialTankstand, int maxGeschwindigkeit) {
+        super(modell, initialTankstand, maxGeschwindigkeit);
+        // Anfangswerte aus Auto übernehmen (die überschriebenen Getter lesen bereits zustand)
+        this.zustand = new AutoZustand(super.getGeschwindigkeit(), super.getTankstand(), super.isMotorLaeuft(),
+                super.getMaxGeschwindigkeit(), super.getMaxTankstand());
+    }
+
+    // ====================================================================
+    // ZUSTANDSÄNDERNDE METHODEN (Compare-and-Swap)
+    // ====================================================================
+
+    @Override
+    public Auto starteMotor() {
+        return aendere(NebenlaeufigesAuto::starteMotor, 0.0);
+    }
+
+    @Override
+    public Auto stoppeMotor() {
+        return aendere(NebenlaeufigesAuto::stoppeMotor, 0.0);
+    }
+
+    @Override
+    public Auto tanken(double liter) {
+        return aendere(NebenlaeufigesAuto::tanken, liter);
+    }
+
+    @Override
+    public Auto beschleunige(double delta) {
+        return aendere(NebenlaeufigesAuto::beschleunige, delta);
+    }
+
+    @Override
+    public Auto bremsen(double delta) {
+        return aendere(NebenlaeufigesAuto::bremsen, delta);
+    }
+
+    @Override
+    public Auto fahreLos() {
+        return aendere(NebenlaeufigesAuto::fahreLos, 0.0);
+    }
+
+    @Override
+    public Auto rolleAus(double sekunden) {
+        return aendere(NebenlaeufigesAuto::rolleAus, sekunden);
+    }
+
+    @Override
+    public Auto mitVerbrauchsModell(VerbrauchsModell modell) {
+        this.verbrauchsModell = Objects.requireNonNull(modell);
+        return this;
+    }
+
+    /**
+     * Wendet einen Übergang sperrfrei an (Compare-and-Swap-Schleife).
+     *
+     * Ändert der Übergang nichts, wird nicht geschrieben. Schlägt der
+     * Austausch fehl, wird mit dem vom Gewinner geschriebenen Zustand neu
+     * gerechnet, bis der Austausch gelingt.
+     */
+    private Auto aendere(Uebergang uebergang, double wert) {
+        AutoZustand alt = zustand;
+        while (true) {
+            AutoZustand neu = uebergang.anwenden(alt, wert, verbrauchsModell);
+            if (neu == alt) {
+                return this;
+            }
+            AutoZustand vorgefunden = (AutoZustand) ZUSTAND.compareAndExchange(this, alt, neu);
+            if (vorgefunden == alt) {
+                return this;
+            }
+            alt = vorgefunden;
+        }
+    }
+
+    // ====================================================================
+    // ZUSTANDSÜBERGÄNGE (gleiche Regeln wie Auto)
+    // ====================================================================
+
+    private static AutoZustand starteMotor(AutoZustand z, double wert, VerbrauchsModell m) {
+        if (z.motorLaeuft() || z.tankstand() <= 0.0) {
+            return z;
+        }
+        return mit(z, z.geschwindigkeit(), z.tankstand(), true);
+    }
+
+    private static AutoZustand stoppeMotor(AutoZustand z, double wert, VerbrauchsModell m) {
+        if (!z.motorLaeuft() && z.geschwindigkeit() == 0.0) {
+            return z;
+        }
+        return mit(z, 0.0, z.tankstand(), false);
+    }
+
+    private static AutoZustand tanken(AutoZustand z, double liter, VerbrauchsModell m) {
+        return mit(z, z.geschwindigkeit(), Math.min(z.maxTankstand(), z.tankstand() + liter), z.motorLaeuft());
+    }
+
+    private static AutoZustand beschleunige(AutoZustand z, double delta, VerbrauchsModell m) {
+        if (!z.motorLaeuft() || z.tankstand() <= 0) {
+            return z;
+        }
+        double v = Math.min(z.maxGeschwindigkeit(), z.geschwindigkeit() + delta);
+        return verbrauche(z, v, m.beschleunigung(z.geschwindigkeit(), delta));
+    }
+
+    private static AutoZustand bremsen(AutoZustand z, double delta, VerbrauchsModell m) {
+        return mit(z, Math.max(0.0, z.geschwindigkeit() - delta), z.tankstand(), z.motorLaeuft());
+    }
+
+    private static AutoZustand fahreLos(AutoZustand z, double wert, VerbrauchsModell m) {
+        if (!z.motorLaeuft() || z.tankstand() <= 0 || z.geschwindigkeit() != 0) {
+            return z;
+        }
+        return verbrauche(z, 1.0, m.beschleunigung(0.0, 1.0));
+    }
+
+    private static AutoZustand rolleAus(AutoZustand z, double sekunden, VerbrauchsModell m) {
+        if (!z.motorLaeuft()) {
+            return z;
+        }
+        double v = z.geschwindigkeit();
+        double beschleunigung = 0.0;
+        if (v > AUSROLL_MINDESTGESCHWINDIGKEIT) {
+            v = Math.max(0.0, v - AUSROLL_VERZOEGERUNG * sekunden);
+            beschleunigung = -AUSROLL_VERZOEGERUNG;
+        }
+        return verbrauche(z, v, m.fahrt(v, beschleunigung, sekunden));
+    }
+
+    /**
+     * Zieht Treibstoff ab; bei leerem Tank stoppt der Motor (wie Auto.verbrauchPruefen).
+     */
+    private static AutoZustand verbrauche(AutoZustand z, double geschwindigkeit, double verbrauch) {
+        double tank = Math.max(0.0, z.tankstand() - verbrauch);
+        if (tank == 0.0) {
+            return mit(z, 0.0, 0.0, false);
+        }
+        return mit(z, geschwindigkeit, tank, true);
+    }
+
+    /**
+     * Erstellt den Folgezustand oder gibt z zurück, wenn sich nichts ändert.
+     */
+    private static AutoZustand mit(AutoZustand z, double geschwindigkeit, double tankstand, boolean motor) {
+        if (geschwindigkeit == z.geschwindigkeit() && tankstand == z.tankstand() && motor == z.motorLaeuft()) {
+            return z;
+        }
+        return new AutoZustand(geschwindigkeit, tankstand, motor, z.maxGeschwindigkeit(), z.maxTankstand());
+    }
+
+    // ====================================================================
+    // GETTER-METHODEN (lesen die aktuelle Momentaufnahme)
+    // ====================================================================
+
+    @Override
+    public double getTankstand() {
+        return zustand.tankstand();
+    }
+
+    @Override
+    public double getGeschwindigkeit() {
+        return zustand.geschwindigkeit();
+    }
+
+    @Override
+    public boolean isMotorLaeuft() {
+        return zustand.motorLaeuft();
+    }
+
+    @Override
+    public VerbrauchsModell getVerbrauchsModell() {
+        return verbrauchsModell;
+    }
+
+    @Override
+    public boolean istTankKritisch() {
+        return zustand.istTankKritisch();
+    }
+
+    /**
+     * Gibt die aktuelle Momentaufnahme zurück.
+     *
+     * Blockiert nie und erzeugt kein neues Objekt.
+     *
+     * @return der aktuelle Zustand
+     */
+    @Override
+    public AutoZustand zustand() {
+        return zustand;
+    }
+
+    /**
+     * Veröffentlicht die aktuelle Momentaufnahme in einen ZustandsPuffer.
+     *
+     * Liest zustand genau einmal, damit alle Werte des Rahmens aus
+     * derselben Momentaufnahme stammen, auch wenn andere Threads
+     * gleichzeitig schreiben.
+     *
+     * @param puffer der Puffer, in den geschrieben wird (nur ein Schreiber)
+     * @param schritt der Simulationsschritt des Zustands
+     * @return die aktuelle Auto-Instanz für Method Chaining
+     */
+    @Override
+    public Auto veroeffentlicheZustand(ZustandsPuffer puffer, long schritt) {
+        AutoZustand z = zustand;
+        puffer.schreibe(z.geschwindigkeit(), z.tankstand(), z.motorLaeuft(),
+                z.maxGeschwindigkeit(), z.maxTankstand(), schritt);
+        return this;
+    }
+
+    @Override
+    void setzeZustand(AutoZustand z) {
+        zustand = new AutoZustand(z.geschwindigkeit(), z.tankstand(), z.motorLaeuft(),
+                getMaxGeschwindigkeit(), getMaxTankstand());
+    }
+}
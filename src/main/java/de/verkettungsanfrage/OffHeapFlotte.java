@@ -0,0 +1,581 @@
+package de.verkettungsanfrage;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Flotte, deren Fahrzeugzustände außerhalb des Java-Heaps liegen.
+ *
+ * Während {@link Flotte} ihre Spalten in primitiven Heap-Arrays hält,
+ * liegen die Zustände hier in einem einzigen {@link MemorySegment}
+ * (Foreign Function &amp; Memory API). Der Garbage Collector sieht pro
+ * Flotte nur eine Handvoll Objekte – Markier- und Kopieraufwand und damit
+ * GC-Pausen hängen nicht von der Flottengröße ab, auch bei zig Millionen
+ * Fahrzeugen.
+ *
+ * Speicheraufbau (Little Endian, identisch im Speicher und in der Datei):
+ * - Kopf (64 Byte): Kennung, Version, Kapazität, Anzahl
+ * - je Fahrzeug ein Datensatz nach FAHRZEUG_LAYOUT (24 Byte):
+ *   tankstand, geschwindigkeit (double), maxGeschwindigkeit, motorLaeuft (int)
+ *
+ * Mit erstelle(Path, int) bzw. oeffne(Path) wird das Segment direkt auf
+ * eine Datei abgebildet: Persistenz ohne Serialisierung, das Betriebssystem
+ * schreibt geänderte Seiten zurück, synchronisiere() erzwingt es.
+ *
+ * Semantik aller Operationen und des Ticks ist identisch zu Flotte
+ * (gleiche Ergebnisse bit für bit). Modellnamen werden nicht gespeichert.
+ * Da der Motorstatus je Fahrzeug ein eigenes int ist, dürfen beliebige,
+ * disjunkte Bereiche parallel getickt werden.
+ *
+ * Benötigt unter Java 21 --enable-preview (Foreign Memory ist dort Preview-API).
+ *
+ * Beispiel:
+ * try (OffHeapFlotte flotte = OffHeapFlotte.erstelle(Path.of("flotte.bin"), 50_000_000)) {
+ *     for (int i = 0; i < 50_000_000; i++) {
+ *         flotte.hinzufuegen(40.0, 200);
+ *     }
+ *     flotte.starteAlleMotoren().beschleunigeAlle(80.0);
+ *     flotte.tick(0, flotte.getAnzahl(), 0.01, 0.0);
+ * }
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public final class OffHeapFlotte implements AutoCloseable {
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    /** Datensatz eines Fahrzeugs. */
+    public static final StructLayout FAHRZEUG_LAYOUT = MemoryLayout.structLayout(
+            DOUBLE.withName("tankstand"),
+            DOUBLE.withName("geschwindigkeit"),
+            INT.withName("maxGeschwindigkeit"),
+            INT.withName("motorLaeuft"));
+
+    /** Dateikennung "BCFL" (Bordcomputer-Flotte). */
+    static final int KENNUNG = 0x4243464C;
+
+    /** Version des Speicheraufbaus. */
+    static final int VERSION = 1;
+
+    /** Größe des Kopfs in Byte (eine Cache-Zeile). */
+    static final long KOPF_BYTES = 64;
+
+    private static final long KOPF_KAPAZITAET = 8;
+    private static final long KOPF_ANZAHL = 16;
+
+    private static final long DATENSATZ_BYTES = FAHRZEUG_LAYOUT.byteSize();
+    private static final long TANKSTAND = versatz("tankstand");
+    private static final long GESCHWINDIGKEIT = versatz("geschwindigkeit");
+    private static final long MAX_GESCHWINDIGKEIT = versatz("maxGeschwindigkeit");
+    private static final long MOTOR = versatz("motorLaeuft");
+
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final int kapazitaet;
+    private int anzahl;
+
+    /** Gemeinsames Verbrauchsmodell aller Fahrzeuge der Flotte. */
+    private VerbrauchsModell verbrauchsModell = Verbrauchskennfeld.STANDARD;
+
+    /**
+     * Erstellt eine leere Flotte im Hauptspeicher (außerhalb des Heaps).
+     *
+     * Der Speicher wird mit close() sofort freigegeben.
+     *
+     * @param kapazitaet die maximale Anzahl an Fahrzeugen
+     * @throws IllegalArgumentException wenn die Kapazität negativ ist
+     */
+    public OffHeapFlotte(int kapazitaet) {
+        this(Arena.ofShared(), kapazitaet);
+    }
+
+    private OffHeapFlotte(Arena arena, int kapazitaet) {
+        pruefeKapazitaet(kapazitaet);
+        this.arena = arena;
+        this.segment = arena.allocate(groesse(kapazitaet), KOPF_BYTES);
+        this.kapazitaet = kapazitaet;
+        schreibeKopf();
+    }
+
+    private OffHeapFlotte(Arena arena, MemorySegment segment, int kapazitaet, int anzahl) {
+        this.arena = arena;
+        this.segment = segment;
+        this.kapazitaet = kapazitaet;
+        this.anzahl = anzahl;
+    }
+
+    /**
+     * Erstellt (oder überschreibt) eine Flottendatei und bildet sie in den Speicher ab.
+     *
+     * @param datei die Zieldatei
+     * @param kapazitaet die maximale Anzahl an Fahrzeugen
+     * @return die leere, dateigestützte Flotte
+     * @throws IOException wenn die Datei nicht angelegt oder abgebildet werden kann
+     * @throws IllegalArgumentException wenn die Kapazität negativ ist
+     */
+    public static OffHeapFlotte erstelle(Path datei, int kapazitaet) throws IOException {
+        pruefeKapazitaet(kapazitaet);
+        Arena arena = Arena.ofShared();
+        try (FileChannel kanal = FileChannel.open(datei, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // Die Abbildung bleibt nach dem Schließen des Kanals gültig, bis die Arena geschlossen wird
+            MemorySegment segment = kanal.map(FileChannel.MapMode.READ_WRITE, 0, groesse(kapazitaet), arena);
+            OffHeapFlotte flotte = new OffHeapFlotte(arena, segment, kapazitaet, 0);
+            flotte.schreibeKopf();
+            return flotte;
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Bildet eine vorhandene Flottendatei in den Speicher ab.
+     *
+     * Änderungen an der Flotte werden in die Datei zurückgeschrieben.
+     *
+     * @param datei die Flottendatei
+     * @return die Flotte mit den gespeicherten Fahrzeugen
+     * @throws IOException wenn die Datei nicht gelesen werden kann oder keine gültige Flottendatei ist
+     */
+    public static OffHeapFlotte oeffne(Path datei) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel kanal = FileChannel.open(datei, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long dateiGroesse = kanal.size();
+            if (dateiGroesse < KOPF_BYTES) {
+                throw new IOException("Keine Flottendatei (zu kurz): " + datei);
+            }
+            MemorySegment segment = kanal.map(FileChannel.MapMode.READ_WRITE, 0, dateiGroesse, arena);
+            if (segment.get(INT, 0) != KENNUNG) {
+                throw new IOException("Keine Flottendatei (Kennung): " + datei);
+            }
+            if (segment.get(INT, 4) != VERSION) {
+                throw new IOException("Nicht unterstützte Version " + segment.get(INT, 4) + ": " + datei);
+            }
+            long kapazitaet = segment.get(LONG, KOPF_KAPAZITAET);
+            long anzahl = segment.get(LONG, KOPF_ANZAHL);
+            if (kapazitaet < 0 || kapazitaet > Integer.MAX_VALUE || anzahl < 0 || anzahl > kapazitaet
+                    || groesse((int) kapazitaet) > dateiGroesse) {
+                throw new IOException("Beschädigte Flottendatei (Kapazität " + kapazitaet + ", Anzahl " + anzahl
+                        + ", " + dateiGroesse + " Byte): " + datei);
+            }
+            return new OffHeapFlotte(arena, segment, (int) kapazitaet, (int) anzahl);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Fügt der Flotte ein neues Fahrzeug hinzu (Startbedingungen wie bei Auto).
+     *
+     * @param initialTankstand der initiale Füllstand in Litern
+     * @param maxKmh die Maximalgeschwindigkeit in km/h
+     * @return der Index des neuen Fahrzeugs
+     * @throws IllegalStateException wenn die Flotte bereits voll ist
+     */
+    public int hinzufuegen(double initialTankstand, int maxKmh) {
+        if (anzahl == kapazitaet) {
+            throw new IllegalStateException("Flotte ist voll (Kapazität " + kapazitaet + ")");
+        }
+        int i = anzahl++;
+        long o = datensatz(i);
+        segment.set(DOUBLE, o + TANKSTAND, Math.min(initialTankstand, Auto.TANKKAPAZITAET));
+        segment.set(DOUBLE, o + GESCHWINDIGKEIT, 0.0);
+        segment.set(INT, o + MAX_GESCHWINDIGKEIT, maxKmh);
+        segment.set(INT, o + MOTOR, 0);
+        segment.set(LONG, KOPF_ANZAHL, anzahl);
+        return i;
+    }
+
+    /**
+     * Übernimmt alle Fahrzeuge einer Heap-Flotte (z.B. zum Auslagern).
+     *
+     * @param flotte die Quelle
+     * @return diese Flotte für Method Chaining
+     * @throws IllegalStateException wenn die Kapazität nicht ausreicht
+     */
+    public OffHeapFlotte uebernimm(Flotte flotte) {
+        for (int j = 0, n = flotte.getAnzahl(); j < n; j++) {
+            int i = hinzufuegen(flotte.getTankstand(j), flotte.getMaxGeschwindigkeit(j));
+            segment.set(DOUBLE, datensatz(i) + GESCHWINDIGKEIT, flotte.getGeschwindigkeit(j));
+            setzeMotor(i, flotte.istMotorAn(j));
+        }
+        return this;
+    }
+
+    // ====================================================================
+    // BULK-OPERATIONEN (eine Schleife über alle Fahrzeuge)
+    // ====================================================================
+
+    /**
+     * Startet die Motoren aller Fahrzeuge mit Treibstoff im Tank.
+     *
+     * @return diese Flotte für Method Chaining
+     */
+    public OffHeapFlotte starteAlleMotoren() {
+        for (int i = 0; i < anzahl; i++) {
+            starteMotor(i);
+        }
+        return this;
+    }
+
+    /**
+     * Stoppt die Motoren aller Fahrzeuge und setzt ihre Geschwindigkeit auf 0.
+     *
+     * @return diese Flotte für Method Chaining
+     */
+    public OffHeapFlotte stoppeAlleMotoren() {
+        for (int i = 0; i < anzahl; i++) {
+            stoppeMotor(i);
+        }
+        return this;
+    }
+
+    /**
+     * Tankt alle Fahrzeuge um die angegebene Menge auf (begrenzt auf die Kapazität).
+     *
+     * @param liter die zu tankende Menge in Litern
+     * @return diese Flotte für Method Chaining
+     */
+    public OffHeapFlotte tankeAlle(double liter) {
+        for (int i = 0; i < anzahl; i++) {
+            tanken(i, liter);
+        }
+        return this;
+    }
+
+    /**
+     * Beschleunigt alle Fahrzeuge mit laufendem Motor und Treibstoff im Tank.
+     *
+     * @param delta die Geschwindigkeitszunahme in km/h
+     * @return diese Flotte für Method Chaining
+     */
+    public OffHeapFlotte beschleunigeAlle(double delta) {
+        for (int i = 0; i < anzahl; i++) {
+            beschleunige(i, delta);
+        }
+        return this;
+    }
+
+    /**
+     * Bremst alle Fahrzeuge um den angegebenen Wert ab (minimal 0 km/h).
+     *
+     * @param delta die Geschwindigkeitsabnahme in km/h
+     * @return diese Flotte für Method Chaining
+     */
+    public OffHeapFlotte bremseAlle(double delta) {
+        for (int i = 0; i < anzahl; i++) {
+            bremsen(i, delta);
+        }
+        return this;
+    }
+
+    /**
+     * Setzt das Verbrauchsmodell für alle Fahrzeuge der Flotte.
+     *
+     * Das Modell wird nicht in der Datei gespeichert.
+     *
+     * @param modell das Verbrauchsmodell, z.B. VerbrauchsModell.EINFACH
+     * @return diese Flotte für Method Chaining
+     */
+    public OffHeapFlotte mitVerbrauchsModell(VerbrauchsModell modell) {
+        this.verbrauchsModell = Objects.requireNonNull(modell);
+        return this;
+    }
+
+    /**
+     * Führt einen Simulations-Tick für einen Ausschnitt der Flotte aus
+     * (Semantik wie Flotte.tick).
+     *
+     * Disjunkte Bereiche dürfen von verschiedenen Threads gleichzeitig
+     * getickt werden.
+     *
+     * @param von erster Fahrzeugindex (inklusive)
+     * @param bis letzter Fahrzeugindex (exklusive)
+     * @param sekunden die simulierte Zeitspanne in Sekunden
+     * @param gas die Geschwindigkeitszunahme pro Tick in km/h
+     * @return verbrauchter Treibstoff und liegengebliebene Fahrzeuge im Bereich
+     */
+    public TickStatistik tick(int von, int bis, double sekunden, double gas) {
+        double verbraucht = 0.0;
+        int liegengeblieben = 0;
+        for (int i = von; i < bis; i++) {
+            if (!istMotorAn(i)) {
+                continue;
+            }
+            double vorher = getTankstand(i);
+            if (gas > 0) {
+                beschleunige(i, gas);
+            }
+            rolleAus(i, sekunden);
+            verbraucht += vorher - getTankstand(i);
+            if (!istMotorAn(i)) {
+                liegengeblieben++;
+            }
+        }
+        return new TickStatistik(verbraucht, liegengeblieben);
+    }
+
+    // ====================================================================
+    // EINZELOPERATIONEN (Semantik identisch zu Auto)
+    // ====================================================================
+
+    /**
+     * Startet den Motor eines Fahrzeugs, sofern Treibstoff vorhanden ist.
+     *
+     * @param i der Fahrzeugindex
+     */
+    public void starteMotor(int i) {
+        if (getTankstand(i) > 0.0) {
+            setzeMotor(i, true);
+        }
+    }
+
+    /**
+     * Stoppt den Motor eines Fahrzeugs und setzt die Geschwindigkeit auf 0.
+     *
+     * @param i der Fahrzeugindex
+     */
+    public void stoppeMotor(int i) {
+        setzeMotor(i, false);
+        setzeGeschwindigkeit(i, 0.0);
+    }
+
+    /**
+     * Tankt ein Fahrzeug auf, begrenzt auf die Tankkapazität.
+     *
+     * @param i der Fahrzeugindex
+     * @param liter die zu tankende Menge in Litern
+     */
+    public void tanken(int i, double liter) {
+        setzeTankstand(i, Math.min(Auto.TANKKAPAZITAET, getTankstand(i) + liter));
+    }
+
+    /**
+     * Beschleunigt ein Fahrzeug und verbraucht dabei Treibstoff.
+     *
+     * @param i der Fahrzeugindex
+     * @param delta die Geschwindigkeitszunahme in km/h
+     */
+    public void beschleunige(int i, double delta) {
+        if (istMotorAn(i) && getTankstand(i) > 0) {
+            double vorher = getGeschwindigkeit(i);
+            setzeGeschwindigkeit(i, Math.min(getMaxGeschwindigkeit(i), vorher + delta));
+            verbrauchPruefen(i, verbrauchsModell.beschleunigung(vorher, delta));
+        }
+    }
+
+    /**
+     * Bremst ein Fahrzeug ab (minimal 0 km/h).
+     *
+     * @param i der Fahrzeugindex
+     * @param delta die Geschwindigkeitsabnahme in km/h
+     */
+    public void bremsen(int i, double delta) {
+        setzeGeschwindigkeit(i, Math.max(0.0, getGeschwindigkeit(i) - delta));
+    }
+
+    /**
+     * Lässt ein Fahrzeug über die angegebene Zeitspanne ausrollen und
+     * verbraucht dabei Treibstoff für Fahrt bzw. Leerlauf.
+     *
+     * @param i der Fahrzeugindex
+     * @param sekunden die simulierte Zeitspanne in Sekunden
+     */
+    public void rolleAus(int i, double sekunden) {
+        if (!istMotorAn(i)) {
+            return;
+        }
+        double beschleunigung = 0.0;
+        if (getGeschwindigkeit(i) > Auto.AUSROLL_MINDESTGESCHWINDIGKEIT) {
+            bremsen(i, Auto.AUSROLL_VERZOEGERUNG * sekunden);
+            beschleunigung = -Auto.AUSROLL_VERZOEGERUNG;
+        }
+        verbrauchPruefen(i, verbrauchsModell.fahrt(getGeschwindigkeit(i), beschleunigung, sekunden));
+    }
+
+    /**
+     * Lässt ein stehendes Fahrzeug mit laufendem Motor anfahren (1 km/h).
+     *
+     * @param i der Fahrzeugindex
+     */
+    public void fahreLos(int i) {
+        if (istMotorAn(i) && getTankstand(i) > 0 && getGeschwindigkeit(i) == 0) {
+            setzeGeschwindigkeit(i, 1.0);
+            verbrauchPruefen(i, verbrauchsModell.beschleunigung(0.0, 1.0));
+        }
+    }
+
+    /**
+     * Erzwingt das Zurückschreiben geänderter Seiten in die Datei.
+     * Ohne Wirkung für Flotten im Hauptspeicher.
+     */
+    public void synchronisiere() {
+        if (segment.isMapped()) {
+            segment.force();
+        }
+    }
+
+    /**
+     * Gibt den Speicher frei bzw. hebt die Dateiabbildung auf.
+     * Danach führt jeder Zugriff zu einer IllegalStateException.
+     */
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    // ====================================================================
+    // GETTER-METHODEN
+    // ====================================================================
+
+    /**
+     * Gibt die Anzahl der registrierten Fahrzeuge zurück.
+     *
+     * @return die Flottengröße
+     */
+    public int getAnzahl() {
+        return anzahl;
+    }
+
+    /**
+     * Gibt die maximale Anzahl an Fahrzeugen zurück.
+     *
+     * @return die Kapazität
+     */
+    public int getKapazitaet() {
+        return kapazitaet;
+    }
+
+    /**
+     * Gibt das Verbrauchsmodell der Flotte zurück.
+     *
+     * @return das Verbrauchsmodell
+     */
+    public VerbrauchsModell getVerbrauchsModell() {
+        return verbrauchsModell;
+    }
+
+    /**
+     * Gibt die Größe des Speichersegments zurück.
+     *
+     * @return die belegten Byte (Kopf plus Kapazität mal Datensatzgröße)
+     */
+    public long getBytes() {
+        return segment.byteSize();
+    }
+
+    /**
+     * Gibt den Tankstand eines Fahrzeugs zurück.
+     *
+     * @param i der Fahrzeugindex
+     * @return der Tankstand in Litern
+     */
+    public double getTankstand(int i) {
+        return segment.get(DOUBLE, datensatz(i) + TANKSTAND);
+    }
+
+    /**
+     * Gibt die Geschwindigkeit eines Fahrzeugs zurück.
+     *
+     * @param i der Fahrzeugindex
+     * @return die Geschwindigkeit in km/h
+     */
+    public double getGeschwindigkeit(int i) {
+        return segment.get(DOUBLE, datensatz(i) + GESCHWINDIGKEIT);
+    }
+
+    /**
+     * Gibt die Maximalgeschwindigkeit eines Fahrzeugs zurück.
+     *
+     * @param i der Fahrzeugindex
+     * @return die Maximalgeschwindigkeit in km/h
+     */
+    public int getMaxGeschwindigkeit(int i) {
+        return segment.get(INT, datensatz(i) + MAX_GESCHWINDIGKEIT);
+    }
+
+    /**
+     * Prüft, ob der Motor eines Fahrzeugs läuft.
+     *
+     * @param i der Fahrzeugindex
+     * @return true wenn der Motor läuft
+     */
+    public boolean istMotorAn(int i) {
+        return segment.get(INT, datensatz(i) + MOTOR) != 0;
+    }
+
+    // ====================================================================
+    // INTERNE HILFSMETHODEN
+    // ====================================================================
+
+    private void setzeTankstand(int i, double liter) {
+        segment.set(DOUBLE, datensatz(i) + TANKSTAND, liter);
+    }
+
+    private void setzeGeschwindigkeit(int i, double kmh) {
+        segment.set(DOUBLE, datensatz(i) + GESCHWINDIGKEIT, kmh);
+    }
+
+    private void setzeMotor(int i, boolean an) {
+        segment.set(INT, datensatz(i) + MOTOR, an ? 1 : 0);
+    }
+
+    /**
+     * Zieht verbrauchten Treibstoff ab und stoppt den Motor bei leerem
+     * Tank – analog zu Auto.verbrauchPruefen.
+     */
+    private void verbrauchPruefen(int i, double verbrauch) {
+        double tank = Math.max(0.0, getTankstand(i) - verbrauch);
+        setzeTankstand(i, tank);
+        if (tank == 0.0) {
+            stoppeMotor(i);
+        }
+    }
+
+    /**
+     * Berechnet den Byte-Versatz des Datensatzes eines Fahrzeugs.
+     *
+     * Der Index wird gegen die Anzahl geprüft, damit Zugriffe auf nicht
+     * registrierte Fahrzeuge wie bei einem Array scheitern.
+     */
+    private long datensatz(int i) {
+        Objects.checkIndex(i, anzahl);
+        return KOPF_BYTES + i * DATENSATZ_BYTES;
+    }
+
+    private void schreibeKopf() {
+        segment.set(INT, 0, KENNUNG);
+        segment.set(INT, 4, VERSION);
+        segment.set(LONG, KOPF_KAPAZITAET, kapazitaet);
+        segment.set(LONG, KOPF_ANZAHL, anzahl);
+    }
+
+    private static long versatz(String feld) {
+        return FAHRZEUG_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement(feld));
+    }
+
+    private static long groesse(int kapazitaet) {
+        return KOPF_BYTES + kapazitaet * DATENSATZ_BYTES;
+    }
+
+    private static void pruefeKapazitaet(int kapazitaet) {
+        if (kapazitaet < 0) {
+            throw new IllegalArgumentException("Kapazität darf nicht negativ sein: " + kapazitaet);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package de.verkettungsanfrage;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Führt Flotten-Ticks parallel auf allen Prozessorkernen aus.
+ *
+ * Die Flotte wird rekursiv halbiert, bis ein Bereich höchstens so viele
+ * Fahrzeuge enthält wie die Teilungsschwelle. Diese Bereiche werden als
+ * Fork-Join-Tasks ausgeführt; untätige Worker stehlen sich dabei Arbeit
+ * von ausgelasteten (Work-Stealing).
+ *
+ * Die Teilergebnisse (TickStatistik) werden beim join() ohne Sperren und
+ * ohne gemeinsame Zähler zusammengeführt, so dass keine Synchronisation
+ * zwischen den Kernen entsteht.
+ *
+ * Bereichsgrenzen liegen immer auf Vielfachen von 64, damit zwei Tasks nie
+ * dasselbe long des Motor-Bitfelds der Flotte verändern.
+ *
+ * Beispiel:
+ * ParallelerFlottenTick parallel = new ParallelerFlottenTick(ForkJoinPool.commonPool(), 16_384);
+ * TickStatistik statistik = parallel.tick(flotte, 0.01, 0.0);
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public class ParallelerFlottenTick {
+
+    /** Standard-Teilungsschwelle in Fahrzeugen pro Task. */
+    public static final int STANDARD_SCHWELLE = 16_384;
+
+    /** Größtes Vielfaches von 64, das als Schwelle noch in ein int passt. */
+    private static final int MAX_SCHWELLE = Integer.MAX_VALUE & ~63;
+
+    /** Pool, in dem die Tasks ausgeführt werden. */
+    private final ForkJoinPool pool;
+
+    /** Maximale Anzahl an Fahrzeugen, die ein Task ohne weitere Teilung bearbeitet. */
+    private final int schwelle;
+
+    /**
+     * Erstellt einen parallelen Tick mit dem Common Pool und der Standardschwelle.
+     */
+    public ParallelerFlottenTick() {
+        this(ForkJoinPool.commonPool(), STANDARD_SCHWELLE);
+    }
+
+    /**
+     * Erstellt einen parallelen Tick.
+     *
+     * @param pool der zu verwendende Fork-Join-Pool
+     * @param schwelle die Teilungsschwelle in Fahrzeugen (wird auf ein Vielfaches von 64
+     *                 aufgerundet, höchstens auf MAX_SCHWELLE)
+     * @throws IllegalArgumentException wenn die Schwelle nicht positiv ist
+     */
+    public ParallelerFlottenTick(ForkJoinPool pool, int schwelle) {
+        if (schwelle <= 0) {
+            throw new IllegalArgumentException("Schwelle muss positiv sein: " + schwelle);
+        }
+        this.pool = pool;
+        this.schwelle = schwelle > MAX_SCHWELLE ? MAX_SCHWELLE : (schwelle + 63) & ~63;
+    }
+
+    /**
+     * Führt einen Tick für die gesamte Flotte parallel aus.
+     *
+     * @param flotte die zu simulierende Flotte
+     * @param sekunden die simulierte Zeitspanne in Sekunden
+     * @param gas die Geschwindigkeitszunahme pro Tick in km/h (0 = nur ausrollen)
+     * @return die aggregierte Statistik über alle Fahrzeuge
+     */
+    public TickStatistik tick(Flotte flotte, double sekunden, double gas) {
+        return pool.invoke(new BereichsTask(flotte, 0, flotte.getAnzahl(), sekunden, gas));
+    }
+
+    /**
+     * Gibt die verwendete Teilungsschwelle zurück.
+     *
+     * @return die Schwelle in Fahrzeugen pro Task
+     */
+    public int getSchwelle() {
+        return schwelle;
+    }
+
+    /**
+     * Fork-Join-Task für einen zusammenhängenden Flottenbereich [von, bis).
+     *
+     * Wird wie die Fork-Join-Tasks des JDK nie serialisiert.
+     */
+    @SuppressWarnings("serial")
+    private final class BereichsTask extends RecursiveTask<TickStatistik> {
+
+        private final Flotte flotte;
+        private final int von;
+        private final int bis;
+        private final double sekunden;
+        private final double gas;
+
+        BereichsTask(Flotte flotte, int von, int bis, double sekunden, double gas) {
+            this.flotte = flotte;
+            this.von = von;
+            this.bis = bis;
+            this.sekunden = sekunden;
+            this.gas = gas;
+        }
+
+        @Override
+        protected TickStatistik compute() {
+            // Mitte auf ein Vielfaches von 64 abrunden (Bitfeld-Grenze)
+            int mitte = ((von + bis) >>> 1) & ~63;
+            if (bis - von <= schwelle || mitte <= von) {
+                return flotte.tick(von, bis, sekunden, gas);
+            }
+            BereichsTask links = new BereichsTask(flotte, von, mitte, sekunden, gas);
+            BereichsTask rechts = new BereichsTask(flotte, mitte, bis, sekunden, gas);
+            links.fork();
+            TickStatistik ergebnisRechts = rechts.compute();
+            return links.join().plus(ergebnisRechts);
+        }
+    }
+}
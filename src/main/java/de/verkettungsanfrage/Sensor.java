@@ -0,0 +1,29 @@
+package de.verkettungsanfrage;
+
+/**
+ * Modell eines Messfühlers, der aus einem wahren Wert einen Messwert erzeugt.
+ *
+ * Implementierungen können Rauschen, Quantisierung oder Trägheit
+ * nachbilden (siehe {@link Sensorsignal}). Anzeigen wie der Tachometer
+ * lesen ihre Werte über einen Sensor, damit das Messverhalten austauschbar
+ * ist – z.B. {@link #IDEAL} für Tests und Benchmarks.
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+@FunctionalInterface
+public interface Sensor {
+
+    /** Idealer Sensor: liefert den wahren Wert unverändert. */
+    Sensor IDEAL = (wahrerWert, sekunden) -> wahrerWert;
+
+    /**
+     * Erzeugt den nächsten Messwert.
+     *
+     * @param wahrerWert der tatsächliche Wert der Messgröße
+     * @param sekunden die seit der letzten Messung vergangene Zeit
+     * @return der gemessene Wert
+     */
+    double messe(double wahrerWert, double sekunden);
+}
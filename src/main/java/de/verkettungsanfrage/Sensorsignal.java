@@ -0,0 +1,174 @@
+package de.verkettungsanfrage;
+
+import java.util.SplittableRandom;
+
+/**
+ * Realistisches, reproduzierbares Sensormodell.
+ *
+ * Jeder Sensor besitzt einen eigenen SplittableRandom-Zustand statt des
+ * global geteilten Generators hinter Math.random(). Dadurch ist das Signal
+ * unter einem festen Seed exakt reproduzierbar, und parallel simulierte
+ * Fahrzeuge konkurrieren nicht um einen gemeinsamen Generator
+ * (unabhängige Ströme über {@link #abzweigen()}).
+ *
+ * Verarbeitungskette pro Messung:
+ * 1. Trägheit: Tiefpass 1. Ordnung mit Zeitkonstante (Sensorverzögerung)
+ * 2. Rauschen: gaußsches weißes Rauschen, über einen Tiefpass auf die
+ *    Grenzfrequenz bandbegrenzt (kein Zittern von Frame zu Frame)
+ * 3. Quantisierung: Runden auf die Auflösung des Sensors
+ *
+ * Alle Stufen sind standardmäßig abgeschaltet und werden per Method
+ * Chaining konfiguriert. Eine Messung erzeugt keine Objekte.
+ *
+ * Beispiel:
+ * Sensor tacho = new Sensorsignal(42)
+ *     .rauschen(0.5, 3.0)
+ *     .verzoegerung(0.05)
+ *     .quantisierung(0.1);
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public class Sensorsignal implements Sensor {
+
+    /** Eigener Zufallsgenerator dieses Sensors. */
+    private final SplittableRandom zufall;
+
+    /** Standardabweichung des Rauschens (0 = kein Rauschen). */
+    private double rauschAmplitude;
+
+    /** Grenzfrequenz des Rauschens in Hertz (unendlich = weißes Rauschen). */
+    private double grenzfrequenz = Double.POSITIVE_INFINITY;
+
+    /** Zeitkonstante der Sensorträgheit in Sekunden (0 = keine Verzögerung). */
+    private double zeitkonstante;
+
+    /** Auflösung des Sensors (0 = stufenlos). */
+    private double aufloesung;
+
+    /** Aktueller Rauschanteil nach der Bandbegrenzung. */
+    private double rauschen;
+
+    /** Träge nachgeführter Wert; NaN bis zur ersten Messung. */
+    private double traegerWert = Double.NaN;
+
+    /**
+     * Erstellt einen Sensor mit eigenem Zufallsgenerator.
+     *
+     * @param seed der Startwert; gleiche Seeds liefern gleiche Signale
+     */
+    public Sensorsignal(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Erstellt einen Sensor mit dem angegebenen Zufallsgenerator.
+     *
+     * @param zufall der (nicht geteilte) Zufallsgenerator
+     */
+    private Sensorsignal(SplittableRandom zufall) {
+        this.zufall = zufall;
+    }
+
+    /**
+     * Aktiviert bandbegrenztes Rauschen.
+     *
+     * @param amplitude die Standardabweichung des ungefilterten Rauschens
+     * @param grenzfrequenz die Grenzfrequenz in Hertz (Double.POSITIVE_INFINITY = weiß)
+     * @return dieser Sensor für Method Chaining
+     * @throws IllegalArgumentException wenn ein Wert negativ bzw. nicht positiv ist
+     */
+    public Sensorsignal rauschen(double amplitude, double grenzfrequenz) {
+        if (amplitude < 0 || !(grenzfrequenz > 0)) {
+            throw new IllegalArgumentException("Ungültiges Rauschen: " + amplitude + " / " + grenzfrequenz + " Hz");
+        }
+        this.rauschAmplitude = amplitude;
+        this.grenzfrequenz = grenzfrequenz;
+        return this;
+    }
+
+    /**
+     * Aktiviert die Sensorträgheit.
+     *
+     * @param zeitkonstante die Zeitkonstante in Sekunden (nach dieser Zeit sind
+     *                      ca. 63% eines Sprungs erreicht)
+     * @return dieser Sensor für Method Chaining
+     * @throws IllegalArgumentException wenn die Zeitkonstante negativ ist
+     */
+    public Sensorsignal verzoegerung(double zeitkonstante) {
+        if (zeitkonstante < 0) {
+            throw new IllegalArgumentException("Zeitkonstante darf nicht negativ sein: " + zeitkonstante);
+        }
+        this.zeitkonstante = zeitkonstante;
+        return this;
+    }
+
+    /**
+     * Aktiviert die Quantisierung auf die Auflösung des Sensors.
+     *
+     * @param aufloesung die kleinste darstellbare Stufe, z.B. 0.5 km/h
+     * @return dieser Sensor für Method Chaining
+     * @throws IllegalArgumentException wenn die Auflösung negativ ist
+     */
+    public Sensorsignal quantisierung(double aufloesung) {
+        if (aufloesung < 0) {
+            throw new IllegalArgumentException("Auflösung darf nicht negativ sein: " + aufloesung);
+        }
+        this.aufloesung = aufloesung;
+        return this;
+    }
+
+    /**
+     * Erzeugt einen neuen Sensor mit gleicher Konfiguration und einem
+     * unabhängigen, aus diesem Sensor abgeleiteten Zufallsstrom.
+     *
+     * Für parallele Simulationen: ein Sensor pro Fahrzeug oder Thread,
+     * alle reproduzierbar aus einem einzigen Seed.
+     *
+     * @return der neue Sensor
+     */
+    public Sensorsignal abzweigen() {
+        Sensorsignal kopie = new Sensorsignal(zufall.split());
+        kopie.rauschAmplitude = rauschAmplitude;
+        kopie.grenzfrequenz = grenzfrequenz;
+        kopie.zeitkonstante = zeitkonstante;
+        kopie.aufloesung = aufloesung;
+        return kopie;
+    }
+
+    /**
+     * Setzt Trägheit und Rauschanteil zurück.
+     *
+     * @param wert der Wert, auf dem der Sensor danach steht
+     */
+    public void zuruecksetzen(double wert) {
+        traegerWert = wert;
+        rauschen = 0.0;
+    }
+
+    @Override
+    public double messe(double wahrerWert, double sekunden) {
+        // 1. Trägheit (exakte Diskretisierung des Tiefpasses, stabil für jedes dt)
+        if (Double.isNaN(traegerWert) || zeitkonstante == 0) {
+            traegerWert = wahrerWert;
+        } else {
+            traegerWert += (wahrerWert - traegerWert) * (1 - Math.exp(-sekunden / zeitkonstante));
+        }
+
+        // 2. Bandbegrenztes Rauschen
+        double wert = traegerWert;
+        if (rauschAmplitude > 0) {
+            double weiss = zufall.nextGaussian() * rauschAmplitude;
+            double alpha = 1 - Math.exp(-2 * Math.PI * grenzfrequenz * sekunden);
+            rauschen += (weiss - rauschen) * alpha;
+            wert += rauschen;
+        }
+
+        // 3. Quantisierung
+        if (aufloesung > 0) {
+            wert = Math.rint(wert / aufloesung) * aufloesung;
+        }
+        return wert;
+    }
+}
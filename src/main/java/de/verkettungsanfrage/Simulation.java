@@ -0,0 +1,481 @@
+package de.verkettungsanfrage;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Headless-Simulationskern mit festem Zeitschritt (Fixed Timestep).
+ *
+ * Die Simulation besitzt das Auto-Objekt exklusiv und schreitet dessen
+ * Zustand in gleich langen Zeitschritten voran – unabhängig davon, wie
+ * schnell oder langsam die Oberfläche zeichnet:
+ * - Echtzeitbetrieb: start() startet einen eigenen Thread, der über einen
+ *   Akkumulator genau so viele Schritte ausführt, wie Echtzeit vergangen ist
+ * - Batchbetrieb: laufeSchritte(n) rechnet ohne Wartezeiten so schnell wie
+ *   möglich (schneller als Echtzeit)
+ *
+ * Befehle anderer Threads (z.B. Button-Klicks) werden über befehl(...)
+ * eingereiht und zu Beginn des nächsten Schritts im Simulations-Thread
+ * ausgeführt. Dadurch ist der Ablauf deterministisch und das Auto wird nie
+ * von zwei Threads gleichzeitig verändert.
+ *
+ * Nach jedem Schritt wird der Zustand in einen doppelt gepufferten
+ * ZustandsPuffer geschrieben (ohne Objekt-Allokation pro Schritt), aus dem
+ * die Oberfläche jederzeit einen konsistenten Zustand lesen kann.
+ *
+ * Beispiel:
+ * Simulation sim = new Simulation(auto, 1000);
+ * sim.start();
+ * sim.befehl(a -> a.starteMotor().fahreLos());
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public class Simulation {
+
+    /**
+     * Maximale Anzahl an Schritten, die nach einer Verzögerung (z.B. GC-Pause)
+     * nachgeholt werden. Verhindert, dass die Simulation nach einem Hänger
+     * endlos hinterherläuft ("Spiral of Death").
+     */
+    private static final int MAX_NACHHOL_SCHRITTE = 250;
+
+    /** Anzahl Veröffentlichungen der Fahrtstatistik pro simulierter Sekunde. */
+    private static final int STATISTIK_HZ = 10;
+
+    /** Das simulierte Auto, ausschließlich im Simulations-Thread verändert. */
+    private final Auto auto;
+
+    /** Simulationsfrequenz in Hertz. */
+    private final int hz;
+
+    /** Länge eines Zeitschritts in Sekunden. */
+    private final double schrittSekunden;
+
+    /** Länge eines Zeitschritts in Nanosekunden. */
+    private final long schrittNanos;
+
+    /** Eingereihte Befehle, die zu Beginn des nächsten Schritts ausgeführt werden. */
+    private final Queue<Consumer<Auto>> befehle = new ConcurrentLinkedQueue<>();
+
+    /** Doppelt gepufferter, zuletzt veröffentlichter Zustand. */
+    private final ZustandsPuffer zustandsPuffer;
+
+    /** Abstand zwischen zwei Veröffentlichungen der Fahrtstatistik in Schritten. */
+    private final long statistikIntervall;
+
+    /** Anzahl der bisher ausgeführten Schritte. */
+    private volatile long schritte;
+
+    /** Fahrtenrechner, ausschließlich im Simulations-Thread fortgeschrieben. */
+    private final Fahrtenrechner fahrtenrechner = new Fahrtenrechner();
+
+    /** Zuletzt veröffentlichte Statistik von Fahrtzähler A. */
+    private volatile FahrtStatistik fahrtA = FahrtStatistik.LEER;
+
+    /** Zuletzt veröffentlichte Statistik von Fahrtzähler B. */
+    private volatile FahrtStatistik fahrtB = FahrtStatistik.LEER;
+
+    /** Optionaler Telemetrie-Rekorder, sonst null. */
+    private volatile TelemetrieRekorder telemetrie;
+
+    /** Optionale Zeitmessung der Schritte, sonst null. */
+    private volatile Leistungsmessung messung;
+
+    /** Optionaler Hinweis nach Schritten mit ausgeführten Befehlen, sonst null. */
+    private volatile Runnable befehlsHinweis;
+
+    /** Laufende Aufzeichnung typisierter Befehle, sonst null. */
+    private BefehlsLog aufzeichnung;
+
+    /** Schritt, bei dem die Aufzeichnung begonnen hat. */
+    private long aufzeichnungsBeginn;
+
+    /** Abgespieltes Befehlslog, sonst null. */
+    private BefehlsLog wiedergabe;
+
+    /** Index des nächsten abzuspielenden Logeintrags. */
+    private int wiedergabeIndex;
+
+    /** Logschritt, der dem Simulationsschritt 0 entspricht. */
+    private long wiedergabeVersatz;
+
+    /** Der Simulations-Thread im Echtzeitbetrieb, sonst null. */
+    private Thread thread;
+
+    /** Steuert die Schleife des Simulations-Threads. */
+    private volatile boolean laeuft;
+
+    /**
+     * Erstellt eine Simulation für das angegebene Auto.
+     *
+     * @param auto das zu simulierende Auto (wird ab jetzt von der Simulation verwaltet)
+     * @param hz die Anzahl der Zeitschritte pro simulierter Sekunde
+     * @throws IllegalArgumentException wenn hz nicht positiv ist
+     */
+    public Simulation(Auto auto, int hz) {
+        if (hz <= 0) {
+            throw new IllegalArgumentException("Frequenz muss positiv sein: " + hz);
+        }
+        this.auto = auto;
+        this.hz = hz;
+        this.schrittSekunden = 1.0 / hz;
+        this.schrittNanos = TimeUnit.SECONDS.toNanos(1) / hz;
+        this.zustandsPuffer = new ZustandsPuffer(auto.zustand());
+        this.statistikIntervall = Math.max(1, hz / STATISTIK_HZ);
+    }
+
+    /**
+     * Reiht einen Befehl für das Auto ein.
+     *
+     * Der Befehl wird im Simulations-Thread zu Beginn des nächsten Schritts
+     * ausgeführt. Die Methode ist threadsicher und blockiert nicht.
+     *
+     * @param befehl die auszuführende Aktion, z.B. a -> a.beschleunige(30)
+     */
+    public void befehl(Consumer<Auto> befehl) {
+        befehle.add(befehl);
+    }
+
+    /**
+     * Reiht einen typisierten Befehl ein.
+     *
+     * Im Gegensatz zu befehl(Consumer) wird dieser Befehl bei laufender
+     * Aufzeichnung mit seinem Simulationsschritt protokolliert und kann
+     * später über die {@link Wiedergabe} exakt reproduziert werden.
+     *
+     * @param befehl der Befehl
+     * @param wert der Parameter (wird bei Befehlen ohne Wert ignoriert)
+     */
+    public void befehl(Befehl befehl, double wert) {
+        befehle.add(a -> {
+            BefehlsLog log = aufzeichnung;
+            if (log != null) {
+                log.anhaengen(schritte - aufzeichnungsBeginn, befehl, wert);
+            }
+            befehl.ausfuehren(a, wert);
+        });
+    }
+
+    /**
+     * Startet die Aufzeichnung aller typisierten Befehle.
+     *
+     * Das Protokoll wird im Simulations-Thread beschrieben und darf erst
+     * nach stoppe() ausgewertet oder gespeichert werden.
+     *
+     * @return das (noch leere) Protokoll mit dem aktuellen Zustand als Anfangszustand
+     * @throws IllegalStateException wenn die Simulation bereits läuft
+     */
+    public synchronized BefehlsLog starteAufzeichnung() {
+        if (laeuft) {
+            throw new IllegalStateException("Aufzeichnung muss vor dem Start beginnen");
+        }
+        aufzeichnung = new BefehlsLog(hz, auto.getModell(), auto.zustand(), auto.getVerbrauchsModell());
+        aufzeichnungsBeginn = schritte;
+        return aufzeichnung;
+    }
+
+    /**
+     * Setzt einen Fahrtzähler zurück.
+     *
+     * Das Zurücksetzen wird wie ein Befehl zu Beginn des nächsten Schritts
+     * im Simulations-Thread ausgeführt. Die Methode ist threadsicher.
+     *
+     * @param zaehler der zurückzusetzende Zähler
+     */
+    public void setzeFahrtZurueck(Fahrtenrechner.Zaehler zaehler) {
+        befehle.add(a -> {
+            fahrtenrechner.zuruecksetzen(zaehler);
+            veroeffentlicheFahrtStatistik();
+        });
+    }
+
+    /**
+     * Spielt die Befehle eines Protokolls ab dem angegebenen Eintrag ab.
+     *
+     * Wird von {@link Wiedergabe#erzeugeSimulation(Auto)} verwendet; das
+     * Auto muss sich bereits im Zustand des Logschritts befinden.
+     *
+     * @param log das Protokoll
+     * @param abIndex der Index des nächsten abzuspielenden Eintrags
+     * @param abSchritt der Logschritt, der dem aktuellen Simulationsschritt entspricht
+     * @return diese Simulation für Method Chaining
+     * @throws IllegalStateException wenn die Simulation bereits läuft
+     */
+    synchronized Simulation spieleAb(BefehlsLog log, int abIndex, long abSchritt) {
+        if (laeuft) {
+            throw new IllegalStateException("Wiedergabe muss vor dem Start beginnen");
+        }
+        this.wiedergabe = log;
+        this.wiedergabeIndex = abIndex;
+        this.wiedergabeVersatz = abSchritt - schritte;
+        return this;
+    }
+
+    /**
+     * Führt genau einen Zeitschritt aus.
+     *
+     * Ablauf:
+     * 1. Alle eingereihten und abzuspielenden Befehle ausführen
+     * 2. Fahrdynamik um einen Zeitschritt voranschreiten lassen
+     * 3. Fahrtenrechner fortschreiben, neuen Zustand veröffentlichen
+     *    (Fahrtstatistik nur STATISTIK_HZ-mal pro simulierter Sekunde)
+     * 4. Zustandsänderung aufzeichnen (falls ein Rekorder gesetzt ist)
+     * 5. Dauer des Schritts messen (falls eine Messung gesetzt und eingeschaltet ist)
+     * 6. Befehlshinweis auslösen (falls Befehle ausgeführt wurden und ein Hinweis gesetzt ist)
+     */
+    private void schritt() {
+        Leistungsmessung m = messung;
+        long start = m != null ? m.start() : 0L;
+        boolean befehlAusgefuehrt = false;
+        Consumer<Auto> befehl;
+        while ((befehl = befehle.poll()) != null) {
+            befehl.accept(auto);
+            befehlAusgefuehrt = true;
+        }
+        BefehlsLog log = wiedergabe;
+        if (log != null) {
+            long logSchritt = schritte + wiedergabeVersatz;
+            while (wiedergabeIndex < log.getAnzahl() && log.getSchritt(wiedergabeIndex) <= logSchritt) {
+                log.getBefehl(wiedergabeIndex).ausfuehren(auto, log.getWert(wiedergabeIndex));
+                wiedergabeIndex++;
+                befehlAusgefuehrt = true;
+            }
+        }
+        auto.rolleAus(schrittSekunden);
+        schritte++;
+        auto.veroeffentlicheZustand(zustandsPuffer, schritte);
+        fahrtenrechner.erfasse(auto, schrittSekunden);
+        if (schritte % statistikIntervall == 0) {
+            veroeffentlicheFahrtStatistik();
+        }
+
+        TelemetrieRekorder t = telemetrie;
+        if (t != null) {
+            t.aufzeichnenBeiAenderung(schritte * schrittNanos, auto.getGeschwindigkeit(), auto.getTankstand(),
+                    auto.isMotorLaeuft());
+        }
+        if (m != null) {
+            m.stopp(Leistungsmessung.Phase.SIMULATION, start);
+        }
+        if (befehlAusgefuehrt) {
+            Runnable hinweis = befehlsHinweis;
+            if (hinweis != null) {
+                hinweis.run();
+            }
+        }
+    }
+
+    /**
+     * Veröffentlicht Momentaufnahmen beider Fahrtzähler.
+     */
+    private void veroeffentlicheFahrtStatistik() {
+        fahrtA = fahrtenrechner.statistik(Fahrtenrechner.Zaehler.A);
+        fahrtB = fahrtenrechner.statistik(Fahrtenrechner.Zaehler.B);
+    }
+
+    /**
+     * Setzt einen Rekorder, der jede Zustandsänderung aufzeichnet.
+     *
+     * Die Aufzeichnung erfolgt im Simulations-Thread mit der Simulationszeit
+     * als Zeitstempel. Der Rekorder darf danach von keinem anderen Thread
+     * beschrieben werden.
+     *
+     * @param telemetrie der Rekorder oder null zum Abschalten
+     * @return diese Simulation für Method Chaining
+     */
+    public Simulation setTelemetrie(TelemetrieRekorder telemetrie) {
+        this.telemetrie = telemetrie;
+        return this;
+    }
+
+    /**
+     * Setzt eine Zeitmessung, die jeden Schritt als Phase SIMULATION erfasst.
+     *
+     * Gemessen wird nur, solange die Messung eingeschaltet ist.
+     *
+     * @param messung die Messung oder null zum Abschalten
+     * @return diese Simulation für Method Chaining
+     */
+    public Simulation setMessung(Leistungsmessung messung) {
+        this.messung = messung;
+        return this;
+    }
+
+    /**
+     * Setzt einen Hinweis, der nach jedem Schritt aufgerufen wird, in dem
+     * mindestens ein eingereihter oder abgespielter Befehl ausgeführt wurde.
+     *
+     * Der Hinweis läuft im Simulations-Thread und muss kurz sein (z.B. eine
+     * schlafende Anzeige wecken). Schritte ohne Befehle kosten nichts.
+     *
+     * @param hinweis der Hinweis oder null zum Abschalten
+     * @return diese Simulation für Method Chaining
+     */
+    public Simulation setBefehlsHinweis(Runnable hinweis) {
+        this.befehlsHinweis = hinweis;
+        return this;
+    }
+
+    /**
+     * Führt die angegebene Anzahl an Schritten ohne Wartezeiten aus.
+     *
+     * Für Batch-Läufe und Tests, die schneller als Echtzeit rechnen sollen.
+     *
+     * @param anzahl die Anzahl der Schritte
+     * @return diese Simulation für Method Chaining
+     * @throws IllegalStateException wenn die Simulation bereits im Echtzeitbetrieb läuft
+     */
+    public synchronized Simulation laufeSchritte(long anzahl) {
+        if (laeuft) {
+            throw new IllegalStateException("Simulation läuft bereits in Echtzeit");
+        }
+        for (long i = 0; i < anzahl; i++) {
+            schritt();
+        }
+        // Statistik auch zwischen zwei Veröffentlichungsintervallen aktuell halten
+        veroeffentlicheFahrtStatistik();
+        return this;
+    }
+
+    /**
+     * Startet den Echtzeitbetrieb in einem eigenen Daemon-Thread.
+     *
+     * Der Thread misst die vergangene Echtzeit, sammelt sie in einem
+     * Akkumulator und führt pro vollem Zeitschritt einen schritt() aus.
+     * Zwischen den Schritten wird der Thread schlafen gelegt.
+     *
+     * @throws IllegalStateException wenn die Simulation bereits läuft
+     */
+    public synchronized void start() {
+        if (laeuft) {
+            throw new IllegalStateException("Simulation läuft bereits");
+        }
+        laeuft = true;
+        thread = new Thread(this::schleife, "Simulation-" + hz + "Hz");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Hauptschleife des Simulations-Threads (Fixed-Timestep-Akkumulator).
+     */
+    private void schleife() {
+        long letzte = System.nanoTime();
+        long akkumulator = 0;
+        while (laeuft) {
+            long jetzt = System.nanoTime();
+            akkumulator += jetzt - letzte;
+            letzte = jetzt;
+
+            // Nach langen Hängern nicht endlos nachholen
+            akkumulator = Math.min(akkumulator, MAX_NACHHOL_SCHRITTE * schrittNanos);
+
+            while (akkumulator >= schrittNanos) {
+                schritt();
+                akkumulator -= schrittNanos;
+            }
+            LockSupport.parkNanos(schrittNanos - akkumulator);
+        }
+    }
+
+    /**
+     * Beendet den Echtzeitbetrieb und wartet auf das Ende des Threads.
+     *
+     * Bereits eingereihte, aber noch nicht ausgeführte Befehle bleiben
+     * erhalten und werden beim nächsten Schritt ausgeführt.
+     */
+    public synchronized void stoppe() {
+        if (!laeuft) {
+            return;
+        }
+        laeuft = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    /**
+     * Gibt den zuletzt veröffentlichten Zustand zurück.
+     *
+     * Kann aus jedem Thread aufgerufen werden und blockiert nie. Erzeugt
+     * pro Aufruf eine Momentaufnahme; für Leser mit hoher Frequenz ist
+     * leseZustand(Rahmen) vorzuziehen.
+     *
+     * @return die aktuelle Momentaufnahme des Autos
+     */
+    public AutoZustand getZustand() {
+        return zustandsPuffer.lese();
+    }
+
+    /**
+     * Kopiert den zuletzt veröffentlichten Zustand ohne Objekt-Allokation
+     * in einen Rahmen des Aufrufers.
+     *
+     * Kann aus jedem Thread aufgerufen werden und blockiert nie.
+     *
+     * @param ziel der wiederverwendete Rahmen des Lesers
+     * @return der übergebene Rahmen, gefüllt mit einem konsistenten Zustand
+     */
+    public ZustandsPuffer.Rahmen leseZustand(ZustandsPuffer.Rahmen ziel) {
+        return zustandsPuffer.lese(ziel);
+    }
+
+    /**
+     * Gibt die zuletzt veröffentlichte Statistik eines Fahrtzählers zurück.
+     *
+     * Kann aus jedem Thread aufgerufen werden und blockiert nie. Die
+     * Statistik wird alle 100 ms simulierter Zeit (und nach einem
+     * Zurücksetzen) neu veröffentlicht.
+     *
+     * @param zaehler der Zähler
+     * @return die Momentaufnahme des Fahrtzählers inklusive Reichweite
+     */
+    public FahrtStatistik getFahrtStatistik(Fahrtenrechner.Zaehler zaehler) {
+        return zaehler == Fahrtenrechner.Zaehler.A ? fahrtA : fahrtB;
+    }
+
+    /**
+     * Gibt die Anzahl der bisher ausgeführten Schritte zurück.
+     *
+     * @return die Schrittanzahl
+     */
+    public long getSchritte() {
+        return schritte;
+    }
+
+    /**
+     * Gibt die bisher simulierte Zeit zurück.
+     *
+     * @return die Simulationszeit in Sekunden
+     */
+    public double getSimulationszeit() {
+        return schritte * schrittSekunden;
+    }
+
+    /**
+     * Gibt die Simulationsfrequenz zurück.
+     *
+     * @return die Anzahl der Schritte pro simulierter Sekunde
+     */
+    public int getHz() {
+        return hz;
+    }
+
+    /**
+     * Prüft, ob die Simulation im Echtzeitbetrieb läuft.
+     *
+     * @return true wenn der Simulations-Thread aktiv ist
+     */
+    public boolean isLaeuft() {
+        return laeuft;
+    }
+}
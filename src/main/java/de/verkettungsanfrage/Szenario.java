@@ -0,0 +1,230 @@
+package de.verkettungsanfrage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Ein Fahrszenario für den Batchlauf: Fahrzeugdaten, zeitgesteuerte
+ * Befehle und Prüfungen des Endergebnisses.
+ *
+ * Die Befehle werden als {@link BefehlsLog} gehalten und damit genauso
+ * deterministisch abgespielt wie eine Aufzeichnung aus dem Bordcomputer.
+ *
+ * Dateiformat (UTF-8, eine Angabe pro Zeile, # leitet Kommentare ein):
+ * modell = VW Golf          Automodell (Standard: VW Golf)
+ * tank = 40                 Anfangstankstand in Litern (Standard: 50)
+ * max = 200                 Maximalgeschwindigkeit in km/h (Standard: 200)
+ * hz = 100                  Simulationsfrequenz (Standard: 100)
+ * dauer = 600               Simulierte Dauer in Sekunden (Pflicht)
+ * 0   STARTE_MOTOR          Befehl zur Sekunde 0 (Namen wie in Befehl)
+ * 12.5 BESCHLEUNIGE 80      Befehl mit Wert
+ * pruefe tankstand > 5      Prüfung nach Ablauf (siehe Pruefung)
+ *
+ * Kopfangaben müssen vor dem ersten Befehl stehen, Befehle zeitlich
+ * aufsteigend sortiert sein.
+ *
+ * @param name der Name des Szenarios (z.B. Dateiname)
+ * @param befehle die Befehle samt Frequenz, Modell und Anfangszustand
+ * @param dauerSchritte die Anzahl zu simulierender Schritte
+ * @param pruefungen die Prüfungen des Ergebnisses
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public record Szenario(String name, BefehlsLog befehle, long dauerSchritte, List<Pruefung> pruefungen) {
+
+    /** Dateiendung von Szenariodateien. */
+    public static final String ENDUNG = ".szenario";
+
+    /**
+     * Prüfung einer Ergebnisgröße gegen einen Grenzwert.
+     *
+     * Größen: geschwindigkeit, tankstand, motor (1 = läuft, 0 = aus),
+     * strecke, verbrauch, maxGeschwindigkeit, durchschnittsverbrauch.
+     * Vergleiche: &lt;, &lt;=, &gt;, &gt;=, ==, !=
+     *
+     * @param groesse die geprüfte Größe
+     * @param vergleich der Vergleichsoperator
+     * @param grenzwert der Grenzwert
+     */
+    public record Pruefung(String groesse, String vergleich, double grenzwert) {
+
+        /**
+         * Prüft ein Ergebnis.
+         *
+         * @param ergebnis das Ergebnis des Szenarios
+         * @return true, wenn die Bedingung erfüllt ist
+         */
+        public boolean erfuellt(SzenarioErgebnis ergebnis) {
+            double wert = wert(ergebnis);
+            return switch (vergleich) {
+                case "<" -> wert < grenzwert;
+                case "<=" -> wert <= grenzwert;
+                case ">" -> wert > grenzwert;
+                case ">=" -> wert >= grenzwert;
+                case "==" -> wert == grenzwert;
+                case "!=" -> wert != grenzwert;
+                default -> throw new IllegalStateException("Unbekannter Vergleich: " + vergleich);
+            };
+        }
+
+        /**
+         * Liest den Wert der geprüften Größe aus einem Ergebnis.
+         */
+        private double wert(SzenarioErgebnis e) {
+            return switch (groesse) {
+                case "geschwindigkeit" -> e.endzustand().geschwindigkeit();
+                case "tankstand" -> e.endzustand().tankstand();
+                case "motor" -> e.endzustand().motorLaeuft() ? 1.0 : 0.0;
+                case "strecke" -> e.fahrt().strecke();
+                case "verbrauch" -> e.fahrt().verbrauch();
+                case "maxGeschwindigkeit" -> e.fahrt().maxGeschwindigkeit();
+                case "durchschnittsverbrauch" -> e.fahrt().durchschnittsverbrauch();
+                default -> throw new IllegalStateException("Unbekannte Größe: " + groesse);
+            };
+        }
+
+        @Override
+        public String toString() {
+            return groesse + " " + vergleich + " " + grenzwert;
+        }
+    }
+
+    /** Erlaubte Größen in Prüfungen. */
+    private static final List<String> GROESSEN = List.of("geschwindigkeit", "tankstand", "motor",
+            "strecke", "verbrauch", "maxGeschwindigkeit", "durchschnittsverbrauch");
+
+    /** Erlaubte Vergleichsoperatoren in Prüfungen. */
+    private static final List<String> VERGLEICHE = List.of("<", "<=", ">", ">=", "==", "!=");
+
+    /**
+     * Liest ein Szenario aus einer Datei; der Name ist der Dateiname ohne Endung.
+     *
+     * @param datei die Szenariodatei
+     * @return das gelesene Szenario
+     * @throws IOException bei Lesefehlern oder ungültigem Inhalt
+     */
+    public static Szenario lese(Path datei) throws IOException {
+        try (BufferedReader in = Files.newBufferedReader(datei, StandardCharsets.UTF_8)) {
+            return lese(nameVon(datei), in);
+        }
+    }
+
+    /**
+     * Bestimmt den Szenarionamen einer Datei (Dateiname ohne Endung).
+     *
+     * @param datei die Szenariodatei
+     * @return der Name des Szenarios
+     */
+    static String nameVon(Path datei) {
+        String name = datei.getFileName().toString();
+        return name.endsWith(ENDUNG) ? name.substring(0, name.length() - ENDUNG.length()) : name;
+    }
+
+    /**
+     * Liest ein Szenario aus einem Zeichenstrom.
+     *
+     * @param name der Name des Szenarios
+     * @param quelle der Inhalt im Szenarioformat
+     * @return das gelesene Szenario
+     * @throws IOException bei Lesefehlern oder ungültigem Inhalt (mit Zeilennummer)
+     */
+    public static Szenario lese(String name, Reader quelle) throws IOException {
+        BufferedReader in = quelle instanceof BufferedReader b ? b : new BufferedReader(quelle);
+        String modell = "VW Golf";
+        double tank = Auto.TANKKAPAZITAET;
+        int max = 200;
+        int hz = 100;
+        double dauer = -1;
+        List<double[]> zeitUndWert = new ArrayList<>();
+        List<Befehl> befehle = new ArrayList<>();
+        List<Pruefung> pruefungen = new ArrayList<>();
+
+        String zeile;
+        int nummer = 0;
+        while ((zeile = in.readLine()) != null) {
+            nummer++;
+            int kommentar = zeile.indexOf('#');
+            String text = (kommentar >= 0 ? zeile.substring(0, kommentar) : zeile).strip();
+            if (text.isEmpty()) {
+                continue;
+            }
+            try {
+                int gleich = text.indexOf('=');
+                if (text.startsWith("pruefe ")) {
+                    pruefungen.add(lesePruefung(text.substring(7).strip()));
+                } else if (gleich > 0 && isSchluessel(text.substring(0, gleich).strip())) {
+                    if (!befehle.isEmpty()) {
+                        throw new IllegalArgumentException("Kopfangaben müssen vor den Befehlen stehen");
+                    }
+                    String wert = text.substring(gleich + 1).strip();
+                    switch (text.substring(0, gleich).strip()) {
+                        case "modell" -> modell = wert;
+                        case "tank" -> tank = Double.parseDouble(wert);
+                        case "max" -> max = Integer.parseInt(wert);
+                        case "hz" -> hz = Integer.parseInt(wert);
+                        case "dauer" -> dauer = Double.parseDouble(wert);
+                        default -> throw new IllegalStateException();
+                    }
+                } else {
+                    String[] teile = text.split("\\s+");
+                    Befehl befehl = Befehl.valueOf(teile[1].toUpperCase(Locale.ROOT));
+                    if (teile.length != (befehl.hatWert() ? 3 : 2)) {
+                        throw new IllegalArgumentException(befehl + (befehl.hatWert() ? " benötigt einen Wert" : " hat keinen Wert"));
+                    }
+                    double wert = befehl.hatWert() ? Double.parseDouble(teile[2]) : 0.0;
+                    zeitUndWert.add(new double[]{Double.parseDouble(teile[0]), wert});
+                    befehle.add(befehl);
+                }
+            } catch (RuntimeException e) {
+                throw new IOException("Szenario " + name + ", Zeile " + nummer + ": " + text
+                        + (e.getMessage() != null ? " (" + e.getMessage() + ")" : ""), e);
+            }
+        }
+        if (dauer < 0) {
+            throw new IOException("Szenario " + name + ": Angabe 'dauer' fehlt");
+        }
+
+        try {
+            Auto auto = new Auto(modell, tank, max);
+            BefehlsLog log = new BefehlsLog(hz, modell, auto.zustand());
+            for (int i = 0; i < befehle.size(); i++) {
+                double[] zw = zeitUndWert.get(i);
+                log.anhaengen(Math.round(zw[0] * hz), befehle.get(i), zw[1]);
+            }
+            return new Szenario(name, log, Math.round(dauer * hz), List.copyOf(pruefungen));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Szenario " + name + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Prüft, ob ein Bezeichner eine Kopfangabe ist.
+     */
+    private static boolean isSchluessel(String schluessel) {
+        return switch (schluessel) {
+            case "modell", "tank", "max", "hz", "dauer" -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Liest eine Prüfung der Form "groesse vergleich grenzwert".
+     */
+    private static Pruefung lesePruefung(String text) {
+        String[] teile = text.split("\\s+");
+        if (teile.length != 3 || !GROESSEN.contains(teile[0]) || !VERGLEICHE.contains(teile[1])) {
+            throw new IllegalArgumentException("erwartet: pruefe <" + String.join("|", GROESSEN) + "> <"
+                    + String.join("|", VERGLEICHE) + "> <zahl>");
+        }
+        return new Pruefung(teile[0], teile[1], Double.parseDouble(teile[2]));
+    }
+}
@@ -0,0 +1,41 @@
+package de.verkettungsanfrage;
+
+import java.util.List;
+
+/**
+ * Ergebnis eines Szenarios im Batchlauf.
+ *
+ * Konnte das Szenario nicht gelesen werden, sind endzustand und fahrt
+ * null und verstoesse enthält die Fehlermeldung.
+ *
+ * @param name der Name des Szenarios
+ * @param endzustand der Zustand des Autos nach Ablauf der Dauer
+ * @param fahrt Strecke, Verbrauch (ohne Nachtanken) und Höchstgeschwindigkeit der Fahrt
+ * @param verstoesse nicht erfüllte Prüfungen und sonstige Auffälligkeiten
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public record SzenarioErgebnis(String name, AutoZustand endzustand, FahrtStatistik fahrt, List<String> verstoesse) {
+
+    /**
+     * Erstellt das Ergebnis eines Szenarios, das nicht ausgeführt werden konnte.
+     *
+     * @param name der Name des Szenarios bzw. der Datei
+     * @param fehler die Fehlermeldung
+     * @return ein Ergebnis ohne Zustand mit der Meldung als Verstoß
+     */
+    public static SzenarioErgebnis fehler(String name, String fehler) {
+        return new SzenarioErgebnis(name, null, null, List.of("Fehler: " + fehler));
+    }
+
+    /**
+     * Prüft, ob das Szenario ohne Verstöße durchgelaufen ist.
+     *
+     * @return true, wenn keine Verstöße vorliegen
+     */
+    public boolean bestanden() {
+        return verstoesse.isEmpty();
+    }
+}
@@ -0,0 +1,398 @@
+package de.verkettungsanfrage;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Headless-Batchlauf für Fahrszenarien.
+ *
+ * Liest Szenariodateien ({@link Szenario}), simuliert sie parallel und
+ * schreibt pro Szenario eine Ergebniszeile (Endzustand, Strecke,
+ * Verbrauch, Höchstgeschwindigkeit, Verstöße). Damit lässt sich eine
+ * ganze Szenariobibliothek nach einer Modelländerung in kurzer Zeit
+ * nachrechnen und mit dem vorherigen Ergebnis vergleichen.
+ *
+ * Ablauf:
+ * - Jedes Szenario läuft in einem eigenen virtuellen Thread (oder in
+ *   einem festen Thread-Pool, falls -p angegeben ist) mit eigener Simulation
+ * - Die Ergebnisse werden in der Reihenfolge der Eingabe geschrieben,
+ *   sobald sie vorliegen, damit Ausgaben verschiedener Läufe diffbar sind
+ * - Der Exit-Code ist 1, wenn mindestens ein Szenario Verstöße hat
+ *
+ * Aufruf:
+ * java de.verkettungsanfrage.Szenariolauf [-o ergebnis.csv|ergebnis.bin] [-p threads] pfad...
+ *
+ * Pfade können Szenariodateien oder Verzeichnisse sein (rekursiv, alle
+ * Dateien mit der Endung .szenario). Ohne -o wird CSV auf die
+ * Standardausgabe geschrieben; endet die Ausgabedatei auf .bin, wird
+ * binär geschrieben (siehe BinaerAusgabe).
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public final class Szenariolauf {
+
+    /**
+     * Ziel für Ergebnisse, wird nur vom aufrufenden Thread beschrieben.
+     */
+    public interface Ausgabe extends AutoCloseable {
+
+        /**
+         * Schreibt ein Ergebnis.
+         *
+         * @param ergebnis das Ergebnis
+         * @throws IOException bei Schreibfehlern
+         */
+        void schreibe(SzenarioErgebnis ergebnis) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    /** Anzahl Threads des Pools, 0 für virtuelle Threads. */
+    private final int threads;
+
+    /**
+     * Erstellt einen Batchlauf.
+     *
+     * @param threads Größe des Thread-Pools oder 0 für einen virtuellen Thread pro Szenario
+     * @throws IllegalArgumentException wenn threads negativ ist
+     */
+    public Szenariolauf(int threads) {
+        if (threads < 0) {
+            throw new IllegalArgumentException("Thread-Anzahl darf nicht negativ sein: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Simuliert ein Szenario und prüft das Ergebnis.
+     *
+     * Automatisch gemeldet werden zusätzlich:
+     * - ein leerer Tank am Ende
+     * - Befehle nach Ablauf der Dauer (werden nicht ausgeführt)
+     *
+     * @param szenario das Szenario
+     * @return das Ergebnis
+     */
+    public static SzenarioErgebnis fuehreAus(Szenario szenario) {
+        BefehlsLog log = szenario.befehle();
+        Simulation simulation = new Simulation(log.erzeugeAuto(), log.getHz()).spieleAb(log, 0, 0);
+        simulation.laufeSchritte(szenario.dauerSchritte());
+
+        SzenarioErgebnis roh = new SzenarioErgebnis(szenario.name(), simulation.getZustand(),
+                simulation.getFahrtStatistik(Fahrtenrechner.Zaehler.A), List.of());
+        List<String> verstoesse = new ArrayList<>();
+        if (roh.endzustand().tankstand() == 0.0) {
+            verstoesse.add("Tank leer");
+        }
+        if (log.getAnzahl() > 0 && log.getLetzterSchritt() >= szenario.dauerSchritte()) {
+            verstoesse.add("Befehle nach Szenarioende");
+        }
+        for (Szenario.Pruefung p : szenario.pruefungen()) {
+            if (!p.erfuellt(roh)) {
+                verstoesse.add(p.toString());
+            }
+        }
+        return new SzenarioErgebnis(roh.name(), roh.endzustand(), roh.fahrt(), List.copyOf(verstoesse));
+    }
+
+    /**
+     * Führt alle Szenarien aus und schreibt die Ergebnisse in Eingabereihenfolge.
+     *
+     * Nicht lesbare Szenarien erscheinen als Ergebnis mit Fehlermeldung,
+     * der Lauf wird dadurch nicht abgebrochen.
+     *
+     * @param quellen je Szenario eine Aufgabe, die es liest (z.B. () -> Szenario.lese(datei))
+     * @param namen je Szenario der Name für Ergebnisse, die nicht gelesen werden konnten (gleiche Reihenfolge wie quellen)
+     * @param ausgabe das Ziel der Ergebnisse
+     * @return die Anzahl der Szenarien mit Verstößen
+     * @throws IOException bei Schreibfehlern
+     * @throws InterruptedException wenn der Lauf unterbrochen wird
+     */
+    public int laufe(List<Callable<Szenario>> quellen, List<String> namen, Ausgabe ausgabe)
+            throws IOException, InterruptedException {
+        int mitVerstoessen = 0;
+        try (ExecutorService executor = threads == 0
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(threads)) {
+            List<Future<SzenarioErgebnis>> ergebnisse = new ArrayList<>(quellen.size());
+            for (Callable<Szenario> quelle : quellen) {
+                ergebnisse.add(executor.submit(() -> fuehreAus(quelle.call())));
+            }
+            for (int i = 0; i < ergebnisse.size(); i++) {
+                SzenarioErgebnis e;
+                try {
+                    e = ergebnisse.get(i).get();
+                } catch (ExecutionException ex) {
+                    Throwable ursache = ex.getCause();
+                    e = SzenarioErgebnis.fehler(namen.get(i),
+                            ursache.getMessage() != null ? ursache.getMessage() : ursache.toString());
+                }
+                ausgabe.schreibe(e);
+                if (!e.bestanden()) {
+                    mitVerstoessen++;
+                }
+            }
+        }
+        return mitVerstoessen;
+    }
+
+    /**
+     * Führt alle Szenariodateien unter den angegebenen Pfaden aus.
+     *
+     * @param pfade Dateien oder Verzeichnisse
+     * @param ausgabe das Ziel der Ergebnisse
+     * @return die Anzahl der Szenarien mit Verstößen
+     * @throws IOException bei Lese- oder Schreibfehlern der Verzeichnisse bzw. Ausgabe
+     * @throws InterruptedException wenn der Lauf unterbrochen wird
+     */
+    public int laufe(List<Path> pfade, Ausgabe ausgabe) throws IOException, InterruptedException {
+        List<Path> dateien = sammleDateien(pfade);
+        List<Callable<Szenario>> quellen = new ArrayList<>(dateien.size());
+        List<String> namen = new ArrayList<>(dateien.size());
+        for (Path datei : dateien) {
+            quellen.add(() -> Szenario.lese(datei));
+            namen.add(Szenario.nameVon(datei));
+        }
+        return laufe(quellen, namen, ausgabe);
+    }
+
+    /**
+     * Sammelt alle Szenariodateien, Verzeichnisse rekursiv und sortiert.
+     */
+    private static List<Path> sammleDateien(List<Path> pfade) throws IOException {
+        List<Path> dateien = new ArrayList<>();
+        for (Path pfad : pfade) {
+            if (Files.isDirectory(pfad)) {
+                try (Stream<Path> s = Files.walk(pfad)) {
+                    s.filter(p -> p.toString().endsWith(Szenario.ENDUNG) && Files.isRegularFile(p))
+                            .sorted()
+                            .forEach(dateien::add);
+                }
+            } else {
+                dateien.add(pfad);
+            }
+        }
+        return dateien;
+    }
+
+    // ====================================================================
+    // AUSGABEFORMATE
+    // ====================================================================
+
+    /**
+     * Erstellt eine CSV-Ausgabe (Komma-getrennt, Punkt als Dezimaltrennzeichen).
+     *
+     * Spalten: szenario, geschwindigkeit, tankstand, motor, strecke_km,
+     * verbrauch_l, max_kmh, verstoesse (mit | getrennt).
+     *
+     * @param ziel der Zielstrom (wird beim Schließen geschlossen)
+     * @return die Ausgabe
+     * @throws IOException wenn die Kopfzeile nicht geschrieben werden kann
+     */
+    public static Ausgabe csv(OutputStream ziel) throws IOException {
+        return new CsvAusgabe(new BufferedWriter(new OutputStreamWriter(ziel, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Erstellt eine binäre Ausgabe.
+     *
+     * Format: Kennung "BCSE", Version, dann pro Ergebnis Name (UTF),
+     * Geschwindigkeit, Tankstand (double), Motor (boolean), Strecke,
+     * Verbrauch, Höchstgeschwindigkeit (double), Anzahl Verstöße (int) und
+     * die Verstöße (UTF). Bei Fehlern sind alle Zahlen NaN.
+     *
+     * @param ziel der Zielstrom (wird beim Schließen geschlossen)
+     * @return die Ausgabe
+     * @throws IOException wenn der Kopf nicht geschrieben werden kann
+     */
+    public static Ausgabe binaer(OutputStream ziel) throws IOException {
+        return new BinaerAusgabe(new DataOutputStream(new BufferedOutputStream(ziel)));
+    }
+
+    /**
+     * Schreibt Ergebnisse als CSV.
+     */
+    private static final class CsvAusgabe implements Ausgabe {
+
+        private final Writer out;
+
+        CsvAusgabe(Writer out) throws IOException {
+            this.out = out;
+            out.write("szenario,geschwindigkeit,tankstand,motor,strecke_km,verbrauch_l,max_kmh,verstoesse\n");
+        }
+
+        @Override
+        public void schreibe(SzenarioErgebnis e) throws IOException {
+            out.write(csvFeld(e.name()));
+            if (e.endzustand() != null) {
+                AutoZustand z = e.endzustand();
+                FahrtStatistik f = e.fahrt();
+                out.write(String.format(Locale.ROOT, ",%.3f,%.4f,%b,%.4f,%.4f,%.3f,",
+                        z.geschwindigkeit(), z.tankstand(), z.motorLaeuft(),
+                        f.strecke(), f.verbrauch(), f.maxGeschwindigkeit()));
+            } else {
+                out.write(",,,,,,,");
+            }
+            out.write(csvFeld(String.join("|", e.verstoesse())));
+            out.write('\n');
+            out.flush();
+        }
+
+        /**
+         * Setzt ein Feld in Anführungszeichen, falls es Trennzeichen enthält.
+         */
+        private static String csvFeld(String text) {
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0) {
+                return text;
+            }
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    /**
+     * Schreibt Ergebnisse im Binärformat.
+     */
+    private static final class BinaerAusgabe implements Ausgabe {
+
+        /** Dateikennung "BCSE" (Bordcomputer-Szenarioergebnisse). */
+        private static final int KENNUNG = 0x42435345;
+
+        /** Version des Dateiformats. */
+        private static final int VERSION = 1;
+
+        private final DataOutputStream out;
+
+        BinaerAusgabe(DataOutputStream out) throws IOException {
+            this.out = out;
+            out.writeInt(KENNUNG);
+            out.writeInt(VERSION);
+        }
+
+        @Override
+        public void schreibe(SzenarioErgebnis e) throws IOException {
+            out.writeUTF(e.name());
+            AutoZustand z = e.endzustand();
+            FahrtStatistik f = e.fahrt();
+            out.writeDouble(z != null ? z.geschwindigkeit() : Double.NaN);
+            out.writeDouble(z != null ? z.tankstand() : Double.NaN);
+            out.writeBoolean(z != null && z.motorLaeuft());
+            out.writeDouble(f != null ? f.strecke() : Double.NaN);
+            out.writeDouble(f != null ? f.verbrauch() : Double.NaN);
+            out.writeDouble(f != null ? f.maxGeschwindigkeit() : Double.NaN);
+            out.writeInt(e.verstoesse().size());
+            for (String v : e.verstoesse()) {
+                out.writeUTF(v);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    // ====================================================================
+    // KOMMANDOZEILE
+    // ====================================================================
+
+    /**
+     * Einstiegspunkt des Batchlaufs.
+     *
+     * @param args [-o ausgabe] [-p threads] pfad...
+     */
+    public static void main(String[] args) {
+        Path ausgabeDatei = null;
+        int threads = 0;
+        List<Path> pfade = new ArrayList<>();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "-o" -> ausgabeDatei = Path.of(args[++i]);
+                    case "-p" -> {
+                        threads = Integer.parseInt(args[++i]);
+                        if (threads < 0) {
+                            throw new IllegalArgumentException("Threadanzahl negativ: " + threads);
+                        }
+                    }
+                    default -> pfade.add(Path.of(args[i]));
+                }
+            }
+        } catch (RuntimeException e) {
+            pfade.clear();
+        }
+        if (pfade.isEmpty()) {
+            System.err.println("Aufruf: Szenariolauf [-o ergebnis.csv|ergebnis.bin] [-p threads] pfad...");
+            System.exit(2);
+        }
+
+        try {
+            boolean binaer = ausgabeDatei != null && ausgabeDatei.toString().endsWith(".bin");
+            int mitVerstoessen;
+            try (OutputStream ziel = ausgabeDatei != null ? Files.newOutputStream(ausgabeDatei) : nichtSchliessend(System.out);
+                 Ausgabe ausgabe = binaer ? binaer(ziel) : csv(ziel)) {
+                mitVerstoessen = new Szenariolauf(threads).laufe(pfade, ausgabe);
+            }
+            if (mitVerstoessen > 0) {
+                System.err.println(mitVerstoessen + " Szenario(s) mit Verstößen");
+                System.exit(1);
+            }
+        } catch (IOException e) {
+            System.err.println("Fehler: " + e.getMessage());
+            System.exit(2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Umhüllt einen Strom, damit close() ihn nur leert (für System.out).
+     *
+     * @param out der umhüllte Strom
+     * @return ein Strom, dessen close() den umhüllten Strom offen lässt
+     */
+    static OutputStream nichtSchliessend(OutputStream out) {
+        return new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                out.flush();
+            }
+        };
+    }
+}
@@ -0,0 +1,352 @@
+package de.verkettungsanfrage;
+
+/**
+ * Vorberechnete Geometrie eines analogen Rundinstruments (z.B. Tachometer).
+ *
+ * Alle Winkel eines Instruments hängen nur von seiner Konfiguration ab
+ * (Mittelpunkt, Radius, Skalenendwert, Start- und Überstreichwinkel).
+ * Diese Klasse berechnet daher einmalig pro Konfiguration:
+ * - Endpunkte aller Teilstriche
+ * - Positionen aller Beschriftungen
+ * - Eine feine Tabelle mit cos/sin-Werten für die Nadel, zwischen deren
+ *   Stützstellen linear interpoliert wird
+ *
+ * Damit kommt das Zeichnen eines Frames ohne Aufrufe von Math.cos,
+ * Math.sin oder Math.toRadians aus. Die Klasse ist unabhängig von JavaFX
+ * und kann von jedem Renderer (Canvas, kompakte Flotten-Instrumente, ...)
+ * verwendet werden.
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public final class TachoGeometrie {
+
+    /** Anzahl der Stützstellen der Nadeltabelle über den gesamten Skalenbereich. */
+    private static final int NADEL_STUETZSTELLEN = 1024;
+
+    private final double cx;
+    private final double cy;
+    private final double radius;
+    private final int maxWert;
+    private final double startWinkel;
+    private final double ueberstrichWinkel;
+
+    /** Skalenwerte der Teilstriche. */
+    private final int[] strichWert;
+
+    /** Teilstrich-Endpunkte: außen (x1, y1) und innen (x2, y2). */
+    private final double[] strichX1;
+    private final double[] strichY1;
+    private final double[] strichX2;
+    private final double[] strichY2;
+
+    /** true für große Teilstriche (mit Beschriftung). */
+    private final boolean[] hauptstrich;
+
+    /** Beschriftungen und deren Positionen. */
+    private final String[] beschriftung;
+    private final double[] beschriftungX;
+    private final double[] beschriftungY;
+
+    /** cos/sin-Tabelle der Nadel über den Skalenbereich (inklusive Endwert). */
+    private final double[] nadelCos;
+    private final double[] nadelSin;
+
+    /**
+     * Berechnet die Geometrie eines Instruments.
+     *
+     * @param cx x-Koordinate des Mittelpunkts
+     * @param cy y-Koordinate des Mittelpunkts
+     * @param radius Außenradius der Skala
+     * @param maxWert Skalenendwert (z.B. Maximalgeschwindigkeit)
+     * @param startWinkel Winkel des Skalenwerts 0 in Grad
+     * @param ueberstrichWinkel überstrichener Winkel der Skala in Grad
+     * @param strichAbstand Skalenabstand der Teilstriche
+     * @param hauptstrichAbstand Skalenabstand der beschrifteten Hauptstriche
+     * @throws IllegalArgumentException wenn maxWert oder die Abstände nicht positiv sind
+     */
+    public TachoGeometrie(double cx, double cy, double radius, int maxWert,
+                          double startWinkel, double ueberstrichWinkel,
+                          int strichAbstand, int hauptstrichAbstand) {
+        if (maxWert <= 0 || strichAbstand <= 0 || hauptstrichAbstand <= 0) {
+            throw new IllegalArgumentException("Skalenendwert und Abstände müssen positiv sein");
+        }
+        this.cx = cx;
+        this.cy = cy;
+        this.radius = radius;
+        this.maxWert = maxWert;
+        this.startWinkel = startWinkel;
+        this.ueberstrichWinkel = ueberstrichWinkel;
+
+        int striche = maxWert / strichAbstand + 1;
+        strichWert = new int[striche];
+        strichX1 = new double[striche];
+        strichY1 = new double[striche];
+        strichX2 = new double[striche];
+        strichY2 = new double[striche];
+        hauptstrich = new boolean[striche];
+        for (int k = 0; k < striche; k++) {
+            int wert = k * strichAbstand;
+            double rad = winkelRadiant(wert);
+            double cos = Math.cos(rad);
+            double sin = Math.sin(rad);
+            boolean haupt = wert % hauptstrichAbstand == 0;
+            double laenge = haupt ? 30 : 20;
+            strichWert[k] = wert;
+            hauptstrich[k] = haupt;
+            strichX1[k] = cx + radius * cos;
+            strichY1[k] = cy + radius * sin;
+            strichX2[k] = cx + (radius - laenge) * cos;
+            strichY2[k] = cy + (radius - laenge) * sin;
+        }
+
+        int beschriftungen = maxWert / hauptstrichAbstand + 1;
+        beschriftung = new String[beschriftungen];
+        beschriftungX = new double[beschriftungen];
+        beschriftungY = new double[beschriftungen];
+        for (int k = 0; k < beschriftungen; k++) {
+            int wert = k * hauptstrichAbstand;
+            double rad = winkelRadiant(wert);
+            beschriftung[k] = String.valueOf(wert);
+            beschriftungX[k] = cx + (radius - 55) * Math.cos(rad) - (wert >= 100 ? 15 : 8);
+            beschriftungY[k] = cy + (radius - 55) * Math.sin(rad) + 8;
+        }
+
+        nadelCos = new double[NADEL_STUETZSTELLEN + 1];
+        nadelSin = new double[NADEL_STUETZSTELLEN + 1];
+        for (int k = 0; k <= NADEL_STUETZSTELLEN; k++) {
+            double rad = Math.toRadians(startWinkel + ueberstrichWinkel * k / NADEL_STUETZSTELLEN);
+            nadelCos[k] = Math.cos(rad);
+            nadelSin[k] = Math.sin(rad);
+        }
+    }
+
+    /**
+     * Erstellt die Geometrie des Bordcomputer-Tachos (240°-Skala ab 120°,
+     * Teilstriche alle 10 km/h, Beschriftung alle 40 km/h).
+     *
+     * @param cx x-Koordinate des Mittelpunkts
+     * @param cy y-Koordinate des Mittelpunkts
+     * @param radius Außenradius der Skala
+     * @param maxGeschwindigkeit die Maximalgeschwindigkeit in km/h
+     * @return die vorberechnete Geometrie
+     */
+    public static TachoGeometrie tacho(double cx, double cy, double radius, int maxGeschwindigkeit) {
+        return new TachoGeometrie(cx, cy, radius, maxGeschwindigkeit, 120.0, 240.0, 10, 40);
+    }
+
+    /**
+     * Prüft, ob diese Geometrie für die angegebene Konfiguration berechnet wurde.
+     *
+     * @param cx x-Koordinate des Mittelpunkts
+     * @param cy y-Koordinate des Mittelpunkts
+     * @param radius Außenradius der Skala
+     * @param maxWert Skalenendwert
+     * @return true wenn keine Neuberechnung nötig ist
+     */
+    public boolean passtZu(double cx, double cy, double radius, int maxWert) {
+        return this.cx == cx && this.cy == cy && this.radius == radius && this.maxWert == maxWert;
+    }
+
+    /**
+     * Rechnet einen Skalenwert in den zugehörigen Winkel (Radiant) um.
+     * Wird nur bei der Vorberechnung verwendet.
+     */
+    private double winkelRadiant(double wert) {
+        return Math.toRadians(startWinkel + (wert / maxWert) * ueberstrichWinkel);
+    }
+
+    // ====================================================================
+    // NADEL (trigonometriefrei zur Laufzeit)
+    // ====================================================================
+
+    /**
+     * Rechnet einen Skalenwert in eine Position auf der Nadeltabelle um.
+     *
+     * @param wert der Skalenwert (wird auf [0, maxWert] begrenzt)
+     * @return die Tabellenposition zwischen 0 und NADEL_STUETZSTELLEN
+     */
+    public double nadelPosition(double wert) {
+        double anteil = Math.max(0.0, Math.min(1.0, wert / maxWert));
+        return anteil * NADEL_STUETZSTELLEN;
+    }
+
+    /**
+     * Gibt den interpolierten Kosinus des Nadelwinkels an einer Tabellenposition zurück.
+     *
+     * @param position die Tabellenposition (siehe {@link #nadelPosition(double)})
+     * @return cos des Nadelwinkels
+     */
+    public double nadelCos(double position) {
+        return interpoliere(nadelCos, position);
+    }
+
+    /**
+     * Gibt den interpolierten Sinus des Nadelwinkels an einer Tabellenposition zurück.
+     *
+     * @param position die Tabellenposition (siehe {@link #nadelPosition(double)})
+     * @return sin des Nadelwinkels
+     */
+    public double nadelSin(double position) {
+        return interpoliere(nadelSin, position);
+    }
+
+    /**
+     * Lineare Interpolation zwischen zwei benachbarten Tabellenwerten.
+     */
+    private static double interpoliere(double[] tabelle, double position) {
+        double p = Math.max(0.0, Math.min(NADEL_STUETZSTELLEN, position));
+        int k = Math.min((int) p, NADEL_STUETZSTELLEN - 1);
+        double t = p - k;
+        return tabelle[k] + (tabelle[k + 1] - tabelle[k]) * t;
+    }
+
+    // ====================================================================
+    // GETTER-METHODEN
+    // ====================================================================
+
+    /**
+     * Gibt die x-Koordinate des Mittelpunkts zurück.
+     *
+     * @return die x-Koordinate des Mittelpunkts in Pixeln
+     */
+    public double getCx() {
+        return cx;
+    }
+
+    /**
+     * Gibt die y-Koordinate des Mittelpunkts zurück.
+     *
+     * @return die y-Koordinate des Mittelpunkts in Pixeln
+     */
+    public double getCy() {
+        return cy;
+    }
+
+    /**
+     * Gibt den Außenradius der Skala zurück.
+     *
+     * @return der Außenradius in Pixeln
+     */
+    public double getRadius() {
+        return radius;
+    }
+
+    /**
+     * Gibt den Skalenendwert zurück.
+     *
+     * @return der größte Wert der Skala
+     */
+    public int getMaxWert() {
+        return maxWert;
+    }
+
+    /**
+     * Gibt die Anzahl der Teilstriche zurück.
+     *
+     * @return die Anzahl der Teilstriche
+     */
+    public int getStrichAnzahl() {
+        return strichWert.length;
+    }
+
+    /**
+     * Gibt den Skalenwert eines Teilstrichs zurück.
+     *
+     * @param k der Index des Teilstrichs
+     * @return der Skalenwert des Teilstrichs
+     */
+    public int getStrichWert(int k) {
+        return strichWert[k];
+    }
+
+    /**
+     * Prüft, ob ein Teilstrich ein beschrifteter Hauptstrich ist.
+     *
+     * @param k der Index des Teilstrichs
+     * @return true für einen Hauptstrich, false für einen Zwischenstrich
+     */
+    public boolean istHauptstrich(int k) {
+        return hauptstrich[k];
+    }
+
+    /**
+     * Gibt die äußere x-Koordinate eines Teilstrichs zurück.
+     *
+     * @param k der Index des Teilstrichs
+     * @return die äußere x-Koordinate in Pixeln
+     */
+    public double getStrichX1(int k) {
+        return strichX1[k];
+    }
+
+    /**
+     * Gibt die äußere y-Koordinate eines Teilstrichs zurück.
+     *
+     * @param k der Index des Teilstrichs
+     * @return die äußere y-Koordinate in Pixeln
+     */
+    public double getStrichY1(int k) {
+        return strichY1[k];
+    }
+
+    /**
+     * Gibt die innere x-Koordinate eines Teilstrichs zurück.
+     *
+     * @param k der Index des Teilstrichs
+     * @return die innere x-Koordinate in Pixeln
+     */
+    public double getStrichX2(int k) {
+        return strichX2[k];
+    }
+
+    /**
+     * Gibt die innere y-Koordinate eines Teilstrichs zurück.
+     *
+     * @param k der Index des Teilstrichs
+     * @return die innere y-Koordinate in Pixeln
+     */
+    public double getStrichY2(int k) {
+        return strichY2[k];
+    }
+
+    /**
+     * Gibt die Anzahl der Beschriftungen zurück.
+     *
+     * @return die Anzahl der Beschriftungen
+     */
+    public int getBeschriftungAnzahl() {
+        return beschriftung.length;
+    }
+
+    /**
+     * Gibt den Text einer Beschriftung zurück.
+     *
+     * @param k der Index der Beschriftung
+     * @return der Beschriftungstext
+     */
+    public String getBeschriftung(int k) {
+        return beschriftung[k];
+    }
+
+    /**
+     * Gibt die x-Koordinate der Textbasis einer Beschriftung zurück.
+     *
+     * @param k der Index der Beschriftung
+     * @return die x-Koordinate der Textbasis in Pixeln
+     */
+    public double getBeschriftungX(int k) {
+        return beschriftungX[k];
+    }
+
+    /**
+     * Gibt die y-Koordinate der Textbasis einer Beschriftung zurück.
+     *
+     * @param k der Index der Beschriftung
+     * @return die y-Koordinate der Textbasis in Pixeln
+     */
+    public double getBeschriftungY(int k) {
+        return beschriftungY[k];
+    }
+}
@@ -0,0 +1,185 @@
+package de.verkettungsanfrage;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Liest eine vom {@link TelemetrieRekorder} geschriebene Telemetriedatei.
+ *
+ * Die Datei wird schreibgeschützt eingeblendet; Datensätze werden direkt
+ * aus dem Puffer gelesen, ohne sie in Objekte zu kopieren. Der Index 0
+ * bezeichnet immer den ältesten noch vorhandenen Datensatz.
+ *
+ * Zugriffsarten:
+ * - Wahlfreier Zugriff über Index (getZeit, getGeschwindigkeit, ...)
+ * - Iteration über alle Datensätze mit einem primitiven Callback
+ * - Binäre Suche nach einem Zeitstempel
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public class TelemetrieLeser implements AutoCloseable {
+
+    /**
+     * Callback für die Iteration ohne Objekt-Allokation pro Datensatz.
+     */
+    @FunctionalInterface
+    public interface DatensatzVerbraucher {
+
+        /**
+         * Verarbeitet einen Datensatz.
+         *
+         * @param zeitNanos Zeitstempel in Nanosekunden
+         * @param geschwindigkeit die Geschwindigkeit in km/h
+         * @param tankstand der Tankstand in Litern
+         * @param motorLaeuft der Motorstatus
+         */
+        void verarbeite(long zeitNanos, double geschwindigkeit, double tankstand, boolean motorLaeuft);
+    }
+
+    /** Eingeblendeter Dateiinhalt. */
+    private final MappedByteBuffer puffer;
+
+    /** Kapazität des Rings in Datensätzen. */
+    private final int kapazitaet;
+
+    /** Anzahl lesbarer Datensätze. */
+    private final int anzahl;
+
+    /** Physischer Index des ältesten Datensatzes. */
+    private final int beginn;
+
+    /**
+     * Öffnet eine Telemetriedatei und liest deren Kopf.
+     *
+     * Der Leser sieht den Stand zum Zeitpunkt des Öffnens.
+     *
+     * @param datei die Telemetriedatei
+     * @throws IOException wenn die Datei nicht gelesen werden kann oder kein gültiges Format hat
+     */
+    public TelemetrieLeser(Path datei) throws IOException {
+        try (FileChannel kanal = FileChannel.open(datei, StandardOpenOption.READ)) {
+            this.puffer = kanal.map(FileChannel.MapMode.READ_ONLY, 0, kanal.size());
+        }
+        if (puffer.capacity() < TelemetrieRekorder.KOPF_BYTES
+                || puffer.getInt(0) != TelemetrieRekorder.KENNUNG
+                || puffer.getInt(4) != TelemetrieRekorder.VERSION) {
+            throw new IOException("Keine gültige Telemetriedatei: " + datei);
+        }
+        long kapazitaet = puffer.getLong(TelemetrieRekorder.KOPF_KAPAZITAET);
+        long geschrieben = puffer.getLong(TelemetrieRekorder.KOPF_GESCHRIEBEN);
+        if (kapazitaet <= 0 || kapazitaet > TelemetrieRekorder.MAX_KAPAZITAET || geschrieben < 0
+                || TelemetrieRekorder.KOPF_BYTES + kapazitaet * TelemetrieRekorder.DATENSATZ_BYTES > puffer.capacity()) {
+            throw new IOException("Beschädigte Telemetriedatei (Kapazität " + kapazitaet + ", geschrieben "
+                    + geschrieben + ", " + puffer.capacity() + " Byte): " + datei);
+        }
+        this.kapazitaet = (int) kapazitaet;
+        this.anzahl = (int) Math.min(geschrieben, kapazitaet);
+        this.beginn = geschrieben > kapazitaet ? (int) (geschrieben % kapazitaet) : 0;
+    }
+
+    /**
+     * Gibt die Anzahl der lesbaren Datensätze zurück.
+     *
+     * @return die Anzahl der Datensätze
+     */
+    public int getAnzahl() {
+        return anzahl;
+    }
+
+    /**
+     * Gibt den Zeitstempel eines Datensatzes zurück.
+     *
+     * @param i der Index (0 = ältester Datensatz)
+     * @return der Zeitstempel in Nanosekunden
+     */
+    public long getZeit(int i) {
+        return puffer.getLong(offset(i));
+    }
+
+    /**
+     * Gibt die Geschwindigkeit eines Datensatzes zurück.
+     *
+     * @param i der Index (0 = ältester Datensatz)
+     * @return die Geschwindigkeit in km/h
+     */
+    public double getGeschwindigkeit(int i) {
+        return puffer.getDouble(offset(i) + 8);
+    }
+
+    /**
+     * Gibt den Tankstand eines Datensatzes zurück.
+     *
+     * @param i der Index (0 = ältester Datensatz)
+     * @return der Tankstand in Litern
+     */
+    public double getTankstand(int i) {
+        return puffer.getDouble(offset(i) + 16);
+    }
+
+    /**
+     * Gibt den Motorstatus eines Datensatzes zurück.
+     *
+     * @param i der Index (0 = ältester Datensatz)
+     * @return true wenn der Motor lief
+     */
+    public boolean isMotorLaeuft(int i) {
+        return puffer.getInt(offset(i) + 24) != 0;
+    }
+
+    /**
+     * Ruft den Verbraucher für alle Datensätze in zeitlicher Reihenfolge auf.
+     *
+     * @param verbraucher der Callback
+     */
+    public void fuerJeden(DatensatzVerbraucher verbraucher) {
+        for (int i = 0; i < anzahl; i++) {
+            int o = offset(i);
+            verbraucher.verarbeite(puffer.getLong(o), puffer.getDouble(o + 8),
+                    puffer.getDouble(o + 16), puffer.getInt(o + 24) != 0);
+        }
+    }
+
+    /**
+     * Sucht den ersten Datensatz mit einem Zeitstempel größer oder gleich
+     * dem angegebenen Zeitpunkt (binäre Suche, O(log n)).
+     *
+     * @param zeitNanos der gesuchte Zeitpunkt in Nanosekunden
+     * @return der Index des Datensatzes oder getAnzahl(), wenn alle früher liegen
+     */
+    public int sucheZeit(long zeitNanos) {
+        int links = 0;
+        int rechts = anzahl;
+        while (links < rechts) {
+            int mitte = (links + rechts) >>> 1;
+            if (getZeit(mitte) < zeitNanos) {
+                links = mitte + 1;
+            } else {
+                rechts = mitte;
+            }
+        }
+        return links;
+    }
+
+    /**
+     * Rechnet einen logischen Index in die Byte-Position im Puffer um.
+     */
+    private int offset(int i) {
+        Objects.checkIndex(i, anzahl);
+        int physisch = (beginn + i) % kapazitaet;
+        return TelemetrieRekorder.KOPF_BYTES + physisch * TelemetrieRekorder.DATENSATZ_BYTES;
+    }
+
+    /**
+     * Gibt den Leser frei. Die Einblendung wird vom Garbage Collector aufgehoben.
+     */
+    @Override
+    public void close() {
+        // Keine expliziten Ressourcen: der Kanal ist bereits geschlossen
+    }
+}
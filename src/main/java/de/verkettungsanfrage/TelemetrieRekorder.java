@@ -0,0 +1,162 @@
+package de.verkettungsanfrage;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Zeichnet Zustandsänderungen eines Autos binär in einen Ringpuffer auf.
+ *
+ * Der Ringpuffer liegt in einer per NIO in den Speicher eingeblendeten
+ * Datei (MappedByteBuffer). Jeder Datensatz hat eine feste Breite von
+ * 32 Byte und wird mit absoluten put-Operationen geschrieben – ohne
+ * Formatierung, ohne Systemaufruf und ohne Objekt-Allokation. Das
+ * Betriebssystem schreibt die Seiten asynchron auf die Platte zurück.
+ *
+ * Dateiaufbau:
+ * - Kopf (64 Byte): Kennung, Version, Kapazität, Anzahl geschriebener Datensätze
+ * - Datensätze (je 32 Byte): Zeit [ns], Geschwindigkeit, Tankstand, Motorstatus
+ *
+ * Ist der Ring voll, werden die ältesten Datensätze überschrieben.
+ * Zum Auswerten dient {@link TelemetrieLeser}.
+ *
+ * Die Klasse ist für genau einen schreibenden Thread ausgelegt
+ * (typischerweise den Simulations-Thread).
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public class TelemetrieRekorder implements AutoCloseable {
+
+    /** Dateikennung "BCTL" (Bordcomputer-Telemetrie). */
+    static final int KENNUNG = 0x4243544C;
+
+    /** Version des Dateiformats. */
+    static final int VERSION = 1;
+
+    /** Größe des Dateikopfs in Byte. */
+    static final int KOPF_BYTES = 64;
+
+    /** Größe eines Datensatzes in Byte. */
+    static final int DATENSATZ_BYTES = 32;
+
+    /** Position der Kapazität im Kopf. */
+    static final int KOPF_KAPAZITAET = 8;
+
+    /** Position des Schreibzählers im Kopf. */
+    static final int KOPF_GESCHRIEBEN = 16;
+
+    /** Maximale Kapazität, damit die Datei in einen einzelnen MappedByteBuffer passt. */
+    public static final int MAX_KAPAZITAET = (Integer.MAX_VALUE - KOPF_BYTES) / DATENSATZ_BYTES;
+
+    /** Eingeblendeter Dateiinhalt. */
+    private final MappedByteBuffer puffer;
+
+    /** Kapazität des Rings in Datensätzen. */
+    private final int kapazitaet;
+
+    /** Anzahl aller bisher geschriebenen Datensätze (auch überschriebener). */
+    private long geschrieben;
+
+    /** Zuletzt aufgezeichnete Werte für die Änderungserkennung. */
+    private double letzteGeschwindigkeit = Double.NaN;
+    private double letzterTankstand = Double.NaN;
+    private boolean letzterMotor;
+
+    /**
+     * Erstellt (oder überschreibt) eine Telemetriedatei mit fester Kapazität.
+     *
+     * @param datei die Zieldatei
+     * @param kapazitaet die Anzahl der Datensätze im Ring
+     * @throws IOException wenn die Datei nicht angelegt oder eingeblendet werden kann
+     * @throws IllegalArgumentException wenn die Kapazität außerhalb von 1..MAX_KAPAZITAET liegt
+     */
+    public TelemetrieRekorder(Path datei, int kapazitaet) throws IOException {
+        if (kapazitaet <= 0 || kapazitaet > MAX_KAPAZITAET) {
+            throw new IllegalArgumentException("Ungültige Kapazität: " + kapazitaet);
+        }
+        this.kapazitaet = kapazitaet;
+        long groesse = KOPF_BYTES + (long) kapazitaet * DATENSATZ_BYTES;
+        try (FileChannel kanal = FileChannel.open(datei, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // Die Einblendung bleibt nach dem Schließen des Kanals gültig
+            this.puffer = kanal.map(FileChannel.MapMode.READ_WRITE, 0, groesse);
+        }
+        puffer.putInt(0, KENNUNG);
+        puffer.putInt(4, VERSION);
+        puffer.putLong(KOPF_KAPAZITAET, kapazitaet);
+        puffer.putLong(KOPF_GESCHRIEBEN, 0L);
+    }
+
+    /**
+     * Hängt einen Datensatz an den Ring an.
+     *
+     * @param zeitNanos Zeitstempel in Nanosekunden (monoton steigend)
+     * @param geschwindigkeit die Geschwindigkeit in km/h
+     * @param tankstand der Tankstand in Litern
+     * @param motorLaeuft der Motorstatus
+     */
+    public void aufzeichnen(long zeitNanos, double geschwindigkeit, double tankstand, boolean motorLaeuft) {
+        int offset = KOPF_BYTES + (int) (geschrieben % kapazitaet) * DATENSATZ_BYTES;
+        puffer.putLong(offset, zeitNanos);
+        puffer.putDouble(offset + 8, geschwindigkeit);
+        puffer.putDouble(offset + 16, tankstand);
+        puffer.putInt(offset + 24, motorLaeuft ? 1 : 0);
+        geschrieben++;
+        // Zähler zuletzt schreiben: Leser sehen nur vollständige Datensätze
+        puffer.putLong(KOPF_GESCHRIEBEN, geschrieben);
+
+        letzteGeschwindigkeit = geschwindigkeit;
+        letzterTankstand = tankstand;
+        letzterMotor = motorLaeuft;
+    }
+
+    /**
+     * Hängt einen Datensatz nur an, wenn sich der Zustand seit dem letzten
+     * Datensatz geändert hat.
+     *
+     * @param zeitNanos Zeitstempel in Nanosekunden (monoton steigend)
+     * @param geschwindigkeit die Geschwindigkeit in km/h
+     * @param tankstand der Tankstand in Litern
+     * @param motorLaeuft der Motorstatus
+     * @return true, wenn ein Datensatz geschrieben wurde
+     */
+    public boolean aufzeichnenBeiAenderung(long zeitNanos, double geschwindigkeit, double tankstand,
+                                           boolean motorLaeuft) {
+        if (geschwindigkeit == letzteGeschwindigkeit && tankstand == letzterTankstand
+                && motorLaeuft == letzterMotor) {
+            return false;
+        }
+        aufzeichnen(zeitNanos, geschwindigkeit, tankstand, motorLaeuft);
+        return true;
+    }
+
+    /**
+     * Gibt die Anzahl aller bisher geschriebenen Datensätze zurück.
+     *
+     * @return die Anzahl inklusive bereits überschriebener Datensätze
+     */
+    public long getGeschrieben() {
+        return geschrieben;
+    }
+
+    /**
+     * Gibt die Kapazität des Rings zurück.
+     *
+     * @return die Anzahl der Datensätze, die gleichzeitig gehalten werden
+     */
+    public int getKapazitaet() {
+        return kapazitaet;
+    }
+
+    /**
+     * Schreibt alle geänderten Seiten auf die Platte zurück.
+     */
+    @Override
+    public void close() {
+        puffer.force();
+    }
+}
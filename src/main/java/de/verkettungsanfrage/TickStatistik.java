@@ -0,0 +1,32 @@
+package de.verkettungsanfrage;
+
+/**
+ * Aggregierte Kennzahlen eines Flotten-Ticks.
+ *
+ * Teilergebnisse einzelner Flottenbereiche werden über {@link #plus(TickStatistik)}
+ * zusammengeführt; da der Record unveränderlich ist, ist diese Reduktion
+ * ohne Sperren threadsicher.
+ *
+ * @param verbrauchterKraftstoff im Tick verbrauchter Treibstoff in Litern
+ * @param liegengeblieben Anzahl der Fahrzeuge, deren Motor wegen leerem Tank ausging
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public record TickStatistik(double verbrauchterKraftstoff, int liegengeblieben) {
+
+    /** Neutrales Element der Reduktion. */
+    public static final TickStatistik LEER = new TickStatistik(0.0, 0);
+
+    /**
+     * Addiert zwei Teilergebnisse.
+     *
+     * @param andere das zweite Teilergebnis
+     * @return die Summe beider Statistiken
+     */
+    public TickStatistik plus(TickStatistik andere) {
+        return new TickStatistik(verbrauchterKraftstoff + andere.verbrauchterKraftstoff,
+                liegengeblieben + andere.liegengeblieben);
+    }
+}
@@ -0,0 +1,210 @@
+package de.verkettungsanfrage;
+
+/**
+ * Rastergeometrie und Aktualisierungsreihenfolge der Flottenübersicht.
+ *
+ * Die Zellen einer beliebig großen Flotte liegen zeilenweise in einem
+ * Raster fester Zellgröße. Zu jedem Zeitpunkt ist nur der Ausschnitt
+ * zwischen Scrollposition und Scrollposition + Höhe sichtbar; nur für
+ * diesen Bereich [getErster(), getBis()) werden Knoten und Zeichenarbeit
+ * benötigt – unabhängig davon, ob die Flotte zehn oder eine Million
+ * Fahrzeuge enthält.
+ *
+ * naechsterFaelliger() liefert die sichtbaren Zellen reihum, so dass ein
+ * festes Budget pro Frame nach wenigen Frames jede sichtbare Zelle
+ * aktualisiert hat.
+ *
+ * Reine Geometrie ohne JavaFX-Abhängigkeit; nicht threadsicher.
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public final class UebersichtsRaster {
+
+    private final double zellBreite;
+    private final double zellHoehe;
+
+    private double breite;
+    private double hoehe;
+    private double scroll;
+    private int anzahl;
+    private int spalten = 1;
+
+    /** Nächste reihum zu aktualisierende Zelle. */
+    private int cursor;
+
+    /**
+     * Erstellt ein leeres Raster.
+     *
+     * @param zellBreite die Breite einer Zelle in Pixeln
+     * @param zellHoehe die Höhe einer Zelle in Pixeln
+     * @throws IllegalArgumentException wenn eine Zellgröße nicht positiv ist
+     */
+    public UebersichtsRaster(double zellBreite, double zellHoehe) {
+        if (zellBreite <= 0 || zellHoehe <= 0) {
+            throw new IllegalArgumentException("Zellgröße muss positiv sein: " + zellBreite + "x" + zellHoehe);
+        }
+        this.zellBreite = zellBreite;
+        this.zellHoehe = zellHoehe;
+    }
+
+    /**
+     * Setzt die Größe des sichtbaren Bereichs. Die Spaltenzahl ergibt sich
+     * aus der Breite (mindestens eine Spalte).
+     *
+     * @param breite die sichtbare Breite in Pixeln
+     * @param hoehe die sichtbare Höhe in Pixeln
+     * @return dieses Raster für Method Chaining
+     */
+    public UebersichtsRaster setGroesse(double breite, double hoehe) {
+        this.breite = Math.max(0.0, breite);
+        this.hoehe = Math.max(0.0, hoehe);
+        this.spalten = Math.max(1, (int) (this.breite / zellBreite));
+        return setScroll(scroll);
+    }
+
+    /**
+     * Setzt die Anzahl der Zellen.
+     *
+     * @param anzahl die Anzahl der Fahrzeuge
+     * @return dieses Raster für Method Chaining
+     */
+    public UebersichtsRaster setAnzahl(int anzahl) {
+        this.anzahl = Math.max(0, anzahl);
+        return setScroll(scroll);
+    }
+
+    /**
+     * Setzt die Scrollposition (begrenzt auf 0 bis getMaxScroll()).
+     *
+     * @param pixel der Abstand des sichtbaren Bereichs vom Rasteranfang
+     * @return dieses Raster für Method Chaining
+     */
+    public UebersichtsRaster setScroll(double pixel) {
+        this.scroll = Math.max(0.0, Math.min(pixel, getMaxScroll()));
+        return this;
+    }
+
+    /**
+     * Gibt die Scrollposition zurück.
+     *
+     * @return die Scrollposition in Pixeln
+     */
+    public double getScroll() {
+        return scroll;
+    }
+
+    /**
+     * Gibt die größte sinnvolle Scrollposition zurück.
+     *
+     * @return die Gesamthöhe abzüglich der sichtbaren Höhe (mindestens 0)
+     */
+    public double getMaxScroll() {
+        return Math.max(0.0, getGesamtHoehe() - hoehe);
+    }
+
+    /**
+     * Gibt die Anzahl der Spalten zurück.
+     *
+     * @return die Spalten (mindestens 1)
+     */
+    public int getSpalten() {
+        return spalten;
+    }
+
+    /**
+     * Gibt die Anzahl der Zeilen aller Zellen zurück.
+     *
+     * @return die Zeilen
+     */
+    public int getZeilen() {
+        return (anzahl + spalten - 1) / spalten;
+    }
+
+    /**
+     * Gibt die Höhe des gesamten Rasters zurück.
+     *
+     * @return die Höhe in Pixeln
+     */
+    public double getGesamtHoehe() {
+        return getZeilen() * zellHoehe;
+    }
+
+    /**
+     * Gibt den Index der ersten (teilweise) sichtbaren Zelle zurück.
+     *
+     * @return der erste sichtbare Index
+     */
+    public int getErster() {
+        return (int) Math.min(anzahl, (long) (scroll / zellHoehe) * spalten);
+    }
+
+    /**
+     * Gibt den Index nach der letzten (teilweise) sichtbaren Zelle zurück.
+     *
+     * @return der exklusive Endindex
+     */
+    public int getBis() {
+        return (int) Math.min(anzahl, (long) Math.ceil((scroll + hoehe) / zellHoehe) * spalten);
+    }
+
+    /**
+     * Gibt die Anzahl der (teilweise) sichtbaren Zellen zurück.
+     *
+     * @return getBis() - getErster()
+     */
+    public int getSichtbar() {
+        return getBis() - getErster();
+    }
+
+    /**
+     * Gibt die höchstmögliche Anzahl gleichzeitig sichtbarer Zellen zurück
+     * (eine angeschnittene Zeile oben und unten eingerechnet).
+     *
+     * @return die Anzahl, für die Knoten vorgehalten werden müssen
+     */
+    public int getMaxSichtbar() {
+        return ((int) Math.ceil(hoehe / zellHoehe) + 1) * spalten;
+    }
+
+    /**
+     * Gibt die linke Kante einer Zelle im sichtbaren Bereich zurück.
+     *
+     * @param index der Zellindex
+     * @return die x-Koordinate in Pixeln
+     */
+    public double x(int index) {
+        return (index % spalten) * zellBreite;
+    }
+
+    /**
+     * Gibt die obere Kante einer Zelle im sichtbaren Bereich zurück.
+     *
+     * @param index der Zellindex
+     * @return die y-Koordinate in Pixeln (negativ für oben angeschnittene Zellen)
+     */
+    public double y(int index) {
+        return (index / spalten) * zellHoehe - scroll;
+    }
+
+    /**
+     * Gibt reihum die nächste sichtbare Zelle zurück.
+     *
+     * Nach getSichtbar() Aufrufen ohne Scrollen wurde jede sichtbare Zelle
+     * genau einmal geliefert.
+     *
+     * @return der Zellindex oder -1, wenn keine Zelle sichtbar ist
+     */
+    public int naechsterFaelliger() {
+        int erster = getErster();
+        int bis = getBis();
+        if (erster >= bis) {
+            return -1;
+        }
+        if (cursor < erster || cursor >= bis) {
+            cursor = erster;
+        }
+        return cursor++;
+    }
+}
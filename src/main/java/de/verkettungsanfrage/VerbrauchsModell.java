@@ -0,0 +1,54 @@
+package de.verkettungsanfrage;
+
+/**
+ * Berechnet den Kraftstoffverbrauch eines Autos.
+ *
+ * Das Modell wird an zwei Stellen befragt:
+ * - {@link #fahrt}: in jedem Zeitschritt für Fahrt und Leerlauf
+ * - {@link #beschleunigung}: für sprunghafte Beschleunigungen
+ *   (beschleunige, fahreLos), die keine Simulationszeit verbrauchen
+ *
+ * Implementierungen müssen zustandslos und threadsicher sein, da ein
+ * Modell von vielen Autos und Flotten gleichzeitig genutzt wird.
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public interface VerbrauchsModell {
+
+    /**
+     * Ursprüngliches Modell: 0.001 Liter pro km/h Beschleunigung,
+     * Fahrt und Leerlauf sind kostenlos.
+     */
+    VerbrauchsModell EINFACH = new VerbrauchsModell() {
+        @Override
+        public double fahrt(double geschwindigkeit, double beschleunigung, double sekunden) {
+            return 0.0;
+        }
+
+        @Override
+        public double beschleunigung(double geschwindigkeit, double delta) {
+            return Auto.VERBRAUCH_PRO_KMH * delta;
+        }
+    };
+
+    /**
+     * Gibt den Verbrauch während einer Zeitspanne zurück.
+     *
+     * @param geschwindigkeit die Geschwindigkeit in km/h
+     * @param beschleunigung die Beschleunigung in km/h pro Sekunde (negativ = Verzögerung)
+     * @param sekunden die Zeitspanne in Sekunden
+     * @return der Verbrauch in Litern
+     */
+    double fahrt(double geschwindigkeit, double beschleunigung, double sekunden);
+
+    /**
+     * Gibt den zusätzlichen Verbrauch einer sprunghaften Beschleunigung zurück.
+     *
+     * @param geschwindigkeit die Geschwindigkeit vor der Beschleunigung in km/h
+     * @param delta die angeforderte Geschwindigkeitszunahme in km/h
+     * @return der Verbrauch in Litern
+     */
+    double beschleunigung(double geschwindigkeit, double delta);
+}
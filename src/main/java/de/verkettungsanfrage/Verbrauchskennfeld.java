@@ -0,0 +1,152 @@
+package de.verkettungsanfrage;
+
+import java.util.function.DoubleBinaryOperator;
+
+/**
+ * Verbrauchsmodell auf Basis eines vorberechneten Kennfelds.
+ *
+ * Das Kennfeld enthält den Verbrauch in Litern pro Stunde über einem
+ * Raster aus Geschwindigkeit (Zeilen) und Last (Spalten, Beschleunigung in
+ * km/h pro Sekunde). Zwischenwerte werden bilinear interpoliert; eine
+ * Abfrage kostet damit vier Array-Zugriffe und eine Handvoll
+ * Multiplikationen – unabhängig davon, wie aufwendig das Kennfeld
+ * ursprünglich berechnet wurde.
+ *
+ * Werte außerhalb des Rasters werden auf den Rand begrenzt; negative Last
+ * (Ausrollen, Bremsen) wird wie Konstantfahrt behandelt.
+ *
+ * Sprunghafte Beschleunigungen werden wie eine Beschleunigung mit
+ * {@link #NENN_BESCHLEUNIGUNG} bei mittlerer Geschwindigkeit abgerechnet;
+ * berechnet wird nur der Mehrverbrauch gegenüber Konstantfahrt.
+ *
+ * Das Kennfeld ist unveränderlich und kann von beliebig vielen Autos und
+ * Threads gleichzeitig genutzt werden.
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public final class Verbrauchskennfeld implements VerbrauchsModell {
+
+    /** Beschleunigung in km/h pro Sekunde, mit der sprunghafte Beschleunigungen abgerechnet werden. */
+    public static final double NENN_BESCHLEUNIGUNG = 10.0;
+
+    /** Kennfeld eines Kompaktwagens (siehe {@link #kompaktwagen}). */
+    public static final Verbrauchskennfeld STANDARD = kompaktwagen();
+
+    /** Verbrauch in Litern pro Stunde, zeilenweise nach Geschwindigkeit. */
+    private final double[] literProStunde;
+
+    /** Anzahl der Spalten (Laststufen). */
+    private final int spalten;
+
+    /** Größte Zeile bzw. Spalte, ab der interpoliert werden darf. */
+    private final int letzteZeile;
+    private final int letzteSpalte;
+
+    /** Kehrwerte der Rasterweiten, damit die Abfrage ohne Division auskommt. */
+    private final double proGeschwindigkeit;
+    private final double proLast;
+
+    /** Obergrenzen des Rasters. */
+    private final double maxGeschwindigkeit;
+    private final double maxLast;
+
+    /**
+     * Berechnet ein Kennfeld, indem die Funktion an allen Rasterpunkten ausgewertet wird.
+     *
+     * @param maxGeschwindigkeit größte Geschwindigkeit des Rasters in km/h
+     * @param geschwindigkeitsRaster Rasterweite der Geschwindigkeit in km/h
+     * @param maxLast größte Last (Beschleunigung) des Rasters in km/h pro Sekunde
+     * @param lastRaster Rasterweite der Last in km/h pro Sekunde
+     * @param literProStunde Verbrauch in l/h als Funktion von (Geschwindigkeit, Last)
+     * @throws IllegalArgumentException wenn das Raster weniger als 2x2 Punkte hätte
+     */
+    public Verbrauchskennfeld(double maxGeschwindigkeit, double geschwindigkeitsRaster,
+                              double maxLast, double lastRaster, DoubleBinaryOperator literProStunde) {
+        if (!(geschwindigkeitsRaster > 0) || !(lastRaster > 0)) {
+            throw new IllegalArgumentException("Rasterweiten müssen positiv sein");
+        }
+        int zeilen = (int) Math.round(maxGeschwindigkeit / geschwindigkeitsRaster) + 1;
+        this.spalten = (int) Math.round(maxLast / lastRaster) + 1;
+        if (zeilen < 2 || spalten < 2) {
+            throw new IllegalArgumentException("Kennfeld benötigt mindestens 2x2 Rasterpunkte");
+        }
+        this.letzteZeile = zeilen - 2;
+        this.letzteSpalte = spalten - 2;
+        this.proGeschwindigkeit = 1.0 / geschwindigkeitsRaster;
+        this.proLast = 1.0 / lastRaster;
+        this.maxGeschwindigkeit = (zeilen - 1) * geschwindigkeitsRaster;
+        this.maxLast = (spalten - 1) * lastRaster;
+
+        this.literProStunde = new double[zeilen * spalten];
+        for (int z = 0; z < zeilen; z++) {
+            for (int s = 0; s < spalten; s++) {
+                this.literProStunde[z * spalten + s] =
+                        literProStunde.applyAsDouble(z * geschwindigkeitsRaster, s * lastRaster);
+            }
+        }
+    }
+
+    /**
+     * Erstellt das Kennfeld eines typischen Kompaktwagens aus einem einfachen
+     * Fahrwiderstandsmodell.
+     *
+     * Annahmen: 1300 kg, Rollwiderstand 0.012, cw·A = 0.65 m², Wirkungsgrad 30%,
+     * 110 kW Höchstleistung, 0.8 l/h Leerlauf, Benzin mit 8.9 kWh pro Liter.
+     * Raster: 0–260 km/h in 10er-Schritten, 0–20 km/h/s in 2.5er-Schritten.
+     *
+     * @return das Kennfeld
+     */
+    public static Verbrauchskennfeld kompaktwagen() {
+        final double masse = 1300.0;
+        final double rollwiderstand = 0.012 * masse * 9.81;
+        final double luftwiderstand = 0.5 * 1.2 * 0.65;
+        final double maxLeistungKw = 110.0;
+        final double kwhProLiterNutzbar = 8.9 * 0.30;
+        final double leerlaufLiterProStunde = 0.8;
+
+        return new Verbrauchskennfeld(260, 10, 20, 2.5, (kmh, last) -> {
+            double v = kmh / 3.6;
+            double a = last / 3.6;
+            double leistungKw = ((rollwiderstand + luftwiderstand * v * v) * v + masse * a * v) / 1000.0;
+            return leerlaufLiterProStunde + Math.min(leistungKw, maxLeistungKw) / kwhProLiterNutzbar;
+        });
+    }
+
+    /**
+     * Liest den Verbrauch bilinear interpoliert aus dem Kennfeld.
+     *
+     * @param geschwindigkeit die Geschwindigkeit in km/h
+     * @param last die Beschleunigung in km/h pro Sekunde
+     * @return der Verbrauch in Litern pro Stunde
+     */
+    public double literProStunde(double geschwindigkeit, double last) {
+        double x = Math.min(Math.max(geschwindigkeit, 0.0), maxGeschwindigkeit) * proGeschwindigkeit;
+        double y = Math.min(Math.max(last, 0.0), maxLast) * proLast;
+        int z = Math.min((int) x, letzteZeile);
+        int s = Math.min((int) y, letzteSpalte);
+        double fx = x - z;
+        double fy = y - s;
+
+        int k = z * spalten + s;
+        double unten = literProStunde[k] + (literProStunde[k + spalten] - literProStunde[k]) * fx;
+        double oben = literProStunde[k + 1] + (literProStunde[k + spalten + 1] - literProStunde[k + 1]) * fx;
+        return unten + (oben - unten) * fy;
+    }
+
+    @Override
+    public double fahrt(double geschwindigkeit, double beschleunigung, double sekunden) {
+        return literProStunde(geschwindigkeit, beschleunigung) * sekunden / 3600.0;
+    }
+
+    @Override
+    public double beschleunigung(double geschwindigkeit, double delta) {
+        if (delta <= 0) {
+            return 0.0;
+        }
+        double mitte = geschwindigkeit + delta / 2;
+        double mehrverbrauch = literProStunde(mitte, NENN_BESCHLEUNIGUNG) - literProStunde(mitte, 0.0);
+        return mehrverbrauch * (delta / NENN_BESCHLEUNIGUNG) / 3600.0;
+    }
+}
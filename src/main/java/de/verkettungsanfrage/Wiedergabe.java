@@ -0,0 +1,256 @@
+package de.verkettungsanfrage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spielt ein {@link BefehlsLog} deterministisch ab.
+ *
+ * Die Wiedergabe rechnet dieselben Schritte wie die {@link Simulation}
+ * (Befehle zu Beginn des Schritts, danach Ausrollen) und kommt deshalb
+ * bitgenau zum selben Zustand. Zwei Betriebsarten:
+ * - Headless: laufeBis / springeZu rechnen ohne Wartezeiten so schnell wie möglich
+ * - Echtzeit: erzeugeSimulation übergibt den aktuellen Stand an eine
+ *   Simulation, die den Rest des Logs im Echtzeittakt abspielt
+ *
+ * Optimierungen:
+ * - Ruhephasen (Motor aus, oder Leerlauf unterhalb der Ausrollgrenze bei
+ *   einem Verbrauchsmodell ohne Leerlaufverbrauch) werden bis zum nächsten
+ *   Befehl übersprungen, da sich der Zustand dort nicht ändert
+ * - In festen Abständen werden Checkpoints (Schritt, Logposition, Zustand)
+ *   gesichert; springeZu setzt am nächstgelegenen Checkpoint auf, statt
+ *   die Fahrt von vorne zu rechnen
+ *
+ * Beispiel:
+ * Wiedergabe w = new Wiedergabe(BefehlsLog.lese(datei));
+ * w.springeZuSekunde(45 * 60);
+ * AutoZustand z = w.getZustand();
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public class Wiedergabe {
+
+    /** Standardabstand zwischen zwei Checkpoints in simulierten Sekunden. */
+    public static final int STANDARD_CHECKPOINT_SEKUNDEN = 60;
+
+    /** Das abgespielte Protokoll. */
+    private final BefehlsLog log;
+
+    /** Das Auto, auf dem die Befehle ausgeführt werden. */
+    private final Auto auto;
+
+    /** Länge eines Zeitschritts in Sekunden (identisch zur Simulation). */
+    private final double schrittSekunden;
+
+    /** Abstand zwischen zwei Checkpoints in Schritten. */
+    private final long checkpointAbstand;
+
+    /** Gesicherte Checkpoints, aufsteigend nach Schritt. */
+    private final List<Checkpoint> checkpoints = new ArrayList<>();
+
+    /** Aktueller Simulationsschritt. */
+    private long schritt;
+
+    /** Index des nächsten auszuführenden Logeintrags. */
+    private int index;
+
+    /**
+     * Gesicherter Stand der Wiedergabe.
+     *
+     * @param schritt der Simulationsschritt
+     * @param index der Index des nächsten Logeintrags
+     * @param zustand der Zustand des Autos zu Beginn des Schritts
+     */
+    private record Checkpoint(long schritt, int index, AutoZustand zustand) {
+    }
+
+    /**
+     * Erstellt eine Wiedergabe mit Checkpoints im Minutenabstand.
+     *
+     * @param log das abzuspielende Protokoll
+     */
+    public Wiedergabe(BefehlsLog log) {
+        this(log, (long) STANDARD_CHECKPOINT_SEKUNDEN * log.getHz());
+    }
+
+    /**
+     * Erstellt eine Wiedergabe mit frei wählbarem Checkpoint-Abstand.
+     *
+     * @param log das abzuspielende Protokoll
+     * @param checkpointAbstand der Abstand zwischen zwei Checkpoints in Schritten
+     * @throws IllegalArgumentException wenn der Abstand nicht positiv ist
+     */
+    public Wiedergabe(BefehlsLog log, long checkpointAbstand) {
+        if (checkpointAbstand <= 0) {
+            throw new IllegalArgumentException("Checkpoint-Abstand muss positiv sein: " + checkpointAbstand);
+        }
+        this.log = log;
+        this.auto = log.erzeugeAuto();
+        this.schrittSekunden = 1.0 / log.getHz();
+        this.checkpointAbstand = checkpointAbstand;
+        checkpoints.add(new Checkpoint(0, 0, auto.zustand()));
+    }
+
+    /**
+     * Rechnet headless bis zum angegebenen Schritt vorwärts.
+     *
+     * Liegt das Ziel in der Vergangenheit, passiert nichts.
+     *
+     * @param zielSchritt der Schritt, vor dessen Ausführung angehalten wird
+     * @return diese Wiedergabe für Method Chaining
+     */
+    public Wiedergabe laufeBis(long zielSchritt) {
+        int n = log.getAnzahl();
+        while (schritt < zielSchritt) {
+            long naechsterCheckpoint = (schritt / checkpointAbstand + 1) * checkpointAbstand;
+            if (schritt % checkpointAbstand == 0) {
+                sichereCheckpoint();
+            }
+
+            while (index < n && log.getSchritt(index) == schritt) {
+                log.getBefehl(index).ausfuehren(auto, log.getWert(index));
+                index++;
+            }
+
+            if (istInRuhe()) {
+                // Ruhephase: Zustand ändert sich bis zum nächsten Befehl nicht
+                long naechsterBefehl = index < n ? log.getSchritt(index) : Long.MAX_VALUE;
+                schritt = Math.max(schritt + 1, Math.min(zielSchritt, Math.min(naechsterBefehl, naechsterCheckpoint)));
+            } else {
+                auto.rolleAus(schrittSekunden);
+                schritt++;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Rechnet headless bis zum letzten Befehl des Protokolls.
+     *
+     * @return diese Wiedergabe für Method Chaining
+     */
+    public Wiedergabe laufeBisEnde() {
+        return laufeBis(log.getLetzterSchritt() + 1);
+    }
+
+    /**
+     * Springt zu einem beliebigen Schritt, auch rückwärts.
+     *
+     * Die Wiedergabe setzt am letzten Checkpoint vor dem Ziel auf (oder
+     * rechnet vom aktuellen Stand weiter, wenn dieser näher liegt).
+     *
+     * @param zielSchritt der Zielschritt
+     * @return diese Wiedergabe für Method Chaining
+     */
+    public Wiedergabe springeZu(long zielSchritt) {
+        Checkpoint c = checkpointVor(zielSchritt);
+        if (zielSchritt < schritt || c.schritt() > schritt) {
+            auto.setzeZustand(c.zustand());
+            schritt = c.schritt();
+            index = c.index();
+        }
+        return laufeBis(zielSchritt);
+    }
+
+    /**
+     * Springt zu einem Zeitpunkt der Fahrt.
+     *
+     * @param sekunde die simulierte Zeit in Sekunden
+     * @return diese Wiedergabe für Method Chaining
+     */
+    public Wiedergabe springeZuSekunde(double sekunde) {
+        return springeZu(Math.round(sekunde * log.getHz()));
+    }
+
+    /**
+     * Überträgt den aktuellen Stand auf ein Auto und erstellt eine
+     * Simulation, die den Rest des Protokolls in Echtzeit abspielt.
+     *
+     * @param ziel das Auto, das die Simulation übernimmt (z.B. aus log.erzeugeAuto())
+     * @return die noch nicht gestartete Simulation
+     */
+    public Simulation erzeugeSimulation(Auto ziel) {
+        ziel.setzeZustand(auto.zustand());
+        return new Simulation(ziel, log.getHz()).spieleAb(log, index, schritt);
+    }
+
+    /**
+     * Prüft, ob ein Zeitschritt den Zustand des Autos unverändert lassen würde.
+     */
+    private boolean istInRuhe() {
+        if (!auto.isMotorLaeuft()) {
+            return true;
+        }
+        double v = auto.getGeschwindigkeit();
+        return v <= Auto.AUSROLL_MINDESTGESCHWINDIGKEIT
+                && auto.getVerbrauchsModell().fahrt(v, 0.0, schrittSekunden) == 0.0;
+    }
+
+    /**
+     * Sichert einen Checkpoint, sofern an diesem Schritt noch keiner existiert.
+     */
+    private void sichereCheckpoint() {
+        if (schritt > checkpoints.get(checkpoints.size() - 1).schritt()) {
+            checkpoints.add(new Checkpoint(schritt, index, auto.zustand()));
+        }
+    }
+
+    /**
+     * Sucht den letzten Checkpoint, der nicht nach dem Zielschritt liegt (binäre Suche).
+     */
+    private Checkpoint checkpointVor(long zielSchritt) {
+        int links = 0;
+        int rechts = checkpoints.size() - 1;
+        while (links < rechts) {
+            int mitte = (links + rechts + 1) >>> 1;
+            if (checkpoints.get(mitte).schritt() <= zielSchritt) {
+                links = mitte;
+            } else {
+                rechts = mitte - 1;
+            }
+        }
+        return checkpoints.get(links);
+    }
+
+    // ====================================================================
+    // GETTER-METHODEN
+    // ====================================================================
+
+    /**
+     * Gibt den aktuellen Zustand des abgespielten Autos zurück.
+     *
+     * @return die Momentaufnahme zu Beginn des aktuellen Schritts
+     */
+    public AutoZustand getZustand() {
+        return auto.zustand();
+    }
+
+    /**
+     * Gibt den aktuellen Simulationsschritt zurück.
+     *
+     * @return der Schritt
+     */
+    public long getSchritt() {
+        return schritt;
+    }
+
+    /**
+     * Gibt die aktuelle Position in simulierter Zeit zurück.
+     *
+     * @return die Zeit in Sekunden
+     */
+    public double getSekunde() {
+        return schritt * schrittSekunden;
+    }
+
+    /**
+     * Gibt die Anzahl der gesicherten Checkpoints zurück.
+     *
+     * @return die Anzahl inklusive des Anfangszustands
+     */
+    public int getCheckpointAnzahl() {
+        return checkpoints.size();
+    }
+}
@@ -0,0 +1,392 @@
+package de.verkettungsanfrage;
+
+/**
+ * Zeitreihe mit fester Speichergröße und mehreren Auflösungen.
+ *
+ * Jeder Messwert wird in drei Ringpuffer aus primitiven double-Arrays
+ * geschrieben:
+ * - ROH: die Messwerte selbst (die jüngsten N Werte)
+ * - SEKUNDE: Minimum, Maximum und Mittelwert je Sekunde
+ * - MINUTE: Minimum, Maximum und Mittelwert je Minute
+ *
+ * Ist ein Ring voll, überschreibt der neueste Eintrag den ältesten. Der
+ * Speicherbedarf hängt damit nur von den Kapazitäten ab, nicht von der
+ * Dauer der Sitzung; pro Messwert entstehen keine Objekte. Mit den
+ * Standardkapazitäten reicht die Historie eine Minute (roh, bei 10 Hz),
+ * eine Stunde (Sekunden) bzw. einen Tag (Minuten) zurück.
+ *
+ * Zum Zeichnen wählt fuerBereich die feinste Auflösung, die den Zeitraum
+ * noch vollständig abdeckt und nicht unnötig viele Punkte enthält, sucht
+ * den Anfang per binärer Suche und fasst die Punkte auf höchstens maxPunkte
+ * Spalten zusammen. Es werden nur die sichtbaren Punkte gelesen.
+ *
+ * Die Klasse ist nicht threadsicher; sie wird vom UI-Thread beschrieben
+ * und gelesen.
+ *
+ * Beispiel:
+ * Zeitreihe verlauf = new Zeitreihe();
+ * verlauf.hinzufuegen(sim.getSimulationszeit(), z.geschwindigkeit());
+ * verlauf.fuerBereich(jetzt - 600, jetzt, 300, (t, min, max, mittel) -> ...);
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public class Zeitreihe {
+
+    /**
+     * Die gespeicherten Auflösungen, von fein nach grob.
+     */
+    public enum Aufloesung {
+        /** Einzelne Messwerte. */
+        ROH,
+        /** Zusammenfassung je Sekunde. */
+        SEKUNDE,
+        /** Zusammenfassung je Minute. */
+        MINUTE
+    }
+
+    /**
+     * Callback für die Ausgabe von Punkten ohne Objekt-Allokation pro Punkt.
+     */
+    @FunctionalInterface
+    public interface PunktVerbraucher {
+
+        /**
+         * Verarbeitet einen (ggf. zusammengefassten) Punkt.
+         *
+         * @param zeit der Zeitpunkt in Sekunden (Beginn des Intervalls)
+         * @param min der kleinste Wert im Intervall
+         * @param max der größte Wert im Intervall
+         * @param mittel der Mittelwert im Intervall
+         */
+        void verarbeite(double zeit, double min, double max, double mittel);
+    }
+
+    /** Standardkapazität der Rohwerte (eine Minute bei 10 Hz). */
+    public static final int STANDARD_ROH_KAPAZITAET = 600;
+
+    /** Standardkapazität der Sekundenwerte (eine Stunde). */
+    public static final int STANDARD_SEKUNDEN_KAPAZITAET = 3600;
+
+    /** Standardkapazität der Minutenwerte (ein Tag). */
+    public static final int STANDARD_MINUTEN_KAPAZITAET = 1440;
+
+    /**
+     * Höchstens so viele Punkte pro Ausgabespalte werden gelesen, bevor
+     * auf die nächstgröbere Auflösung ausgewichen wird.
+     */
+    private static final int PUNKTE_PRO_SPALTE = 4;
+
+    /** Die Ringpuffer, indiziert mit Aufloesung.ordinal(). */
+    private final Stufe[] stufen;
+
+    /** Zeitpunkt des letzten Messwerts. */
+    private double letzteZeit = Double.NEGATIVE_INFINITY;
+
+    /** Letzter Messwert. */
+    private double letzterWert = Double.NaN;
+
+    /**
+     * Erstellt eine Zeitreihe mit den Standardkapazitäten.
+     */
+    public Zeitreihe() {
+        this(STANDARD_ROH_KAPAZITAET, STANDARD_SEKUNDEN_KAPAZITAET, STANDARD_MINUTEN_KAPAZITAET);
+    }
+
+    /**
+     * Erstellt eine Zeitreihe mit frei wählbaren Kapazitäten.
+     *
+     * @param rohKapazitaet Anzahl der gespeicherten Rohwerte
+     * @param sekundenKapazitaet Anzahl der gespeicherten Sekundenwerte
+     * @param minutenKapazitaet Anzahl der gespeicherten Minutenwerte
+     * @throws IllegalArgumentException wenn eine Kapazität nicht positiv ist
+     */
+    public Zeitreihe(int rohKapazitaet, int sekundenKapazitaet, int minutenKapazitaet) {
+        this.stufen = new Stufe[]{
+                new Stufe(rohKapazitaet, 0.0),
+                new Stufe(sekundenKapazitaet, 1.0),
+                new Stufe(minutenKapazitaet, 60.0)
+        };
+    }
+
+    /**
+     * Fügt einen Messwert hinzu.
+     *
+     * @param zeit der Zeitpunkt in Sekunden (nicht kleiner als der vorherige)
+     * @param wert der Messwert
+     * @return diese Zeitreihe für Method Chaining
+     * @throws IllegalArgumentException wenn der Zeitpunkt vor dem letzten liegt
+     */
+    public Zeitreihe hinzufuegen(double zeit, double wert) {
+        if (zeit < letzteZeit) {
+            throw new IllegalArgumentException("Zeitpunkte müssen aufsteigend sein: " + zeit);
+        }
+        letzteZeit = zeit;
+        letzterWert = wert;
+        for (Stufe s : stufen) {
+            s.hinzufuegen(zeit, wert);
+        }
+        return this;
+    }
+
+    /**
+     * Gibt die Punkte eines Zeitraums aus, zusammengefasst auf höchstens
+     * maxPunkte gleich breite Spalten.
+     *
+     * Die noch offene Sekunde bzw. Minute wird mit ausgegeben, sodass auch
+     * die groben Auflösungen bis zum letzten Messwert reichen. Ein Intervall,
+     * das vor dem Zeitraum beginnt, aber in ihn hineinreicht, wird mit
+     * seinem Beginn ausgegeben (Zeit kleiner als von).
+     *
+     * @param von Beginn des Zeitraums in Sekunden
+     * @param bis Ende des Zeitraums in Sekunden
+     * @param maxPunkte die maximale Anzahl ausgegebener Punkte (z.B. Breite in Pixeln)
+     * @param verbraucher der Callback für jeden Punkt, zeitlich aufsteigend
+     * @return die verwendete Auflösung
+     * @throws IllegalArgumentException wenn maxPunkte nicht positiv ist
+     */
+    public Aufloesung fuerBereich(double von, double bis, int maxPunkte, PunktVerbraucher verbraucher) {
+        if (maxPunkte <= 0) {
+            throw new IllegalArgumentException("maxPunkte muss positiv sein: " + maxPunkte);
+        }
+        Aufloesung aufloesung = waehleAufloesung(von, bis, maxPunkte);
+        Stufe s = stufen[aufloesung.ordinal()];
+
+        double spaltenBreite = (bis - von) / maxPunkte;
+        Spalte spalte = new Spalte(verbraucher);
+        for (int i = s.erster(von), n = s.anzahl(); i < n; i++) {
+            int p = s.physisch(i);
+            if (s.zeit[p] > bis) {
+                break;
+            }
+            spalte.hinzufuegen(spalte(s.zeit[p], von, spaltenBreite, maxPunkte), s.zeit[p], s.min[p], s.max[p], s.mittel[p]);
+        }
+        if (s.offenAnzahl > 0) {
+            double t = s.offenerIndex * s.intervall;
+            if (t + s.intervall > von && t <= bis) {
+                spalte.hinzufuegen(spalte(t, von, spaltenBreite, maxPunkte), t,
+                        s.offenMin, s.offenMax, s.offenSumme / s.offenAnzahl);
+            }
+        }
+        spalte.ausgeben();
+        return aufloesung;
+    }
+
+    /**
+     * Wählt die feinste Auflösung, die den Zeitraum abdeckt und höchstens
+     * PUNKTE_PRO_SPALTE Punkte pro Ausgabespalte enthält.
+     *
+     * @param von Beginn des Zeitraums in Sekunden
+     * @param bis Ende des Zeitraums in Sekunden
+     * @param maxPunkte die maximale Anzahl ausgegebener Punkte
+     * @return die passende Auflösung (MINUTE, wenn keine feinere passt)
+     */
+    public Aufloesung waehleAufloesung(double von, double bis, int maxPunkte) {
+        for (Aufloesung a : Aufloesung.values()) {
+            Stufe s = stufen[a.ordinal()];
+            if (s.deckt(von) && s.suche(Math.nextUp(bis)) - s.erster(von) <= (long) PUNKTE_PRO_SPALTE * maxPunkte) {
+                return a;
+            }
+        }
+        return Aufloesung.MINUTE;
+    }
+
+    /**
+     * Berechnet die Ausgabespalte eines Zeitpunkts.
+     */
+    private static int spalte(double zeit, double von, double spaltenBreite, int maxPunkte) {
+        if (spaltenBreite <= 0) {
+            return 0;
+        }
+        return Math.max(0, Math.min(maxPunkte - 1, (int) ((zeit - von) / spaltenBreite)));
+    }
+
+    // ====================================================================
+    // GETTER-METHODEN
+    // ====================================================================
+
+    /**
+     * Gibt die Anzahl der gespeicherten Punkte einer Auflösung zurück.
+     *
+     * @param aufloesung die Auflösung
+     * @return die Anzahl abgeschlossener Punkte (ohne offenes Intervall)
+     */
+    public int getAnzahl(Aufloesung aufloesung) {
+        return stufen[aufloesung.ordinal()].anzahl();
+    }
+
+    /**
+     * Gibt den Zeitpunkt des letzten Messwerts zurück.
+     *
+     * @return die Zeit in Sekunden oder -Unendlich, wenn noch nichts erfasst wurde
+     */
+    public double getLetzteZeit() {
+        return letzteZeit;
+    }
+
+    /**
+     * Gibt den letzten Messwert zurück.
+     *
+     * @return der Wert oder NaN, wenn noch nichts erfasst wurde
+     */
+    public double getLetzterWert() {
+        return letzterWert;
+    }
+
+    // ====================================================================
+    // RINGPUFFER
+    // ====================================================================
+
+    /**
+     * Ringpuffer einer Auflösung mit dem noch offenen Intervall.
+     */
+    private static final class Stufe {
+
+        /** Intervalllänge in Sekunden, 0 für Rohwerte. */
+        final double intervall;
+
+        /** Kapazität in Punkten. */
+        final int kapazitaet;
+
+        /** Beginn jedes Punkts in Sekunden. */
+        final double[] zeit;
+
+        /** Minimum jedes Punkts. */
+        final double[] min;
+
+        /** Maximum jedes Punkts. */
+        final double[] max;
+
+        /** Mittelwert jedes Punkts. */
+        final double[] mittel;
+
+        /** Anzahl der jemals geschriebenen Punkte. */
+        long geschrieben;
+
+        /** Index des offenen Intervalls (Zeit / Intervall). */
+        long offenerIndex;
+
+        /** Minimum, Maximum, Summe und Anzahl im offenen Intervall. */
+        double offenMin, offenMax, offenSumme;
+        int offenAnzahl;
+
+        Stufe(int kapazitaet, double intervall) {
+            if (kapazitaet <= 0) {
+                throw new IllegalArgumentException("Kapazität muss positiv sein: " + kapazitaet);
+            }
+            this.kapazitaet = kapazitaet;
+            this.intervall = intervall;
+            this.zeit = new double[kapazitaet];
+            this.min = new double[kapazitaet];
+            this.max = new double[kapazitaet];
+            this.mittel = new double[kapazitaet];
+        }
+
+        void hinzufuegen(double t, double wert) {
+            if (intervall == 0.0) {
+                schreibe(t, wert, wert, wert);
+                return;
+            }
+            long index = (long) Math.floor(t / intervall);
+            if (offenAnzahl > 0 && index != offenerIndex) {
+                schreibe(offenerIndex * intervall, offenMin, offenMax, offenSumme / offenAnzahl);
+                offenAnzahl = 0;
+            }
+            if (offenAnzahl == 0) {
+                offenerIndex = index;
+                offenMin = wert;
+                offenMax = wert;
+                offenSumme = 0.0;
+            } else {
+                offenMin = Math.min(offenMin, wert);
+                offenMax = Math.max(offenMax, wert);
+            }
+            offenSumme += wert;
+            offenAnzahl++;
+        }
+
+        void schreibe(double t, double minimum, double maximum, double mittelwert) {
+            int p = (int) (geschrieben % kapazitaet);
+            zeit[p] = t;
+            min[p] = minimum;
+            max[p] = maximum;
+            mittel[p] = mittelwert;
+            geschrieben++;
+        }
+
+        int anzahl() {
+            return (int) Math.min(geschrieben, kapazitaet);
+        }
+
+        /** Rechnet einen logischen Index (0 = ältester Punkt) in die Array-Position um. */
+        int physisch(int i) {
+            long beginn = geschrieben > kapazitaet ? geschrieben % kapazitaet : 0;
+            return (int) ((beginn + i) % kapazitaet);
+        }
+
+        /** Prüft, ob seit dem Zeitpunkt kein Punkt überschrieben wurde. */
+        boolean deckt(double t) {
+            return geschrieben <= kapazitaet || zeit[physisch(0)] <= t;
+        }
+
+        /** Sucht den ersten Punkt, dessen Intervall nach dem Zeitpunkt endet. */
+        int erster(double t) {
+            return intervall == 0.0 ? suche(t) : suche(Math.nextUp(t - intervall));
+        }
+
+        /** Sucht den ersten Punkt mit einer Zeit größer oder gleich t (binäre Suche). */
+        int suche(double t) {
+            int links = 0;
+            int rechts = anzahl();
+            while (links < rechts) {
+                int mitte = (links + rechts) >>> 1;
+                if (zeit[physisch(mitte)] < t) {
+                    links = mitte + 1;
+                } else {
+                    rechts = mitte;
+                }
+            }
+            return links;
+        }
+    }
+
+    /**
+     * Fasst aufeinanderfolgende Punkte derselben Ausgabespalte zusammen.
+     */
+    private static final class Spalte {
+
+        final PunktVerbraucher verbraucher;
+        int nummer = -1;
+        double zeit, min, max, summe;
+        int anzahl;
+
+        Spalte(PunktVerbraucher verbraucher) {
+            this.verbraucher = verbraucher;
+        }
+
+        void hinzufuegen(int spalte, double t, double minimum, double maximum, double mittelwert) {
+            if (spalte != nummer) {
+                ausgeben();
+                nummer = spalte;
+                zeit = t;
+                min = minimum;
+                max = maximum;
+                summe = 0.0;
+                anzahl = 0;
+            } else {
+                min = Math.min(min, minimum);
+                max = Math.max(max, maximum);
+            }
+            summe += mittelwert;
+            anzahl++;
+        }
+
+        void ausgeben() {
+            if (anzahl > 0) {
+                verbraucher.verarbeite(zeit, min, max, summe / anzahl);
+                anzahl = 0;
+            }
+        }
+    }
+}
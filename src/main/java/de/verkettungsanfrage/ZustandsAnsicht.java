@@ -0,0 +1,73 @@
+package de.verkettungsanfrage;
+
+/**
+ * Lesende Sicht auf den Zustand eines Autos.
+ *
+ * Wird sowohl von der unveränderlichen Momentaufnahme {@link AutoZustand}
+ * als auch vom wiederverwendeten {@link ZustandsPuffer.Rahmen} implementiert.
+ * Anzeigen, die nur lesen, arbeiten gegen diese Schnittstelle und können
+ * dadurch pro Frame denselben Rahmen verwenden, ohne eine neue
+ * Momentaufnahme zu erzeugen.
+ *
+ * Eine Sicht auf einen Rahmen ist nur bis zum nächsten Lesen gültig;
+ * wer Werte aufbewahren will, kopiert sie.
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public interface ZustandsAnsicht {
+
+    /**
+     * Gibt die Geschwindigkeit zurück.
+     *
+     * @return die Geschwindigkeit in km/h
+     */
+    double geschwindigkeit();
+
+    /**
+     * Gibt den Tankstand zurück.
+     *
+     * @return der Tankstand in Litern
+     */
+    double tankstand();
+
+    /**
+     * Gibt den Motorstatus zurück.
+     *
+     * @return true, wenn der Motor läuft
+     */
+    boolean motorLaeuft();
+
+    /**
+     * Gibt die Maximalgeschwindigkeit zurück.
+     *
+     * @return die Maximalgeschwindigkeit in km/h
+     */
+    int maxGeschwindigkeit();
+
+    /**
+     * Gibt die Tankkapazität zurück.
+     *
+     * @return die Tankkapazität in Litern
+     */
+    double maxTankstand();
+
+    /**
+     * Gibt den Tankstand als Anteil der Tankkapazität zurück.
+     *
+     * @return der Füllstand zwischen 0.0 und 1.0
+     */
+    default double tankAnteil() {
+        return tankstand() / maxTankstand();
+    }
+
+    /**
+     * Prüft, ob der Tankstand kritisch niedrig ist (unter 10%).
+     *
+     * @return true wenn der Tankstand unter 10% liegt, sonst false
+     */
+    default boolean istTankKritisch() {
+        return tankstand() < (maxTankstand() * 0.1);
+    }
+}
@@ -0,0 +1,131 @@
+package de.verkettungsanfrage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Benachrichtigt Listener nur bei relevanten Änderungen des Auto-Zustands.
+ *
+ * Statt in jedem Frame alle Anzeigen neu zu setzen, registriert die
+ * Oberfläche pro beobachteter Größe einen Listener mit einer Schwelle.
+ * Der Animations-Loop übergibt einmal pro Frame den aktuellen Zustand an
+ * {@link #pruefe(ZustandsAnsicht)}; alle Änderungen dieses Frames werden damit
+ * zu höchstens einer Benachrichtigung pro Listener zusammengefasst.
+ *
+ * Der Zustand darf ein wiederverwendeter {@link ZustandsPuffer.Rahmen} sein;
+ * Listener dürfen ihn daher nur während des Aufrufs lesen, nicht aufbewahren.
+ *
+ * Ein Listener wird aufgerufen, wenn sich seine Größe seit der letzten
+ * Benachrichtigung um mindestens die Schwelle verändert hat. Kleinere
+ * Änderungen summieren sich, bis die Schwelle erreicht ist. Beim ersten
+ * Aufruf von pruefe werden alle Listener einmal benachrichtigt.
+ *
+ * Beispiel:
+ * beobachter.beobachte(ZustandsAnsicht::tankstand, 0.05, z -> updateTank(z));
+ * beobachter.beobachteMotor(z -> updateMotorAnzeige(z));
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public class ZustandsBeobachter {
+
+    /** Alle registrierten Beobachtungen. */
+    private final List<Beobachtung> beobachtungen = new ArrayList<>();
+
+    /**
+     * Registriert einen Listener für eine numerische Größe des Zustands.
+     *
+     * @param groesse die beobachtete Größe, z.B. ZustandsAnsicht::geschwindigkeit
+     * @param schwelle minimale Änderung, ab der benachrichtigt wird (0 = jede Änderung)
+     * @param listener wird mit dem aktuellen Zustand aufgerufen
+     * @return dieser Beobachter für Method Chaining
+     */
+    public ZustandsBeobachter beobachte(ToDoubleFunction<ZustandsAnsicht> groesse, double schwelle,
+                                        Consumer<ZustandsAnsicht> listener) {
+        beobachtungen.add(new Beobachtung(groesse, schwelle, null, listener));
+        return this;
+    }
+
+    /**
+     * Registriert einen Listener für eine numerische Größe mit Obergrenze.
+     *
+     * Zusätzlich zur Schwelle wird benachrichtigt, sobald die Größe die
+     * Obergrenze erreicht oder wieder verlässt – auch wenn die Änderung
+     * kleiner als die Schwelle ist (z.B. Nachtanken eines fast vollen Tanks).
+     *
+     * @param groesse die beobachtete Größe, z.B. ZustandsAnsicht::tankstand
+     * @param schwelle minimale Änderung, ab der benachrichtigt wird (0 = jede Änderung)
+     * @param grenze die Obergrenze der Größe, z.B. ZustandsAnsicht::maxTankstand
+     * @param listener wird mit dem aktuellen Zustand aufgerufen
+     * @return dieser Beobachter für Method Chaining
+     */
+    public ZustandsBeobachter beobachte(ToDoubleFunction<ZustandsAnsicht> groesse, double schwelle,
+                                        ToDoubleFunction<ZustandsAnsicht> grenze,
+                                        Consumer<ZustandsAnsicht> listener) {
+        beobachtungen.add(new Beobachtung(groesse, schwelle, grenze, listener));
+        return this;
+    }
+
+    /**
+     * Registriert einen Listener für Änderungen des Motorstatus.
+     *
+     * @param listener wird mit dem aktuellen Zustand aufgerufen
+     * @return dieser Beobachter für Method Chaining
+     */
+    public ZustandsBeobachter beobachteMotor(Consumer<ZustandsAnsicht> listener) {
+        return beobachte(z -> z.motorLaeuft() ? 1.0 : 0.0, 0.5, listener);
+    }
+
+    /**
+     * Vergleicht den Zustand mit den zuletzt gemeldeten Werten und
+     * benachrichtigt alle Listener, deren Größe sich ausreichend geändert
+     * oder ihre Obergrenze erreicht bzw. verlassen hat.
+     *
+     * Sollte einmal pro Frame aufgerufen werden.
+     *
+     * @param zustand der aktuelle Zustand
+     * @return die Anzahl der benachrichtigten Listener
+     */
+    public int pruefe(ZustandsAnsicht zustand) {
+        int benachrichtigt = 0;
+        for (Beobachtung b : beobachtungen) {
+            double wert = b.groesse.applyAsDouble(zustand);
+            boolean anGrenze = b.grenze != null && wert >= b.grenze.applyAsDouble(zustand);
+            if (Double.isNaN(b.gemeldet) || anGrenze != b.anGrenze
+                    || (wert != b.gemeldet && Math.abs(wert - b.gemeldet) >= b.schwelle)) {
+                b.gemeldet = wert;
+                b.anGrenze = anGrenze;
+                b.listener.accept(zustand);
+                benachrichtigt++;
+            }
+        }
+        return benachrichtigt;
+    }
+
+    /**
+     * Eine registrierte Beobachtung mit ihrem zuletzt gemeldeten Wert.
+     */
+    private static final class Beobachtung {
+        private final ToDoubleFunction<ZustandsAnsicht> groesse;
+        private final double schwelle;
+        private final ToDoubleFunction<ZustandsAnsicht> grenze;
+        private final Consumer<ZustandsAnsicht> listener;
+
+        /** Zuletzt gemeldeter Wert; NaN bis zur ersten Benachrichtigung. */
+        private double gemeldet = Double.NaN;
+
+        /** Ob der zuletzt gemeldete Wert die Obergrenze erreicht hatte. */
+        private boolean anGrenze;
+
+        Beobachtung(ToDoubleFunction<ZustandsAnsicht> groesse, double schwelle,
+                    ToDoubleFunction<ZustandsAnsicht> grenze, Consumer<ZustandsAnsicht> listener) {
+            this.groesse = groesse;
+            this.schwelle = schwelle;
+            this.grenze = grenze;
+            this.listener = listener;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package de.verkettungsanfrage;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Doppelt gepufferte, allokationsfreie Veröffentlichung des Auto-Zustands.
+ *
+ * Ein Schreiber (z.B. der Simulations-Thread) veröffentlicht pro Schritt
+ * den Zustand, beliebig viele Leser (z.B. der JavaFX-Thread) kopieren ihn
+ * in einen eigenen {@link Rahmen}. Dabei entsteht kein neues Objekt, und
+ * alle Werte eines Rahmens stammen garantiert aus demselben Schritt.
+ *
+ * Verfahren (Sequenzzähler mit zwei Puffern, "Latch"):
+ * - Der Zähler gibt an, welcher der beiden Puffer gerade stabil ist
+ *   (gerade: Puffer 0, ungerade: Puffer 1)
+ * - Der Schreiber erhöht den Zähler, schreibt den nun nicht gelesenen
+ *   Puffer, erhöht den Zähler erneut und schreibt den anderen Puffer
+ * - Der Leser kopiert den stabilen Puffer und prüft danach, ob sich der
+ *   Zähler verändert hat; nur dann (sehr selten) liest er erneut
+ *
+ * Der Schreiber wartet nie auf Leser, Leser nie auf den Schreiber.
+ * Es darf nur einen Schreiber geben.
+ *
+ * Beispiel:
+ * // Simulations-Thread
+ * auto.veroeffentlicheZustand(puffer, schritt);
+ * // UI-Thread, rahmen einmal angelegt
+ * puffer.lese(rahmen);
+ * drawTacho(rahmen.geschwindigkeit());
+ *
+ * @author Moboudni
+ * @version 1.0
+ * @since 2025
+ */
+public final class ZustandsPuffer {
+
+    /** Zugriff mit Speicherordnung auf den Sequenzzähler. */
+    private static final VarHandle SEQUENZ;
+
+    static {
+        try {
+            SEQUENZ = MethodHandles.lookup().findVarHandle(ZustandsPuffer.class, "sequenz", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Veränderlicher Zustandsrahmen, den Schreiber bzw. Leser wiederverwenden.
+     *
+     * Die Getter heißen wie die Komponenten von {@link AutoZustand}; wie
+     * dieser implementiert der Rahmen {@link ZustandsAnsicht}.
+     */
+    public static final class Rahmen implements ZustandsAnsicht {
+
+        private double geschwindigkeit;
+        private double tankstand;
+        private boolean motorLaeuft;
+        private int maxGeschwindigkeit;
+        private double maxTankstand;
+        private long schritt;
+
+        /**
+         * Gibt die Geschwindigkeit zurück.
+         *
+         * @return die Geschwindigkeit in km/h
+         */
+        @Override
+        public double geschwindigkeit() {
+            return geschwindigkeit;
+        }
+
+        /**
+         * Gibt den Tankstand zurück.
+         *
+         * @return der Tankstand in Litern
+         */
+        @Override
+        public double tankstand() {
+            return tankstand;
+        }
+
+        /**
+         * Gibt den Motorstatus zurück.
+         *
+         * @return true, wenn der Motor läuft
+         */
+        @Override
+        public boolean motorLaeuft() {
+            return motorLaeuft;
+        }
+
+        /**
+         * Gibt die Maximalgeschwindigkeit zurück.
+         *
+         * @return die Maximalgeschwindigkeit in km/h
+         */
+        @Override
+        public int maxGeschwindigkeit() {
+            return maxGeschwindigkeit;
+        }
+
+        /**
+         * Gibt die Tankkapazität zurück.
+         *
+         * @return die Tankkapazität in Litern
+         */
+        @Override
+        public double maxTankstand() {
+            return maxTankstand;
+        }
+
+        /**
+         * Gibt den Schritt zurück, zu dem der Zustand veröffentlicht wurde.
+         *
+         * @return der Simulationsschritt
+         */
+        public long schritt() {
+            return schritt;
+        }
+
+        /**
+         * Erstellt eine unveränderliche Kopie des Rahmens.
+         *
+         * @return der Zustand als AutoZustand
+         */
+        public AutoZustand alsZustand() {
+            return new AutoZustand(geschwindigkeit, tankstand, motorLaeuft, maxGeschwindigkeit, maxTankstand);
+        }
+
+        private void setze(double geschwindigkeit, double tankstand, boolean motorLaeuft,
+                           int maxGeschwindigkeit, double maxTankstand, long schritt) {
+            this.geschwindigkeit = geschwindigkeit;
+            this.tankstand = tankstand;
+            this.motorLaeuft = motorLaeuft;
+            this.maxGeschwindigkeit = maxGeschwindigkeit;
+            this.maxTankstand = maxTankstand;
+            this.schritt = schritt;
+        }
+
+        private void kopiereVon(Rahmen quelle) {
+            setze(quelle.geschwindigkeit, quelle.tankstand, quelle.motorLaeuft,
+                    quelle.maxGeschwindigkeit, quelle.maxTankstand, quelle.schritt);
+        }
+    }
+
+    /** Die beiden Puffer; der stabile wird durch das unterste Bit der Sequenz bestimmt. */
+    private final Rahmen[] puffer = {new Rahmen(), new Rahmen()};
+
+    /** Sequenzzähler, wird pro Veröffentlichung um zwei erhöht. */
+    private volatile long sequenz;
+
+    /**
+     * Erstellt einen Puffer mit dem Anfangszustand.
+     *
+     * @param anfang der Zustand vor dem ersten Schritt
+     */
+    public ZustandsPuffer(AutoZustand anfang) {
+        for (Rahmen r : puffer) {
+            r.setze(anfang.geschwindigkeit(), anfang.tankstand(), anfang.motorLaeuft(),
+                    anfang.maxGeschwindigkeit(), anfang.maxTankstand(), 0);
+        }
+    }
+
+    /**
+     * Veröffentlicht einen neuen Zustand. Darf nur von einem Thread aufgerufen werden.
+     *
+     * @param geschwindigkeit die Geschwindigkeit in km/h
+     * @param tankstand der Tankstand in Litern
+     * @param motorLaeuft der Motorstatus
+     * @param maxGeschwindigkeit die Maximalgeschwindigkeit in km/h
+     * @param maxTankstand die Tankkapazität in Litern
+     * @param schritt der Simulationsschritt
+     */
+    public void schreibe(double geschwindigkeit, double tankstand, boolean motorLaeuft,
+                         int maxGeschwindigkeit, double maxTankstand, long schritt) {
+        long s = (long) SEQUENZ.getOpaque(this);
+
+        // Leser auf Puffer 1 umleiten, dann Puffer 0 schreiben
+        SEQUENZ.setRelease(this, s + 1);
+        VarHandle.storeStoreFence();
+        puffer[0].setze(geschwindigkeit, tankstand, motorLaeuft, maxGeschwindigkeit, maxTankstand, schritt);
+
+        // Leser auf Puffer 0 umleiten, dann Puffer 1 nachziehen
+        SEQUENZ.setRelease(this, s + 2);
+        VarHandle.storeStoreFence();
+        puffer[1].setze(geschwindigkeit, tankstand, motorLaeuft, maxGeschwindigkeit, maxTankstand, schritt);
+    }
+
+    /**
+     * Kopiert den zuletzt veröffentlichten Zustand in einen Rahmen des Lesers.
+     *
+     * Erzeugt keine Objekte und blockiert nie. Kann aus beliebig vielen
+     * Threads gleichzeitig aufgerufen werden, jeder mit eigenem Rahmen.
+     *
+     * @param ziel der Rahmen des Lesers
+     * @return der übergebene Rahmen für Method Chaining
+     */
+    public Rahmen lese(Rahmen ziel) {
+        while (true) {
+            long s = (long) SEQUENZ.getAcquire(this);
+            ziel.kopiereVon(puffer[(int) (s & 1)]);
+            VarHandle.loadLoadFence();
+            if ((long) SEQUENZ.getOpaque(this) == s) {
+                return ziel;
+            }
+        }
+    }
+
+    /**
+     * Gibt den zuletzt veröffentlichten Zustand als unveränderliche Momentaufnahme zurück.
+     *
+     * Erzeugt pro Aufruf ein Objekt; für Leser mit hoher Frequenz ist
+     * lese(Rahmen) vorzuziehen.
+     *
+     * @return der aktuelle Zustand
+     */
+    public AutoZustand lese() {
+        return lese(new Rahmen()).alsZustand();
+    }
+
+    /**
+     * Gibt die Anzahl der bisherigen Veröffentlichungen zurück.
+     *
+     * @return die Anzahl der Aufrufe von schreibe
+     */
+    public long getVeroeffentlichungen() {
+        return (long) SEQUENZ.getOpaque(this) >>> 1;
+    }
+}
@@ -346,6 +346,47 @@ class AutoTest {
                 assertThat(fastLeeresAuto.isMotorLaeuft()).isFalse();
             }
 
+            @Test
+            @DisplayName("Sollte standardmäßig laut Verbrauchskennfeld verbrauchen")
+            void sollteStandardmaessigLautKennfeldVerbrauchen() {
+                // Arrange
+                auto.starteMotor().fahreLos();
+                double tankstandVorher = auto.getTankstand();
+
+                // Act
+                auto.beschleunige(49.0);
+
+                // Assert - Mehrverbrauch gegenüber Konstantfahrt, nicht 0.001 * delta
+                assertThat(auto.getVerbrauchsModell()).isSameAs(Verbrauchskennfeld.STANDARD);
+                assertThat(tankstandVorher - auto.getTankstand()).isCloseTo(0.01304, within(1e-5));
+            }
+
+            @Test
+            @DisplayName("Sollte standardmäßig im Leerlauf 0.8 Liter pro Stunde verbrauchen")
+            void sollteStandardmaessigImLeerlaufVerbrauchen() {
+                // Arrange
+                auto.starteMotor();
+
+                // Act - eine Stunde Stillstand mit laufendem Motor
+                auto.rolleAus(3600.0);
+
+                // Assert
+                assertThat(auto.getTankstand()).isCloseTo(20.0 - 0.8, within(1e-9));
+            }
+
+            @Test
+            @DisplayName("Sollte mit dem einfachen Modell 0.001 Liter pro km/h verbrauchen")
+            void sollteMitEinfachemModellUrspruenglichVerbrauchen() {
+                // Arrange
+                auto.mitVerbrauchsModell(VerbrauchsModell.EINFACH).starteMotor().fahreLos();
+
+                // Act
+                auto.beschleunige(49.0).rolleAus(3600.0);
+
+                // Assert - fahreLos 0.001, beschleunige 0.049, Ausrollen kostenlos
+                assertThat(auto.getTankstand()).isCloseTo(20.0 - 0.05, within(1e-9));
+            }
+
             @Test
             @DisplayName("Sollte kein Treibstoff beim Bremsen verbrauchen")
             void sollteKeinTreibstoffBeimBremsenVerbrauchen() {
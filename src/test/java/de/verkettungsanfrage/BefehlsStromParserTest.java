@@ -0,0 +1,145 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für den streamenden Befehlsparser.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("BefehlsStromParser Unit Tests")
+class BefehlsStromParserTest {
+
+    @TempDir
+    Path verzeichnis;
+
+    /**
+     * Liest eine Datei und gibt alle Befehle als "zeit|fahrzeug|befehl|wert" zurück.
+     */
+    private List<String> lese(Path datei, BefehlsStromParser parser) throws IOException {
+        List<String> befehle = new ArrayList<>();
+        parser.lese(datei, block -> {
+            for (int i = 0; i < block.getAnzahl(); i++) {
+                befehle.add(block.getZeit(i) + "|" + block.getFahrzeug(i) + "|" + block.getBefehl(i)
+                        + "|" + block.getWert(i));
+            }
+        });
+        return befehle;
+    }
+
+    @Test
+    @DisplayName("Sollte Befehle, Fahrzeuge, Kommentare und CRLF lesen")
+    void sollteFormatLesen() throws IOException {
+        // Arrange
+        Path datei = Files.writeString(verzeichnis.resolve("strom.txt"), """
+                # Kopfkommentar
+
+                0 STARTE_MOTOR\r
+                0\tfahre_los   # Kleinschreibung erlaubt
+                1.25 @7 BESCHLEUNIGE 80.5
+                2 @12 TANKEN -0.001""");
+
+        // Act
+        List<String> befehle = lese(datei, new BefehlsStromParser());
+
+        // Assert
+        assertThat(befehle).containsExactly(
+                "0.0|-1|STARTE_MOTOR|0.0",
+                "0.0|-1|FAHRE_LOS|0.0",
+                "1.25|7|BESCHLEUNIGE|80.5",
+                "2.0|12|TANKEN|-0.001");
+    }
+
+    @Test
+    @DisplayName("Sollte über Fenstergrenzen hinweg wie Double.parseDouble dekodieren")
+    void sollteUeberFenstergrenzenExaktDekodieren() throws IOException {
+        // Arrange
+        Random zufall = new Random(42);
+        Befehl[] alle = Befehl.values();
+        StringBuilder inhalt = new StringBuilder();
+        List<String> erwartet = new ArrayList<>();
+        double zeit = 0.0;
+        for (int i = 0; i < 2000; i++) {
+            zeit += zufall.nextInt(300) / 100.0;
+            Befehl b = alle[zufall.nextInt(alle.length)];
+            String zeitText = String.format(Locale.ROOT, "%.2f", zeit);
+            String wertText = i % 97 == 0 ? "0.1234567890123456789" : String.format(Locale.ROOT, "%.3f", zufall.nextDouble() * 100);
+            inhalt.append(zeitText).append(" @").append(i).append(' ').append(b.name());
+            if (b.hatWert()) {
+                inhalt.append(' ').append(wertText);
+            }
+            inhalt.append('\n');
+            erwartet.add(Double.parseDouble(zeitText) + "|" + i + "|" + b + "|"
+                    + (b.hatWert() ? Double.parseDouble(wertText) : 0.0));
+        }
+        Path datei = Files.writeString(verzeichnis.resolve("zufall.txt"), inhalt);
+
+        // Act & Assert
+        for (int fenster : new int[]{64, 100, 4096, BefehlsStromParser.STANDARD_FENSTER}) {
+            assertThat(lese(datei, new BefehlsStromParser(37, fenster))).as("Fenster %d", fenster).isEqualTo(erwartet);
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte Befehle blockweise auf Flotte und Auto anwenden")
+    void sollteBefehleAnwenden() throws IOException {
+        // Arrange
+        Path datei = Files.writeString(verzeichnis.resolve("fahrt.txt"),
+                "0 STARTE_MOTOR\n0 FAHRE_LOS\n1 @1 BESCHLEUNIGE 50\n");
+        Flotte flotte = new Flotte(3);
+        for (int i = 0; i < 3; i++) {
+            flotte.hinzufuegen("VW Golf", 40.0, 200);
+        }
+        Auto auto = new Auto("VW Golf", 40.0, 200);
+
+        // Act
+        long anzahl = new BefehlsStromParser(2).lese(datei, block -> block.ausfuehren(flotte));
+        new BefehlsStromParser().lese(datei, block -> block.ausfuehren(auto));
+
+        // Assert
+        assertThat(anzahl).isEqualTo(3);
+        assertThat(flotte.getGeschwindigkeit(0)).isEqualTo(1.0);
+        assertThat(flotte.getGeschwindigkeit(1)).isEqualTo(51.0);
+        assertThat(flotte.getGeschwindigkeit(2)).isEqualTo(1.0);
+        assertThat(auto.getGeschwindigkeit()).isEqualTo(51.0);
+    }
+
+    @Test
+    @DisplayName("Sollte ungültige Zeilen mit Zeilennummer melden")
+    void sollteFehlerMitZeilennummerMelden() throws IOException {
+        // Arrange
+        Path datei = verzeichnis.resolve("kaputt.txt");
+        BefehlsStromParser parser = new BefehlsStromParser();
+
+        // Act & Assert
+        Files.writeString(datei, "0 HUPE\n1 FLIEGE\n");
+        assertThatThrownBy(() -> parser.lese(datei, block -> { }))
+                .isInstanceOf(IOException.class).hasMessageContaining("Zeile 2: Unbekannter Befehl");
+        Files.writeString(datei, "1 BESCHLEUNIGE\n");
+        assertThatThrownBy(() -> parser.lese(datei, block -> { }))
+                .hasMessageContaining("Zeile 1: BESCHLEUNIGE benötigt einen Wert");
+        Files.writeString(datei, "2 HUPE\n1 HUPE\n");
+        assertThatThrownBy(() -> parser.lese(datei, block -> { }))
+                .hasMessageContaining("Zeile 2: Zeit nicht aufsteigend");
+        Files.writeString(datei, "1 HUPE 3\n");
+        assertThatThrownBy(() -> parser.lese(datei, block -> { }))
+                .hasMessageContaining("Unerwartete Angabe");
+        Files.writeString(datei, "0 " + "HUPE".repeat(40) + "\n");
+        assertThatThrownBy(() -> new BefehlsStromParser(16, 64).lese(datei, block -> { }))
+                .hasMessageContaining("länger als 64 Byte");
+    }
+}
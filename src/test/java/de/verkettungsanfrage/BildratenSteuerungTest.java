@@ -0,0 +1,169 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für die adaptive Bildratensteuerung.
+ *
+ * Der UI-Thread wird durch eine Warteschlange nachgebildet, die der Test
+ * selbst abarbeitet.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("BildratenSteuerung Unit Tests")
+class BildratenSteuerungTest {
+
+    private static final long START = 1_000_000_000L;
+
+    /** Aufzeichnende Anzeige mit einstellbarem Zustand. */
+    private static final class TestQuelle implements BildratenSteuerung.Bildquelle {
+        final List<String> ereignisse = new ArrayList<>();
+        boolean animiert;
+        boolean inRuhe;
+
+        @Override
+        public void dauerbetrieb(boolean an) {
+            ereignisse.add(an ? "an" : "aus");
+        }
+
+        @Override
+        public void zeichne(long jetzt, boolean einzelbild) {
+            ereignisse.add(einzelbild ? "einzelbild" : "bild");
+        }
+
+        @Override
+        public boolean istAnimiert() {
+            return animiert;
+        }
+
+        @Override
+        public boolean istInRuhe() {
+            return inRuhe;
+        }
+    }
+
+    private final BlockingQueue<Runnable> uiThread = new LinkedBlockingQueue<>();
+    private final long[] uhr = {START};
+    private final TestQuelle quelle = new TestQuelle();
+
+    private void arbeiteUiThreadAb() {
+        Runnable aufgabe;
+        while ((aufgabe = uiThread.poll()) != null) {
+            aufgabe.run();
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte im Dauerbetrieb auf die Höchstbildrate begrenzen")
+    void sollteAufHoechstbildrateBegrenzen() {
+        // Arrange
+        quelle.animiert = true;
+        try (BildratenSteuerung steuerung = new BildratenSteuerung(30, 4, uiThread::add, quelle, () -> uhr[0])) {
+            steuerung.start();
+
+            // Act: 60-Hz-Pulse über eine Sekunde
+            for (int i = 0; i < 60; i++) {
+                steuerung.puls(START + i * 16_666_667L);
+            }
+
+            // Assert
+            assertThat(steuerung.getModus()).isEqualTo(BildratenSteuerung.Modus.AKTIV);
+            assertThat(steuerung.getBilder()).isEqualTo(30);
+            assertThat(quelle.ereignisse).startsWith("an", "bild").doesNotContain("aus");
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte im Stillstand nach dem Nachlauf schlafen und durch wecke() aufwachen")
+    void sollteSchlafenUndAufwachen() {
+        // Arrange
+        quelle.inRuhe = true;
+        try (BildratenSteuerung steuerung = new BildratenSteuerung(60, 4, uiThread::add, quelle, () -> uhr[0])) {
+            steuerung.start();
+
+            // Act
+            steuerung.puls(START);
+            steuerung.puls(START + BildratenSteuerung.NACHLAUF_NANOS / 2);
+            BildratenSteuerung.Modus waehrendNachlauf = steuerung.getModus();
+            steuerung.puls(START + BildratenSteuerung.NACHLAUF_NANOS);
+            BildratenSteuerung.Modus danach = steuerung.getModus();
+            steuerung.puls(START + 2 * BildratenSteuerung.NACHLAUF_NANOS);
+            steuerung.wecke();
+            arbeiteUiThreadAb();
+
+            // Assert
+            assertThat(waehrendNachlauf).isEqualTo(BildratenSteuerung.Modus.AKTIV);
+            assertThat(danach).isEqualTo(BildratenSteuerung.Modus.SCHLAF);
+            assertThat(steuerung.getModus()).isEqualTo(BildratenSteuerung.Modus.AKTIV);
+            assertThat(steuerung.getBilder()).isEqualTo(3);
+            assertThat(quelle.ereignisse).containsExactly("an", "bild", "bild", "bild", "aus", "an");
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte bei laufendem Motor Einzelbilder mit der Mindestbildrate zeichnen")
+    void sollteGedrosseltEinzelbilderZeichnen() throws InterruptedException {
+        // Arrange
+        try (BildratenSteuerung steuerung = new BildratenSteuerung(60, 50, uiThread::add, quelle, () -> uhr[0])) {
+            steuerung.start();
+            steuerung.puls(START + BildratenSteuerung.NACHLAUF_NANOS);
+
+            // Act
+            for (int i = 0; i < 3; i++) {
+                Runnable einzelbild = uiThread.poll(5, TimeUnit.SECONDS);
+                assertThat(einzelbild).isNotNull();
+                einzelbild.run();
+            }
+            quelle.animiert = true;
+            uiThread.poll(5, TimeUnit.SECONDS).run();
+
+            // Assert
+            assertThat(steuerung.getEinzelbilder()).isEqualTo(4);
+            assertThat(steuerung.getModus()).isEqualTo(BildratenSteuerung.Modus.AKTIV);
+            assertThat(quelle.ereignisse).containsExactly(
+                    "an", "bild", "aus", "einzelbild", "einzelbild", "einzelbild", "einzelbild", "an");
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte wecke() im Dauerbetrieb als Bewegung werten")
+    void sollteWeckenImDauerbetriebAlsBewegungWerten() {
+        // Arrange
+        quelle.inRuhe = true;
+        try (BildratenSteuerung steuerung = new BildratenSteuerung(60, 4, uiThread::add, quelle, () -> uhr[0])) {
+            steuerung.start();
+            steuerung.puls(START);
+
+            // Act
+            steuerung.wecke();
+            steuerung.puls(START + BildratenSteuerung.NACHLAUF_NANOS);
+            steuerung.puls(START + BildratenSteuerung.NACHLAUF_NANOS + 20_000_000L);
+
+            // Assert
+            assertThat(uiThread).isEmpty();
+            assertThat(steuerung.getModus()).isEqualTo(BildratenSteuerung.Modus.AKTIV);
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte ungültige Bildraten ablehnen")
+    void sollteUngueltigeBildratenAblehnen() {
+        // Assert
+        assertThatThrownBy(() -> new BildratenSteuerung(0, 4, Runnable::run, quelle))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BildratenSteuerung(30, 60, Runnable::run, quelle))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Mindestbildrate");
+    }
+}
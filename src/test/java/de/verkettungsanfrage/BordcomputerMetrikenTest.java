@@ -0,0 +1,121 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für die JMX-Kennzahlen von Bordcomputer und Flotte.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("BordcomputerMetriken Unit Tests")
+class BordcomputerMetrikenTest {
+
+    @Test
+    @DisplayName("Sollte Frames zählen und lange Abstände als ausgelassen werten")
+    void sollteAusgelasseneFramesZaehlen() {
+        // Arrange
+        BordcomputerMetriken metriken = new BordcomputerMetriken(
+                new Simulation(new Auto("VW Golf", 40.0, 200), 100), 60);
+
+        // Act
+        metriken.frame(0);
+        metriken.frame(16_666_666L);
+        metriken.frame(20_000_000L);
+        metriken.frame(50_000_000L);
+
+        // Assert
+        assertThat(metriken.getFrames()).isEqualTo(4);
+        assertThat(metriken.getVerworfeneFrames()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Sollte Zustand der Simulation über den MBean-Server liefern")
+    void sollteZustandUeberJmxLiefern() throws Exception {
+        // Arrange
+        Simulation simulation = new Simulation(new Auto("VW Golf", 40.0, 200), 100);
+        simulation.befehl(Befehl.STARTE_MOTOR, 0);
+        simulation.befehl(Befehl.FAHRE_LOS, 0);
+        simulation.befehl(Befehl.BESCHLEUNIGE, 30);
+        simulation.laufeSchritte(10);
+        BordcomputerMetriken metriken = new BordcomputerMetriken(simulation, 60).registriere();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(BordcomputerMetriken.OBJEKTNAME);
+
+        try {
+            // Act
+            double geschwindigkeit = (Double) server.getAttribute(name, "Geschwindigkeit");
+            long schritte = (Long) server.getAttribute(name, "Simulationsschritte");
+            boolean motor = (Boolean) server.getAttribute(name, "MotorLaeuft");
+
+            // Assert
+            assertThat(geschwindigkeit).isEqualTo(simulation.getZustand().geschwindigkeit()).isPositive();
+            assertThat(schritte).isEqualTo(10);
+            assertThat(motor).isTrue();
+            assertThatThrownBy(() -> new BordcomputerMetriken(simulation, 60).registriere())
+                    .isInstanceOf(InstanceAlreadyExistsException.class);
+        } finally {
+            metriken.abmelden();
+        }
+
+        assertThat(server.isRegistered(name)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Sollte Flottenwerte aggregieren und Ticks aufsummieren")
+    void sollteFlottenwerteAggregieren() throws Exception {
+        // Arrange
+        Flotte flotte = new Flotte(4);
+        for (int i = 0; i < 4; i++) {
+            flotte.hinzufuegen("VW Golf", 10.0, 200);
+        }
+        flotte.starteMotor(0);
+        flotte.fahreLos(0);
+        flotte.beschleunige(0, 40);
+        flotte.starteMotor(1);
+        FlottenMetriken metriken = new FlottenMetriken(flotte).registriere("test");
+
+        try {
+            // Act
+            metriken.erfasse(new TickStatistik(0.5, 1));
+            metriken.erfasse(new TickStatistik(0.25, 0));
+            Object fahrend = ManagementFactory.getPlatformMBeanServer().getAttribute(
+                    new ObjectName(FlottenMetriken.OBJEKTNAME_PRAEFIX + ObjectName.quote("test")), "Fahrend");
+
+            // Assert
+            assertThat(metriken.getAnzahl()).isEqualTo(4);
+            assertThat(metriken.getMotorAn()).isEqualTo(2);
+            assertThat(fahrend).isEqualTo(1);
+            assertThat(metriken.getDurchschnittsgeschwindigkeit()).isEqualTo(flotte.getGeschwindigkeit(0) / 4);
+            assertThat(metriken.getGesamtTankstand())
+                    .isCloseTo(flotte.getTankstand(0) + flotte.getTankstand(1) + 20.0, within(1e-9));
+            assertThat(metriken.getTicks()).isEqualTo(2);
+            assertThat(metriken.getVerbrauchterKraftstoff()).isEqualTo(0.75);
+            assertThat(metriken.getLiegengeblieben()).isEqualTo(1);
+        } finally {
+            metriken.abmelden();
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte Raten erst nach einer Sekunde neu berechnen")
+    void sollteRatenBerechnen() {
+        // Arrange
+        BordcomputerMetriken.Rate rate = new BordcomputerMetriken.Rate();
+
+        // Act & Assert
+        assertThat(rate.berechne(100, 0L)).isZero();
+        assertThat(rate.berechne(150, 500_000_000L)).isZero();
+        assertThat(rate.berechne(300, 2_000_000_000L)).isEqualTo(100.0);
+        assertThat(rate.berechne(400, 2_100_000_000L)).isEqualTo(100.0);
+    }
+}
@@ -0,0 +1,108 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für Fahrer-Agenten auf virtuellen Threads.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("FahrerLaufzeit Unit Tests")
+class FahrerLaufzeitTest {
+
+    @Test
+    @DisplayName("Sollte in Simulationszeit warten und wie eine direkte Schleife rechnen")
+    void sollteInSimulationszeitWarten() {
+        // Arrange
+        Auto erwartet = new Auto("VW Golf", 40.0, 200).starteMotor().fahreLos().beschleunige(30);
+        for (int i = 0; i < 200; i++) {
+            erwartet.rolleAus(0.01);
+        }
+        erwartet.bremsen(20);
+        for (int i = 0; i < 300; i++) {
+            erwartet.rolleAus(0.01);
+        }
+        double[] weckzeit = new double[1];
+
+        // Act
+        try (FahrerLaufzeit laufzeit = new FahrerLaufzeit(100)) {
+            FahrerLaufzeit.Fahrer fahrer = laufzeit.starte(new Auto("VW Golf", 40.0, 200), f -> {
+                f.auto().starteMotor().fahreLos().beschleunige(30);
+                f.warte(2.0).auto().bremsen(20);
+                weckzeit[0] = f.zeit();
+            });
+            laufzeit.laufeBis(5.0);
+
+            // Assert
+            assertThat(fahrer.isFertig()).isTrue();
+            assertThat(weckzeit[0]).isEqualTo(2.0);
+            assertThat(fahrer.auto().zustand()).isEqualTo(erwartet.zustand());
+            assertThat(laufzeit.statistik().weckungen()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte viele Fahrer deterministisch ausführen und Kennzahlen liefern")
+    void sollteVieleFahrerAusfuehren() {
+        // Arrange
+        List<FahrerLaufzeit.Fahrer> fahrer = new ArrayList<>();
+        FahrerLaufzeit laufzeit = new FahrerLaufzeit(10);
+        for (int i = 0; i < 10_000; i++) {
+            int gas = 1 + i % 5;
+            fahrer.add(laufzeit.starte(new Auto("VW Golf", 50.0, 200), f -> {
+                f.auto().starteMotor().fahreLos();
+                for (int j = 0; j < 10; j++) {
+                    f.auto().beschleunige(gas);
+                    f.warte(0.5);
+                }
+            }));
+        }
+
+        // Act
+        LaufzeitStatistik statistik = laufzeit.laufeBis(10.0).statistik();
+        laufzeit.close();
+
+        // Assert
+        assertThat(statistik.beendeteFahrer()).isEqualTo(10_000);
+        assertThat(statistik.aktiveFahrer()).isZero();
+        assertThat(statistik.weckungen()).isEqualTo(110_000);
+        assertThat(statistik.maxLatenzNanos()).isGreaterThanOrEqualTo(statistik.mittlereLatenzNanos());
+        assertThat(statistik.weckungenProSekunde()).isPositive();
+        assertThat(fahrer.get(3).auto().zustand()).isEqualTo(fahrer.get(8).auto().zustand());
+    }
+
+    @Test
+    @DisplayName("Sollte Fehler erfassen und wartende Skripte beim Schließen abbrechen")
+    void sollteFehlerErfassenUndAbbrechen() {
+        // Arrange
+        FahrerLaufzeit laufzeit = new FahrerLaufzeit(10);
+        FahrerLaufzeit.Fahrer fehlerhaft = laufzeit.starte(new Auto("VW Golf", 50.0, 200), f -> {
+            f.warte(1.0);
+            throw new IllegalStateException("Testfehler");
+        });
+        FahrerLaufzeit.Fahrer endlos = laufzeit.starte(new Auto("VW Golf", 50.0, 200), f -> {
+            while (true) {
+                f.warte(1.0);
+            }
+        });
+
+        // Act
+        laufzeit.laufeBis(3.0);
+        laufzeit.close();
+
+        // Assert
+        assertThat(fehlerhaft.getFehler()).isInstanceOf(IllegalStateException.class).hasMessage("Testfehler");
+        assertThat(laufzeit.statistik().fehlgeschlageneFahrer()).isEqualTo(1);
+        assertThat(endlos.isFertig()).isTrue();
+        assertThat(endlos.getFehler()).isNull();
+        assertThatThrownBy(() -> laufzeit.laufeSchritte(1)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,151 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static de.verkettungsanfrage.Fahrtenrechner.Zaehler.A;
+import static de.verkettungsanfrage.Fahrtenrechner.Zaehler.B;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für den Fahrtenrechner und die Fahrtstatistik der Simulation.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Fahrtenrechner Unit Tests")
+class FahrtenrechnerTest {
+
+    private final Fahrtenrechner rechner = new Fahrtenrechner();
+
+    @Test
+    @DisplayName("Sollte Strecke, Durchschnitt und Maximum fortschreiben")
+    void sollteKennzahlenFortschreiben() {
+        // Act - eine Stunde mit 60 km/h, danach eine Stunde mit 120 km/h
+        for (int i = 0; i < 3600; i++) {
+            rechner.erfasse(60.0, 50.0, true, 1.0);
+        }
+        for (int i = 0; i < 3600; i++) {
+            rechner.erfasse(120.0, 50.0, true, 1.0);
+        }
+
+        // Assert
+        assertThat(rechner.getStrecke(A)).isCloseTo(180.0, within(1e-6));
+        assertThat(rechner.getFahrzeit(A)).isEqualTo(7200.0);
+        assertThat(rechner.getDurchschnittsgeschwindigkeit(A)).isCloseTo(90.0, within(1e-6));
+        assertThat(rechner.getMaxGeschwindigkeit(A)).isEqualTo(120.0);
+    }
+
+    @Test
+    @DisplayName("Sollte den Durchschnittsverbrauch ohne Nachtanken berechnen")
+    void sollteVerbrauchOhneNachtankenBerechnen() {
+        // Act - 100 km mit 100 km/h, dabei 6 Liter verbrauchen und zwischendurch tanken
+        double tank = 40.0;
+        for (int i = 0; i < 3600; i++) {
+            tank -= 6.0 / 3600;
+            if (i == 1800) {
+                tank += 10.0;
+            }
+            rechner.erfasse(100.0, tank, true, 1.0);
+        }
+
+        // Assert
+        assertThat(rechner.getVerbrauch(A)).isCloseTo(6.0, within(0.01));
+        assertThat(rechner.getDurchschnittsverbrauch(A)).isCloseTo(6.0, within(0.01));
+    }
+
+    @Test
+    @DisplayName("Sollte die Fahrzeit nur bei laufendem Motor zählen")
+    void sollteFahrzeitNurMitMotorZaehlen() {
+        // Act
+        rechner.erfasse(0.0, 50.0, false, 600.0).erfasse(0.0, 50.0, true, 60.0);
+
+        // Assert
+        assertThat(rechner.getFahrzeit(A)).isEqualTo(60.0);
+        assertThat(rechner.getDurchschnittsgeschwindigkeit(A)).isZero();
+    }
+
+    @Test
+    @DisplayName("Sollte die Fahrtzähler unabhängig voneinander zurücksetzen")
+    void sollteZaehlerUnabhaengigZuruecksetzen() {
+        // Arrange
+        for (int i = 0; i < 60; i++) {
+            rechner.erfasse(60.0, 50.0, true, 1.0);
+        }
+
+        // Act
+        rechner.zuruecksetzen(B);
+        rechner.erfasse(60.0, 50.0, true, 60.0);
+
+        // Assert
+        assertThat(rechner.getStrecke(A)).isCloseTo(2.0, within(1e-9));
+        assertThat(rechner.getStrecke(B)).isCloseTo(1.0, within(1e-9));
+        assertThat(rechner.statistik(B).maxGeschwindigkeit()).isEqualTo(60.0);
+    }
+
+    @Test
+    @DisplayName("Sollte die Reichweite aus dem Verbrauch der letzten Kilometer schätzen")
+    void sollteReichweiteSchaetzen() {
+        // Arrange - lange Fahrt mit 5 l/100 km
+        double tank = 50.0;
+        for (int i = 0; i < 3600; i++) {
+            tank -= 5.0 / 3600;
+            rechner.erfasse(100.0, tank, true, 1.0);
+        }
+        double sparsam = rechner.getReichweite();
+
+        // Act - 30 km mit 10 l/100 km
+        for (int i = 0; i < 1080; i++) {
+            tank -= 10.0 / 3600;
+            rechner.erfasse(100.0, tank, true, 1.0);
+        }
+
+        // Assert - Reichweite passt sich dem aktuellen Verbrauch an
+        assertThat(sparsam).isCloseTo(45.0 / 0.05, within(1.0));
+        assertThat(rechner.getAktuellerVerbrauch()).isCloseTo(10.0, within(0.5));
+        assertThat(rechner.getReichweite()).isCloseTo(tank / 0.10, within(tank / 0.10 * 0.05));
+    }
+
+    @Test
+    @DisplayName("Sollte die Reichweite im Leerlauf nach dem Motorstart nicht einbrechen lassen")
+    void sollteReichweiteImLeerlaufHalten() {
+        // Arrange
+        double tank = 50.0;
+        rechner.erfasse(0.0, tank, true, 0.0);
+        double anfang = rechner.getReichweite();
+
+        // Act - 30 Minuten Leerlauf mit 0.8 l/h
+        for (int i = 0; i < 1800; i++) {
+            tank -= 0.8 / 3600;
+            rechner.erfasse(0.0, tank, true, 1.0);
+        }
+
+        // Assert - 0.4 l Leerlauf verteilt auf das ganze Fenster von 10 km
+        assertThat(anfang).isCloseTo(50.0 / 0.06, within(1.0));
+        assertThat(rechner.getReichweite()).isCloseTo(49.6 / 0.1, within(1.0));
+    }
+
+    @Test
+    @DisplayName("Sollte die Fahrtstatistik in der Simulation veröffentlichen")
+    void sollteStatistikInSimulationVeroeffentlichen() {
+        // Arrange
+        Simulation sim = new Simulation(new Auto("VW Golf", 40.0, 200), 100);
+        sim.befehl(Befehl.STARTE_MOTOR, 0.0);
+        sim.befehl(Befehl.FAHRE_LOS, 0.0);
+        sim.befehl(Befehl.BESCHLEUNIGE, 89.0);
+
+        // Act - 10 simulierte Sekunden Ausrollen von 90 auf 70 km/h
+        sim.laufeSchritte(1000);
+        FahrtStatistik a = sim.getFahrtStatistik(A);
+        sim.setzeFahrtZurueck(B);
+        sim.laufeSchritte(1);
+
+        // Assert
+        assertThat(a.strecke()).isCloseTo(80.0 * 10 / 3600, within(0.001));
+        assertThat(a.maxGeschwindigkeit()).isCloseTo(90.0, within(0.1));
+        assertThat(a.durchschnittsverbrauch()).isPositive();
+        assertThat(a.reichweite()).isPositive();
+        assertThat(sim.getFahrtStatistik(B).strecke()).isLessThan(0.01);
+    }
+}
@@ -0,0 +1,188 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für die Flotte-Klasse.
+ * Prüft, dass die spaltenweise gespeicherte Flotte dieselbe Semantik
+ * wie einzelne Auto-Objekte besitzt.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Flotte Unit Tests")
+class FlotteTest {
+
+    private Flotte flotte;
+
+    /**
+     * Initialisiert eine Flotte mit drei Fahrzeugen vor jedem Test.
+     * Fahrzeug 2 hat einen leeren Tank.
+     */
+    @BeforeEach
+    void setUp() {
+        flotte = new Flotte(100);
+        flotte.hinzufuegen("VW Golf", 20.0, 200);
+        flotte.hinzufuegen("BMW 3er", 100.0, 250);
+        flotte.hinzufuegen("Tesla Model 3", 0.0, 220);
+    }
+
+    @Nested
+    @DisplayName("Bulk Tests")
+    class BulkTests {
+
+        @Test
+        @DisplayName("Sollte Tankstand beim Hinzufügen begrenzen")
+        void sollteTankstandBeimHinzufuegenBegrenzen() {
+            assertThat(flotte.getAnzahl()).isEqualTo(3);
+            assertThat(flotte.getTankstand(1)).isEqualTo(50.0);
+        }
+
+        @Test
+        @DisplayName("Sollte nur Motoren mit Treibstoff starten")
+        void sollteNurMotorenMitTreibstoffStarten() {
+            // Act
+            flotte.starteAlleMotoren();
+
+            // Assert
+            assertThat(flotte.istMotorAn(0)).isTrue();
+            assertThat(flotte.istMotorAn(1)).isTrue();
+            assertThat(flotte.istMotorAn(2)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Sollte sich beim Beschleunigen wie einzelne Autos verhalten")
+        void sollteSichBeimBeschleunigenWieAutosVerhalten() {
+            // Arrange
+            Auto referenz = new Auto("VW Golf", 20.0, 200);
+            referenz.starteMotor().beschleunige(30.0).beschleunige(250.0).bremsen(20.0);
+
+            // Act
+            flotte.starteAlleMotoren().beschleunigeAlle(30.0).beschleunigeAlle(250.0).bremseAlle(20.0);
+
+            // Assert
+            assertThat(flotte.getGeschwindigkeit(0)).isEqualTo(referenz.getGeschwindigkeit());
+            assertThat(flotte.getTankstand(0)).isEqualTo(referenz.getTankstand());
+            assertThat(flotte.getGeschwindigkeit(2)).isEqualTo(0.0);
+        }
+
+        @Test
+        @DisplayName("Sollte Motoren stoppen und Geschwindigkeit zurücksetzen")
+        void sollteMotorenStoppenUndGeschwindigkeitZuruecksetzen() {
+            // Arrange
+            flotte.starteAlleMotoren().beschleunigeAlle(50.0);
+
+            // Act
+            flotte.stoppeAlleMotoren();
+
+            // Assert
+            assertThat(flotte.istMotorAn(0)).isFalse();
+            assertThat(flotte.getGeschwindigkeit(0)).isEqualTo(0.0);
+        }
+
+        @Test
+        @DisplayName("Sollte bei voller Flotte Ausnahme werfen")
+        void sollteBeiVollerFlotteAusnahmeWerfen() {
+            Flotte klein = new Flotte(1);
+            klein.hinzufuegen("VW Golf", 10.0, 200);
+
+            assertThatThrownBy(() -> klein.hinzufuegen("VW Polo", 10.0, 180))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Fahrzeug-Ansicht Tests")
+    class AnsichtTests {
+
+        @Test
+        @DisplayName("Sollte Method Chaining auf der Ansicht unterstützen")
+        void sollteMethodChainingAufDerAnsichtUnterstuetzen() {
+            // Act
+            Auto ansicht = flotte.fahrzeug(0).starteMotor().fahreLos().beschleunige(49.0);
+
+            // Assert
+            assertThat(ansicht.getGeschwindigkeit()).isEqualTo(50.0);
+            assertThat(flotte.getGeschwindigkeit(0)).isEqualTo(50.0);
+            assertThat(ansicht.getModell()).isEqualTo("VW Golf");
+        }
+
+        @Test
+        @DisplayName("Sollte Ansicht auf anderes Fahrzeug umlenken können")
+        void sollteAnsichtUmlenkenKoennen() {
+            // Arrange
+            Flotte.Fahrzeug ansicht = flotte.fahrzeug(0);
+
+            // Act
+            ansicht.zeigeAuf(1).starteMotor();
+
+            // Assert
+            assertThat(ansicht.getModell()).isEqualTo("BMW 3er");
+            assertThat(flotte.istMotorAn(1)).isTrue();
+            assertThat(flotte.istMotorAn(0)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Sollte das Verbrauchsmodell für die ganze Flotte setzen")
+        void sollteVerbrauchsmodellFuerDieGanzeFlotteSetzen() {
+            // Act
+            Auto ansicht = flotte.fahrzeug(0).mitVerbrauchsModell(VerbrauchsModell.EINFACH)
+                    .starteMotor().fahreLos().beschleunige(49.0);
+
+            // Assert
+            assertThat(ansicht.getVerbrauchsModell()).isSameAs(VerbrauchsModell.EINFACH);
+            assertThat(flotte.fahrzeug(1).getVerbrauchsModell()).isSameAs(VerbrauchsModell.EINFACH);
+            assertThat(ansicht.getTankstand()).isCloseTo(20.0 - 0.05, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("Sollte den Zustand aus den Arrays der Flotte liefern")
+        void sollteZustandAusDenArraysLiefern() {
+            // Arrange
+            Auto ansicht = flotte.fahrzeug(1).starteMotor().fahreLos().beschleunige(29.0);
+
+            // Act
+            AutoZustand zustand = ansicht.zustand();
+
+            // Assert
+            assertThat(zustand).isEqualTo(new AutoZustand(30.0, flotte.getTankstand(1), true, 250, 50.0));
+            assertThat(ansicht.getMaxTankstand()).isEqualTo(50.0);
+        }
+
+        @Test
+        @DisplayName("Sollte den Zustand aus den Arrays der Flotte veröffentlichen")
+        void sollteZustandAusDenArraysVeroeffentlichen() {
+            // Arrange
+            Auto ansicht = flotte.fahrzeug(1).starteMotor();
+            ZustandsPuffer puffer = new ZustandsPuffer(new AutoZustand(0.0, 0.0, false, 0, 0.0));
+
+            // Act
+            ansicht.veroeffentlicheZustand(puffer, 3);
+
+            // Assert
+            assertThat(puffer.lese()).isEqualTo(ansicht.zustand());
+            assertThat(puffer.lese(new ZustandsPuffer.Rahmen()).schritt()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Sollte bei Anzeige und Hupe die Ansicht zurückgeben")
+        void sollteBeiAnzeigeUndHupeAnsichtZurueckgeben() {
+            Flotte.Fahrzeug ansicht = flotte.fahrzeug(2);
+
+            assertThat(ansicht.zeigeZustand().hupe()).isSameAs(ansicht);
+        }
+
+        @Test
+        @DisplayName("Sollte ungültigen Index ablehnen")
+        void sollteUngueltigenIndexAblehnen() {
+            assertThatThrownBy(() -> flotte.fahrzeug(3))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für den kritisch gedämpften Feder-Interpolator.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("GedaempfterWert Unit Tests")
+class GedaempfterWertTest {
+
+    private static final double FRAME = 1.0 / 60;
+
+    @Test
+    @DisplayName("Sollte Ziel ohne Überschwingen erreichen und zur Ruhe kommen")
+    void sollteZielOhneUeberschwingenErreichen() {
+        // Arrange
+        GedaempfterWert wert = new GedaempfterWert(0.3);
+        wert.setZiel(46.0);
+
+        // Act & Assert
+        for (int i = 0; i < 180; i++) {
+            wert.aktualisiere(FRAME);
+            assertThat(wert.getWert()).isLessThanOrEqualTo(46.0);
+        }
+        assertThat(wert.getWert()).isEqualTo(46.0);
+        assertThat(wert.istInRuhe()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Sollte im Ruhezustand keine Änderung melden")
+    void sollteImRuhezustandKeineAenderungMelden() {
+        // Arrange
+        GedaempfterWert wert = new GedaempfterWert(0.8);
+        wert.springeZu(30.0);
+
+        // Act & Assert
+        assertThat(wert.setZiel(30.0)).isFalse();
+        assertThat(wert.aktualisiere(FRAME)).isFalse();
+        assertThat(wert.getWert()).isEqualTo(30.0);
+    }
+
+    @Test
+    @DisplayName("Sollte bei neuem Ziel stetig umschwenken")
+    void sollteBeiNeuemZielStetigUmschwenken() {
+        // Arrange
+        GedaempfterWert wert = new GedaempfterWert(0.8);
+        wert.setZiel(150.0);
+        for (int i = 0; i < 10; i++) {
+            wert.aktualisiere(FRAME);
+        }
+        double vorher = wert.getWert();
+
+        // Act - Ziel während der Bewegung ändern
+        assertThat(wert.setZiel(0.0)).isTrue();
+        wert.aktualisiere(FRAME);
+
+        // Assert - kein Sprung, Bewegung läuft kurz weiter
+        assertThat(wert.getWert()).isCloseTo(vorher, within(5.0));
+    }
+
+    @Test
+    @DisplayName("Sollte ungültige Einschwingzeit ablehnen")
+    void sollteUngueltigeEinschwingzeitAblehnen() {
+        assertThatThrownBy(() -> new GedaempfterWert(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,84 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für Latenzhistogramm und Phasenmessung.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("LatenzHistogramm Unit Tests")
+class LatenzHistogrammTest {
+
+    @Test
+    @DisplayName("Sollte kleine Werte exakt und große lückenlos einordnen")
+    void sollteWerteLueckenlosEinordnen() {
+        // Assert
+        assertThat(LatenzHistogramm.index(63)).isEqualTo(63);
+        assertThat(LatenzHistogramm.obergrenze(63)).isEqualTo(63);
+        for (long wert = 1; wert < 1_000_000; wert = wert * 3 / 2 + 1) {
+            int index = LatenzHistogramm.index(wert);
+            assertThat(LatenzHistogramm.obergrenze(index)).isGreaterThanOrEqualTo(wert);
+            assertThat(LatenzHistogramm.obergrenze(index - 1)).isLessThan(wert);
+        }
+        assertThat(LatenzHistogramm.obergrenze(LatenzHistogramm.index(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Sollte Perzentile mit höchstens 1/32 relativem Fehler liefern")
+    void solltePerzentileLiefern() {
+        // Arrange
+        LatenzHistogramm histogramm = new LatenzHistogramm();
+
+        // Act
+        for (int i = 1; i <= 10_000; i++) {
+            histogramm.erfasse(i * 1_000L);
+        }
+
+        // Assert
+        assertThat(histogramm.getAnzahl()).isEqualTo(10_000);
+        assertThat(histogramm.getMin()).isEqualTo(1_000);
+        assertThat(histogramm.getMax()).isEqualTo(10_000_000);
+        assertThat(histogramm.getMittelwert()).isEqualTo(5_000_500.0);
+        assertThat(histogramm.perzentil(0.5)).isBetween(5_000_000L, 5_000_000L + 5_000_000L / 32);
+        assertThat(histogramm.perzentil(0.99)).isBetween(9_900_000L, 9_900_000L + 9_900_000L / 32);
+        assertThat(histogramm.perzentil(1.0)).isEqualTo(10_000_000);
+    }
+
+    @Test
+    @DisplayName("Sollte bei ausgeschalteter Messung nichts erfassen")
+    void sollteAusgeschaltetNichtsErfassen() {
+        // Arrange
+        Leistungsmessung messung = new Leistungsmessung();
+
+        // Act
+        long t = messung.start();
+        messung.stopp(Leistungsmessung.Phase.TACHO, t);
+        messung.erfasse(Leistungsmessung.Phase.FRAME_ABSTAND, 16_000_000L);
+
+        // Assert
+        assertThat(t).isZero();
+        assertThat(messung.hatWerte()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Sollte Simulationsschritte messen und im Bericht ausweisen")
+    void sollteSimulationsschritteMessen() {
+        // Arrange
+        Leistungsmessung messung = new Leistungsmessung().setAktiv(true);
+        Simulation simulation = new Simulation(new Auto("VW Golf", 40.0, 200), 1000).setMessung(messung);
+
+        // Act
+        simulation.laufeSchritte(500);
+
+        // Assert
+        assertThat(messung.histogramm(Leistungsmessung.Phase.SIMULATION).getAnzahl()).isEqualTo(500);
+        assertThat(messung.histogramm(Leistungsmessung.Phase.TACHO).getAnzahl()).isZero();
+        assertThat(messung.bericht()).contains("Simulationsschritt").doesNotContain("drawTacho");
+    }
+}
@@ -0,0 +1,132 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für das threadsichere, sperrfreie Auto.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("NebenlaeufigesAuto Unit Tests")
+class NebenlaeufigesAutoTest {
+
+    @Test
+    @DisplayName("Sollte bei gleichen Befehlen denselben Zustand wie Auto erreichen")
+    void sollteSichWieAutoVerhalten() {
+        // Arrange
+        Auto einfach = new Auto("VW Golf", 20.0, 200);
+        Auto nebenlaeufig = new NebenlaeufigesAuto("VW Golf", 20.0, 200);
+
+        // Act - Szenario aus Main.main plus Ausrollen
+        for (Auto a : List.of(einfach, nebenlaeufig)) {
+            a.tanken(20.0).starteMotor().fahreLos().beschleunige(50.0).bremsen(20.0)
+                    .hupe().beschleunige(150.0).rolleAus(3.0).bremsen(180.0).fahreLos();
+        }
+
+        // Assert
+        assertThat(nebenlaeufig.zustand()).isEqualTo(einfach.zustand());
+        assertThat(nebenlaeufig.getGeschwindigkeit()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Sollte bei leerem Tank den Motor stoppen")
+    void sollteBeiLeeremTankMotorStoppen() {
+        // Arrange
+        Auto auto = new NebenlaeufigesAuto("VW Golf", 0.01, 200)
+                .mitVerbrauchsModell(VerbrauchsModell.EINFACH);
+
+        // Act
+        auto.starteMotor().fahreLos().beschleunige(50.0);
+
+        // Assert
+        assertThat(auto.isMotorLaeuft()).isFalse();
+        assertThat(auto.getTankstand()).isZero();
+        assertThat(auto.getGeschwindigkeit()).isZero();
+    }
+
+    @Test
+    @DisplayName("Sollte die aktuelle Momentaufnahme als Ganzes veröffentlichen")
+    void sollteMomentaufnahmeVeroeffentlichen() {
+        // Arrange
+        Auto auto = new NebenlaeufigesAuto("VW Golf", 30.0, 200).starteMotor().fahreLos().beschleunige(40.0);
+        ZustandsPuffer puffer = new ZustandsPuffer(new Auto("VW Golf", 0.0, 200).zustand());
+
+        // Act
+        auto.veroeffentlicheZustand(puffer, 7);
+
+        // Assert
+        assertThat(puffer.lese()).isEqualTo(auto.zustand());
+        assertThat(puffer.lese(new ZustandsPuffer.Rahmen()).schritt()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Sollte die Momentaufnahme ohne Kopie zurückgeben")
+    void sollteMomentaufnahmeOhneKopieZurueckgeben() {
+        Auto auto = new NebenlaeufigesAuto("VW Golf", 30.0, 200).starteMotor();
+        assertThat(auto.zustand()).isSameAs(auto.zustand());
+    }
+
+    @Test
+    @DisplayName("Sollte bei gleichzeitigen Schreibern keine Änderung verlieren")
+    void sollteKeineAenderungVerlieren() throws InterruptedException {
+        // Arrange
+        Auto auto = new NebenlaeufigesAuto("VW Golf", 0.0, 200);
+        int threads = 4;
+        int proThread = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> schreiber = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            schreiber.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < proThread; i++) {
+                    auto.tanken(0.001);
+                }
+            }));
+        }
+
+        // Act
+        start.countDown();
+        for (Thread t : schreiber) {
+            t.join();
+        }
+
+        // Assert - jede Addition baut auf dem vorherigen Stand auf
+        Auto sequenziell = new Auto("VW Golf", 0.0, 200);
+        for (int i = 0; i < threads * proThread; i++) {
+            sequenziell.tanken(0.001);
+        }
+        assertThat(auto.getTankstand()).isEqualTo(sequenziell.getTankstand());
+    }
+
+    @Test
+    @DisplayName("Sollte Lesern immer einen konsistenten Zustand liefern")
+    void sollteKonsistentenZustandLiefern() throws InterruptedException {
+        // Arrange - Invariante: ohne laufenden Motor steht das Auto
+        Auto auto = new NebenlaeufigesAuto("VW Golf", 50.0, 200);
+        Thread schreiber = Thread.ofPlatform().start(() -> {
+            for (int i = 0; i < 50_000; i++) {
+                auto.starteMotor().fahreLos().beschleunige(30.0).stoppeMotor();
+            }
+        });
+
+        // Act & Assert
+        while (schreiber.isAlive()) {
+            AutoZustand z = auto.zustand();
+            assertThat(z.motorLaeuft() || z.geschwindigkeit() == 0.0).isTrue();
+        }
+        schreiber.join();
+    }
+}
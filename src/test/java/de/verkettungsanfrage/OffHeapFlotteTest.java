@@ -0,0 +1,140 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für die Flotte außerhalb des Java-Heaps.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("OffHeapFlotte Unit Tests")
+class OffHeapFlotteTest {
+
+    @TempDir
+    Path verzeichnis;
+
+    @Test
+    @DisplayName("Sollte Ticks bitgenau wie die Heap-Flotte berechnen")
+    void sollteTicksWieHeapFlotteBerechnen() {
+        // Arrange
+        Random zufall = new Random(42);
+        Flotte flotte = new Flotte(500);
+        try (OffHeapFlotte offHeap = new OffHeapFlotte(500)) {
+            for (int i = 0; i < 500; i++) {
+                double tank = zufall.nextDouble() * 5.0;
+                int maxKmh = 100 + zufall.nextInt(150);
+                flotte.hinzufuegen("Auto " + i, tank, maxKmh);
+                offHeap.hinzufuegen(tank, maxKmh);
+            }
+            flotte.starteAlleMotoren().beschleunigeAlle(30.0);
+            offHeap.starteAlleMotoren().beschleunigeAlle(30.0);
+
+            // Act
+            for (int k = 0; k < 1_000; k++) {
+                double gas = k % 3 == 0 ? 2.0 : 0.0;
+                TickStatistik erwartet = flotte.tick(0, 500, 0.1, gas);
+                TickStatistik tatsaechlich = offHeap.tick(0, 500, 0.1, gas);
+                assertThat(tatsaechlich).isEqualTo(erwartet);
+            }
+
+            // Assert
+            for (int i = 0; i < 500; i++) {
+                assertThat(offHeap.getTankstand(i)).isEqualTo(flotte.getTankstand(i));
+                assertThat(offHeap.getGeschwindigkeit(i)).isEqualTo(flotte.getGeschwindigkeit(i));
+                assertThat(offHeap.istMotorAn(i)).isEqualTo(flotte.istMotorAn(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte den Zustand über die Flottendatei wiederherstellen")
+    void sollteZustandUeberDateiWiederherstellen() throws IOException {
+        // Arrange
+        Path datei = verzeichnis.resolve("flotte.bin");
+        try (OffHeapFlotte flotte = OffHeapFlotte.erstelle(datei, 10)) {
+            flotte.hinzufuegen(40.0, 200);
+            flotte.hinzufuegen(0.0, 150);
+            flotte.starteAlleMotoren().beschleunigeAlle(80.0);
+            flotte.synchronisiere();
+        }
+
+        // Act
+        try (OffHeapFlotte geladen = OffHeapFlotte.oeffne(datei)) {
+            // Assert
+            assertThat(geladen.getAnzahl()).isEqualTo(2);
+            assertThat(geladen.getKapazitaet()).isEqualTo(10);
+            assertThat(geladen.getGeschwindigkeit(0)).isEqualTo(80.0);
+            assertThat(geladen.getTankstand(0)).isLessThan(40.0);
+            assertThat(geladen.istMotorAn(0)).isTrue();
+            assertThat(geladen.istMotorAn(1)).isFalse();
+            assertThat(geladen.getMaxGeschwindigkeit(1)).isEqualTo(150);
+            assertThat(geladen.hinzufuegen(10.0, 120)).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte ungültige Flottendateien ablehnen")
+    void sollteUngueltigeDateienAblehnen() throws IOException {
+        // Arrange
+        Path kurz = Files.write(verzeichnis.resolve("kurz.bin"), new byte[10]);
+        Path fremd = Files.write(verzeichnis.resolve("fremd.bin"), new byte[128]);
+
+        // Assert
+        assertThatThrownBy(() -> OffHeapFlotte.oeffne(kurz))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("zu kurz");
+        assertThatThrownBy(() -> OffHeapFlotte.oeffne(fremd))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Kennung");
+    }
+
+    @Test
+    @DisplayName("Sollte bei voller Flotte und ungültigem Index Ausnahmen werfen")
+    void sollteBeiVollerFlotteAusnahmeWerfen() {
+        // Arrange
+        try (OffHeapFlotte flotte = new OffHeapFlotte(1)) {
+            flotte.hinzufuegen(10.0, 100);
+
+            // Assert
+            assertThatThrownBy(() -> flotte.hinzufuegen(10.0, 100))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("voll");
+            assertThatThrownBy(() -> flotte.getTankstand(1))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+        assertThatThrownBy(() -> new OffHeapFlotte(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Sollte Fahrzeuge einer Heap-Flotte übernehmen")
+    void sollteHeapFlotteUebernehmen() {
+        // Arrange
+        Flotte flotte = new Flotte(2);
+        flotte.hinzufuegen("A", 30.0, 180);
+        flotte.hinzufuegen("B", 20.0, 160);
+        flotte.starteMotor(1);
+        flotte.beschleunige(1, 50.0);
+
+        // Act
+        try (OffHeapFlotte offHeap = new OffHeapFlotte(2).uebernimm(flotte)) {
+            // Assert
+            assertThat(offHeap.getAnzahl()).isEqualTo(2);
+            assertThat(offHeap.istMotorAn(0)).isFalse();
+            assertThat(offHeap.istMotorAn(1)).isTrue();
+            assertThat(offHeap.getGeschwindigkeit(1)).isEqualTo(50.0);
+            assertThat(offHeap.getTankstand(1)).isEqualTo(flotte.getTankstand(1));
+        }
+    }
+}
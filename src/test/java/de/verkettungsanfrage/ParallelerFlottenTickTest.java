@@ -0,0 +1,80 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für den parallelen Flotten-Tick.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("ParallelerFlottenTick Unit Tests")
+class ParallelerFlottenTickTest {
+
+    /**
+     * Erstellt eine gestartete Flotte mit unterschiedlichen Tankständen.
+     *
+     * @param anzahl die Anzahl der Fahrzeuge
+     * @return die Flotte
+     */
+    private static Flotte erstelleFlotte(int anzahl) {
+        Flotte flotte = new Flotte(anzahl);
+        for (int i = 0; i < anzahl; i++) {
+            flotte.hinzufuegen("Auto " + i, (i % 10) * 0.01, 200);
+        }
+        return flotte.starteAlleMotoren();
+    }
+
+    @Test
+    @DisplayName("Sollte dasselbe Ergebnis wie ein sequentieller Tick liefern")
+    void sollteDasselbeErgebnisWieSequentiellLiefern() {
+        // Arrange
+        Flotte sequentiell = erstelleFlotte(10_000);
+        Flotte parallel = erstelleFlotte(10_000);
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            ParallelerFlottenTick tick = new ParallelerFlottenTick(pool, 100);
+
+            // Act
+            TickStatistik erwartet = TickStatistik.LEER;
+            TickStatistik ergebnis = TickStatistik.LEER;
+            for (int t = 0; t < 20; t++) {
+                erwartet = erwartet.plus(sequentiell.tick(0, sequentiell.getAnzahl(), 0.1, 5.0));
+                ergebnis = ergebnis.plus(tick.tick(parallel, 0.1, 5.0));
+            }
+
+            // Assert
+            assertThat(ergebnis.liegengeblieben()).isEqualTo(erwartet.liegengeblieben()).isPositive();
+            assertThat(ergebnis.verbrauchterKraftstoff()).isCloseTo(erwartet.verbrauchterKraftstoff(), within(1e-9));
+            for (int i = 0; i < parallel.getAnzahl(); i++) {
+                assertThat(parallel.istMotorAn(i)).isEqualTo(sequentiell.istMotorAn(i));
+                assertThat(parallel.getGeschwindigkeit(i)).isEqualTo(sequentiell.getGeschwindigkeit(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte Schwelle auf Vielfaches von 64 aufrunden")
+    void sollteSchwelleAufrunden() {
+        assertThat(new ParallelerFlottenTick(ForkJoinPool.commonPool(), 100).getSchwelle()).isEqualTo(128);
+    }
+
+    @Test
+    @DisplayName("Sollte sehr große Schwelle ohne Überlauf begrenzen")
+    void sollteGrosseSchwelleBegrenzen() {
+        int schwelle = new ParallelerFlottenTick(ForkJoinPool.commonPool(), Integer.MAX_VALUE).getSchwelle();
+
+        assertThat(schwelle).isPositive().isEqualTo(Integer.MAX_VALUE & ~63);
+    }
+
+    @Test
+    @DisplayName("Sollte leere Flotte verarbeiten")
+    void sollteLeereFlotteVerarbeiten() {
+        assertThat(new ParallelerFlottenTick().tick(new Flotte(0), 0.1, 1.0)).isEqualTo(TickStatistik.LEER);
+    }
+}
@@ -0,0 +1,128 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für das Sensormodell.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Sensorsignal Unit Tests")
+class SensorsignalTest {
+
+    @Test
+    @DisplayName("Sollte unter gleichem Seed identische Signale liefern")
+    void sollteUnterGleichemSeedIdentischSein() {
+        // Arrange
+        Sensorsignal a = new Sensorsignal(7).rauschen(1.0, 2.0);
+        Sensorsignal b = new Sensorsignal(7).rauschen(1.0, 2.0);
+
+        // Act & Assert
+        for (int i = 0; i < 1000; i++) {
+            assertThat(a.messe(80.0, 0.1)).isEqualTo(b.messe(80.0, 0.1));
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte um den wahren Wert rauschen")
+    void sollteUmWahrenWertRauschen() {
+        // Arrange
+        Sensorsignal sensor = new Sensorsignal(1).rauschen(0.5, Double.POSITIVE_INFINITY);
+
+        // Act
+        double summe = 0;
+        int n = 100_000;
+        for (int i = 0; i < n; i++) {
+            summe += sensor.messe(100.0, 0.01);
+        }
+
+        // Assert - mittelwertfrei, im Gegensatz zum früheren Math.random()-Aufschlag
+        assertThat(summe / n).isCloseTo(100.0, within(0.01));
+    }
+
+    @Test
+    @DisplayName("Sollte Rauschen durch Bandbegrenzung glätten")
+    void sollteRauschenDurchBandbegrenzungGlaetten() {
+        // Arrange
+        Sensorsignal weiss = new Sensorsignal(3).rauschen(1.0, Double.POSITIVE_INFINITY);
+        Sensorsignal begrenzt = new Sensorsignal(3).rauschen(1.0, 1.0);
+
+        // Act - mittlere Änderung von Messung zu Messung
+        double spruengeWeiss = 0, spruengeBegrenzt = 0;
+        double vorherWeiss = weiss.messe(0, 0.01), vorherBegrenzt = begrenzt.messe(0, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            double w = weiss.messe(0, 0.01), b = begrenzt.messe(0, 0.01);
+            spruengeWeiss += Math.abs(w - vorherWeiss);
+            spruengeBegrenzt += Math.abs(b - vorherBegrenzt);
+            vorherWeiss = w;
+            vorherBegrenzt = b;
+        }
+
+        // Assert
+        assertThat(spruengeBegrenzt).isLessThan(spruengeWeiss / 5);
+    }
+
+    @Test
+    @DisplayName("Sollte auf die Auflösung quantisieren")
+    void sollteQuantisieren() {
+        Sensor sensor = new Sensorsignal(0).quantisierung(0.5);
+
+        assertThat(sensor.messe(42.26, 0.1)).isEqualTo(42.5);
+        assertThat(sensor.messe(42.24, 0.1)).isEqualTo(42.0);
+    }
+
+    @Test
+    @DisplayName("Sollte Sprüngen mit der Zeitkonstante folgen")
+    void sollteSpruengenTraegeFolgen() {
+        // Arrange
+        Sensorsignal sensor = new Sensorsignal(0).verzoegerung(1.0);
+        sensor.zuruecksetzen(0.0);
+
+        // Act - eine Zeitkonstante in zehn Schritten
+        double wert = 0;
+        for (int i = 0; i < 10; i++) {
+            wert = sensor.messe(100.0, 0.1);
+        }
+
+        // Assert - 1 - 1/e ≈ 63%
+        assertThat(wert).isCloseTo(63.2, within(0.1));
+    }
+
+    @Test
+    @DisplayName("Sollte abgezweigte Sensoren unabhängig rauschen lassen")
+    void sollteAbgezweigteSensorenUnabhaengigRauschen() {
+        // Arrange
+        Sensorsignal basis = new Sensorsignal(11).rauschen(1.0, Double.POSITIVE_INFINITY);
+        Sensorsignal zweig = basis.abzweigen();
+        Sensorsignal zweigKopie = new Sensorsignal(11).rauschen(1.0, Double.POSITIVE_INFINITY).abzweigen();
+
+        // Act
+        double ausZweig = zweig.messe(0, 0.1);
+
+        // Assert - eigener Strom, aber aus dem Seed reproduzierbar
+        assertThat(ausZweig).isNotEqualTo(basis.messe(0, 0.1));
+        assertThat(zweigKopie.messe(0, 0.1)).isEqualTo(ausZweig);
+    }
+
+    @Test
+    @DisplayName("Sollte ungültige Parameter ablehnen")
+    void sollteUngueltigeParameterAblehnen() {
+        Sensorsignal sensor = new Sensorsignal(0);
+
+        assertThatThrownBy(() -> sensor.rauschen(-1, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sensor.rauschen(1, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sensor.verzoegerung(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sensor.quantisierung(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Sollte als idealer Sensor den wahren Wert liefern")
+    void sollteIdealWahrenWertLiefern() {
+        assertThat(Sensor.IDEAL.messe(12.34, 0.1)).isEqualTo(12.34);
+    }
+}
@@ -0,0 +1,107 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für die Simulation mit festem Zeitschritt.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Simulation Unit Tests")
+class SimulationTest {
+
+    private Auto auto;
+    private Simulation simulation;
+
+    /**
+     * Initialisiert eine Simulation mit 1 kHz vor jedem Test.
+     */
+    @BeforeEach
+    void setUp() {
+        auto = new Auto("VW Golf", 20.0, 200);
+        simulation = new Simulation(auto, 1000);
+    }
+
+    @Test
+    @DisplayName("Sollte Befehle im nächsten Schritt ausführen")
+    void sollteBefehleImNaechstenSchrittAusfuehren() {
+        // Arrange
+        simulation.befehl(a -> a.starteMotor().fahreLos().beschleunige(49.0));
+        assertThat(simulation.getZustand().motorLaeuft()).isFalse();
+
+        // Act
+        simulation.laufeSchritte(1);
+
+        // Assert
+        assertThat(simulation.getZustand().motorLaeuft()).isTrue();
+        assertThat(simulation.getZustand().geschwindigkeit()).isCloseTo(50.0, within(0.01));
+    }
+
+    @Test
+    @DisplayName("Sollte unabhängig von der Frequenz gleich schnell ausrollen")
+    void sollteUnabhaengigVonDerFrequenzGleichAusrollen() {
+        // Arrange
+        Simulation langsam = new Simulation(new Auto("VW Golf", 20.0, 200), 10);
+        simulation.befehl(a -> a.starteMotor().beschleunige(100.0));
+        langsam.befehl(a -> a.starteMotor().beschleunige(100.0));
+
+        // Act - jeweils 5 Sekunden simulierte Zeit
+        simulation.laufeSchritte(5000);
+        langsam.laufeSchritte(50);
+
+        // Assert - 2 km/h pro Sekunde Ausrollverlust
+        assertThat(simulation.getSimulationszeit()).isCloseTo(5.0, within(1e-9));
+        assertThat(simulation.getZustand().geschwindigkeit()).isCloseTo(90.0, within(0.01));
+        assertThat(langsam.getZustand().geschwindigkeit()).isCloseTo(90.0, within(0.01));
+    }
+
+    @Test
+    @DisplayName("Sollte im Echtzeitbetrieb Schritte ausführen und sauber stoppen")
+    void sollteImEchtzeitbetriebSchritteAusfuehren() throws InterruptedException {
+        // Act
+        simulation.start();
+        Thread.sleep(50);
+        simulation.stoppe();
+
+        // Assert
+        assertThat(simulation.getSchritte()).isPositive();
+        assertThat(simulation.isLaeuft()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Sollte Batchbetrieb während Echtzeitbetrieb ablehnen")
+    void sollteBatchbetriebWaehrendEchtzeitbetriebAblehnen() {
+        simulation.start();
+        try {
+            assertThatThrownBy(() -> simulation.laufeSchritte(1))
+                    .isInstanceOf(IllegalStateException.class);
+        } finally {
+            simulation.stoppe();
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte den Befehlshinweis nur nach Schritten mit Befehlen auslösen")
+    void sollteBefehlshinweisNurBeiBefehlenAusloesen() {
+        // Arrange
+        int[] hinweise = new int[1];
+        simulation.setBefehlsHinweis(() -> hinweise[0]++);
+
+        // Act
+        simulation.laufeSchritte(100);
+        int ohneBefehle = hinweise[0];
+        simulation.befehl(Befehl.STARTE_MOTOR, 0);
+        simulation.befehl(Befehl.TANKEN, 5);
+        simulation.laufeSchritte(100);
+
+        // Assert
+        assertThat(ohneBefehle).isZero();
+        assertThat(hinweise[0]).isEqualTo(1);
+    }
+}
@@ -0,0 +1,143 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für Szenariodateien und den Batchlauf.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Szenariolauf Unit Tests")
+class SzenariolaufTest {
+
+    private static final String FAHRT = """
+            # kurze Fahrt
+            tank = 20
+            dauer = 30
+            0  STARTE_MOTOR
+            0  FAHRE_LOS
+            0.5 BESCHLEUNIGE 80
+            10 BREMSEN 20
+            20 STOPPE_MOTOR
+            pruefe motor == 0
+            pruefe maxGeschwindigkeit <= 81
+            """;
+
+    @TempDir
+    Path verzeichnis;
+
+    @Test
+    @DisplayName("Sollte Kopf, Befehle und Prüfungen lesen")
+    void sollteSzenarioLesen() throws IOException {
+        // Act
+        Szenario szenario = Szenario.lese("fahrt", new StringReader(FAHRT));
+
+        // Assert
+        assertThat(szenario.dauerSchritte()).isEqualTo(3000);
+        assertThat(szenario.befehle().getAnzahl()).isEqualTo(5);
+        assertThat(szenario.befehle().getSchritt(2)).isEqualTo(50);
+        assertThat(szenario.befehle().getAnfangszustand().tankstand()).isEqualTo(20.0);
+        assertThat(szenario.pruefungen()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Sollte ungültige Zeilen mit Zeilennummer melden")
+    void sollteFehlerMitZeilennummerMelden() {
+        // Arrange
+        String kaputt = "dauer = 10\n0 STARTE_MOTOR\n1 BESCHLEUNIGE\n";
+
+        // Act & Assert
+        assertThatThrownBy(() -> Szenario.lese("kaputt", new StringReader(kaputt)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Zeile 3");
+        assertThatThrownBy(() -> Szenario.lese("ohneDauer", new StringReader("0 STARTE_MOTOR\n")))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("dauer");
+    }
+
+    @Test
+    @DisplayName("Sollte dasselbe Ergebnis wie die direkte Simulation liefern")
+    void sollteWieSimulationRechnen() throws IOException {
+        // Arrange
+        Szenario szenario = Szenario.lese("fahrt", new StringReader(FAHRT));
+        Simulation simulation = new Simulation(new Auto("VW Golf", 20.0, 200), 100);
+        simulation.befehl(Befehl.STARTE_MOTOR, 0.0);
+        simulation.befehl(Befehl.FAHRE_LOS, 0.0);
+        simulation.laufeSchritte(50);
+        simulation.befehl(Befehl.BESCHLEUNIGE, 80.0);
+        simulation.laufeSchritte(950);
+        simulation.befehl(Befehl.BREMSEN, 20.0);
+        simulation.laufeSchritte(1000);
+        simulation.befehl(Befehl.STOPPE_MOTOR, 0.0);
+        simulation.laufeSchritte(1000);
+
+        // Act
+        SzenarioErgebnis ergebnis = Szenariolauf.fuehreAus(szenario);
+
+        // Assert
+        assertThat(ergebnis.endzustand()).isEqualTo(simulation.getZustand());
+        assertThat(ergebnis.fahrt()).isEqualTo(simulation.getFahrtStatistik(Fahrtenrechner.Zaehler.A));
+        assertThat(ergebnis.bestanden()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Sollte nicht erfüllte Prüfungen und leeren Tank melden")
+    void sollteVerstoesseMelden() throws IOException {
+        // Arrange
+        String leer = """
+                tank = 0.001
+                dauer = 5
+                0 STARTE_MOTOR
+                0 FAHRE_LOS
+                1 BESCHLEUNIGE 100
+                pruefe geschwindigkeit > 50
+                """;
+
+        // Act
+        SzenarioErgebnis ergebnis = Szenariolauf.fuehreAus(Szenario.lese("leer", new StringReader(leer)));
+
+        // Assert
+        assertThat(ergebnis.verstoesse()).containsExactly("Tank leer", "geschwindigkeit > 50.0");
+    }
+
+    @Test
+    @DisplayName("Sollte Ergebnisse in Eingabereihenfolge als CSV schreiben")
+    void sollteCsvInEingabereihenfolgeSchreiben() throws Exception {
+        // Arrange
+        for (int i = 0; i < 20; i++) {
+            Files.writeString(verzeichnis.resolve(String.format("s%02d.szenario", i)), FAHRT);
+        }
+        Files.writeString(verzeichnis.resolve("kaputt.szenario"), "dauer = x\n");
+        Files.writeString(verzeichnis.resolve("notiz.txt"), "kein Szenario");
+        ByteArrayOutputStream puffer = new ByteArrayOutputStream();
+
+        // Act
+        int mitVerstoessen;
+        try (Szenariolauf.Ausgabe ausgabe = Szenariolauf.csv(puffer)) {
+            mitVerstoessen = new Szenariolauf(4).laufe(List.of(verzeichnis), ausgabe);
+        }
+
+        // Assert
+        List<String> zeilen = puffer.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(mitVerstoessen).isEqualTo(1);
+        assertThat(zeilen).hasSize(22);
+        assertThat(zeilen.get(0)).startsWith("szenario,");
+        assertThat(zeilen.get(1)).startsWith("kaputt,,,").contains("Fehler: ");
+        assertThat(zeilen.get(2)).startsWith("s00,0.000,");
+        assertThat(zeilen.get(21)).startsWith("s19,").isEqualTo(zeilen.get(2).replace("s00", "s19"));
+    }
+}
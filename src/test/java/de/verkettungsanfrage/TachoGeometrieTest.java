@@ -0,0 +1,70 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für die vorberechnete Tacho-Geometrie.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("TachoGeometrie Unit Tests")
+class TachoGeometrieTest {
+
+    private final TachoGeometrie geo = TachoGeometrie.tacho(170, 170, 140, 220);
+
+    @Test
+    @DisplayName("Sollte Teilstriche und Beschriftungen wie der Tacho anlegen")
+    void sollteTeilstricheUndBeschriftungenAnlegen() {
+        // 0, 10, ..., 220 km/h und 0, 40, ..., 200 km/h
+        assertThat(geo.getStrichAnzahl()).isEqualTo(23);
+        assertThat(geo.getBeschriftungAnzahl()).isEqualTo(6);
+        assertThat(geo.istHauptstrich(4)).isTrue();
+        assertThat(geo.istHauptstrich(5)).isFalse();
+        assertThat(geo.getBeschriftung(5)).isEqualTo("200");
+    }
+
+    @Test
+    @DisplayName("Sollte Teilstrich-Endpunkte exakt vorberechnen")
+    void sollteTeilstrichEndpunkteVorberechnen() {
+        // Teilstrich 0 km/h liegt bei 120°
+        double rad = Math.toRadians(120);
+        assertThat(geo.getStrichX1(0)).isCloseTo(170 + 140 * Math.cos(rad), within(1e-9));
+        assertThat(geo.getStrichY2(0)).isCloseTo(170 + 110 * Math.sin(rad), within(1e-9));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, 13.7, 55.5, 110.0, 187.3, 220.0})
+    @DisplayName("Sollte Nadelwinkel mit hoher Genauigkeit interpolieren")
+    void sollteNadelwinkelInterpolieren(double geschwindigkeit) {
+        // Arrange
+        double rad = Math.toRadians(120 + geschwindigkeit / 220 * 240);
+
+        // Act
+        double position = geo.nadelPosition(geschwindigkeit);
+
+        // Assert - Abweichung der Nadelspitze (Länge 115) deutlich unter einem Pixel
+        assertThat(115 * geo.nadelCos(position)).isCloseTo(115 * Math.cos(rad), within(0.01));
+        assertThat(115 * geo.nadelSin(position)).isCloseTo(115 * Math.sin(rad), within(0.01));
+    }
+
+    @Test
+    @DisplayName("Sollte Werte außerhalb der Skala begrenzen")
+    void sollteWerteAusserhalbDerSkalaBegrenzen() {
+        assertThat(geo.nadelPosition(-10)).isEqualTo(geo.nadelPosition(0));
+        assertThat(geo.nadelPosition(500)).isEqualTo(geo.nadelPosition(220));
+    }
+
+    @Test
+    @DisplayName("Sollte Konfigurationsänderung erkennen")
+    void sollteKonfigurationsaenderungErkennen() {
+        assertThat(geo.passtZu(170, 170, 140, 220)).isTrue();
+        assertThat(geo.passtZu(170, 170, 140, 250)).isFalse();
+    }
+}
@@ -0,0 +1,179 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für TelemetrieRekorder und TelemetrieLeser.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Telemetrie Unit Tests")
+class TelemetrieRekorderTest {
+
+    @TempDir
+    Path verzeichnis;
+
+    @Test
+    @DisplayName("Sollte geschriebene Datensätze unverändert zurücklesen")
+    void sollteDatensaetzeZuruecklesen() throws IOException {
+        // Arrange
+        Path datei = verzeichnis.resolve("fahrt.bin");
+        try (TelemetrieRekorder rekorder = new TelemetrieRekorder(datei, 16)) {
+            rekorder.aufzeichnen(1_000L, 30.0, 9.5, true);
+            rekorder.aufzeichnen(2_000L, 50.0, 9.4, false);
+        }
+
+        // Act
+        try (TelemetrieLeser leser = new TelemetrieLeser(datei)) {
+            // Assert
+            assertThat(leser.getAnzahl()).isEqualTo(2);
+            assertThat(leser.getZeit(1)).isEqualTo(2_000L);
+            assertThat(leser.getGeschwindigkeit(0)).isEqualTo(30.0);
+            assertThat(leser.getTankstand(1)).isEqualTo(9.4);
+            assertThat(leser.isMotorLaeuft(0)).isTrue();
+            assertThat(leser.isMotorLaeuft(1)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte bei vollem Ring die ältesten Datensätze überschreiben")
+    void sollteAeltesteDatensaetzeUeberschreiben() throws IOException {
+        // Arrange
+        Path datei = verzeichnis.resolve("ring.bin");
+        try (TelemetrieRekorder rekorder = new TelemetrieRekorder(datei, 4)) {
+            for (int i = 0; i < 10; i++) {
+                rekorder.aufzeichnen(i, i, 0.0, true);
+            }
+            assertThat(rekorder.getGeschrieben()).isEqualTo(10);
+        }
+
+        // Act
+        List<Long> zeiten = new ArrayList<>();
+        try (TelemetrieLeser leser = new TelemetrieLeser(datei)) {
+            leser.fuerJeden((zeit, v, tank, motor) -> zeiten.add(zeit));
+        }
+
+        // Assert
+        assertThat(zeiten).containsExactly(6L, 7L, 8L, 9L);
+    }
+
+    @Test
+    @DisplayName("Sollte per binärer Suche den ersten Datensatz ab einem Zeitpunkt finden")
+    void sollteZeitpunktBinaerFinden() throws IOException {
+        // Arrange
+        Path datei = verzeichnis.resolve("suche.bin");
+        try (TelemetrieRekorder rekorder = new TelemetrieRekorder(datei, 8)) {
+            for (int i = 0; i < 12; i++) {
+                rekorder.aufzeichnen(i * 100L, 0.0, 0.0, false);
+            }
+        }
+
+        // Act & Assert - Ring enthält die Zeiten 400..1100
+        try (TelemetrieLeser leser = new TelemetrieLeser(datei)) {
+            assertThat(leser.sucheZeit(0L)).isZero();
+            assertThat(leser.sucheZeit(650L)).isEqualTo(3);
+            assertThat(leser.getZeit(leser.sucheZeit(700L))).isEqualTo(700L);
+            assertThat(leser.sucheZeit(5_000L)).isEqualTo(leser.getAnzahl());
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte unveränderte Zustände nicht erneut aufzeichnen")
+    void sollteNurAenderungenAufzeichnen() throws IOException {
+        try (TelemetrieRekorder rekorder = new TelemetrieRekorder(verzeichnis.resolve("aenderung.bin"), 8)) {
+            assertThat(rekorder.aufzeichnenBeiAenderung(1L, 0.0, 10.0, false)).isTrue();
+            assertThat(rekorder.aufzeichnenBeiAenderung(2L, 0.0, 10.0, false)).isFalse();
+            assertThat(rekorder.aufzeichnenBeiAenderung(3L, 0.0, 10.0, true)).isTrue();
+            assertThat(rekorder.getGeschrieben()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte Zustandsänderungen der Simulation aufzeichnen")
+    void sollteSimulationAufzeichnen() throws IOException {
+        // Arrange
+        Path datei = verzeichnis.resolve("simulation.bin");
+        Simulation simulation = new Simulation(new Auto("Test", 10.0, 200), 100);
+        try (TelemetrieRekorder rekorder = new TelemetrieRekorder(datei, 1024)) {
+            simulation.setTelemetrie(rekorder);
+
+            // Act - Stillstand erzeugt keine Datensätze
+            simulation.laufeSchritte(10);
+            simulation.befehl(a -> a.starteMotor().beschleunige(50));
+            simulation.laufeSchritte(10);
+        }
+
+        // Assert - ab dem Start rollt das Auto aus, jeder Schritt ist eine Änderung
+        try (TelemetrieLeser leser = new TelemetrieLeser(datei)) {
+            assertThat(leser.getAnzahl()).isEqualTo(11);
+            assertThat(leser.isMotorLaeuft(1)).isTrue();
+            assertThat(leser.getZeit(1)).isEqualTo(110_000_000L);
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte ungültige Kapazität ablehnen")
+    void sollteUngueltigeKapazitaetAblehnen() {
+        assertThatThrownBy(() -> new TelemetrieRekorder(verzeichnis.resolve("x.bin"), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Sollte fremde Dateien ablehnen")
+    void sollteFremdeDateienAblehnen() throws IOException {
+        Path datei = Files.writeString(verzeichnis.resolve("fremd.bin"), "kein Telemetrieformat, sondern Text");
+
+        assertThatThrownBy(() -> new TelemetrieLeser(datei)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("Sollte abgeschnittene Dateien ablehnen")
+    void sollteAbgeschnitteneDateienAblehnen() throws IOException {
+        // Arrange
+        Path datei = verzeichnis.resolve("kurz.bin");
+        try (TelemetrieRekorder rekorder = new TelemetrieRekorder(datei, 16)) {
+            rekorder.aufzeichnen(1_000L, 30.0, 9.5, true);
+        }
+        try (FileChannel kanal = FileChannel.open(datei, StandardOpenOption.WRITE)) {
+            kanal.truncate(TelemetrieRekorder.KOPF_BYTES + 4 * TelemetrieRekorder.DATENSATZ_BYTES);
+        }
+
+        // Act & Assert
+        assertThatThrownBy(() -> new TelemetrieLeser(datei))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("kurz.bin");
+    }
+
+    @Test
+    @DisplayName("Sollte Dateien mit Kapazität 0 im Kopf ablehnen")
+    void sollteKapazitaetNullImKopfAblehnen() throws IOException {
+        // Arrange
+        Path datei = verzeichnis.resolve("leer.bin");
+        try (TelemetrieRekorder rekorder = new TelemetrieRekorder(datei, 16)) {
+            rekorder.aufzeichnen(1_000L, 30.0, 9.5, true);
+        }
+        try (FileChannel kanal = FileChannel.open(datei, StandardOpenOption.WRITE)) {
+            kanal.write(ByteBuffer.allocate(Long.BYTES), TelemetrieRekorder.KOPF_KAPAZITAET);
+        }
+
+        // Act & Assert
+        assertThatThrownBy(() -> new TelemetrieLeser(datei))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("leer.bin");
+    }
+}
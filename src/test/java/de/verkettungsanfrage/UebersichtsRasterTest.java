@@ -0,0 +1,75 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für die Rastergeometrie der Flottenübersicht.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("UebersichtsRaster Unit Tests")
+class UebersichtsRasterTest {
+
+    @Test
+    @DisplayName("Sollte nur den sichtbaren Ausschnitt einer großen Flotte liefern")
+    void sollteSichtbarenAusschnittLiefern() {
+        // Arrange
+        UebersichtsRaster raster = new UebersichtsRaster(120, 100).setAnzahl(1_000_000).setGroesse(500, 350);
+
+        // Act
+        raster.setScroll(250);
+
+        // Assert: 4 Spalten, Zeilen 2 bis 5 (angeschnitten) sichtbar
+        assertThat(raster.getSpalten()).isEqualTo(4);
+        assertThat(raster.getZeilen()).isEqualTo(250_000);
+        assertThat(raster.getErster()).isEqualTo(8);
+        assertThat(raster.getBis()).isEqualTo(24);
+        assertThat(raster.getSichtbar()).isLessThanOrEqualTo(raster.getMaxSichtbar());
+        assertThat(raster.x(9)).isEqualTo(120);
+        assertThat(raster.y(9)).isEqualTo(-50);
+    }
+
+    @Test
+    @DisplayName("Sollte die Scrollposition auf den gültigen Bereich begrenzen")
+    void sollteScrollpositionBegrenzen() {
+        // Arrange
+        UebersichtsRaster raster = new UebersichtsRaster(120, 100).setAnzahl(10).setGroesse(250, 200);
+
+        // Act
+        raster.setScroll(10_000);
+
+        // Assert: 5 Zeilen à 100 px, 200 px sichtbar
+        assertThat(raster.getScroll()).isEqualTo(300);
+        assertThat(raster.getBis()).isEqualTo(10);
+        assertThat(raster.setScroll(-5).getScroll()).isZero();
+        assertThat(raster.setAnzahl(1).getMaxScroll()).isZero();
+    }
+
+    @Test
+    @DisplayName("Sollte alle sichtbaren Zellen reihum liefern")
+    void sollteZellenReihumLiefern() {
+        // Arrange
+        UebersichtsRaster raster = new UebersichtsRaster(100, 100).setAnzahl(100).setGroesse(300, 300);
+        Set<Integer> geliefert = new HashSet<>();
+
+        // Act
+        for (int k = 0; k < raster.getSichtbar(); k++) {
+            geliefert.add(raster.naechsterFaelliger());
+        }
+        raster.setScroll(1000);
+        int nachScroll = raster.naechsterFaelliger();
+
+        // Assert
+        assertThat(geliefert).hasSize(9).allMatch(i -> i >= 0 && i < 9);
+        assertThat(nachScroll).isEqualTo(30);
+        assertThat(new UebersichtsRaster(100, 100).naechsterFaelliger()).isEqualTo(-1);
+    }
+}
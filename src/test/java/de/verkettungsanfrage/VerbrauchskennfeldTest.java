@@ -0,0 +1,100 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für das Verbrauchskennfeld und den zeitabhängigen Verbrauch.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Verbrauchskennfeld Unit Tests")
+class VerbrauchskennfeldTest {
+
+    private final Verbrauchskennfeld kennfeld = Verbrauchskennfeld.STANDARD;
+
+    @Test
+    @DisplayName("Sollte zwischen Rasterpunkten bilinear interpolieren")
+    void sollteBilinearInterpolieren() {
+        // Arrange - Funktion, die bilinear exakt abbildbar ist
+        Verbrauchskennfeld linear = new Verbrauchskennfeld(100, 10, 10, 5, (v, a) -> v + 2 * a + v * a);
+
+        // Act & Assert
+        assertThat(linear.literProStunde(20, 5)).isEqualTo(20 + 10 + 100);
+        assertThat(linear.literProStunde(25, 2.5)).isCloseTo(25 + 5 + 62.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Sollte Werte außerhalb des Rasters auf den Rand begrenzen")
+    void sollteAufRandBegrenzen() {
+        assertThat(kennfeld.literProStunde(500, 0)).isEqualTo(kennfeld.literProStunde(260, 0));
+        assertThat(kennfeld.literProStunde(100, -5)).isEqualTo(kennfeld.literProStunde(100, 0));
+    }
+
+    @Test
+    @DisplayName("Sollte realistische Verbräuche für einen Kompaktwagen liefern")
+    void sollteRealistischeVerbraeucheLiefern() {
+        // Leerlauf in l/h; bei 100 km/h entsprechen l/h genau l/100 km
+        assertThat(kennfeld.literProStunde(0, 0)).isCloseTo(0.8, within(0.01));
+        assertThat(kennfeld.literProStunde(100, 0)).isBetween(4.0, 7.0);
+        assertThat(kennfeld.literProStunde(180, 0)).isGreaterThan(2 * kennfeld.literProStunde(100, 0));
+    }
+
+    @Test
+    @DisplayName("Sollte beim Leerlauf über die Zeit Treibstoff verbrauchen")
+    void sollteImLeerlaufVerbrauchen() {
+        // Arrange
+        Auto auto = new Auto("VW Golf", 10.0, 200).starteMotor();
+
+        // Act - eine Stunde Leerlauf
+        for (int i = 0; i < 3600; i++) {
+            auto.rolleAus(1.0);
+        }
+
+        // Assert
+        assertThat(auto.getTankstand()).isCloseTo(9.2, within(0.01));
+    }
+
+    @Test
+    @DisplayName("Sollte bei hoher Geschwindigkeit mehr verbrauchen als bei niedriger")
+    void sollteBeiHoherGeschwindigkeitMehrVerbrauchen() {
+        assertThat(kennfeld.fahrt(180, 0, 1.0)).isGreaterThan(kennfeld.fahrt(50, 0, 1.0));
+    }
+
+    @Test
+    @DisplayName("Sollte Beschleunigungen nach Geschwindigkeit und Stärke abrechnen")
+    void sollteBeschleunigungenAbrechnen() {
+        assertThat(kennfeld.beschleunigung(0, 100)).isGreaterThan(kennfeld.beschleunigung(0, 50));
+        assertThat(kennfeld.beschleunigung(100, 30)).isGreaterThan(kennfeld.beschleunigung(0, 30));
+        assertThat(kennfeld.beschleunigung(50, -20)).isZero();
+    }
+
+    @Test
+    @DisplayName("Sollte mit dem einfachen Modell das alte Verhalten beibehalten")
+    void sollteMitEinfachemModellAltesVerhaltenBeibehalten() {
+        // Arrange
+        Auto auto = new Auto("VW Golf", 10.0, 200).mitVerbrauchsModell(VerbrauchsModell.EINFACH);
+
+        // Act
+        auto.starteMotor().beschleunige(50.0);
+        double nachBeschleunigung = auto.getTankstand();
+        auto.rolleAus(60.0);
+
+        // Assert - 0.001 l pro km/h, Fahrt kostenlos
+        assertThat(nachBeschleunigung).isCloseTo(9.95, within(1e-9));
+        assertThat(auto.getTankstand()).isEqualTo(nachBeschleunigung);
+    }
+
+    @Test
+    @DisplayName("Sollte zu kleine Raster ablehnen")
+    void sollteZuKleineRasterAblehnen() {
+        assertThatThrownBy(() -> new Verbrauchskennfeld(4, 10, 10, 5, (v, a) -> 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Verbrauchskennfeld(100, 0, 10, 5, (v, a) -> 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
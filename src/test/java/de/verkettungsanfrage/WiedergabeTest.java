@@ -0,0 +1,152 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für Befehlslog und Wiedergabe.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Wiedergabe Unit Tests")
+class WiedergabeTest {
+
+    private Simulation simulation;
+    private BefehlsLog log;
+
+    @TempDir
+    Path verzeichnis;
+
+    /**
+     * Zeichnet eine kurze Fahrt mit 100 Hz auf (Dauer 30 Sekunden).
+     */
+    @BeforeEach
+    void setUp() {
+        simulation = new Simulation(new Auto("VW Golf", 20.0, 200), 100);
+        log = simulation.starteAufzeichnung();
+
+        simulation.befehl(Befehl.STARTE_MOTOR, 0.0);
+        simulation.befehl(Befehl.FAHRE_LOS, 0.0);
+        simulation.laufeSchritte(50);
+        simulation.befehl(Befehl.BESCHLEUNIGE, 80.0);
+        simulation.laufeSchritte(1000);
+        simulation.befehl(Befehl.BREMSEN, 20.0);
+        simulation.befehl(Befehl.TANKEN, 5.0);
+        simulation.laufeSchritte(950);
+        simulation.befehl(Befehl.HUPE, 0.0);
+        simulation.befehl(Befehl.STOPPE_MOTOR, 0.0);
+        simulation.laufeSchritte(1000);
+    }
+
+    @Test
+    @DisplayName("Sollte die Fahrt bitgenau reproduzieren")
+    void sollteFahrtBitgenauReproduzieren() {
+        // Act
+        Wiedergabe wiedergabe = new Wiedergabe(log).laufeBis(simulation.getSchritte());
+
+        // Assert
+        assertThat(log.getAnzahl()).isEqualTo(7);
+        assertThat(wiedergabe.getZustand()).isEqualTo(simulation.getZustand());
+    }
+
+    @Test
+    @DisplayName("Sollte beim Springen denselben Zustand liefern wie beim Durchrechnen")
+    void sollteBeimSpringenGleichenZustandLiefern() {
+        // Arrange - Referenz bei Sekunde 15 durch lineares Durchrechnen
+        AutoZustand referenz = new Wiedergabe(log, 500).laufeBis(1500).getZustand();
+        Wiedergabe wiedergabe = new Wiedergabe(log, 500).laufeBis(3000);
+
+        // Act - rückwärts springen setzt am Checkpoint bei Schritt 1500 auf
+        wiedergabe.springeZuSekunde(15.0);
+
+        // Assert
+        assertThat(wiedergabe.getSchritt()).isEqualTo(1500);
+        assertThat(wiedergabe.getZustand()).isEqualTo(referenz);
+        assertThat(wiedergabe.getCheckpointAnzahl()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Sollte Protokoll verlustfrei speichern und laden")
+    void sollteProtokollVerlustfreiSpeichern() throws IOException {
+        // Arrange
+        Path datei = verzeichnis.resolve("fahrt.log");
+
+        // Act
+        log.schreibe(datei);
+        BefehlsLog geladen = BefehlsLog.lese(datei);
+
+        // Assert - kompakt: Kopf plus wenige Byte pro Befehl
+        assertThat(Files.size(datei)).isLessThan(100);
+        assertThat(geladen.getAnzahl()).isEqualTo(log.getAnzahl());
+        assertThat(geladen.getAnfangszustand()).isEqualTo(log.getAnfangszustand());
+        for (int i = 0; i < log.getAnzahl(); i++) {
+            assertThat(geladen.getSchritt(i)).isEqualTo(log.getSchritt(i));
+            assertThat(geladen.getBefehl(i)).isEqualTo(log.getBefehl(i));
+            assertThat(geladen.getWert(i)).isEqualTo(log.getWert(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Sollte den Rest der Fahrt in einer Simulation abspielen")
+    void sollteRestInSimulationAbspielen() {
+        // Arrange
+        Wiedergabe wiedergabe = new Wiedergabe(log).springeZuSekunde(5.0);
+
+        // Act
+        Simulation rest = wiedergabe.erzeugeSimulation(log.erzeugeAuto());
+        rest.laufeSchritte(simulation.getSchritte() - wiedergabe.getSchritt());
+
+        // Assert
+        assertThat(rest.getZustand()).isEqualTo(simulation.getZustand());
+    }
+
+    @Test
+    @DisplayName("Sollte das Verbrauchsmodell speichern und bei der Wiedergabe verwenden")
+    void sollteVerbrauchsmodellSpeichernUndVerwenden() throws IOException {
+        // Arrange - Fahrt mit dem einfachen Modell
+        Simulation einfach = new Simulation(new Auto("VW Golf", 20.0, 200)
+                .mitVerbrauchsModell(VerbrauchsModell.EINFACH), 100);
+        BefehlsLog einfachLog = einfach.starteAufzeichnung();
+        einfach.befehl(Befehl.STARTE_MOTOR, 0.0);
+        einfach.befehl(Befehl.FAHRE_LOS, 0.0);
+        einfach.befehl(Befehl.BESCHLEUNIGE, 60.0);
+        einfach.laufeSchritte(2000);
+        Path datei = verzeichnis.resolve("einfach.log");
+
+        // Act
+        einfachLog.schreibe(datei);
+        BefehlsLog geladen = BefehlsLog.lese(datei);
+
+        // Assert
+        assertThat(geladen.getVerbrauchsModell()).isSameAs(VerbrauchsModell.EINFACH);
+        assertThat(new Wiedergabe(geladen).laufeBis(einfach.getSchritte()).getZustand())
+                .isEqualTo(einfach.getZustand());
+    }
+
+    @Test
+    @DisplayName("Sollte nicht speicherbares Verbrauchsmodell ablehnen")
+    void sollteNichtSpeicherbaresModellAblehnen() {
+        BefehlsLog eigen = new BefehlsLog(100, "VW Golf", new Auto("VW Golf", 20.0, 200).zustand(),
+                Verbrauchskennfeld.kompaktwagen());
+
+        assertThatThrownBy(() -> eigen.schreibe(verzeichnis.resolve("eigen.log")))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("Sollte Befehle in falscher Reihenfolge ablehnen")
+    void sollteFalscheReihenfolgeAblehnen() {
+        assertThatThrownBy(() -> log.anhaengen(0, Befehl.HUPE, 0.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,121 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für die Zeitreihe mit mehreren Auflösungen.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Zeitreihe Unit Tests")
+class ZeitreiheTest {
+
+    private final Zeitreihe reihe = new Zeitreihe(100, 120, 10);
+
+    private final List<double[]> punkte = new ArrayList<>();
+
+    private void sammle(double zeit, double min, double max, double mittel) {
+        punkte.add(new double[]{zeit, min, max, mittel});
+    }
+
+    @Test
+    @DisplayName("Sollte Sekundenwerte mit Minimum, Maximum und Mittelwert bilden")
+    void sollteSekundenwerteBilden() {
+        // Act - 10 Hz, Werte 0..9 in Sekunde 0, 10..19 in Sekunde 1
+        for (int i = 0; i < 25; i++) {
+            reihe.hinzufuegen(i / 10.0, i);
+        }
+
+        // Assert - zwei abgeschlossene Sekunden plus die offene Sekunde 2
+        assertThat(reihe.getAnzahl(Zeitreihe.Aufloesung.SEKUNDE)).isEqualTo(2);
+        Zeitreihe.Aufloesung a = reihe.fuerBereich(0, 2.5, 10, this::sammle);
+        assertThat(a).isEqualTo(Zeitreihe.Aufloesung.ROH);
+
+        punkte.clear();
+        reihe.fuerBereich(0, 3, 3, this::sammle);
+        assertThat(punkte).hasSize(3);
+        assertThat(punkte.get(0)).containsExactly(0.0, 0.0, 9.0, 4.5);
+        assertThat(punkte.get(2)).containsExactly(2.0, 20.0, 24.0, 22.0);
+    }
+
+    @Test
+    @DisplayName("Sollte den Speicherbedarf unabhängig von der Dauer begrenzen")
+    void sollteSpeicherBegrenzen() {
+        // Act - eine Stunde mit 10 Hz
+        for (int i = 0; i < 36_000; i++) {
+            reihe.hinzufuegen(i / 10.0, i % 100);
+        }
+
+        // Assert
+        assertThat(reihe.getAnzahl(Zeitreihe.Aufloesung.ROH)).isEqualTo(100);
+        assertThat(reihe.getAnzahl(Zeitreihe.Aufloesung.SEKUNDE)).isEqualTo(120);
+        assertThat(reihe.getAnzahl(Zeitreihe.Aufloesung.MINUTE)).isEqualTo(10);
+        assertThat(reihe.getLetzteZeit()).isCloseTo(3599.9, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Sollte für längere Zeiträume gröbere Auflösungen wählen")
+    void sollteGroebereAufloesungWaehlen() {
+        // Arrange - zehn Minuten mit 10 Hz
+        for (int i = 0; i < 6000; i++) {
+            reihe.hinzufuegen(i / 10.0, 50);
+        }
+
+        // Act & Assert
+        assertThat(reihe.waehleAufloesung(590, 600, 300)).isEqualTo(Zeitreihe.Aufloesung.ROH);
+        assertThat(reihe.waehleAufloesung(500, 600, 300)).isEqualTo(Zeitreihe.Aufloesung.SEKUNDE);
+        assertThat(reihe.waehleAufloesung(0, 600, 300)).isEqualTo(Zeitreihe.Aufloesung.MINUTE);
+    }
+
+    @Test
+    @DisplayName("Sollte höchstens maxPunkte Punkte im sichtbaren Bereich ausgeben")
+    void sollteAufMaxPunkteZusammenfassen() {
+        // Arrange
+        for (int i = 0; i < 100; i++) {
+            reihe.hinzufuegen(i, i);
+        }
+
+        // Act
+        Zeitreihe.Aufloesung a = reihe.fuerBereich(20, 59.5, 10, this::sammle);
+
+        // Assert - 40 Rohwerte auf 10 Spalten zusammengefasst
+        assertThat(a).isEqualTo(Zeitreihe.Aufloesung.ROH);
+        assertThat(punkte).hasSize(10);
+        assertThat(punkte.get(0)).containsExactly(20.0, 20.0, 23.0, 21.5);
+        assertThat(punkte.get(9)[2]).isEqualTo(59.0);
+    }
+
+    @Test
+    @DisplayName("Sollte angeschnittene Intervalle am Anfang des Zeitraums mit ausgeben")
+    void sollteAngeschnitteneIntervalleAusgeben() {
+        // Arrange - 90 Sekunden mit 1 Hz, Minute 0 abgeschlossen, Minute 1 offen
+        Zeitreihe grob = new Zeitreihe(1, 1, 10);
+        for (int i = 0; i < 90; i++) {
+            grob.hinzufuegen(i, i);
+        }
+
+        // Act
+        grob.fuerBereich(30, 90, 2, this::sammle);
+
+        // Assert
+        assertThat(punkte).hasSize(2);
+        assertThat(punkte.get(0)).containsExactly(0.0, 0.0, 59.0, 29.5);
+        assertThat(punkte.get(1)).containsExactly(60.0, 60.0, 89.0, 74.5);
+    }
+
+    @Test
+    @DisplayName("Sollte absteigende Zeitpunkte ablehnen")
+    void sollteAbsteigendeZeitenAblehnen() {
+        reihe.hinzufuegen(5.0, 1.0);
+        assertThatThrownBy(() -> reihe.hinzufuegen(4.0, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
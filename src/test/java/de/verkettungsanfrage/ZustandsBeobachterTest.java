@@ -0,0 +1,118 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für den ZustandsBeobachter.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("ZustandsBeobachter Unit Tests")
+class ZustandsBeobachterTest {
+
+    private ZustandsBeobachter beobachter;
+    private List<ZustandsAnsicht> tankMeldungen;
+    private List<ZustandsAnsicht> motorMeldungen;
+
+    @BeforeEach
+    void setUp() {
+        beobachter = new ZustandsBeobachter();
+        tankMeldungen = new ArrayList<>();
+        motorMeldungen = new ArrayList<>();
+        beobachter.beobachte(ZustandsAnsicht::tankstand, 0.5, tankMeldungen::add)
+                .beobachteMotor(motorMeldungen::add);
+    }
+
+    private static AutoZustand zustand(double tank, boolean motor) {
+        return new AutoZustand(0.0, tank, motor, 200, 50.0);
+    }
+
+    @Test
+    @DisplayName("Sollte beim ersten Prüfen alle Listener benachrichtigen")
+    void sollteBeimErstenPruefenAlleBenachrichtigen() {
+        assertThat(beobachter.pruefe(zustand(20.0, false))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Sollte Änderungen unterhalb der Schwelle zurückhalten")
+    void sollteAenderungenUnterhalbDerSchwelleZurueckhalten() {
+        // Arrange
+        beobachter.pruefe(zustand(20.0, false));
+
+        // Act - 0.2 L, dann insgesamt 0.6 L Änderung
+        int ersteMeldung = beobachter.pruefe(zustand(19.8, false));
+        int zweiteMeldung = beobachter.pruefe(zustand(19.4, false));
+
+        // Assert
+        assertThat(ersteMeldung).isZero();
+        assertThat(zweiteMeldung).isEqualTo(1);
+        assertThat(tankMeldungen).extracting(ZustandsAnsicht::tankstand).containsExactly(20.0, 19.4);
+    }
+
+    @Test
+    @DisplayName("Sollte nur den geänderten Listener benachrichtigen")
+    void sollteNurGeaendertenListenerBenachrichtigen() {
+        // Arrange
+        beobachter.pruefe(zustand(20.0, false));
+
+        // Act
+        beobachter.pruefe(zustand(20.0, true));
+
+        // Assert
+        assertThat(motorMeldungen).hasSize(2);
+        assertThat(tankMeldungen).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Sollte Erreichen und Verlassen der Obergrenze auch unterhalb der Schwelle melden")
+    void sollteObergrenzeUnterhalbDerSchwelleMelden() {
+        // Arrange - voller Tank
+        List<ZustandsAnsicht> vollMeldungen = new ArrayList<>();
+        beobachter.beobachte(ZustandsAnsicht::tankstand, 0.5, ZustandsAnsicht::maxTankstand, vollMeldungen::add);
+        beobachter.pruefe(zustand(50.0, true));
+
+        // Act - 0.03 L verbrauchen, 0.01 L mehr verbrauchen, wieder volltanken
+        beobachter.pruefe(zustand(49.97, true));
+        beobachter.pruefe(zustand(49.96, true));
+        beobachter.pruefe(zustand(50.0, true));
+
+        // Assert
+        assertThat(vollMeldungen).extracting(ZustandsAnsicht::tankstand).containsExactly(50.0, 49.97, 50.0);
+        assertThat(tankMeldungen).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Sollte identische Momentaufnahme überspringen")
+    void sollteIdentischeMomentaufnahmeUeberspringen() {
+        AutoZustand z = zustand(20.0, false);
+        beobachter.pruefe(z);
+
+        assertThat(beobachter.pruefe(z)).isZero();
+    }
+
+    @Test
+    @DisplayName("Sollte wiederverwendeten Rahmen bei jedem Prüfen neu auswerten")
+    void sollteWiederverwendetenRahmenNeuAuswerten() {
+        // Arrange
+        ZustandsPuffer puffer = new ZustandsPuffer(zustand(20.0, false));
+        ZustandsPuffer.Rahmen rahmen = new ZustandsPuffer.Rahmen();
+        beobachter.pruefe(puffer.lese(rahmen));
+
+        // Act - gleicher Rahmen, neuer Inhalt
+        puffer.schreibe(0.0, 20.0, true, 200, 50.0, 1);
+        int meldungen = beobachter.pruefe(puffer.lese(rahmen));
+
+        // Assert
+        assertThat(meldungen).isEqualTo(1);
+        assertThat(motorMeldungen).hasSize(2);
+    }
+}
@@ -0,0 +1,94 @@
+package de.verkettungsanfrage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit-Tests für den doppelt gepufferten Zustandspuffer.
+ *
+ * @author mboud
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("ZustandsPuffer Unit Tests")
+class ZustandsPufferTest {
+
+    private final ZustandsPuffer puffer = new ZustandsPuffer(new Auto("VW Golf", 30.0, 200).zustand());
+
+    @Test
+    @DisplayName("Sollte vor dem ersten Schreiben den Anfangszustand liefern")
+    void sollteAnfangszustandLiefern() {
+        assertThat(puffer.lese()).isEqualTo(new AutoZustand(0.0, 30.0, false, 200, 50.0));
+        assertThat(puffer.getVeroeffentlichungen()).isZero();
+    }
+
+    @Test
+    @DisplayName("Sollte den zuletzt veröffentlichten Zustand eines Autos liefern")
+    void sollteLetztenZustandLiefern() {
+        // Arrange
+        Auto auto = new Auto("VW Golf", 30.0, 200).starteMotor().fahreLos().beschleunige(49.0);
+
+        // Act
+        auto.veroeffentlicheZustand(puffer, 7);
+        ZustandsPuffer.Rahmen rahmen = puffer.lese(new ZustandsPuffer.Rahmen());
+
+        // Assert
+        assertThat(rahmen.alsZustand()).isEqualTo(auto.zustand());
+        assertThat(rahmen.schritt()).isEqualTo(7);
+        assertThat(rahmen.tankAnteil()).isEqualTo(auto.getTankstand() / 50.0);
+        assertThat(puffer.getVeroeffentlichungen()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Sollte Lesern trotz gleichzeitigem Schreiber nur ganze Rahmen liefern")
+    void sollteNurGanzeRahmenLiefern() throws InterruptedException {
+        // Arrange - Invariante: alle Werte eines Rahmens stammen aus demselben Schritt
+        Thread schreiber = Thread.ofPlatform().start(() -> {
+            for (int i = 1; i <= 2_000_000; i++) {
+                puffer.schreibe(i, 2.0 * i, (i & 1) == 1, i, 3.0 * i, i);
+            }
+        });
+        ZustandsPuffer.Rahmen rahmen = new ZustandsPuffer.Rahmen();
+        long zerrissen = 0;
+        long letzterSchritt = 0;
+
+        // Act
+        while (schreiber.isAlive()) {
+            puffer.lese(rahmen);
+            long i = rahmen.schritt();
+            if (i == 0) {
+                continue;
+            }
+            if (rahmen.geschwindigkeit() != i || rahmen.tankstand() != 2.0 * i
+                    || rahmen.motorLaeuft() != ((i & 1) == 1) || rahmen.maxGeschwindigkeit() != i
+                    || rahmen.maxTankstand() != 3.0 * i || i < letzterSchritt) {
+                zerrissen++;
+            }
+            letzterSchritt = i;
+        }
+        schreiber.join();
+
+        // Assert
+        assertThat(zerrissen).isZero();
+        assertThat(puffer.lese(rahmen).schritt()).isEqualTo(2_000_000);
+    }
+
+    @Test
+    @DisplayName("Sollte in der Simulation pro Schritt veröffentlichen")
+    void sollteInSimulationVeroeffentlichen() {
+        // Arrange
+        Simulation sim = new Simulation(new Auto("VW Golf", 30.0, 200), 100);
+        sim.befehl(Befehl.STARTE_MOTOR, 0.0);
+
+        // Act
+        sim.laufeSchritte(25);
+        ZustandsPuffer.Rahmen rahmen = sim.leseZustand(new ZustandsPuffer.Rahmen());
+
+        // Assert
+        assertThat(rahmen.schritt()).isEqualTo(25);
+        assertThat(rahmen.motorLaeuft()).isTrue();
+        assertThat(rahmen.alsZustand()).isEqualTo(sim.getZustand());
+    }
+}